@@ -8,6 +8,7 @@ package org.opensearch.ml.common;
 import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.connector.AbstractConnector;
 import org.opensearch.ml.common.controller.MLController;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceInput;
 
 import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.APPLICATION_TYPE_FIELD;
 import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD;
@@ -58,7 +59,7 @@ public class CommonValue {
         public static final Integer ML_MODEL_GROUP_INDEX_SCHEMA_VERSION = 2;
         public static final Integer ML_MODEL_INDEX_SCHEMA_VERSION = 11;
         public static final String ML_CONNECTOR_INDEX = ".plugins-ml-connector";
-        public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 2;
+        public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 3;
         public static final Integer ML_CONNECTOR_SCHEMA_VERSION = 3;
         public static final String ML_CONFIG_INDEX = ".plugins-ml-config";
         public static final Integer ML_CONFIG_INDEX_SCHEMA_VERSION = 2;
@@ -352,6 +353,12 @@ public class CommonValue {
                         + "      \""
                         + MLTask.IS_ASYNC_TASK_FIELD
                         + "\" : {\"type\" : \"boolean\"}, \n"
+                        + "      \""
+                        + MLBatchInferenceInput.BATCH_INFERENCE_INPUT_FIELD
+                        + "\" : {\"type\" : \"object\", \"enabled\": false}, \n"
+                        + "      \""
+                        + MLBatchInferenceInput.BATCH_INFERENCE_CHECKPOINT_FIELD
+                        + "\" : {\"type\" : \"object\", \"enabled\": false}, \n"
                         + USER_FIELD_MAPPING
                         + "    }\n"
                         + "}";
@@ -8,6 +8,7 @@ package org.opensearch.ml.common.connector;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -26,37 +27,70 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
     public static final String MAX_CONNECTION_FIELD = "max_connection";
     public static final String CONNECTION_TIMEOUT_FIELD = "connection_timeout";
     public static final String READ_TIMEOUT_FIELD = "read_timeout";
+    public static final String MAX_RETRY_TIMES_FIELD = "max_retry_times";
+    public static final String RETRY_BACKOFF_MILLIS_FIELD = "retry_backoff_millis";
 
     public static final Integer MAX_CONNECTION_DEFAULT_VALUE = Integer.valueOf(30);
     public static final Integer CONNECTION_TIMEOUT_DEFAULT_VALUE = Integer.valueOf(30000);
     public static final Integer READ_TIMEOUT_DEFAULT_VALUE = Integer.valueOf(30000);
+    public static final Integer MAX_RETRY_TIMES_DEFAULT_VALUE = Integer.valueOf(0);
+    public static final Integer RETRY_BACKOFF_MILLIS_DEFAULT_VALUE = Integer.valueOf(200);
+
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_RETRY = Version.V_2_15_0;
 
     private Integer maxConnections;
     private Integer connectionTimeout;
     private Integer readTimeout;
+    // How many times a request answered with a throttling or server error is retried
+    private Integer maxRetryTimes;
+    // Initial backoff before the first retry, doubled on each following retry
+    private Integer retryBackoffMillis;
 
-    @Builder(toBuilder = true)
     public ConnectorClientConfig(
         Integer maxConnections,
         Integer connectionTimeout,
         Integer readTimeout
     ) {
+        this(maxConnections, connectionTimeout, readTimeout, null, null);
+    }
+
+    @Builder(toBuilder = true)
+    public ConnectorClientConfig(
+        Integer maxConnections,
+        Integer connectionTimeout,
+        Integer readTimeout,
+        Integer maxRetryTimes,
+        Integer retryBackoffMillis
+    ) {
+        if (maxRetryTimes != null && maxRetryTimes < 0) {
+            throw new IllegalArgumentException("max retry times must not be negative");
+        }
+        if (retryBackoffMillis != null && retryBackoffMillis < 0) {
+            throw new IllegalArgumentException("retry backoff millis must not be negative");
+        }
         this.maxConnections = maxConnections;
         this.connectionTimeout = connectionTimeout;
         this.readTimeout = readTimeout;
-
+        this.maxRetryTimes = maxRetryTimes;
+        this.retryBackoffMillis = retryBackoffMillis;
     }
 
     public ConnectorClientConfig(StreamInput input) throws IOException {
         this.maxConnections = input.readOptionalInt();
         this.connectionTimeout = input.readOptionalInt();
         this.readTimeout = input.readOptionalInt();
+        if (input.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RETRY)) {
+            this.maxRetryTimes = input.readOptionalInt();
+            this.retryBackoffMillis = input.readOptionalInt();
+        }
     }
 
     public ConnectorClientConfig() {
         this.maxConnections = MAX_CONNECTION_DEFAULT_VALUE;
         this.connectionTimeout = CONNECTION_TIMEOUT_DEFAULT_VALUE;
         this.readTimeout = READ_TIMEOUT_DEFAULT_VALUE;
+        this.maxRetryTimes = MAX_RETRY_TIMES_DEFAULT_VALUE;
+        this.retryBackoffMillis = RETRY_BACKOFF_MILLIS_DEFAULT_VALUE;
     }
 
     @Override
@@ -65,6 +99,10 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         out.writeOptionalInt(maxConnections);
         out.writeOptionalInt(connectionTimeout);
         out.writeOptionalInt(readTimeout);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_RETRY)) {
+            out.writeOptionalInt(maxRetryTimes);
+            out.writeOptionalInt(retryBackoffMillis);
+        }
     }
 
     @Override
@@ -79,6 +117,12 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         if (readTimeout != null) {
             builder.field(READ_TIMEOUT_FIELD, readTimeout);
         }
+        if (maxRetryTimes != null) {
+            builder.field(MAX_RETRY_TIMES_FIELD, maxRetryTimes);
+        }
+        if (retryBackoffMillis != null) {
+            builder.field(RETRY_BACKOFF_MILLIS_FIELD, retryBackoffMillis);
+        }
         return builder.endObject();
     }
 
@@ -91,6 +135,8 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
         Integer maxConnections = null;
         Integer connectionTimeout = null;
         Integer readTimeout = null;
+        Integer maxRetryTimes = null;
+        Integer retryBackoffMillis = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -107,6 +153,12 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
                 case READ_TIMEOUT_FIELD:
                     readTimeout = parser.intValue();
                     break;
+                case MAX_RETRY_TIMES_FIELD:
+                    maxRetryTimes = parser.intValue();
+                    break;
+                case RETRY_BACKOFF_MILLIS_FIELD:
+                    retryBackoffMillis = parser.intValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
@@ -116,6 +168,8 @@ public class ConnectorClientConfig implements ToXContentObject, Writeable {
                 .maxConnections(maxConnections)
                 .connectionTimeout(connectionTimeout)
                 .readTimeout(readTimeout)
+                .maxRetryTimes(maxRetryTimes)
+                .retryBackoffMillis(retryBackoffMillis)
                 .build();
     }
 }
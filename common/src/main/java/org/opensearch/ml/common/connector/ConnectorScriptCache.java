@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.ScriptType;
+import org.opensearch.script.TemplateScript;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.opensearch.ml.common.utils.StringUtils.addDefaultMethod;
+
+/**
+ * Compiled painless pre/post process functions of one connector, keyed by script source. Compiling a script
+ * through the {@link ScriptService} on every predict request goes through the script cache and the script
+ * compilation rate limit of the node, so the connector executor keeps the compiled factories for its
+ * lifetime instead. A function with ${parameters.*} placeholders is cached per filled source, at most
+ * {@link #MAX_CACHED_SCRIPTS} sources are cached so per request parameter values can't grow the cache.
+ */
+@Log4j2
+public class ConnectorScriptCache {
+    public static final int MAX_CACHED_SCRIPTS = 64;
+
+    private final Map<String, TemplateScript.Factory> factories = new ConcurrentHashMap<>();
+    private final LongAdder compileCount = new LongAdder();
+    private final LongAdder compileTimeInNanos = new LongAdder();
+    private final LongAdder executeCount = new LongAdder();
+    private final LongAdder executeTimeInNanos = new LongAdder();
+
+    /**
+     * Get the compiled factory of a painless script, compile it if it's not cached.
+     * @param scriptService script service
+     * @param painlessScript script source
+     * @return compiled script factory
+     */
+    public TemplateScript.Factory compile(ScriptService scriptService, String painlessScript) {
+        TemplateScript.Factory factory = factories.get(painlessScript);
+        if (factory != null) {
+            return factory;
+        }
+        long start = System.nanoTime();
+        Script script = new Script(ScriptType.INLINE, "painless", painlessScript, Collections.emptyMap());
+        factory = scriptService.compile(script, TemplateScript.CONTEXT);
+        compileTimeInNanos.add(System.nanoTime() - start);
+        compileCount.increment();
+        if (factory != null && factories.size() < MAX_CACHED_SCRIPTS) {
+            factories.putIfAbsent(painlessScript, factory);
+        }
+        return factory;
+    }
+
+    /**
+     * Run a painless script with its cached compiled factory.
+     * @param scriptService script service
+     * @param painlessScript script source
+     * @param params script params
+     * @return script output
+     */
+    public String execute(ScriptService scriptService, String painlessScript, Map<String, Object> params) {
+        TemplateScript.Factory factory = compile(scriptService, painlessScript);
+        long start = System.nanoTime();
+        try {
+            return factory.newInstance(params).execute();
+        } finally {
+            executeTimeInNanos.add(System.nanoTime() - start);
+            executeCount.increment();
+        }
+    }
+
+    /**
+     * Compile the painless pre/post process functions of the connector predict action ahead of the first
+     * request. Functions with ${parameters.*} placeholders are compiled once they are filled by a request.
+     * @param scriptService script service
+     * @param connector connector
+     */
+    public void precompile(ScriptService scriptService, Connector connector) {
+        if (scriptService == null) {
+            return;
+        }
+        connector.findPredictAction().ifPresent(action -> {
+            if (isFilled(action.getPreProcessFunction()) && !MLPreProcessFunction.contains(action.getPreProcessFunction())) {
+                precompile(scriptService, addDefaultMethod(action.getPreProcessFunction()));
+            }
+            if (isFilled(action.getPostProcessFunction()) && !MLPostProcessFunction.contains(action.getPostProcessFunction())) {
+                precompile(scriptService, addDefaultMethod(action.getPostProcessFunction()));
+            }
+        });
+    }
+
+    private void precompile(ScriptService scriptService, String painlessScript) {
+        try {
+            compile(scriptService, painlessScript);
+        } catch (Exception e) {
+            // the same error is returned to the predict requests which run the script
+            log.warn("Failed to compile connector process function", e);
+        }
+    }
+
+    private static boolean isFilled(String processFunction) {
+        return processFunction != null && !processFunction.contains("${parameters.");
+    }
+
+    public int getCachedScriptCount() {
+        return factories.size();
+    }
+
+    public long getCompileCount() {
+        return compileCount.sum();
+    }
+
+    public long getCompileTimeInNanos() {
+        return compileTimeInNanos.sum();
+    }
+
+    public long getExecuteCount() {
+        return executeCount.sum();
+    }
+
+    public long getExecuteTimeInNanos() {
+        return executeTimeInNanos.sum();
+    }
+}
@@ -5,7 +5,9 @@
 
 package org.opensearch.ml.common.connector.functions.preprocess;
 
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.ml.common.connector.ConnectorScriptCache;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
@@ -25,6 +27,10 @@ public abstract class ConnectorPreProcessFunction implements Function<MLInput, R
 
     protected boolean returnDirectlyForRemoteInferenceInput;
 
+    // compiled scripts of the connector, scripts are compiled on every call if not set
+    @Setter
+    protected ConnectorScriptCache scriptCache;
+
     @Override
     public RemoteInferenceInputDataSet apply(MLInput mlInput) {
         if (mlInput == null) {
@@ -49,6 +55,9 @@ public abstract class ConnectorPreProcessFunction implements Function<MLInput, R
     }
 
     protected String executeScript(ScriptService scriptService, String painlessScript, Map<String, Object> params) {
+        if (scriptCache != null) {
+            return scriptCache.execute(scriptService, addDefaultMethod(painlessScript), params);
+        }
         Script script = new Script(ScriptType.INLINE, "painless", addDefaultMethod(painlessScript), Collections.emptyMap());
         TemplateScript templateScript = scriptService.compile(script, TemplateScript.CONTEXT).newInstance(params);
         return templateScript.execute();
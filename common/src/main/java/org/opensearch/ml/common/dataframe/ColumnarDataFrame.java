@@ -0,0 +1,651 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.opensearch.Version;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Data frame which keeps one primitive array per column instead of one object per cell: numbers in a
+ * double[] or long[], booleans in a boolean[] and strings dictionary encoded. Selecting or removing
+ * columns shares the column arrays with the source data frame, they are only copied when a row is
+ * appended to a data frame which shares them.
+ * <p>
+ * Rows are created on demand, so algorithms should read values with {@link #getDoubleValue(int, int)}
+ * or {@link #getDoubleColumn(int)} where they can.
+ */
+public class ColumnarDataFrame extends AbstractDataFrame {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_COLUMNAR_DATA_FRAME = Version.V_2_15_0;
+    private static final String COLUMN_META_FIELD = "column_metas";
+    private static final String ROWS_FIELD = "rows";
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ColumnMeta[] columnMetas;
+    private Column[] columns;
+    private int size;
+    // true if the columns may be shared with another data frame, they are copied before they are changed
+    private boolean shared;
+
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas) {
+        this(columnMetas, INITIAL_CAPACITY);
+    }
+
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas, int capacity) {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = columnMetas;
+        this.columns = new Column[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i] = Column.create(columnMetas[i].getColumnType(), Math.max(capacity, 1));
+        }
+    }
+
+    private ColumnarDataFrame(final ColumnMeta[] columnMetas, final Column[] columns, int size) {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = columnMetas;
+        this.columns = columns;
+        this.size = size;
+        this.shared = true;
+    }
+
+    public ColumnarDataFrame(StreamInput streamInput) throws IOException {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = streamInput.readArray(ColumnMeta::new, ColumnMeta[]::new);
+        this.size = streamInput.readVInt();
+        this.columns = new Column[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i] = Column.read(columnMetas[i].getColumnType(), streamInput, size);
+        }
+    }
+
+    @Override
+    public void appendRow(final Object[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("input values can't be null");
+        }
+        checkRowSize(values.length);
+        for (int i = 0; i < columnMetas.length; i++) {
+            checkColumnType(i, values[i] == null ? ColumnType.NULL : ColumnType.from(values[i]));
+        }
+        appendValues(values);
+    }
+
+    /**
+     * Append a row of values which are already checked against the column metas.
+     * @param values values of the row, the array is not kept
+     */
+    void appendValues(final Object[] values) {
+        ensureWritable();
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i].append(values[i], size);
+        }
+        size++;
+    }
+
+    @Override
+    public void appendRow(final Row row) {
+        if (row == null) {
+            throw new IllegalArgumentException("input row can't be null");
+        }
+        checkRowSize(row.size());
+        for (int i = 0; i < columnMetas.length; i++) {
+            checkColumnType(i, row.getValue(i).columnType());
+        }
+        ensureWritable();
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i].append(row.getValue(i).getValue(), size);
+        }
+        size++;
+    }
+
+    private void checkRowSize(int rowSize) {
+        if (rowSize != columnMetas.length) {
+            final String message = String.format(Locale.ROOT, "the size is different between input row:%d " +
+                    "and column size in dataframe:%d", rowSize, columnMetas.length);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private void checkColumnType(int index, ColumnType columnType) {
+        if (columnMetas[index].getColumnType() != columnType) {
+            final String message = String.format(Locale.ROOT, "the column type is different in column meta:%s and input row:%s for index: %d",
+                    columnMetas[index].getColumnType(), columnType, index);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private void ensureWritable() {
+        if (shared) {
+            Column[] copies = new Column[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                copies[i] = columns[i].copy(size);
+            }
+            columns = copies;
+            shared = false;
+        }
+    }
+
+    @Override
+    public Row getRow(int index) {
+        checkRowIndex(index);
+        ColumnValue[] values = new ColumnValue[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].getValue(index);
+        }
+        return new Row(values);
+    }
+
+    @Override
+    public ColumnValue getValue(int rowIndex, int columnIndex) {
+        checkRowIndex(rowIndex);
+        return getColumn(columnIndex).getValue(rowIndex);
+    }
+
+    @Override
+    public double getDoubleValue(int rowIndex, int columnIndex) {
+        checkRowIndex(rowIndex);
+        return getColumn(columnIndex).getDouble(rowIndex);
+    }
+
+    /**
+     * Get the values of a column as doubles. The array of a double column is returned as it is if it has no
+     * spare capacity, so the returned array must not be modified.
+     * @param columnIndex column index
+     * @return values of the column
+     */
+    @Override
+    public double[] getDoubleColumn(int columnIndex) {
+        return getColumn(columnIndex).toDoubles(size);
+    }
+
+    private void checkRowIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("row index is out of scope, index:" + index + "; size:" + size);
+        }
+    }
+
+    private Column getColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columns.length) {
+            throw new IllegalArgumentException("index is out of scope, index:" + columnIndex + "; row size:" + columns.length);
+        }
+        return columns[columnIndex];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ColumnMeta[] columnMetas() {
+        return Arrays.copyOf(columnMetas, columnMetas.length);
+    }
+
+    @Override
+    public DataFrame remove(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnMetas.length) {
+            throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length:" + columnMetas.length);
+        }
+        int[] selected = new int[columnMetas.length - 1];
+        int index = 0;
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (i != columnIndex) {
+                selected[index++] = i;
+            }
+        }
+        return view(selected);
+    }
+
+    @Override
+    public DataFrame select(int[] columns) {
+        if (columns == null || columns.length == 0) {
+            throw new IllegalArgumentException("columns can't be null or empty");
+        }
+        for (int col : columns) {
+            if (col < 0 || col >= columnMetas.length) {
+                throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length");
+            }
+        }
+        return view(columns);
+    }
+
+    private DataFrame view(int[] selected) {
+        ColumnMeta[] newColumnMetas = new ColumnMeta[selected.length];
+        Column[] newColumns = new Column[selected.length];
+        for (int i = 0; i < selected.length; i++) {
+            newColumnMetas[i] = columnMetas[selected[i]];
+            newColumns[i] = columns[selected[i]];
+        }
+        shared = true;
+        return new ColumnarDataFrame(newColumnMetas, newColumns, size);
+    }
+
+    @Override
+    public int getColumnIndex(String target) {
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (columnMetas[i].getName().equals(target)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No matched target when generating dataset from data frame.");
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Row next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(next++);
+            }
+        };
+    }
+
+    /**
+     * Write the data frame column by column. Nodes before {@link #MINIMAL_SUPPORTED_VERSION_FOR_COLUMNAR_DATA_FRAME}
+     * get it in the layout of {@link DefaultDataFrame}.
+     */
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        if (out.getVersion().before(MINIMAL_SUPPORTED_VERSION_FOR_COLUMNAR_DATA_FRAME)) {
+            out.writeEnum(DataFrameType.DEFAULT);
+            out.writeArray(columnMetas);
+            out.writeVInt(size);
+            for (int row = 0; row < size; row++) {
+                out.writeVInt(columns.length);
+                for (Column column : columns) {
+                    out.writeEnum(column.type);
+                    column.writeValue(out, row);
+                }
+            }
+            return;
+        }
+        super.writeTo(out);
+        out.writeArray(columnMetas);
+        out.writeVInt(size);
+        for (Column column : columns) {
+            column.write(out, size);
+        }
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
+        builder.startArray(COLUMN_META_FIELD);
+        for (ColumnMeta columnMeta : columnMetas) {
+            columnMeta.toXContent(builder, params);
+        }
+        builder.endArray();
+
+        builder.startArray(ROWS_FIELD);
+        for (int row = 0; row < size; row++) {
+            builder.startObject();
+            builder.startArray("values");
+            for (Column column : columns) {
+                column.getValue(row).toXContent(builder, params);
+            }
+            builder.endArray();
+            builder.endObject();
+        }
+        builder.endArray();
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarDataFrame(columnMetas=" + Arrays.toString(columnMetas) + ", size=" + size + ")";
+    }
+
+    /**
+     * Values of one column. Arrays grow as values are appended and may be longer than the data frame.
+     */
+    private abstract static class Column {
+        final ColumnType type;
+
+        Column(ColumnType type) {
+            this.type = type;
+        }
+
+        static Column create(ColumnType type, int capacity) {
+            switch (type) {
+                case DOUBLE:
+                case FLOAT:
+                    return new DoubleColumn(type, new double[capacity]);
+                case SHORT:
+                case INTEGER:
+                case LONG:
+                    return new LongColumn(type, new long[capacity]);
+                case BOOLEAN:
+                    return new BooleanColumn(new boolean[capacity]);
+                case STRING:
+                    return new StringColumn(new int[capacity], new ArrayList<>());
+                case NULL:
+                    return new NullColumn();
+                default:
+                    throw new IllegalArgumentException("unknown type:" + type);
+            }
+        }
+
+        static Column read(ColumnType type, StreamInput in, int size) throws IOException {
+            switch (type) {
+                case DOUBLE:
+                    double[] doubles = new double[size];
+                    for (int i = 0; i < size; i++) {
+                        doubles[i] = in.readDouble();
+                    }
+                    return new DoubleColumn(type, doubles);
+                case FLOAT:
+                    double[] floats = new double[size];
+                    for (int i = 0; i < size; i++) {
+                        floats[i] = in.readFloat();
+                    }
+                    return new DoubleColumn(type, floats);
+                case SHORT:
+                case INTEGER:
+                case LONG:
+                    long[] longs = new long[size];
+                    for (int i = 0; i < size; i++) {
+                        longs[i] = in.readZLong();
+                    }
+                    return new LongColumn(type, longs);
+                case BOOLEAN:
+                    boolean[] booleans = new boolean[size];
+                    for (int i = 0; i < size; i++) {
+                        booleans[i] = in.readBoolean();
+                    }
+                    return new BooleanColumn(booleans);
+                case STRING:
+                    List<String> dictionary = in.readStringList();
+                    int[] codes = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        codes[i] = in.readVInt();
+                    }
+                    return new StringColumn(codes, dictionary);
+                case NULL:
+                    return new NullColumn();
+                default:
+                    throw new IllegalArgumentException("unknown type:" + type);
+            }
+        }
+
+        abstract void append(Object value, int index);
+
+        abstract ColumnValue getValue(int index);
+
+        double getDouble(int index) {
+            return getValue(index).doubleValue();
+        }
+
+        double[] toDoubles(int size) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = getDouble(i);
+            }
+            return values;
+        }
+
+        abstract Column copy(int size);
+
+        abstract void write(StreamOutput out, int size) throws IOException;
+
+        // writes a value as ColumnValue does, without its type
+        abstract void writeValue(StreamOutput out, int index) throws IOException;
+    }
+
+    private static final class DoubleColumn extends Column {
+        private double[] values;
+
+        DoubleColumn(ColumnType type, double[] values) {
+            super(type);
+            this.values = values;
+        }
+
+        @Override
+        void append(Object value, int index) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, index + 1));
+            }
+            values[index] = ((Number) value).doubleValue();
+        }
+
+        @Override
+        ColumnValue getValue(int index) {
+            return type == ColumnType.FLOAT ? new FloatValue((float) values[index]) : new DoubleValue(values[index]);
+        }
+
+        @Override
+        double getDouble(int index) {
+            return values[index];
+        }
+
+        @Override
+        double[] toDoubles(int size) {
+            return values.length == size ? values : Arrays.copyOf(values, size);
+        }
+
+        @Override
+        Column copy(int size) {
+            return new DoubleColumn(type, Arrays.copyOf(values, Math.max(size, 1)));
+        }
+
+        @Override
+        void write(StreamOutput out, int size) throws IOException {
+            for (int i = 0; i < size; i++) {
+                writeValue(out, i);
+            }
+        }
+
+        @Override
+        void writeValue(StreamOutput out, int index) throws IOException {
+            if (type == ColumnType.FLOAT) {
+                out.writeFloat((float) values[index]);
+            } else {
+                out.writeDouble(values[index]);
+            }
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        private long[] values;
+
+        LongColumn(ColumnType type, long[] values) {
+            super(type);
+            this.values = values;
+        }
+
+        @Override
+        void append(Object value, int index) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, index + 1));
+            }
+            values[index] = ((Number) value).longValue();
+        }
+
+        @Override
+        ColumnValue getValue(int index) {
+            switch (type) {
+                case SHORT:
+                    return new ShortValue((short) values[index]);
+                case INTEGER:
+                    return new IntValue((int) values[index]);
+                default:
+                    return new LongValue(values[index]);
+            }
+        }
+
+        @Override
+        double getDouble(int index) {
+            return values[index];
+        }
+
+        @Override
+        Column copy(int size) {
+            return new LongColumn(type, Arrays.copyOf(values, Math.max(size, 1)));
+        }
+
+        @Override
+        void write(StreamOutput out, int size) throws IOException {
+            for (int i = 0; i < size; i++) {
+                out.writeZLong(values[i]);
+            }
+        }
+
+        @Override
+        void writeValue(StreamOutput out, int index) throws IOException {
+            switch (type) {
+                case SHORT:
+                    out.writeShort((short) values[index]);
+                    break;
+                case INTEGER:
+                    out.writeInt((int) values[index]);
+                    break;
+                default:
+                    out.writeLong(values[index]);
+                    break;
+            }
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+        private boolean[] values;
+
+        BooleanColumn(boolean[] values) {
+            super(ColumnType.BOOLEAN);
+            this.values = values;
+        }
+
+        @Override
+        void append(Object value, int index) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, index + 1));
+            }
+            values[index] = (Boolean) value;
+        }
+
+        @Override
+        ColumnValue getValue(int index) {
+            return new BooleanValue(values[index]);
+        }
+
+        @Override
+        Column copy(int size) {
+            return new BooleanColumn(Arrays.copyOf(values, Math.max(size, 1)));
+        }
+
+        @Override
+        void write(StreamOutput out, int size) throws IOException {
+            for (int i = 0; i < size; i++) {
+                out.writeBoolean(values[i]);
+            }
+        }
+
+        @Override
+        void writeValue(StreamOutput out, int index) throws IOException {
+            out.writeBoolean(values[index]);
+        }
+    }
+
+    private static final class StringColumn extends Column {
+        private int[] codes;
+        private final List<String> dictionary;
+        // code of every string in the dictionary, built on the first append
+        private Map<String, Integer> dictionaryCodes;
+
+        StringColumn(int[] codes, List<String> dictionary) {
+            super(ColumnType.STRING);
+            this.codes = codes;
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        void append(Object value, int index) {
+            if (dictionaryCodes == null) {
+                dictionaryCodes = new HashMap<>();
+                for (int i = 0; i < dictionary.size(); i++) {
+                    dictionaryCodes.put(dictionary.get(i), i);
+                }
+            }
+            Integer code = dictionaryCodes.get((String) value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add((String) value);
+                dictionaryCodes.put((String) value, code);
+            }
+            if (index >= codes.length) {
+                codes = Arrays.copyOf(codes, Math.max(codes.length * 2, index + 1));
+            }
+            codes[index] = code;
+        }
+
+        @Override
+        ColumnValue getValue(int index) {
+            return new StringValue(dictionary.get(codes[index]));
+        }
+
+        @Override
+        Column copy(int size) {
+            return new StringColumn(Arrays.copyOf(codes, Math.max(size, 1)), new ArrayList<>(dictionary));
+        }
+
+        @Override
+        void write(StreamOutput out, int size) throws IOException {
+            out.writeStringCollection(dictionary);
+            for (int i = 0; i < size; i++) {
+                out.writeVInt(codes[i]);
+            }
+        }
+
+        @Override
+        void writeValue(StreamOutput out, int index) throws IOException {
+            out.writeString(dictionary.get(codes[index]));
+        }
+    }
+
+    private static final class NullColumn extends Column {
+        NullColumn() {
+            super(ColumnType.NULL);
+        }
+
+        @Override
+        void append(Object value, int index) {}
+
+        @Override
+        ColumnValue getValue(int index) {
+            return new NullValue();
+        }
+
+        @Override
+        Column copy(int size) {
+            return this;
+        }
+
+        @Override
+        void write(StreamOutput out, int size) {}
+
+        @Override
+        void writeValue(StreamOutput out, int index) {}
+    }
+}
@@ -32,6 +32,39 @@ public interface DataFrame extends Iterable<Row>, Writeable, ToXContentObject {
      */
     Row getRow(int index);
 
+    /**
+     * Get the value of one cell.
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return cell value
+     */
+    default ColumnValue getValue(int rowIndex, int columnIndex) {
+        return getRow(rowIndex).getValue(columnIndex);
+    }
+
+    /**
+     * Get the value of one numeric cell as double.
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return cell value
+     */
+    default double getDoubleValue(int rowIndex, int columnIndex) {
+        return getValue(rowIndex, columnIndex).doubleValue();
+    }
+
+    /**
+     * Get the values of a numeric column as doubles. The returned array must not be modified.
+     * @param columnIndex column index
+     * @return values of the column, one per row
+     */
+    default double[] getDoubleColumn(int columnIndex) {
+        double[] values = new double[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getDoubleValue(i, columnIndex);
+        }
+        return values;
+    }
+
     /**
      * Get the size of the data frame. This is the row size actually.
      * @return the size
@@ -9,7 +9,6 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 
@@ -59,6 +58,7 @@ public class DataFrameBuilder {
     /**
      * Load data frame given columnMetas, and list of map objects. and all of the
      * map objects should have same key set, otherwise it will throw exception.
+     * The data is loaded into a {@link ColumnarDataFrame}.
      * @param columnMetas array of ColumnMeta
      * @param input input list of map objects
      * @return data frame
@@ -71,6 +71,26 @@ public class DataFrameBuilder {
             throw new IllegalArgumentException("input data list is null or empty");
         }
 
+        ColumnarDataFrame dataFrame = new ColumnarDataFrame(columnMetas, input.size());
+        append(dataFrame, input);
+        return dataFrame;
+    }
+
+    /**
+     * Append list of map objects to data frame, so that data can be loaded page by page. All of the map objects
+     * should have the key set of the columns of the data frame, otherwise it will throw exception.
+     * @param dataFrame data frame
+     * @param input input list of map objects
+     */
+    public void append(final DataFrame dataFrame, final List<Map<String, Object>> input) {
+        if(dataFrame == null) {
+            throw new IllegalArgumentException("data frame is null");
+        }
+        if(input == null) {
+            throw new IllegalArgumentException("input data list is null");
+        }
+
+        ColumnMeta[] columnMetas = dataFrame.columnMetas();
         int columnSize = columnMetas.length;
 
         Map<String, Integer> columnsMap = new HashMap<>();
@@ -78,8 +98,10 @@ public class DataFrameBuilder {
             columnsMap.put(columnMetas[i].getName(), i);
         }
 
-        List<Row> rows = input.stream().map(item -> {
-            Row row = new Row(columnSize);
+        boolean columnar = dataFrame instanceof ColumnarDataFrame;
+        // values are copied into the columns of a columnar data frame, so one array is used for all rows
+        Object[] values = new Object[columnSize];
+        for(Map<String, Object> item : input) {
             if(item.size() != columnSize) {
                 throw new IllegalArgumentException("input item map size is different in the map");
             }
@@ -91,16 +113,19 @@ public class DataFrameBuilder {
                 String columnName = entry.getKey();
                 int index = columnsMap.get(columnName);
                 ColumnType columnType = columnMetas[index].getColumnType();
-                ColumnValue value = ColumnValueBuilder.build(entry.getValue());
-                if(columnType != value.columnType()) {
+                Object value = entry.getValue();
+                ColumnType valueType = value == null ? ColumnType.NULL : ColumnType.from(value);
+                if(columnType != valueType) {
                     throw new IllegalArgumentException("the same field has different data type");
                 }
-                row.setValue(index, value);
+                values[index] = value;
             }
-            return row;
-        }).collect(Collectors.toList());
-
-        return new DefaultDataFrame(columnMetas, rows);
+            if(columnar) {
+                ((ColumnarDataFrame) dataFrame).appendValues(values);
+            } else {
+                dataFrame.appendRow(values.clone());
+            }
+        }
     }
 
     /**
@@ -114,6 +139,8 @@ public class DataFrameBuilder {
         switch (dataFrameType) {
             case DEFAULT:
                 return new DefaultDataFrame(input);
+            case COLUMNAR:
+                return new ColumnarDataFrame(input);
             default:
                 throw new IllegalStateException("Unexpected value: " + dataFrameType);
         }
@@ -6,5 +6,6 @@
 package org.opensearch.ml.common.dataframe;
 
 public enum DataFrameType {
-    DEFAULT
+    DEFAULT,
+    COLUMNAR
 }
@@ -6,19 +6,27 @@
 package org.opensearch.ml.common.model;
 
 import com.google.common.collect.ImmutableSet;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.action.LatchedActionListener;
+import org.opensearch.action.admin.indices.get.GetIndexRequest;
+import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 import java.security.AccessController;
@@ -29,10 +37,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -41,15 +51,28 @@ import static org.opensearch.ml.common.utils.StringUtils.gson;
 @Log4j2
 @Getter
 public class MLGuard {
+    // stop words loaded into memory are used for this long before they are loaded again
+    public static final long STOP_WORDS_REFRESH_INTERVAL_IN_MILLIS = 60_000;
+    // stop words indices with more stop words keep using percolate searches
+    public static final int MAX_IN_MEMORY_STOP_WORDS = 10_000;
+    // query_string query of one phrase, e.g. title: "stop word"
+    private static final Pattern QUERY_STRING_PHRASE = Pattern.compile("\\s*(?:([\\w.]+)\\s*:\\s*)?\"([^\"\\\\]*)\"\\s*");
+
     private Map<String, List<String>> stopWordsIndicesInput = new HashMap<>();
     private Map<String, List<String>> stopWordsIndicesOutput = new HashMap<>();
     private List<String> inputRegex;
     private List<String> outputRegex;
     private List<Pattern> inputRegexPattern;
     private List<Pattern> outputRegexPattern;
+    // all regex of a guardrail in one alternation, null if they can't be combined
+    private Pattern inputCombinedRegexPattern;
+    private Pattern outputCombinedRegexPattern;
     private NamedXContentRegistry xContentRegistry;
     private Client client;
     private Set<String> stopWordsIndices = ImmutableSet.of(".plugins-ml-stop-words");
+    // in-memory stop words, keyed by stop words index and source fields
+    @Getter(AccessLevel.NONE)
+    private final Map<String, InMemoryStopWords> inMemoryStopWords = new ConcurrentHashMap<>();
 
     public MLGuard(Guardrails guardrails, NamedXContentRegistry xContentRegistry, Client client) {
         this.xContentRegistry = xContentRegistry;
@@ -63,11 +86,13 @@ public class MLGuard {
             fillStopWordsToMap(inputGuardrail, stopWordsIndicesInput);
             inputRegex = inputGuardrail.getRegex() == null ? new ArrayList<>() : Arrays.asList(inputGuardrail.getRegex());
             inputRegexPattern = inputRegex.stream().map(reg -> Pattern.compile(reg)).collect(Collectors.toList());
+            inputCombinedRegexPattern = combineRegex(inputRegex);
         }
         if (outputGuardrail != null) {
             fillStopWordsToMap(outputGuardrail, stopWordsIndicesOutput);
             outputRegex = outputGuardrail.getRegex() == null ? new ArrayList<>() : Arrays.asList(outputGuardrail.getRegex());
             outputRegexPattern = outputRegex.stream().map(reg -> Pattern.compile(reg)).collect(Collectors.toList());
+            outputCombinedRegexPattern = combineRegex(outputRegex);
         }
     }
 
@@ -86,14 +111,44 @@ public class MLGuard {
     public Boolean validate(String input, Type type) {
         switch (type) {
             case INPUT: // validate input
-                return validateRegexList(input, inputRegexPattern) && validateStopWords(input, stopWordsIndicesInput);
+                return validateRegexList(input, inputCombinedRegexPattern, inputRegexPattern)
+                        && validateStopWords(input, stopWordsIndicesInput);
             case OUTPUT: // validate output
-                return validateRegexList(input, outputRegexPattern) && validateStopWords(input, stopWordsIndicesOutput);
+                return validateRegexList(input, outputCombinedRegexPattern, outputRegexPattern)
+                        && validateStopWords(input, stopWordsIndicesOutput);
             default:
                 throw new IllegalArgumentException("Unsupported type to validate for guardrails.");
         }
     }
 
+    /**
+     * Combine regex into one alternation, so the input is matched once. The input matches the alternation as
+     * a whole if it matches any of the regex as a whole. Regex which may change meaning when wrapped in a group,
+     * like back references, quotes and comments, are not combined.
+     */
+    static Pattern combineRegex(List<String> regexList) {
+        if (regexList.size() < 2) {
+            return null;
+        }
+        for (String regex : regexList) {
+            if (regex.contains("\\Q") || regex.contains("\\k") || regex.contains("#") || regex.matches("(?s).*\\\\[0-9].*")) {
+                return null;
+            }
+        }
+        try {
+            return Pattern.compile(regexList.stream().map(regex -> "(?:" + regex + ")").collect(Collectors.joining("|")));
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    private Boolean validateRegexList(String input, Pattern combinedRegexPattern, List<Pattern> regexPatterns) {
+        if (combinedRegexPattern != null) {
+            return validateRegex(input, combinedRegexPattern);
+        }
+        return validateRegexList(input, regexPatterns);
+    }
+
     public Boolean validateRegexList(String input, List<Pattern> regexPatterns) {
         if (regexPatterns == null || regexPatterns.isEmpty()) {
             return true;
@@ -115,14 +170,164 @@ public class MLGuard {
         if (stopWordsIndices == null || stopWordsIndices.isEmpty()) {
             return true;
         }
-        for (Map.Entry entry : stopWordsIndices.entrySet()) {
-            if (!validateStopWordsSingleIndex(input, (String) entry.getKey(), (List<String>) entry.getValue())) {
+        for (Map.Entry<String, List<String>> entry : stopWordsIndices.entrySet()) {
+            StopWordsMatcher matcher = getStopWordsMatcher(entry.getKey(), entry.getValue());
+            boolean valid = matcher != null
+                    ? !matcher.matches(input)
+                    : validateStopWordsSingleIndex(input, entry.getKey(), entry.getValue());
+            if (!valid) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Get the in-memory matcher of the stop words in an index. Stop words are loaded in the background, on first
+     * use and again once they are older than {@link #STOP_WORDS_REFRESH_INTERVAL_IN_MILLIS}.
+     * @param indexName stop words index
+     * @param fieldNames source fields
+     * @return matcher, or null if the stop words are not loaded or can't be matched in memory
+     */
+    StopWordsMatcher getStopWordsMatcher(String indexName, List<String> fieldNames) {
+        InMemoryStopWords stopWords = inMemoryStopWords.computeIfAbsent(indexName + fieldNames, key -> new InMemoryStopWords());
+        if (stopWords.isStale() && stopWords.loading.compareAndSet(false, true)) {
+            loadStopWords(indexName, fieldNames, stopWords);
+        }
+        return stopWords.matcher;
+    }
+
+    private void loadStopWords(String indexName, List<String> fieldNames, InMemoryStopWords stopWords) {
+        ActionListener<StopWordsMatcher> listener = ActionListener.wrap(stopWords::loaded, e -> {
+            log.warn("Failed to load stop words index {}, percolate queries are used until it is loaded", indexName, e);
+            stopWords.failed();
+        });
+        try (ThreadContext.StoredContext context = stashContext(indexName)) {
+            GetIndexRequest getIndexRequest = new GetIndexRequest().indices(indexName);
+            client.admin().indices().getIndex(getIndexRequest, ActionListener.runBefore(ActionListener.wrap(getIndexResponse -> {
+                if (!isStandardTextFields(getIndexResponse, fieldNames)) {
+                    log.debug("Stop words index {} fields {} are not standard text fields, use percolate queries", indexName, fieldNames);
+                    listener.onResponse(null);
+                    return;
+                }
+                SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+                        .query(QueryBuilders.matchAllQuery())
+                        .size(MAX_IN_MEMORY_STOP_WORDS)
+                        .trackTotalHits(true);
+                SearchRequest searchRequest = new SearchRequest().source(searchSourceBuilder).indices(indexName);
+                try (ThreadContext.StoredContext searchContext = stashContext(indexName)) {
+                    client.search(searchRequest, ActionListener.runBefore(ActionListener.wrap(searchResponse -> {
+                        listener.onResponse(toStopWordsMatcher(indexName, searchResponse.getHits(), fieldNames));
+                    }, listener::onFailure), searchContext::restore));
+                }
+            }, listener::onFailure), context::restore));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private ThreadContext.StoredContext stashContext(String indexName) {
+        if (isStopWordsSystemIndex(indexName)) {
+            return client.threadPool().getThreadContext().stashContext();
+        }
+        return () -> {};
+    }
+
+    /**
+     * Stop words are matched in memory with the standard analyzer, so the source fields must be text fields
+     * analyzed by it. Otherwise the percolate query may match differently.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean isStandardTextFields(GetIndexResponse getIndexResponse, List<String> fieldNames) {
+        if (getIndexResponse.indices().length != 1) {
+            return false;
+        }
+        String index = getIndexResponse.indices()[0];
+        Settings settings = getIndexResponse.settings().get(index);
+        if (settings != null && !settings.getByPrefix("index.analysis.analyzer.default").isEmpty()) {
+            return false;
+        }
+        MappingMetadata mapping = getIndexResponse.mappings().get(index);
+        if (mapping == null) {
+            return false;
+        }
+        for (String fieldName : fieldNames) {
+            Map<String, Object> field = mapping.sourceAsMap();
+            for (String path : fieldName.split("\\.")) {
+                Object properties = field == null ? null : field.get("properties");
+                field = properties instanceof Map ? (Map<String, Object>) ((Map<String, Object>) properties).get(path) : null;
+            }
+            if (field == null
+                    || !"text".equals(field.get("type"))
+                    || field.containsKey("analyzer")
+                    || field.containsKey("search_analyzer")
+                    || field.containsKey("search_quote_analyzer")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Build the matcher of the percolate queries in a stop words index. Only phrase queries, i.e. match_phrase
+     * queries and query_string queries of one quoted phrase, are supported.
+     * @return matcher, or null if any query isn't supported
+     */
+    @SuppressWarnings("unchecked")
+    private StopWordsMatcher toStopWordsMatcher(String indexName, SearchHits hits, List<String> fieldNames) {
+        if (hits.getTotalHits() == null || hits.getTotalHits().value > hits.getHits().length) {
+            log.debug("Stop words index {} has more than {} stop words, use percolate queries", indexName, MAX_IN_MEMORY_STOP_WORDS);
+            return null;
+        }
+        List<String> phrases = new ArrayList<>();
+        for (SearchHit hit : hits.getHits()) {
+            Map<String, Object> source = hit.getSourceAsMap();
+            Object query = source == null ? null : source.get("query");
+            String[] fieldAndPhrase = query instanceof Map ? toFieldAndPhrase((Map<String, Object>) query) : null;
+            if (fieldAndPhrase == null) {
+                log.debug("Stop words index {} has queries other than phrase queries, use percolate queries", indexName);
+                return null;
+            }
+            // the percolated document only has the source fields, a query on other fields never matches
+            if (fieldAndPhrase[0] == null || fieldNames.contains(fieldAndPhrase[0])) {
+                phrases.add(fieldAndPhrase[1]);
+            }
+        }
+        return new StopWordsMatcher(phrases);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String[] toFieldAndPhrase(Map<String, Object> query) {
+        if (query.size() != 1) {
+            return null;
+        }
+        Map.Entry<String, Object> entry = query.entrySet().iterator().next();
+        if (!(entry.getValue() instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> queryBody = (Map<String, Object>) entry.getValue();
+        switch (entry.getKey()) {
+            case "match_phrase":
+                if (queryBody.size() != 1) {
+                    return null;
+                }
+                Map.Entry<String, Object> field = queryBody.entrySet().iterator().next();
+                Object phrase = field.getValue();
+                if (phrase instanceof Map && ((Map<String, Object>) phrase).size() == 1) {
+                    phrase = ((Map<String, Object>) phrase).get("query");
+                }
+                return phrase instanceof String ? new String[] { field.getKey(), (String) phrase } : null;
+            case "query_string":
+                if (queryBody.size() != 1 || !(queryBody.get("query") instanceof String)) {
+                    return null;
+                }
+                Matcher matcher = QUERY_STRING_PHRASE.matcher((String) queryBody.get("query"));
+                return matcher.matches() ? new String[] { matcher.group(1), matcher.group(2) } : null;
+            default:
+                return null;
+        }
+    }
+
     public Boolean validateStopWordsSingleIndex(String input, String indexName, List<String> fieldNames) {
         SearchRequest searchRequest;
         AtomicBoolean hitStopWords = new AtomicBoolean(false);
@@ -187,6 +392,29 @@ public class MLGuard {
         return stopWordsIndices.contains(index);
     }
 
+    private static final class InMemoryStopWords {
+        private final AtomicBoolean loading = new AtomicBoolean(false);
+        private volatile StopWordsMatcher matcher;
+        private volatile long loadedTimeInMillis = Long.MIN_VALUE;
+
+        boolean isStale() {
+            return loadedTimeInMillis == Long.MIN_VALUE
+                    || System.currentTimeMillis() - loadedTimeInMillis >= STOP_WORDS_REFRESH_INTERVAL_IN_MILLIS;
+        }
+
+        void loaded(StopWordsMatcher matcher) {
+            this.matcher = matcher;
+            this.loadedTimeInMillis = System.currentTimeMillis();
+            loading.set(false);
+        }
+
+        // keep the stop words loaded before, if any, and try again after the refresh interval
+        void failed() {
+            this.loadedTimeInMillis = System.currentTimeMillis();
+            loading.set(false);
+        }
+    }
+
     public enum Type {
         INPUT,
         OUTPUT
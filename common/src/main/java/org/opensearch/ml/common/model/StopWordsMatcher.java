@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory matcher of stop word phrases. Phrases and text are tokenized with the standard analyzer, which is
+ * the analyzer of the text fields the stop words were matched against with a percolate query, and the text
+ * matches if it contains all tokens of a phrase in a row. The phrases are kept in a token trie, so matching
+ * costs one trie walk per token of the text, no matter how many phrases there are.
+ */
+public class StopWordsMatcher {
+    // same as the standard analyzer of a text field, which has no stop words. Analyzers are thread safe.
+    private static final Analyzer ANALYZER = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+
+    private final Node root = new Node();
+    private final int size;
+
+    public StopWordsMatcher(Collection<String> phrases) {
+        int count = 0;
+        for (String phrase : phrases) {
+            List<String> tokens = tokenize(phrase);
+            if (tokens.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (String token : tokens) {
+                node = node.children.computeIfAbsent(token, k -> new Node());
+            }
+            node.end = true;
+            count++;
+        }
+        this.size = count;
+    }
+
+    /**
+     * @return number of phrases in the matcher
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the text contains any stop word phrase.
+     * @param text text to check
+     * @return true if the text contains a stop word phrase
+     */
+    public boolean matches(String text) {
+        if (size == 0 || text == null) {
+            return false;
+        }
+        List<String> tokens = tokenize(text);
+        for (int start = 0; start < tokens.size(); start++) {
+            Node node = root;
+            for (int i = start; i < tokens.size(); i++) {
+                node = node.children.get(tokens.get(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.end) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream tokenStream = ANALYZER.tokenStream(null, text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                tokens.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to tokenize text", e);
+        }
+        return tokens;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean end;
+    }
+}
@@ -8,6 +8,7 @@ package org.opensearch.ml.common.model;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.ParseField;
@@ -39,6 +40,8 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
     public static final String MODEL_MAX_LENGTH_FIELD = "model_max_length";
     public static final String QUERY_PREFIX = "query_prefix";
     public static final String PASSAGE_PREFIX = "passage_prefix";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_BATCH_SIZE = Version.V_2_15_0;
 
     private final Integer embeddingDimension;
     private final FrameworkType frameworkType;
@@ -47,15 +50,23 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
     private final Integer modelMaxLength;
     private final String queryPrefix;
     private final String passagePrefix;
+    // Number of documents tokenized and run through the model in a single forward pass.
+    private final Integer batchSize;
 
     public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
         PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength) {
         this(modelType, embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, null, null);
     }
 
+    public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
+        PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength, String queryPrefix, String passagePrefix) {
+        this(modelType, embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, queryPrefix, passagePrefix, null);
+    }
+
     @Builder(toBuilder = true)
     public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
-                                    PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength, String queryPrefix, String passagePrefix) {
+                                    PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength, String queryPrefix, String passagePrefix,
+                                    Integer batchSize) {
         super(modelType, allConfig);
         if (embeddingDimension == null) {
             throw new IllegalArgumentException("embedding dimension is null");
@@ -63,6 +74,9 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         if (frameworkType == null) {
             throw new IllegalArgumentException("framework type is null");
         }
+        if (batchSize != null && batchSize <= 0) {
+            throw new IllegalArgumentException("batch size must be positive");
+        }
         this.embeddingDimension = embeddingDimension;
         this.frameworkType = frameworkType;
         this.poolingMode = poolingMode;
@@ -70,6 +84,7 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         this.modelMaxLength = modelMaxLength;
         this.queryPrefix = queryPrefix;
         this.passagePrefix = passagePrefix;
+        this.batchSize = batchSize;
     }
 
     public static TextEmbeddingModelConfig parse(XContentParser parser) throws IOException {
@@ -82,6 +97,7 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         Integer modelMaxLength = null;
         String queryPrefix = null;
         String passagePrefix = null;
+        Integer batchSize = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -116,12 +132,15 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
                 case PASSAGE_PREFIX:
                     passagePrefix = parser.text();
                     break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, queryPrefix, passagePrefix);
+        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, queryPrefix, passagePrefix, batchSize);
     }
 
     @Override
@@ -142,6 +161,11 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         modelMaxLength = in.readOptionalInt();
         queryPrefix = in.readOptionalString();
         passagePrefix = in.readOptionalString();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCH_SIZE)) {
+            batchSize = in.readOptionalInt();
+        } else {
+            batchSize = null;
+        }
     }
 
     @Override
@@ -159,6 +183,9 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         out.writeOptionalInt(modelMaxLength);
         out.writeOptionalString(queryPrefix);
         out.writeOptionalString(passagePrefix);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_BATCH_SIZE)) {
+            out.writeOptionalInt(batchSize);
+        }
     }
 
     @Override
@@ -191,6 +218,9 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         if (passagePrefix != null) {
             builder.field(PASSAGE_PREFIX, passagePrefix);
         }
+        if (batchSize != null) {
+            builder.field(BATCH_SIZE_FIELD, batchSize);
+        }
         builder.endObject();
         return builder;
     }
@@ -5,8 +5,14 @@
 
 package org.opensearch.ml.common.output.model;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
@@ -40,22 +46,44 @@ public class ModelTensor implements Writeable, ToXContentObject {
     public static final String BYTE_BUFFER_ORDER_FIELD = "order";
     public static final String RESULT_FIELD = "result";
     public static final String DATA_AS_MAP_FIELD = "dataAsMap";
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_PRIMITIVE_DATA = Version.V_2_15_0;
 
     private String name;
-    private Number[] data;
+    private Number[] data;// boxed view of primitiveData if that is set, created on first access
+    // float[], double[], int[] or long[], holds the numbers without boxing them
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Object primitiveData;
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
 
-    @Builder
     public ModelTensor(String name, Number[] data, long[] shape, MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        this(name, data, null, null, null, null, shape, dataType, byteBuffer, result, dataAsMap);
+    }
+
+    /**
+     * Numbers can be set either boxed as data or as one of the primitive arrays floatData, doubleData,
+     * intData and longData. Primitive arrays are kept as is, so they must not be changed afterward.
+     */
+    @Builder
+    private ModelTensor(String name, Number[] data, float[] floatData, double[] doubleData, int[] intData, long[] longData, long[] shape,
+                        MLResultDataType dataType, ByteBuffer byteBuffer, String result, Map<String, ?> dataAsMap) {
+        Object primitiveData = firstNonNull(floatData, doubleData, intData, longData);
+        if ((data != null || primitiveData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
+        if ((data == null ? 0 : 1) + (floatData == null ? 0 : 1) + (doubleData == null ? 0 : 1) + (intData == null ? 0 : 1)
+                + (longData == null ? 0 : 1) > 1) {
+            throw new IllegalArgumentException("only one of data, float data, double data, int data and long data can be set");
+        }
         this.name = name;
         this.data = data;
+        this.primitiveData = primitiveData;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -68,6 +96,137 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.result = result;
     }
 
+    private static Object firstNonNull(Object... values) {
+        for (Object value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the numbers of the tensor. If they are held as a primitive array, this is a boxed copy
+     * created on first access, changing it doesn't change the tensor.
+     * @return numbers of the tensor
+     */
+    public Number[] getData() {
+        Number[] boxed = data;
+        if (boxed == null && primitiveData != null) {
+            boxed = box(primitiveData);
+            data = boxed;
+        }
+        return boxed;
+    }
+
+    public void setData(Number[] data) {
+        this.data = data;
+        this.primitiveData = null;
+    }
+
+    /**
+     * @return numbers of the tensor as float array, the array held by the tensor if it has one
+     */
+    public float[] toFloatArray() {
+        if (primitiveData instanceof float[]) {
+            return (float[]) primitiveData;
+        }
+        Number[] numbers = getData();
+        if (numbers == null) {
+            return null;
+        }
+        float[] values = new float[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            values[i] = numbers[i].floatValue();
+        }
+        return values;
+    }
+
+    /**
+     * @return numbers of the tensor as double array, the array held by the tensor if it has one
+     */
+    public double[] toDoubleArray() {
+        if (primitiveData instanceof double[]) {
+            return (double[]) primitiveData;
+        }
+        Number[] numbers = getData();
+        if (numbers == null) {
+            return null;
+        }
+        double[] values = new double[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            values[i] = numbers[i].doubleValue();
+        }
+        return values;
+    }
+
+    /**
+     * @return numbers of the tensor as int array, the array held by the tensor if it has one
+     */
+    public int[] toIntArray() {
+        if (primitiveData instanceof int[]) {
+            return (int[]) primitiveData;
+        }
+        Number[] numbers = getData();
+        if (numbers == null) {
+            return null;
+        }
+        int[] values = new int[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            values[i] = numbers[i].intValue();
+        }
+        return values;
+    }
+
+    /**
+     * @return numbers of the tensor as long array, the array held by the tensor if it has one
+     */
+    public long[] toLongArray() {
+        if (primitiveData instanceof long[]) {
+            return (long[]) primitiveData;
+        }
+        Number[] numbers = getData();
+        if (numbers == null) {
+            return null;
+        }
+        long[] values = new long[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            values[i] = numbers[i].longValue();
+        }
+        return values;
+    }
+
+    private static Number[] box(Object primitiveData) {
+        if (primitiveData instanceof float[]) {
+            float[] values = (float[]) primitiveData;
+            Number[] numbers = new Number[values.length];
+            for (int i = 0; i < values.length; i++) {
+                numbers[i] = values[i];
+            }
+            return numbers;
+        } else if (primitiveData instanceof double[]) {
+            double[] values = (double[]) primitiveData;
+            Number[] numbers = new Number[values.length];
+            for (int i = 0; i < values.length; i++) {
+                numbers[i] = values[i];
+            }
+            return numbers;
+        } else if (primitiveData instanceof int[]) {
+            int[] values = (int[]) primitiveData;
+            Number[] numbers = new Number[values.length];
+            for (int i = 0; i < values.length; i++) {
+                numbers[i] = values[i];
+            }
+            return numbers;
+        }
+        long[] values = (long[]) primitiveData;
+        Number[] numbers = new Number[values.length];
+        for (int i = 0; i < values.length; i++) {
+            numbers[i] = values[i];
+        }
+        return numbers;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
         builder.startObject();
@@ -80,7 +239,15 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (shape != null) {
             builder.field(SHAPE_FIELD, shape);
         }
-        if (data != null) {
+        if (primitiveData instanceof float[]) {
+            builder.array(DATA_FIELD, (float[]) primitiveData);
+        } else if (primitiveData instanceof double[]) {
+            builder.array(DATA_FIELD, (double[]) primitiveData);
+        } else if (primitiveData instanceof int[]) {
+            builder.array(DATA_FIELD, (int[]) primitiveData);
+        } else if (primitiveData instanceof long[]) {
+            builder.array(DATA_FIELD, (long[]) primitiveData);
+        } else if (data != null) {
             builder.field(DATA_FIELD, data);
         }
         if (byteBuffer != null) {
@@ -198,7 +365,10 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (in.readBoolean()) {
             this.shape = in.readLongArray();
         }
-        if (in.readBoolean()) {
+        boolean hasData = in.readBoolean();
+        if (hasData && in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PRIMITIVE_DATA)) {
+            this.primitiveData = readPrimitiveData(in, dataType);
+        } else if (hasData) {
             int size = in.readInt();
             data = new Number[size];
             if (dataType.isFloating()) {
@@ -250,17 +420,12 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        if ((data != null || primitiveData != null) && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
-            out.writeInt(data.length);
-            if (dataType.isFloating()) {
-                for (Number n : data) {
-                    out.writeFloat(n.floatValue());
-                }
-            } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (Number n : data) {
-                    out.writeInt(n.intValue());
-                }
+            if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PRIMITIVE_DATA)) {
+                writePrimitiveData(out);
+            } else {
+                writeBoxedData(out, getData());
             }
         } else {
             out.writeBoolean(false);
@@ -287,4 +452,88 @@ public class ModelTensor implements Writeable, ToXContentObject {
             out.writeBoolean(false);
         }
     }
+
+    /**
+     * Read numbers written by {@link #writePrimitiveData(StreamOutput)}.
+     */
+    private static Object readPrimitiveData(StreamInput in, MLResultDataType dataType) throws IOException {
+        int size = in.readVInt();
+        if (!dataType.isFloating() && !dataType.isInteger() && !dataType.isBoolean()) {
+            return null;
+        }
+        int bytesPerValue = dataType == MLResultDataType.FLOAT64 || dataType == MLResultDataType.INT64 ? Long.BYTES : Integer.BYTES;
+        byte[] bytes = new byte[Math.multiplyExact(size, bytesPerValue)];
+        in.readBytes(bytes, 0, bytes.length);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        if (dataType == MLResultDataType.FLOAT64) {
+            double[] values = new double[size];
+            buffer.asDoubleBuffer().get(values);
+            return values;
+        } else if (dataType.isFloating()) {
+            float[] values = new float[size];
+            buffer.asFloatBuffer().get(values);
+            return values;
+        } else if (dataType == MLResultDataType.INT64) {
+            long[] values = new long[size];
+            buffer.asLongBuffer().get(values);
+            return values;
+        }
+        int[] values = new int[size];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+
+    /**
+     * Write numbers as one block of little endian bytes: doubles for FLOAT64, floats for other floating
+     * types, longs for INT64 and ints for other integer and boolean types.
+     */
+    private void writePrimitiveData(StreamOutput out) throws IOException {
+        if (!dataType.isFloating() && !dataType.isInteger() && !dataType.isBoolean()) {
+            out.writeVInt(getData() == null ? 0 : getData().length);
+            return;
+        }
+        ByteBuffer buffer;
+        if (dataType == MLResultDataType.FLOAT64) {
+            double[] values = toDoubleArray();
+            out.writeVInt(values.length);
+            buffer = littleEndianBuffer(values.length, Double.BYTES);
+            buffer.asDoubleBuffer().put(values);
+        } else if (dataType.isFloating()) {
+            float[] values = toFloatArray();
+            out.writeVInt(values.length);
+            buffer = littleEndianBuffer(values.length, Float.BYTES);
+            buffer.asFloatBuffer().put(values);
+        } else if (dataType == MLResultDataType.INT64) {
+            long[] values = toLongArray();
+            out.writeVInt(values.length);
+            buffer = littleEndianBuffer(values.length, Long.BYTES);
+            buffer.asLongBuffer().put(values);
+        } else {
+            int[] values = toIntArray();
+            out.writeVInt(values.length);
+            buffer = littleEndianBuffer(values.length, Integer.BYTES);
+            buffer.asIntBuffer().put(values);
+        }
+        out.writeBytes(buffer.array());
+    }
+
+    private static ByteBuffer littleEndianBuffer(int size, int bytesPerValue) {
+        return ByteBuffer.allocate(Math.multiplyExact(size, bytesPerValue)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Write numbers one by one, the format of nodes before {@link #MINIMAL_SUPPORTED_VERSION_FOR_PRIMITIVE_DATA}.
+     */
+    private void writeBoxedData(StreamOutput out, Number[] data) throws IOException {
+        out.writeInt(data.length);
+        if (dataType.isFloating()) {
+            for (Number n : data) {
+                out.writeFloat(n.floatValue());
+            }
+        } else if (dataType.isInteger() || dataType.isBoolean()) {
+            for (Number n : data) {
+                out.writeInt(n.intValue());
+            }
+        }
+    }
 }
@@ -0,0 +1,19 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+
+public class MLBatchInferenceAction extends ActionType<MLTaskResponse> {
+    public static MLBatchInferenceAction INSTANCE = new MLBatchInferenceAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/batch_inference";
+
+    private MLBatchInferenceAction() {
+        super(NAME, MLTaskResponse::new);
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Input of a batch inference job. The job runs the model on the mapped fields of all documents of the source index
+ * matching the source query, and writes the inference results to the destination index, one destination document
+ * per source document with the same id.
+ */
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class MLBatchInferenceInput implements ToXContentObject, Writeable {
+
+    public static final String MODEL_ID_FIELD = "model_id";
+    public static final String SOURCE_INDEX_FIELD = "source_index";
+    public static final String SOURCE_QUERY_FIELD = "source_query";
+    // key is the source field, value is the destination field of the inference result
+    public static final String FIELD_MAP_FIELD = "field_map";
+    public static final String DESTINATION_INDEX_FIELD = "destination_index";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+
+    // fields of the ML task doc of the batch inference job
+    public static final String BATCH_INFERENCE_INPUT_FIELD = "batch_inference_input";
+    public static final String BATCH_INFERENCE_CHECKPOINT_FIELD = "batch_inference_checkpoint";
+
+    private static NamedXContentRegistry xContentRegistry;
+
+    static {
+        SearchModule searchModule = new SearchModule(Settings.EMPTY, Collections.emptyList());
+        xContentRegistry = new NamedXContentRegistry(searchModule.getNamedXContents());
+    }
+
+    String modelId;
+    List<String> sourceIndices;
+    SearchSourceBuilder sourceQuery;
+    Map<String, String> fieldMap;
+    String destinationIndex;
+    Integer batchSize;
+
+    @Builder(toBuilder = true)
+    public MLBatchInferenceInput(String modelId, List<String> sourceIndices, SearchSourceBuilder sourceQuery,
+                                 Map<String, String> fieldMap, String destinationIndex, Integer batchSize) {
+        if (modelId == null) {
+            throw new IllegalArgumentException("model id can't be null");
+        }
+        if (sourceIndices == null || sourceIndices.isEmpty()) {
+            throw new IllegalArgumentException("source index can't be empty");
+        }
+        if (fieldMap == null || fieldMap.isEmpty()) {
+            throw new IllegalArgumentException("field map can't be empty");
+        }
+        if (destinationIndex == null) {
+            throw new IllegalArgumentException("destination index can't be null");
+        }
+        if (batchSize != null && batchSize <= 0) {
+            throw new IllegalArgumentException("batch size should be a positive number");
+        }
+        this.modelId = modelId;
+        this.sourceIndices = sourceIndices;
+        this.sourceQuery = sourceQuery == null ? new SearchSourceBuilder() : sourceQuery;
+        this.fieldMap = fieldMap;
+        this.destinationIndex = destinationIndex;
+        this.batchSize = batchSize;
+    }
+
+    public MLBatchInferenceInput(StreamInput in) throws IOException {
+        this.modelId = in.readString();
+        this.sourceIndices = in.readStringList();
+        String searchString = in.readString();
+        XContentParser parser = XContentType.JSON.xContent().createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, searchString);
+        this.sourceQuery = SearchSourceBuilder.fromXContent(parser);
+        this.fieldMap = in.readMap(StreamInput::readString, StreamInput::readString);
+        this.destinationIndex = in.readString();
+        this.batchSize = in.readOptionalInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(modelId);
+        out.writeStringCollection(sourceIndices);
+        out.writeString(sourceQuery.toString());
+        out.writeMap(fieldMap, StreamOutput::writeString, StreamOutput::writeString);
+        out.writeString(destinationIndex);
+        out.writeOptionalInt(batchSize);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(MODEL_ID_FIELD, modelId);
+        builder.field(SOURCE_INDEX_FIELD, sourceIndices);
+        builder.field(SOURCE_QUERY_FIELD, sourceQuery);
+        builder.field(FIELD_MAP_FIELD, fieldMap);
+        builder.field(DESTINATION_INDEX_FIELD, destinationIndex);
+        if (batchSize != null) {
+            builder.field(BATCH_SIZE_FIELD, batchSize);
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    /**
+     * Parse batch inference input.
+     * @param parser XContent parser
+     * @param modelId model id from the request path, overrides the model id in the content if not null
+     * @return batch inference input
+     */
+    public static MLBatchInferenceInput parse(XContentParser parser, String modelId) throws IOException {
+        String parsedModelId = null;
+        List<String> sourceIndices = new ArrayList<>();
+        SearchSourceBuilder sourceQuery = null;
+        Map<String, String> fieldMap = null;
+        String destinationIndex = null;
+        Integer batchSize = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case MODEL_ID_FIELD:
+                    parsedModelId = parser.text();
+                    break;
+                case SOURCE_INDEX_FIELD:
+                    if (parser.currentToken() == XContentParser.Token.START_ARRAY) {
+                        while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                            sourceIndices.add(parser.text());
+                        }
+                    } else {
+                        sourceIndices.add(parser.text());
+                    }
+                    break;
+                case SOURCE_QUERY_FIELD:
+                    sourceQuery = SearchSourceBuilder.fromXContent(parser, false);
+                    break;
+                case FIELD_MAP_FIELD:
+                    fieldMap = parser.mapStrings();
+                    break;
+                case DESTINATION_INDEX_FIELD:
+                    destinationIndex = parser.text();
+                    break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new MLBatchInferenceInput(modelId == null ? parsedModelId : modelId, sourceIndices, sourceQuery, fieldMap,
+                destinationIndex, batchSize);
+    }
+}
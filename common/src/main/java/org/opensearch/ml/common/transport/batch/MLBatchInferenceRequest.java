@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.transport.MLTaskRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request to start a batch inference job, or to resume the job of an existing batch inference task from its
+ * last checkpoint.
+ */
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString
+public class MLBatchInferenceRequest extends MLTaskRequest {
+
+    MLBatchInferenceInput batchInferenceInput;
+    /**
+     * id of the batch inference task to resume
+     */
+    String taskId;
+
+    @Builder
+    public MLBatchInferenceRequest(MLBatchInferenceInput batchInferenceInput, String taskId, boolean dispatchTask) {
+        super(dispatchTask);
+        this.batchInferenceInput = batchInferenceInput;
+        this.taskId = taskId;
+    }
+
+    public MLBatchInferenceRequest(MLBatchInferenceInput batchInferenceInput) {
+        this(batchInferenceInput, null, true);
+    }
+
+    public MLBatchInferenceRequest(StreamInput in) throws IOException {
+        super(in);
+        this.batchInferenceInput = in.readOptionalWriteable(MLBatchInferenceInput::new);
+        this.taskId = in.readOptionalString();
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (batchInferenceInput == null && taskId == null) {
+            exception = addValidationError("batch inference input can't be null", exception);
+        } else if (batchInferenceInput != null && taskId != null) {
+            exception = addValidationError("batch inference input can't be set when resuming a task", exception);
+        }
+        return exception;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalWriteable(batchInferenceInput);
+        out.writeOptionalString(taskId);
+    }
+
+    public static MLBatchInferenceRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLBatchInferenceRequest) {
+            return (MLBatchInferenceRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBatchInferenceRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to parse ActionRequest into MLBatchInferenceRequest", e);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package org.opensearch.ml.common.connector;
 
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
@@ -17,6 +21,9 @@ import java.util.Collections;
 
 public class ConnectorClientConfigTest {
 
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
     @Test
     public void writeTo_ReadFromStream() throws IOException {
         ConnectorClientConfig config = ConnectorClientConfig.builder()
@@ -70,5 +77,48 @@ public class ConnectorClientConfigTest {
         Assert.assertNull(config.getConnectionTimeout());
         Assert.assertNull(config.getReadTimeout());
     }
-}
 
+    @Test
+    public void parse_RetryConfig() throws IOException {
+        String jsonStr = "{\"max_connection\":10,\"max_retry_times\":3,\"retry_backoff_millis\":100}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+
+        ConnectorClientConfig config = ConnectorClientConfig.parse(parser);
+
+        Assert.assertEquals(Integer.valueOf(3), config.getMaxRetryTimes());
+        Assert.assertEquals(Integer.valueOf(100), config.getRetryBackoffMillis());
+    }
+
+    @Test
+    public void writeTo_ReadFromStream_RetryConfig() throws IOException {
+        ConnectorClientConfig config = ConnectorClientConfig.builder()
+                .maxConnections(10)
+                .maxRetryTimes(3)
+                .retryBackoffMillis(100)
+                .build();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        config.writeTo(output);
+        ConnectorClientConfig readConfig = new ConnectorClientConfig(output.bytes().streamInput());
+        Assert.assertEquals(config, readConfig);
+
+        BytesStreamOutput oldVersionOutput = new BytesStreamOutput();
+        oldVersionOutput.setVersion(Version.V_2_14_0);
+        config.writeTo(oldVersionOutput);
+        StreamInput oldVersionInput = oldVersionOutput.bytes().streamInput();
+        oldVersionInput.setVersion(Version.V_2_14_0);
+        ConnectorClientConfig oldVersionConfig = new ConnectorClientConfig(oldVersionInput);
+        Assert.assertEquals(Integer.valueOf(10), oldVersionConfig.getMaxConnections());
+        Assert.assertNull(oldVersionConfig.getMaxRetryTimes());
+        Assert.assertNull(oldVersionConfig.getRetryBackoffMillis());
+    }
+
+    @Test
+    public void maxRetryTimes_Negative() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("max retry times must not be negative");
+        ConnectorClientConfig.builder().maxRetryTimes(-1).build();
+    }
+}
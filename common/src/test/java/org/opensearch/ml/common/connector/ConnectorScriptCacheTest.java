@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.ingest.TestTemplateService;
+import org.opensearch.script.ScriptService;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConnectorScriptCacheTest {
+
+    @Mock
+    ScriptService scriptService;
+
+    ConnectorScriptCache scriptCache;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(scriptService.compile(any(), any())).then(invocation -> new TestTemplateService.MockTemplateScript.Factory("result"));
+        scriptCache = new ConnectorScriptCache();
+    }
+
+    @Test
+    public void execute_CompileOnce() {
+        assertEquals("result", scriptCache.execute(scriptService, "return params.text;", Map.of("text", "a")));
+        assertEquals("result", scriptCache.execute(scriptService, "return params.text;", Map.of("text", "b")));
+        verify(scriptService, times(1)).compile(any(), any());
+        assertEquals(1, scriptCache.getCachedScriptCount());
+        assertEquals(1, scriptCache.getCompileCount());
+        assertEquals(2, scriptCache.getExecuteCount());
+    }
+
+    @Test
+    public void compile_BoundedCache() {
+        for (int i = 0; i < ConnectorScriptCache.MAX_CACHED_SCRIPTS + 1; i++) {
+            scriptCache.compile(scriptService, "return " + i + ";");
+        }
+        scriptCache.compile(scriptService, "return " + ConnectorScriptCache.MAX_CACHED_SCRIPTS + ";");
+        assertEquals(ConnectorScriptCache.MAX_CACHED_SCRIPTS, scriptCache.getCachedScriptCount());
+        assertEquals(ConnectorScriptCache.MAX_CACHED_SCRIPTS + 2, scriptCache.getCompileCount());
+    }
+
+    @Test
+    public void precompile_PainlessFunctions() {
+        scriptCache.precompile(scriptService, createConnector("return params.text_docs;", "return params.result;"));
+        verify(scriptService, times(2)).compile(any(), any());
+        assertEquals(2, scriptCache.getCachedScriptCount());
+    }
+
+    @Test
+    public void precompile_SkipBuiltInAndParameterizedFunctions() {
+        scriptCache
+            .precompile(
+                scriptService,
+                createConnector(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT, "return ${parameters.response_field};")
+            );
+        verify(scriptService, never()).compile(any(), any());
+        assertEquals(0, scriptCache.getCachedScriptCount());
+    }
+
+    @Test
+    public void precompile_CompileFailure() {
+        when(scriptService.compile(any(), any())).thenThrow(new IllegalArgumentException("compile error"));
+        scriptCache.precompile(scriptService, createConnector("return params.text_docs;", null));
+        assertEquals(0, scriptCache.getCachedScriptCount());
+    }
+
+    private Connector createConnector(String preProcessFunction, String postProcessFunction) {
+        ConnectorAction action = new ConnectorAction(
+            ConnectorAction.ActionType.PREDICT,
+            "POST",
+            "https://test.com",
+            null,
+            "{\"input\": \"${parameters.input}\"}",
+            preProcessFunction,
+            postProcessFunction
+        );
+        return HttpConnector.builder().name("test_connector_name").protocol("http").actions(Arrays.asList(action)).build();
+    }
+}
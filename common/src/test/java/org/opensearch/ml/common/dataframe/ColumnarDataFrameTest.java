@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarDataFrameTest {
+
+    ColumnarDataFrame dataFrame;
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        ColumnMeta[] columnMetas = new ColumnMeta[4];
+        columnMetas[0] = ColumnMeta.builder()
+                .name("c1")
+                .columnType(ColumnType.STRING)
+                .build();
+        columnMetas[1] = ColumnMeta.builder()
+                .name("c2")
+                .columnType(ColumnType.INTEGER)
+                .build();
+        columnMetas[2] = ColumnMeta.builder()
+                .name("c3")
+                .columnType(ColumnType.DOUBLE)
+                .build();
+        columnMetas[3] = ColumnMeta.builder()
+                .name("c4")
+                .columnType(ColumnType.BOOLEAN)
+                .build();
+
+        dataFrame = new ColumnarDataFrame(columnMetas, 1);
+        for (int i = 0; i < 20; i++) {
+            dataFrame.appendRow(new Object[]{i % 2 == 0 ? "even" : "odd", i, i * 1.5D, i % 2 == 0});
+        }
+    }
+
+    @Test
+    public void getRow_Success() {
+        assertEquals(20, dataFrame.size());
+        assertEquals(DataFrameType.COLUMNAR, dataFrame.getDataFrameType());
+        Row row = dataFrame.getRow(3);
+        assertEquals("odd", row.getValue(0).stringValue());
+        assertEquals(ColumnType.INTEGER, row.getValue(1).columnType());
+        assertEquals(3, row.getValue(1).intValue());
+        assertEquals(4.5D, row.getValue(2).doubleValue(), 1e-5);
+        assertFalse(row.getValue(3).booleanValue());
+        assertEquals("even", dataFrame.getValue(4, 0).stringValue());
+        assertEquals(4.0D, dataFrame.getDoubleValue(4, 1), 1e-5);
+    }
+
+    @Test
+    public void getRow_Exception_IndexOutOfScope() {
+        exceptionRule.expect(IndexOutOfBoundsException.class);
+        dataFrame.getRow(20);
+    }
+
+    @Test
+    public void appendRow_Exception_WrongType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the column type is different in column meta");
+        dataFrame.appendRow(new Object[]{"string", "1", 2.0D, true});
+    }
+
+    @Test
+    public void getDoubleColumn_Success() {
+        double[] values = dataFrame.getDoubleColumn(2);
+        assertEquals(20, values.length);
+        assertEquals(28.5D, values[19], 1e-5);
+        assertEquals(19.0D, dataFrame.getDoubleColumn(1)[19], 1e-5);
+    }
+
+    @Test
+    public void select_Success_CopyOnWrite() {
+        DataFrame selected = dataFrame.select(new int[]{2, 0});
+        assertEquals(2, selected.columnMetas().length);
+        assertEquals("c3", selected.columnMetas()[0].getName());
+        assertEquals(20, selected.size());
+        assertEquals(1.5D, selected.getDoubleValue(1, 0), 1e-5);
+        assertEquals("odd", selected.getValue(1, 1).stringValue());
+
+        dataFrame.appendRow(new Object[]{"new", 20, 30.0D, true});
+        selected.appendRow(new Object[]{-1.0D, "other"});
+        assertEquals(21, dataFrame.size());
+        assertEquals(21, selected.size());
+        assertEquals("new", dataFrame.getValue(20, 0).stringValue());
+        assertEquals("other", selected.getValue(20, 1).stringValue());
+        assertEquals(-1.0D, selected.getDoubleValue(20, 0), 1e-5);
+    }
+
+    @Test
+    public void remove_Success() {
+        DataFrame removed = dataFrame.remove(1);
+        assertEquals(3, removed.columnMetas().length);
+        assertEquals("c3", removed.columnMetas()[1].getName());
+        assertEquals(3.0D, removed.getDoubleValue(2, 1), 1e-5);
+    }
+
+    @Test
+    public void iterator_Success() {
+        Iterator<Row> iterator = dataFrame.iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertEquals(count, iterator.next().getValue(1).intValue());
+            count++;
+        }
+        assertEquals(20, count);
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        dataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        DataFrame parsed = DataFrameBuilder.load(streamInput);
+        assertTrue(parsed instanceof ColumnarDataFrame);
+        assertEquals(20, parsed.size());
+        assertArrayEquals(dataFrame.getDoubleColumn(2), parsed.getDoubleColumn(2), 1e-5);
+        assertEquals("odd", parsed.getValue(19, 0).stringValue());
+        assertTrue(parsed.getValue(18, 3).booleanValue());
+        assertEquals(ColumnType.INTEGER, parsed.getValue(0, 1).columnType());
+    }
+
+    @Test
+    public void writeTo_Success_OldVersion() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_14_0);
+        dataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        assertEquals(DataFrameType.DEFAULT, streamInput.readEnum(DataFrameType.class));
+        DefaultDataFrame parsed = new DefaultDataFrame(streamInput);
+        assertEquals(20, parsed.size());
+        assertEquals(4, parsed.columnMetas().length);
+        assertEquals("even", parsed.getRow(0).getValue(0).stringValue());
+        assertEquals(7, parsed.getRow(7).getValue(1).intValue());
+        assertEquals(10.5D, parsed.getRow(7).getValue(2).doubleValue(), 1e-5);
+    }
+
+    @Test
+    public void toXContent_SameAsDefaultDataFrame() throws IOException {
+        DefaultDataFrame defaultDataFrame = new DefaultDataFrame(dataFrame.columnMetas());
+        dataFrame.forEach(defaultDataFrame::appendRow);
+        assertEquals(toJson(defaultDataFrame), toJson(dataFrame));
+    }
+
+    private String toJson(DataFrame dataFrame) throws IOException {
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(XContentType.JSON);
+        builder.startObject();
+        dataFrame.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        return builder.toString();
+    }
+}
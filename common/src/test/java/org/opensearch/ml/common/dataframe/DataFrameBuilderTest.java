@@ -158,4 +158,39 @@ public class DataFrameBuilderTest {
         dataFrame = DataFrameBuilder.load(bytesStreamOutput.bytes().streamInput());
         assertEquals(1, dataFrame.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void append_Success() {
+        Map<String, Object> map1 = new HashMap<>();
+        map1.put("k1", 1);
+        map1.put("k2", 2.3D);
+        Map<String, Object> map2 = new HashMap<>();
+        map2.put("k1", 2);
+        map2.put("k2", 4.5D);
+        DataFrame dataFrame = DataFrameBuilder.load(Collections.singletonList(map1));
+        DataFrameBuilder.append(dataFrame, List.of(map2, map2));
+        assertEquals(3, dataFrame.size());
+        assertEquals(2, dataFrame.getRow(1).getValue(dataFrame.getColumnIndex("k1")).intValue());
+        assertEquals(4.5D, dataFrame.getRow(2).getValue(dataFrame.getColumnIndex("k2")).doubleValue(), 0.0001D);
+    }
+
+    @Test
+    public void append_Success_DefaultDataFrame() {
+        DataFrame dataFrame = DataFrameBuilder.emptyDataFrame(new ColumnMeta[]{
+                ColumnMeta.builder().name("k1").columnType(ColumnType.INTEGER).build()
+        });
+        DataFrameBuilder.append(dataFrame, List.of(Map.of("k1", 1), Map.of("k1", 2)));
+        assertEquals(2, dataFrame.size());
+        assertEquals(1, dataFrame.getRow(0).getValue(0).intValue());
+        assertEquals(2, dataFrame.getRow(1).getValue(0).intValue());
+    }
+
+    @Test
+    public void append_Exception_DifferentTypesForSameField() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("the same field has different data type");
+
+        DataFrame dataFrame = DataFrameBuilder.load(Collections.singletonList(Map.of("k1", 1)));
+        DataFrameBuilder.append(dataFrame, Collections.singletonList(Map.of("k1", "string")));
+    }
+}
@@ -10,22 +10,75 @@ import java.util.Collections;
 import java.util.HashMap;
 
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
+import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataframe.DataFrameType;
+import org.opensearch.ml.common.dataframe.DefaultDataFrame;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class DataFrameInputDatasetTest {
 
     @Test
     public void writeTo_Success() throws IOException {
-        DataFrameInputDataset dataFrameInputDataset = DataFrameInputDataset.builder()
+        DataFrameInputDataset dataFrameInputDataset = createDataFrameInputDataset();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        dataFrameInputDataset.writeTo(bytesStreamOutput);
+        // columnar layout: one column of 8 byte doubles, no per row value type
+        assertEquals(19, bytesStreamOutput.size());
+    }
+
+    @Test
+    public void writeTo_ReadFrom_Success() throws IOException {
+        DataFrameInputDataset dataFrameInputDataset = createDataFrameInputDataset();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        dataFrameInputDataset.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        assertEquals(MLInputDataType.DATA_FRAME, streamInput.readEnum(MLInputDataType.class));
+        DataFrame dataFrame = new DataFrameInputDataset(streamInput).getDataFrame();
+        assertTrue(dataFrame instanceof ColumnarDataFrame);
+        assertEquals(DataFrameType.COLUMNAR, ((ColumnarDataFrame) dataFrame).getDataFrameType());
+        verifyDataFrame(dataFrame);
+    }
+
+    @Test
+    public void writeTo_ReadFrom_OldVersion() throws IOException {
+        DataFrameInputDataset dataFrameInputDataset = createDataFrameInputDataset();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_14_0);
+        dataFrameInputDataset.writeTo(bytesStreamOutput);
+        // nodes before 2.15 only understand the default row layout
+        assertEquals(21, bytesStreamOutput.size());
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_14_0);
+        assertEquals(MLInputDataType.DATA_FRAME, streamInput.readEnum(MLInputDataType.class));
+        DataFrame dataFrame = new DataFrameInputDataset(streamInput).getDataFrame();
+        assertTrue(dataFrame instanceof DefaultDataFrame);
+        assertEquals(DataFrameType.DEFAULT, ((DefaultDataFrame) dataFrame).getDataFrameType());
+        verifyDataFrame(dataFrame);
+    }
+
+    private DataFrameInputDataset createDataFrameInputDataset() {
+        return DataFrameInputDataset.builder()
             .dataFrame(DataFrameBuilder.load(Collections.singletonList(new HashMap<String, Object>() {{
                 put("key1", 2.0D);
             }})))
             .build();
-        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
-        dataFrameInputDataset.writeTo(bytesStreamOutput);
-        assertEquals(21, bytesStreamOutput.size());
     }
-}
\ No newline at end of file
+
+    private void verifyDataFrame(DataFrame dataFrame) {
+        assertEquals(1, dataFrame.size());
+        assertEquals(1, dataFrame.columnMetas().length);
+        assertEquals("key1", dataFrame.columnMetas()[0].getName());
+        assertEquals(ColumnType.DOUBLE, dataFrame.columnMetas()[0].getColumnType());
+        assertEquals(2.0D, dataFrame.getDoubleValue(0, 0), 0.0001D);
+    }
+}
@@ -11,14 +11,21 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.admin.indices.get.GetIndexRequest;
+import org.opensearch.action.admin.indices.get.GetIndexResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.client.AdminClient;
 import org.opensearch.client.Client;
+import org.opensearch.client.IndicesAdminClient;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
@@ -42,6 +49,10 @@ import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class MLGuardTests {
@@ -191,12 +202,101 @@ public class MLGuardTests {
         Assert.assertTrue(res);
     }
 
+    @Test
+    public void validateInput_CombinedRegex() {
+        inputGuardrail = new Guardrail(null, new String[] { "(.|\n)*stop words(.|\n)*", "(.|\n)*bad words(.|\n)*" });
+        mlGuard = new MLGuard(new Guardrails("test_type", inputGuardrail, null), xContentRegistry, client);
+
+        Assert.assertNotNull(mlGuard.getInputCombinedRegexPattern());
+        Assert.assertFalse(mlGuard.validate("hello stop words", MLGuard.Type.INPUT));
+        Assert.assertFalse(mlGuard.validate("hello bad words", MLGuard.Type.INPUT));
+        Assert.assertTrue(mlGuard.validate("hello good words", MLGuard.Type.INPUT));
+    }
+
+    @Test
+    public void combineRegex() {
+        Assert.assertNull(MLGuard.combineRegex(List.of("a.*")));
+        Assert.assertNull(MLGuard.combineRegex(List.of("(a)\\1", "b")));
+        Assert.assertNull(MLGuard.combineRegex(List.of("\\Qa", "b")));
+        Pattern pattern = MLGuard.combineRegex(List.of("a.*", "b"));
+        Assert.assertTrue(pattern.matcher("abc").matches());
+        Assert.assertTrue(pattern.matcher("b").matches());
+        Assert.assertFalse(pattern.matcher("bc").matches());
+    }
+
+    @Test
+    public void validateStopWords_InMemory() throws IOException {
+        mockStopWordsIndex(Map.of("type", "text"), "test_field: \"stop word\"");
+
+        Assert.assertFalse(mlGuard.validateStopWords("hello Stop-Word", Map.of("test_index", List.of("test_field"))));
+        Assert.assertTrue(mlGuard.validateStopWords("hello world", Map.of("test_index", List.of("test_field"))));
+        Assert.assertNotNull(mlGuard.getStopWordsMatcher("test_index", List.of("test_field")));
+        // loaded once until the refresh interval passes
+        verify(client, times(1)).search(any(SearchRequest.class), any());
+    }
+
+    @Test
+    public void getStopWordsMatcher_NotStandardTextField() throws IOException {
+        mockStopWordsIndex(Map.of("type", "text", "analyzer", "english"), "test_field: \"stop word\"");
+
+        Assert.assertNull(mlGuard.getStopWordsMatcher("test_index", List.of("test_field")));
+        verify(client, times(0)).search(any(SearchRequest.class), any());
+    }
+
+    @Test
+    public void getStopWordsMatcher_UnsupportedQuery() throws IOException {
+        mockStopWordsIndex(Map.of("type", "text"), "test_field: stop AND word");
+
+        Assert.assertNull(mlGuard.getStopWordsMatcher("test_index", List.of("test_field")));
+    }
+
+    private void mockStopWordsIndex(Map<String, Object> fieldMapping, String queryString) throws IOException {
+        AdminClient adminClient = mock(AdminClient.class);
+        IndicesAdminClient indicesAdminClient = mock(IndicesAdminClient.class);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesAdminClient);
+        GetIndexResponse getIndexResponse = mock(GetIndexResponse.class);
+        when(getIndexResponse.indices()).thenReturn(new String[] { "test_index" });
+        when(getIndexResponse.settings()).thenReturn(Map.of("test_index", Settings.EMPTY));
+        MappingMetadata mapping = new MappingMetadata(
+                "test_index",
+                Map.of("properties", Map.of("test_field", fieldMapping, "query", Map.of("type", "percolator")))
+        );
+        when(getIndexResponse.mappings()).thenReturn(Map.of("test_index", mapping));
+        doAnswer(invocation -> {
+            ActionListener<GetIndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getIndexResponse);
+            return null;
+        }).when(indicesAdminClient).getIndex(any(GetIndexRequest.class), any());
+
+        XContentBuilder query = XContentFactory.jsonBuilder()
+                .startObject()
+                .startObject("query")
+                .startObject("query_string")
+                .field("query", queryString)
+                .endObject()
+                .endObject()
+                .endObject();
+        SearchHit hit = new SearchHit(0).sourceRef(BytesReference.bytes(query));
+        SearchResponse searchResponse = createSearchResponse(new SearchHit[] { hit });
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+    }
+
     private SearchResponse createSearchResponse(int size) throws IOException {
         XContentBuilder content = guardrails.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
         SearchHit[] hits = new SearchHit[size];
         if (size > 0) {
             hits[0] = new SearchHit(0).sourceRef(BytesReference.bytes(content));
         }
+        return createSearchResponse(hits);
+    }
+
+    private SearchResponse createSearchResponse(SearchHit[] hits) {
+        int size = hits.length;
         return new SearchResponse(
                 new InternalSearchResponse(
                         new SearchHits(hits, new TotalHits(size, TotalHits.Relation.EQUAL_TO), 1.0f),
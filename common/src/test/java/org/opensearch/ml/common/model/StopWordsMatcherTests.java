@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class StopWordsMatcherTests {
+
+    @Test
+    public void matches() {
+        StopWordsMatcher matcher = new StopWordsMatcher(List.of("stop word", "stop-word", "stop & word", "forbidden"));
+        Assert.assertEquals(4, matcher.size());
+        Assert.assertTrue(matcher.matches("\n\nHuman: hello Stop Word.\n\nAssistant:"));
+        Assert.assertTrue(matcher.matches("say stop-word"));
+        Assert.assertTrue(matcher.matches("FORBIDDEN"));
+        Assert.assertFalse(matcher.matches("stop the word"));
+        Assert.assertFalse(matcher.matches("stopword"));
+        Assert.assertFalse(matcher.matches("unforbidden"));
+        Assert.assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    public void matches_OverlappingPhrases() {
+        StopWordsMatcher matcher = new StopWordsMatcher(List.of("a b c", "b d"));
+        Assert.assertTrue(matcher.matches("a b d"));
+        Assert.assertTrue(matcher.matches("x a b c"));
+        Assert.assertFalse(matcher.matches("a b"));
+    }
+
+    @Test
+    public void matches_Empty() {
+        StopWordsMatcher matcher = new StopWordsMatcher(List.of("", " - "));
+        Assert.assertEquals(0, matcher.size());
+        Assert.assertFalse(matcher.matches("anything"));
+    }
+
+    @Test
+    public void matches_StandardAnalyzerTokens() {
+        // the standard analyzer emits one token per CJK ideograph
+        StopWordsMatcher matcher = new StopWordsMatcher(List.of("\u505c\u6b62", "it", "foo", "3"));
+        Assert.assertTrue(matcher.matches("\u8fd9\u662f\u505c\u6b62\u8bcd\u8bed"));
+        Assert.assertFalse(matcher.matches("it's"));
+        Assert.assertFalse(matcher.matches("foo_bar"));
+        Assert.assertFalse(matcher.matches("3.14"));
+    }
+
+    @Test
+    public void tokenize() {
+        Assert.assertEquals(List.of("hello", "world", "42"), StopWordsMatcher.tokenize(" Hello,world!  42"));
+        Assert.assertEquals(List.of(), StopWordsMatcher.tokenize("..."));
+        Assert.assertEquals(List.of("\u505c", "\u6b62", "\u8bcd", "\u8bed"), StopWordsMatcher.tokenize("\u505c\u6b62\u8bcd\u8bed"));
+        Assert.assertEquals(List.of("it's", "foo_bar", "3.14"), StopWordsMatcher.tokenize("It's foo_bar 3.14"));
+    }
+}
@@ -12,6 +12,8 @@ import org.junit.rules.ExpectedException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.TestHelper;
@@ -89,6 +91,33 @@ public class TextEmbeddingModelConfigTests {
         TestHelper.testParseFromString(config, content, function);
     }
 
+    @Test
+    public void parse_BatchSize() throws IOException {
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"batch_size\":16}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, content);
+        parser.nextToken();
+        TextEmbeddingModelConfig parsedConfig = TextEmbeddingModelConfig.parse(parser);
+        assertEquals(Integer.valueOf(16), parsedConfig.getBatchSize());
+    }
+
+    @Test
+    public void batchSize_NotPositive() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("batch size must be positive");
+        config = config.toBuilder().batchSize(0).build();
+    }
+
+    @Test
+    public void readInputStream_BatchSize() throws IOException {
+        TextEmbeddingModelConfig batchConfig = config.toBuilder().batchSize(32).build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        batchConfig.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        TextEmbeddingModelConfig parsedConfig = new TextEmbeddingModelConfig(streamInput);
+        assertEquals(Integer.valueOf(32), parsedConfig.getBatchSize());
+    }
+
     @Test
     public void frameworkType_wrongValue() {
         exceptionRule.expect(IllegalArgumentException.class);
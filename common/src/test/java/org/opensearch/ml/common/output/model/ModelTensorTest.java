@@ -9,6 +9,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentType;
@@ -20,6 +21,7 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
@@ -90,6 +92,99 @@ public class ModelTensorTest {
         assertEquals(tensor, parsedTensor);
     }
 
+    @Test
+    public void test_StreamInAndOut_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .floatData(new float[]{1.5f, -2.25f, 3f})
+                .shape(new long[]{3})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+        assertArrayEquals(new float[]{1.5f, -2.25f, 3f}, parsedTensor.toFloatArray(), 0f);
+        assertArrayEquals(new Number[]{1.5f, -2.25f, 3f}, parsedTensor.getData());
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_StreamInAndOut_LongData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("input_ids")
+                .data(new Number[]{Long.MAX_VALUE, -1L})
+                .dataType(MLResultDataType.INT64)
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+        assertArrayEquals(new long[]{Long.MAX_VALUE, -1L}, parsedTensor.toLongArray());
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_StreamInAndOut_OldVersion() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .floatData(new float[]{1.5f, -2.25f})
+                .dataType(MLResultDataType.FLOAT32)
+                .result("test result")
+                .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_2_14_0);
+        tensor.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_2_14_0);
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+        assertArrayEquals(new Number[]{1.5f, -2.25f}, parsedTensor.getData());
+        assertEquals("test result", parsedTensor.getResult());
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_ToXContent_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .name("sentence_embedding")
+                .floatData(new float[]{1.5f, -2.25f})
+                .shape(new long[]{2})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        String modelTensorContent = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"name\":\"sentence_embedding\"," +
+                "\"data_type\":\"FLOAT32\"," +
+                "\"shape\":[2]," +
+                "\"data\":[1.5,-2.25]}", modelTensorContent);
+    }
+
+    @Test
+    public void test_SetData_ReplacesFloatData() {
+        ModelTensor tensor = ModelTensor.builder()
+                .floatData(new float[]{1.5f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        tensor.setData(null);
+        assertEquals(null, tensor.getData());
+        assertEquals(null, tensor.toFloatArray());
+    }
+
+    @Test
+    public void test_DataAndFloatData() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("only one of data, float data, double data, int data and long data can be set");
+        ModelTensor.builder()
+                .data(new Number[]{1, 2, 3})
+                .floatData(new float[]{1f, 2f, 3f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+    }
+
     @Test
     public void test_UnknownDataType() {
         exceptionRule.expect(IllegalArgumentException.class);
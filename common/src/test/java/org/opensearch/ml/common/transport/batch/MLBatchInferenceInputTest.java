@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.TestHelper;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class MLBatchInferenceInputTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private MLBatchInferenceInput input;
+
+    @Before
+    public void setUp() {
+        input = MLBatchInferenceInput.builder()
+                .modelId("model1")
+                .sourceIndices(List.of("source"))
+                .sourceQuery(new SearchSourceBuilder().sort("id"))
+                .fieldMap(Map.of("text", "text_embedding"))
+                .destinationIndex("dest")
+                .batchSize(8)
+                .build();
+    }
+
+    @Test
+    public void constructor_DefaultSourceQuery() {
+        MLBatchInferenceInput input = this.input.toBuilder().sourceQuery(null).batchSize(null).build();
+        assertNotNull(input.getSourceQuery());
+        assertNull(input.getBatchSize());
+    }
+
+    @Test
+    public void constructor_NullModelId() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("model id can't be null");
+        input.toBuilder().modelId(null).build();
+    }
+
+    @Test
+    public void constructor_EmptySourceIndex() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("source index can't be empty");
+        input.toBuilder().sourceIndices(Collections.emptyList()).build();
+    }
+
+    @Test
+    public void constructor_EmptyFieldMap() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("field map can't be empty");
+        input.toBuilder().fieldMap(Collections.emptyMap()).build();
+    }
+
+    @Test
+    public void constructor_NullDestinationIndex() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("destination index can't be null");
+        input.toBuilder().destinationIndex(null).build();
+    }
+
+    @Test
+    public void constructor_InvalidBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("batch size should be a positive number");
+        input.toBuilder().batchSize(0).build();
+    }
+
+    @Test
+    public void writeTo() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        input.writeTo(bytesStreamOutput);
+        MLBatchInferenceInput parsedInput = new MLBatchInferenceInput(bytesStreamOutput.bytes().streamInput());
+        verifyInput(parsedInput, "model1");
+    }
+
+    @Test
+    public void parse() throws IOException {
+        String content = "{\"model_id\":\"model1\",\"source_index\":[\"source\"],\"source_query\":{\"sort\":[\"id\"]},"
+                + "\"field_map\":{\"text\":\"text_embedding\"},\"destination_index\":\"dest\",\"batch_size\":8,\"unknown\":{}}";
+        verifyInput(MLBatchInferenceInput.parse(createParser(content), null), "model1");
+    }
+
+    @Test
+    public void parse_ModelIdFromPath() throws IOException {
+        String content = "{\"model_id\":\"model1\",\"source_index\":\"source\",\"source_query\":{\"sort\":[\"id\"]},"
+                + "\"field_map\":{\"text\":\"text_embedding\"},\"destination_index\":\"dest\",\"batch_size\":8}";
+        verifyInput(MLBatchInferenceInput.parse(createParser(content), "model2"), "model2");
+    }
+
+    @Test
+    public void toXContent() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        input.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String content = TestHelper.xContentBuilderToString(builder);
+        verifyInput(MLBatchInferenceInput.parse(createParser(content), null), "model1");
+    }
+
+    private void verifyInput(MLBatchInferenceInput parsedInput, String modelId) {
+        assertEquals(modelId, parsedInput.getModelId());
+        assertEquals(List.of("source"), parsedInput.getSourceIndices());
+        assertEquals(input.getSourceQuery(), parsedInput.getSourceQuery());
+        assertEquals(Map.of("text", "text_embedding"), parsedInput.getFieldMap());
+        assertEquals("dest", parsedInput.getDestinationIndex());
+        assertEquals(8, parsedInput.getBatchSize().intValue());
+    }
+
+    private XContentParser createParser(String content) throws IOException {
+        XContentParser parser = XContentType.JSON.xContent().createParser(
+                new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()),
+                LoggingDeprecationHandler.INSTANCE,
+                content);
+        parser.nextToken();
+        return parser;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MLBatchInferenceRequestTest {
+
+    private MLBatchInferenceInput input;
+
+    @Before
+    public void setUp() {
+        input = MLBatchInferenceInput.builder()
+                .modelId("model1")
+                .sourceIndices(List.of("source"))
+                .fieldMap(Map.of("text", "text_embedding"))
+                .destinationIndex("dest")
+                .build();
+    }
+
+    @Test
+    public void validate_Success() {
+        MLBatchInferenceRequest request = new MLBatchInferenceRequest(input);
+        assertTrue(request.isDispatchTask());
+        assertNull(request.validate());
+    }
+
+    @Test
+    public void validate_Success_ResumeTask() {
+        MLBatchInferenceRequest request = MLBatchInferenceRequest.builder().taskId("task1").build();
+        assertNull(request.validate());
+    }
+
+    @Test
+    public void validate_Exception_NullInput() {
+        MLBatchInferenceRequest request = MLBatchInferenceRequest.builder().build();
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: batch inference input can't be null;", exception.getMessage());
+    }
+
+    @Test
+    public void validate_Exception_InputWithTaskId() {
+        MLBatchInferenceRequest request = MLBatchInferenceRequest.builder().batchInferenceInput(input).taskId("task1").build();
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: batch inference input can't be set when resuming a task;", exception.getMessage());
+    }
+
+    @Test
+    public void writeTo() throws IOException {
+        MLBatchInferenceRequest request = new MLBatchInferenceRequest(input);
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLBatchInferenceRequest(bytesStreamOutput.bytes().streamInput());
+        assertTrue(request.isDispatchTask());
+        assertEquals("model1", request.getBatchInferenceInput().getModelId());
+        assertNull(request.getTaskId());
+    }
+
+    @Test
+    public void writeTo_ResumeTask() throws IOException {
+        MLBatchInferenceRequest request = MLBatchInferenceRequest.builder().taskId("task1").build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLBatchInferenceRequest(bytesStreamOutput.bytes().streamInput());
+        assertFalse(request.isDispatchTask());
+        assertNull(request.getBatchInferenceInput());
+        assertEquals("task1", request.getTaskId());
+    }
+
+    @Test
+    public void fromActionRequest_WithMLBatchInferenceRequest() {
+        MLBatchInferenceRequest request = new MLBatchInferenceRequest(input);
+        assertSame(request, MLBatchInferenceRequest.fromActionRequest(request));
+    }
+
+    @Test
+    public void fromActionRequest_WithNonMLBatchInferenceRequest() {
+        MLBatchInferenceRequest request = new MLBatchInferenceRequest(input);
+        ActionRequest actionRequest = new ActionRequest() {
+            @Override
+            public ActionRequestValidationException validate() {
+                return null;
+            }
+
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                request.writeTo(out);
+            }
+        };
+        MLBatchInferenceRequest result = MLBatchInferenceRequest.fromActionRequest(actionRequest);
+        assertNotSame(request, result);
+        assertEquals(request.getBatchInferenceInput().getModelId(), result.getBatchInferenceInput().getModelId());
+        assertEquals(request.getBatchInferenceInput().getFieldMap(), result.getBatchInferenceInput().getFieldMap());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void fromActionRequest_Exception() {
+        ActionRequest actionRequest = new ActionRequest() {
+            @Override
+            public ActionRequestValidationException validate() {
+                return null;
+            }
+
+            @Override
+            public void writeTo(StreamOutput out) throws IOException {
+                throw new IOException("test");
+            }
+        };
+        MLBatchInferenceRequest.fromActionRequest(actionRequest);
+    }
+}
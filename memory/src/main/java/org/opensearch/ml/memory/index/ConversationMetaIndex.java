@@ -22,6 +22,7 @@ import static org.opensearch.ml.common.utils.IndexUtils.INDEX_SETTINGS;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -45,6 +46,9 @@ import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.client.Requests;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
@@ -61,7 +65,10 @@ import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.sort.SortOrder;
 
+import com.google.common.annotations.VisibleForTesting;
+
 import lombok.AllArgsConstructor;
+import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -71,6 +78,16 @@ import lombok.extern.log4j.Log4j2;
 @AllArgsConstructor
 public class ConversationMetaIndex {
 
+    private static final TimeValue ACCESS_CACHE_TTL = TimeValue.timeValueSeconds(30);
+    private static final long ACCESS_CACHE_MAX_ENTRIES = 10000;
+    // Granted access decisions, shared by all instances on this node so that a delete or update through one
+    // instance invalidates the decisions cached by the others. Other nodes rely on the TTL.
+    private static final Cache<AccessKey, Boolean> accessCache = CacheBuilder
+        .<AccessKey, Boolean>builder()
+        .setExpireAfterWrite(ACCESS_CACHE_TTL)
+        .setMaximumWeight(ACCESS_CACHE_MAX_ENTRIES)
+        .build();
+
     private Client client;
     private ClusterService clusterService;
 
@@ -262,6 +279,7 @@ public class ConversationMetaIndex {
                     ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                     // When we get the delete response, do this:
                     ActionListener<DeleteResponse> al = ActionListener.wrap(deleteResponse -> {
+                        invalidateAccess(conversationId);
                         if (deleteResponse.getResult() == Result.DELETED) {
                             internalListener.onResponse(true);
                         } else if (deleteResponse.status() == RestStatus.NOT_FOUND) {
@@ -299,6 +317,11 @@ public class ConversationMetaIndex {
             return;
         }
         String userstr = getUserStrFromThreadContext();
+        AccessKey accessKey = AccessKey.of(conversationId, User.parse(userstr));
+        if (accessCache.get(accessKey) != null) {
+            listener.onResponse(true);
+            return;
+        }
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
             GetRequest getRequest = Requests.getRequest(META_INDEX_NAME).id(conversationId);
@@ -309,6 +332,7 @@ public class ConversationMetaIndex {
                 }
                 // If security is off - User doesn't exist - you have permission
                 if (userstr == null || User.parse(userstr) == null) {
+                    accessCache.put(accessKey, true);
                     internalListener.onResponse(true);
                     return;
                 }
@@ -319,6 +343,7 @@ public class ConversationMetaIndex {
                     internalListener.onResponse(false);
                     return;
                 }
+                accessCache.put(accessKey, true);
                 internalListener.onResponse(true);
             }, e -> { internalListener.onFailure(e); });
             client.admin().indices().refresh(Requests.refreshRequest(META_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
@@ -376,7 +401,7 @@ public class ConversationMetaIndex {
 
         this.checkAccess(conversationId, ActionListener.wrap(access -> {
             if (access) {
-                innerUpdateConversation(updateRequest, listener);
+                innerUpdateConversation(conversationId, updateRequest, listener);
             } else {
                 String userstr = client
                     .threadPool()
@@ -391,9 +416,12 @@ public class ConversationMetaIndex {
         }, e -> { listener.onFailure(e); }));
     }
 
-    private void innerUpdateConversation(UpdateRequest updateRequest, ActionListener<UpdateResponse> listener) {
+    private void innerUpdateConversation(String conversationId, UpdateRequest updateRequest, ActionListener<UpdateResponse> listener) {
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
-            ActionListener<UpdateResponse> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
+            ActionListener<UpdateResponse> internalListener = ActionListener.runBefore(listener, () -> {
+                invalidateAccess(conversationId);
+                threadContext.restore();
+            });
             client.update(updateRequest, internalListener);
         } catch (Exception e) {
             log.error("Failed to update Memory. Details {}:", e);
@@ -452,4 +480,40 @@ public class ConversationMetaIndex {
             listener.onFailure(e);
         }
     }
+
+    /**
+     * Drop the cached access decisions of a conversation for all users
+     * @param conversationId the conversation whose access decisions are dropped
+     */
+    private void invalidateAccess(String conversationId) {
+        List<AccessKey> keys = new ArrayList<>();
+        for (AccessKey key : accessCache.keys()) {
+            if (key.getConversationId().equals(conversationId)) {
+                keys.add(key);
+            }
+        }
+        keys.forEach(accessCache::invalidate);
+    }
+
+    @VisibleForTesting
+    static void clearAccessCache() {
+        accessCache.invalidateAll();
+    }
+
+    /**
+     * Key of a cached access decision: the conversation and the requesting user with its backend roles
+     */
+    @Value
+    private static class AccessKey {
+        String conversationId;
+        String user;
+        List<String> backendRoles;
+
+        static AccessKey of(String conversationId, User user) {
+            if (user == null) {
+                return new AccessKey(conversationId, null, List.of());
+            }
+            return new AccessKey(conversationId, user.getName(), user.getBackendRoles());
+        }
+    }
 }
@@ -40,6 +40,7 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
@@ -181,6 +182,8 @@ public class InteractionsIndex {
                                 ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD,
                                 traceNumber
                             );
+                        // reads never refresh the index, so make the interaction searchable before responding
+                        request.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
                         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
                             ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                             ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
@@ -320,12 +323,7 @@ public class InteractionsIndex {
                 internalListener.onFailure(e);
                 log.error("Failed to get the messages for memory {}", conversationId);
             });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(r -> { client.search(request, al); }, e -> {
-                    internalListener.onFailure(e);
-                }));
+            client.search(request, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -374,12 +372,8 @@ public class InteractionsIndex {
                 }, e -> { listener.onFailure(e); });
                 conversationMetaIndex.checkAccess(conversationId, accessListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // get by id is realtime, so it sees the latest write without a refresh
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -489,7 +483,7 @@ public class InteractionsIndex {
                     internalListener.onResponse(true);
                     return;
                 }
-                BulkRequest request = Requests.bulkRequest();
+                BulkRequest request = Requests.bulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
                 for (Interaction interaction : interactions) {
                     DeleteRequest delRequest = Requests.deleteRequest(INTERACTIONS_INDEX_NAME).id(interaction.getId());
                     request.add(delRequest);
@@ -534,15 +528,7 @@ public class InteractionsIndex {
                     newQuery.must(originalQuery);
                     newQuery.must(new TermQueryBuilder(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId));
                     request.source().query(newQuery);
-                    client
-                        .admin()
-                        .indices()
-                        .refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                            client.search(request, internalListener);
-                        }, e -> {
-                            log.error("Failed to refresh messages index during search messages ", e);
-                            internalListener.onFailure(e);
-                        }));
+                    client.search(request, internalListener);
                 } catch (Exception e) {
                     listener.onFailure(e);
                 }
@@ -585,12 +571,7 @@ public class InteractionsIndex {
                 // checks if the user has permission to access the conversation that the interaction belongs to
                 checkInteractionPermission(interactionId, interaction, internalListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -641,12 +622,7 @@ public class InteractionsIndex {
                 }, e -> { listener.onFailure(e); });
                 conversationMetaIndex.checkAccess(conversationId, accessListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh messages index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
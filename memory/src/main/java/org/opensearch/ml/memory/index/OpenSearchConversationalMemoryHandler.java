@@ -431,7 +431,7 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
 
         updateRequest.doc(updateContent);
         updateRequest.docAsUpsert(true);
-        updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
 
         interactionsIndex.updateInteraction(interactionId, updateRequest, listener);
     }
@@ -27,7 +27,9 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -60,6 +62,7 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.common.conversation.ConversationMeta;
+import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -106,6 +109,7 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         doReturn(threadPool).when(client).threadPool();
         doReturn(new ThreadContext(Settings.EMPTY)).when(threadPool).getThreadContext();
         conversationMetaIndex = spy(new ConversationMetaIndex(client, clusterService));
+        ConversationMetaIndex.clearAccessCache();
     }
 
     private void setupDoesNotMakeIndex() {
@@ -521,6 +525,73 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue());
     }
 
+    public void testCheckAccess_GrantCached() {
+        setupUser("user");
+        setupRefreshSuccess();
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupConversationGetResponse("test_id", "user");
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> accessListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccess("test_id", accessListener);
+        conversationMetaIndex.checkAccess("test_id", accessListener);
+        verify(accessListener, times(2)).onResponse(true);
+        verify(client, times(1)).get(any(), any());
+
+        // another user is checked against the index
+        setupUser("other");
+        conversationMetaIndex.checkAccess("test_id", accessListener);
+        verify(accessListener, times(1)).onResponse(false);
+        verify(client, times(2)).get(any(), any());
+    }
+
+    public void testCheckAccess_CacheInvalidatedOnUpdate() {
+        setupUser("user");
+        setupRefreshSuccess();
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupConversationGetResponse("test_id", "user");
+        doAnswer(invocation -> {
+            ShardId shardId = new ShardId(new Index("indexName", "uuid"), 1);
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new UpdateResponse(shardId, "test_id", 1, 1, 1, DocWriteResponse.Result.UPDATED));
+            return null;
+        }).when(client).update(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<UpdateResponse> updateListener = mock(ActionListener.class);
+        conversationMetaIndex.updateConversation("test_id", new UpdateRequest(), updateListener);
+        verify(client, times(1)).get(any(), any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> accessListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccess("test_id", accessListener);
+        verify(accessListener, times(1)).onResponse(true);
+        verify(client, times(2)).get(any(), any());
+    }
+
+    private void setupConversationGetResponse(String id, String user) {
+        GetResponse dummyGetResponse = mock(GetResponse.class);
+        doReturn(true).when(dummyGetResponse).isExists();
+        doReturn(id).when(dummyGetResponse).getId();
+        String now = Instant.now().toString();
+        doReturn(
+            Map
+                .of(
+                    ConversationalIndexConstants.META_CREATED_TIME_FIELD,
+                    now,
+                    ConversationalIndexConstants.META_UPDATED_TIME_FIELD,
+                    now,
+                    ConversationalIndexConstants.META_NAME_FIELD,
+                    "name",
+                    ConversationalIndexConstants.USER_FIELD,
+                    user
+                )
+        ).when(dummyGetResponse).getSourceAsMap();
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(dummyGetResponse);
+            return null;
+        }).when(client).get(any(), any());
+    }
+
     public void testCheckAccess_RefreshFails_ThenFail() {
         setupUser("user");
         doReturn(true).when(metadata).hasIndex(anyString());
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -44,11 +45,13 @@ import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.AdminClient;
@@ -304,6 +307,18 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Failed to create message"));
     }
 
+    public void testCreate_WaitsForRefresh() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        @SuppressWarnings("unchecked")
+        ActionListener<String> createInteractionListener = mock(ActionListener.class);
+        interactionsIndex
+            .createInteraction("cid", "inp", "pt", "rsp", "ogn", Collections.singletonMap("meta", "some meta"), createInteractionListener);
+        ArgumentCaptor<IndexRequest> argCaptor = ArgumentCaptor.forClass(IndexRequest.class);
+        verify(client, times(1)).index(argCaptor.capture(), any());
+        assertEquals(WriteRequest.RefreshPolicy.WAIT_UNTIL, argCaptor.getValue().getRefreshPolicy());
+    }
+
     public void testCreate_InternalFailure_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
@@ -406,26 +421,20 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Failure in Search"));
     }
 
-    public void testGet_RefreshFails_ThenFail() {
+    public void testGet_DoesNotRefresh() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed to Refresh"));
-            return null;
-        }).when(indicesAdminClient).refresh(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getInteractionsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed to Refresh"));
+        verify(client, times(1)).search(any(), any());
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGet_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure")).when(indicesAdminClient).refresh(any(), any());
+        doThrow(new RuntimeException("Client Failure")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
@@ -700,28 +709,22 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Test Failure"));
     }
 
-    public void testSearch_RefreshFails_ThenFail() {
+    public void testSearch_DoesNotRefresh() {
         setupGrantAccess();
         SearchRequest request = dummyRequest();
         final String cid = "test_id";
-        doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed during Search Refresh"));
-            return null;
-        }).when(indicesAdminClient).refresh(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<SearchResponse> searchInteractionsListener = mock(ActionListener.class);
         interactionsIndex.searchInteractions(cid, request, searchInteractionsListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(searchInteractionsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed during Search Refresh"));
+        verify(client, times(1)).search(eq(request), any());
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testSearch_ClientFails_ThenFail() {
         setupGrantAccess();
         SearchRequest request = dummyRequest();
         final String cid = "test_cid";
-        doThrow(new RuntimeException("Client Failure in Search Interactions")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure in Search Interactions")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<SearchResponse> searchInteractionsListener = mock(ActionListener.class);
         interactionsIndex.searchInteractions(cid, request, searchInteractionsListener);
@@ -796,26 +799,20 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Message [iid] not found"));
     }
 
-    public void testGetSg_RefreshFails_ThenFail() {
+    public void testGetSg_DoesNotRefresh() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed during Sg Get Refresh"));
-            return null;
-        }).when(indicesAdminClient).refresh(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed during Sg Get Refresh"));
+        verify(client, times(1)).get(any(), any());
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGetSg_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+
+/**
+ * Predictable which splits {@link #predict(MLInput, MLModel)} into deserializing the model content and
+ * predicting with the deserialized model, so that callers can keep the deserialized model and predict
+ * with it again without deserializing the model content for every request.
+ */
+public interface DeserializedModelPredictable extends Predictable {
+
+    /**
+     * Deserialize the content of a trained model. The returned object is shared by concurrent predictions,
+     * so predictions must not change it.
+     * @param model the java serialized model
+     * @return deserialized model
+     */
+    Object deserializeModel(MLModel model);
+
+    /**
+     * Predict with given input data and a model returned by {@link #deserializeModel(MLModel)}.
+     * @param mlInput input data
+     * @param deserializedModel deserialized model
+     * @return predicted results
+     */
+    MLOutput predict(MLInput mlInput, Object deserializedModel);
+
+    @Override
+    default MLOutput predict(MLInput mlInput, MLModel model) {
+        return predict(mlInput, deserializeModel(model));
+    }
+}
@@ -94,10 +94,6 @@ public class MLEngine {
         return mlModelsCachePath.resolve(DEPLOY_MODEL_FOLDER);
     }
 
-    public Path getDeployModelChunkPath(String modelId, Integer chunkNumber) {
-        return mlModelsCachePath.resolve(DEPLOY_MODEL_FOLDER).resolve(modelId).resolve("chunks").resolve(chunkNumber + "");
-    }
-
     public Path getModelCachePath(String modelId, String modelName, String version) {
         return getModelCachePath(modelId).resolve(version).resolve(modelName);
     }
@@ -110,6 +106,10 @@ public class MLEngine {
         return mlModelsCachePath.resolve("models");
     }
 
+    public Path getModelArtifactCacheRootPath() {
+        return mlModelsCachePath.resolve("artifacts");
+    }
+
     public MLModel train(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
@@ -142,6 +142,29 @@ public class MLEngine {
         return predictable.predict(mlInput, model);
     }
 
+    /**
+     * Deserialize the content of a trained model, so that it can be used by {@link #predictWithDeserializedModel(Input, Object)}.
+     * @param model trained model
+     * @return deserialized model, or null if the algorithm can't predict with a deserialized model
+     */
+    public Object deserializeModel(MLModel model) {
+        Predictable predictable = MLEngineClassLoader.initInstance(model.getAlgorithm(), null, MLAlgoParams.class);
+        if (!(predictable instanceof DeserializedModelPredictable)) {
+            return null;
+        }
+        return ((DeserializedModelPredictable) predictable).deserializeModel(model);
+    }
+
+    public MLOutput predictWithDeserializedModel(Input input, Object deserializedModel) {
+        validateMLInput(input);
+        MLInput mlInput = (MLInput) input;
+        Predictable predictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        if (!(predictable instanceof DeserializedModelPredictable)) {
+            throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
+        }
+        return ((DeserializedModelPredictable) predictable).predict(mlInput, deserializedModel);
+    }
+
     public MLOutput trainAndPredict(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
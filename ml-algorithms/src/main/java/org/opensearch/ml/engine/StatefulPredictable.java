@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+/**
+ * Predictable whose deployed model is updated by every prediction, like a streaming anomaly detection model.
+ * Predictions of a deployed model are applied one at a time in arrival order, and the updated model is
+ * checkpointed back to the model index from time to time.
+ */
+public interface StatefulPredictable extends Predictable {
+
+    /**
+     * @return number of points the deployed model has processed since it was deployed
+     */
+    long getUpdateCount();
+
+    /**
+     * Serialize the current state of the deployed model. Waits for the predictions which arrived before.
+     * @return base64 model content
+     */
+    String checkpoint();
+}
@@ -10,6 +10,7 @@ import static org.opensearch.ml.engine.ModelHelper.ONNX_FILE_EXTENSION;
 import static org.opensearch.ml.engine.ModelHelper.PYTORCH_ENGINE;
 import static org.opensearch.ml.engine.ModelHelper.PYTORCH_FILE_EXTENSION;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.engine.utils.PredictPhaseLatencies.PHASE_LATENCIES;
 
 import java.io.File;
 import java.io.IOException;
@@ -36,6 +37,7 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 import org.opensearch.ml.engine.utils.ZipUtils;
 
 import ai.djl.Application;
@@ -43,6 +45,9 @@ import ai.djl.Device;
 import ai.djl.MalformedModelException;
 import ai.djl.engine.Engine;
 import ai.djl.inference.Predictor;
+import ai.djl.metric.Metric;
+import ai.djl.metric.Metrics;
+import ai.djl.metric.Unit;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.repository.zoo.Criteria;
@@ -68,6 +73,7 @@ public abstract class DLModel implements Predictable {
     protected AtomicInteger nextDevice = new AtomicInteger(0);
 
     protected MLModelConfig modelConfig;
+    protected PredictPhaseLatencies phaseLatencies;
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
@@ -123,6 +129,7 @@ public abstract class DLModel implements Predictable {
         File modelZipFile = (File) params.get(MODEL_ZIP_FILE);
         modelHelper = (ModelHelper) params.get(MODEL_HELPER);
         mlEngine = (MLEngine) params.get(ML_ENGINE);
+        phaseLatencies = (PredictPhaseLatencies) params.get(PHASE_LATENCIES);
         if (modelZipFile == null) {
             throw new IllegalArgumentException("model file is null");
         }
@@ -221,6 +228,9 @@ public abstract class DLModel implements Predictable {
 
             // First request takes longer time. Predict once to warm up model.
             warmUp(predictor, modelId, modelConfig);
+            if (phaseLatencies != null) {
+                predictor.setMetrics(new PhaseLatencyMetrics(phaseLatencies));
+            }
         }
 
         if (predictorList.size() > 0) {
@@ -333,12 +343,69 @@ public abstract class DLModel implements Predictable {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
-        ModelTensors tensorOutput = ModelTensors.fromBytes(bytes);
+        ModelTensors tensorOutput = ModelTensorsSupplier.toModelTensors(output.getData());
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
         }
         return tensorOutput;
     }
 
+    /**
+     * Parse batch model output, which carries one model tensors per input document,
+     * and apply result filter to each of them.
+     * @param output model output
+     * @param batchSize number of documents in the batch
+     * @param resultFilter result filter
+     * @return model tensors in input order
+     */
+    public List<ModelTensors> parseBatchModelTensorOutput(Output output, int batchSize, ModelResultFilter resultFilter) {
+        if (output == null || output.getContent().size() != batchSize) {
+            throw new MLException("No output generated");
+        }
+        List<ModelTensors> tensorOutputs = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            ModelTensors tensorOutput = ModelTensorsSupplier.toModelTensors(output.get(i));
+            if (resultFilter != null) {
+                tensorOutput.filter(resultFilter);
+            }
+            tensorOutputs.add(tensorOutput);
+        }
+        return tensorOutputs;
+    }
+
+
+    /**
+     * Records the predictor's per request preprocess, forward and postprocess times as phase latencies,
+     * instead of keeping every metric in memory like {@link Metrics} does. The forward pass is the "Inference"
+     * metric of the predictor, while "Prediction" is the end to end time of the request.
+     */
+    static class PhaseLatencyMetrics extends Metrics {
+        private final PredictPhaseLatencies phaseLatencies;
+
+        PhaseLatencyMetrics(PredictPhaseLatencies phaseLatencies) {
+            this.phaseLatencies = phaseLatencies;
+        }
+
+        @Override
+        public void addMetric(Metric metric) {
+            if (metric.getUnit() != Unit.MICROSECONDS) {
+                return;
+            }
+            PredictPhaseLatencies.Phase phase;
+            switch (metric.getMetricName()) {
+                case "Preprocess":
+                    phase = PredictPhaseLatencies.Phase.PRE_PROCESS;
+                    break;
+                case "Inference":
+                    phase = PredictPhaseLatencies.Phase.FORWARD;
+                    break;
+                case "Postprocess":
+                    phase = PredictPhaseLatencies.Phase.POST_PROCESS;
+                    break;
+                default:
+                    return;
+            }
+            phaseLatencies.record(phase, metric.getValue().longValue() * 1000);
+        }
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.nio.ByteBuffer;
+
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
+import lombok.Getter;
+
+/**
+ * Carries the model tensors built by a translator in the DJL {@link Output} as they are. The engine
+ * takes them out with {@link #toModelTensors(BytesSupplier)}, so they are not serialized and parsed
+ * again on every prediction. They are only serialized if someone asks for the output bytes.
+ */
+public class ModelTensorsSupplier implements BytesSupplier {
+    @Getter
+    private final ModelTensors modelTensors;
+
+    public ModelTensorsSupplier(ModelTensors modelTensors) {
+        this.modelTensors = modelTensors;
+    }
+
+    /**
+     * Get the model tensors of a translator output item.
+     * @param data output item
+     * @return the model tensors attached by the translator, or the ones parsed from the item bytes
+     */
+    public static ModelTensors toModelTensors(BytesSupplier data) {
+        if (data instanceof ModelTensorsSupplier) {
+            return ((ModelTensorsSupplier) data).getModelTensors();
+        }
+        return ModelTensors.fromBytes(data.getAsBytes());
+    }
+
+    @Override
+    public byte[] getAsBytes() {
+        return modelTensors.toBytes();
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(getAsBytes());
+    }
+}
@@ -18,6 +18,8 @@ import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 
+import com.google.common.collect.Lists;
+
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
@@ -37,6 +39,16 @@ public abstract class TextEmbeddingModel extends DLModel {
         Output output;
         TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
+        if (isBatchPredictEnabled(modelConfig)) {
+            int batchSize = ((TextEmbeddingModelConfig) modelConfig).getBatchSize();
+            for (List<String> docs : Lists.partition(textDocsInput.getDocs(), batchSize)) {
+                Input input = new Input();
+                docs.forEach(input::add);
+                output = getPredictor().predict(input);
+                tensorOutputs.addAll(parseBatchModelTensorOutput(output, docs.size(), resultFilter));
+            }
+            return new ModelTensorOutput(tensorOutputs);
+        }
         for (String doc : textDocsInput.getDocs()) {
             Input input = new Input();
             input.add(doc);
@@ -46,6 +58,17 @@ public abstract class TextEmbeddingModel extends DLModel {
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * In batch predict mode the translator receives all documents of a micro-batch of the model's batch size in
+     * one {@link Input} and returns one {@link ModelTensors} per document. It's disabled by default, models whose
+     * translators support it override this method.
+     * @param modelConfig model config
+     * @return true if documents should be predicted in micro-batches
+     */
+    protected boolean isBatchPredictEnabled(MLModelConfig modelConfig) {
+        return false;
+    }
+
     private boolean isAsymmetricModel(MLAlgoParams mlParams) {
         if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
             // Check for the necessary prefixes in modelConfig
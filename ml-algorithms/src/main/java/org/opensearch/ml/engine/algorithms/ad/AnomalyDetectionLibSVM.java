@@ -23,7 +23,7 @@ import org.opensearch.ml.common.input.parameter.ad.AnomalyDetectionLibSVMParams;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
-import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.DeserializedModelPredictable;
 import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -46,7 +46,7 @@ import org.tribuo.common.libsvm.SVMParameters;
  *
  */
 @Function(FunctionName.AD_LIBSVM)
-public class AnomalyDetectionLibSVM implements Trainable, Predictable {
+public class AnomalyDetectionLibSVM implements Trainable, DeserializedModelPredictable {
     public static final String VERSION = "1.0.0";
     private static double DEFAULT_GAMMA = 1.0;
     private static double DEFAULT_NU = 0.1;
@@ -118,12 +118,16 @@ public class AnomalyDetectionLibSVM implements Trainable, Predictable {
     }
 
     @Override
-    public MLOutput predict(MLInput mlInput, MLModel model) {
+    public Object deserializeModel(MLModel model) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for KMeans prediction.");
         }
+        return ModelSerDeSer.deserialize(model);
+    }
 
-        libSVMAnomalyModel = (LibSVMModel) ModelSerDeSer.deserialize(model);
+    @Override
+    public MLOutput predict(MLInput mlInput, Object deserializedModel) {
+        libSVMAnomalyModel = (LibSVMModel) deserializedModel;
         return predict(mlInput);
     }
 
@@ -22,6 +22,7 @@ import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.engine.DeserializedModelPredictable;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -36,7 +37,7 @@ import org.tribuo.clustering.kmeans.KMeansModel;
 import org.tribuo.clustering.kmeans.KMeansTrainer;
 
 @Function(FunctionName.KMEANS)
-public class KMeans implements TrainAndPredictable {
+public class KMeans implements TrainAndPredictable, DeserializedModelPredictable {
     public static final String VERSION = "1.0.0";
     private static final KMeansParams.DistanceType DEFAULT_DISTANCE_TYPE = KMeansParams.DistanceType.EUCLIDEAN;
     private static int DEFAULT_CENTROIDS = 2;
@@ -117,11 +118,16 @@ public class KMeans implements TrainAndPredictable {
     }
 
     @Override
-    public MLOutput predict(MLInput mlInput, MLModel model) {
+    public Object deserializeModel(MLModel model) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for KMeans prediction.");
         }
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        return ModelSerDeSer.deserialize(model);
+    }
+
+    @Override
+    public MLOutput predict(MLInput mlInput, Object deserializedModel) {
+        kMeansModel = (KMeansModel) deserializedModel;
         return predict(mlInput);
     }
 
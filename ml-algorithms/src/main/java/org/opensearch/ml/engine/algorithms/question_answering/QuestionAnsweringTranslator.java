@@ -11,6 +11,7 @@ import java.util.List;
 
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.huggingface.tokenizers.Encoding;
@@ -68,7 +69,7 @@ public class QuestionAnsweringTranslator extends SentenceTransformerTranslator {
         outputs.add(new ModelTensor(null, answer));
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 
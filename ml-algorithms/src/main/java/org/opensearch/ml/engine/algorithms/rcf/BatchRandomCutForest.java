@@ -16,10 +16,8 @@ import java.util.Optional;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
-import org.opensearch.ml.common.dataframe.ColumnValue;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
-import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
@@ -27,6 +25,7 @@ import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.engine.DeserializedModelPredictable;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -42,7 +41,7 @@ import lombok.extern.log4j.Log4j2;
  */
 @Log4j2
 @Function(FunctionName.BATCH_RCF)
-public class BatchRandomCutForest implements TrainAndPredictable {
+public class BatchRandomCutForest implements TrainAndPredictable, DeserializedModelPredictable {
     public static final String VERSION = "1.0.0";
     private static final int DEFAULT_NUMBER_OF_TREES = 30;
     private static final int DEFAULT_OUTPUT_AFTER = 32;
@@ -97,12 +96,20 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     }
 
     @Override
-    public MLOutput predict(MLInput mlInput, MLModel model) {
+    public Object deserializeModel(MLModel model) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for batch RCF prediction.");
         }
-        RandomCutForestState state = RCFModelSerDeSer.deserializeRCF(model);
-        forest = rcfMapper.toModel(state);
+        return RCFModelSerDeSer.deserializeRCF(model);
+    }
+
+    /**
+     * Predict with a deserialized forest state. Prediction doesn't update the forest, and every prediction
+     * builds its own forest from the state.
+     */
+    @Override
+    public MLOutput predict(MLInput mlInput, Object deserializedModel) {
+        forest = rcfMapper.toModel((RandomCutForestState) deserializedModel);
         return predict(mlInput);
     }
 
@@ -135,18 +142,14 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     }
 
     private List<Map<String, Object>> process(DataFrame dataFrame, RandomCutForest forest, Integer actualTrainingDataSize) {
-        List<Double> pointList = new ArrayList<>();
         ColumnMeta[] columnMetas = dataFrame.columnMetas();
         List<Map<String, Object>> predictResult = new ArrayList<>();
 
         for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
+            double[] point = new double[columnMetas.length];
             for (int i = 0; i < columnMetas.length; i++) {
-                Row row = dataFrame.getRow(rowNum);
-                ColumnValue value = row.getValue(i);
-                pointList.add(value.doubleValue());
+                point[i] = dataFrame.getDoubleValue(rowNum, i);
             }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
             double anomalyScore = forest.getAnomalyScore(point);
             if (actualTrainingDataSize == null || rowNum < actualTrainingDataSize) {
                 forest.update(point);
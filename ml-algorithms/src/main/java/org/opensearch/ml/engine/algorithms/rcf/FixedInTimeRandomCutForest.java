@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.algorithms.rcf;
 
+import static org.opensearch.ml.engine.utils.ModelSerDeSer.decodeBase64;
 import static org.opensearch.ml.engine.utils.ModelSerDeSer.encodeBase64;
 
 import java.text.DateFormat;
@@ -16,6 +17,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -33,6 +39,8 @@ import org.opensearch.ml.common.input.parameter.rcf.FitRCFParams;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.engine.DeserializedModelPredictable;
+import org.opensearch.ml.engine.StatefulPredictable;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -50,10 +58,15 @@ import lombok.extern.log4j.Log4j2;
  * MLCommons doesn't support update trained model. So the trained RCF model in MLCommons
  * will be fixed in some time rather than updated by prediction data. We call it FIT(fixed
  * in time) RCF.
+ * <p>
+ * A deployed FIT RCF model scores a stream of data frames: every prediction updates the deployed
+ * forest, the predictions are applied one at a time in arrival order, and the forest state is
+ * checkpointed back to the model index periodically. The model is deployed to one node only, so
+ * there is a single copy of the forest.
  */
 @Log4j2
 @Function(FunctionName.FIT_RCF)
-public class FixedInTimeRandomCutForest implements TrainAndPredictable {
+public class FixedInTimeRandomCutForest implements TrainAndPredictable, DeserializedModelPredictable, StatefulPredictable {
     public static final String VERSION = "1.0.0";
     private static final int DEFAULT_NUMBER_OF_TREES = 30;
     private static final int DEFAULT_SHINGLE_SIZE = 8;
@@ -80,6 +93,12 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
 
     private ThresholdedRandomCutForest forest;
 
+    // Updates of the deployed forest. Whichever caller wins the processing flag runs all queued tasks,
+    // so the forest has a single writer and data frames are applied in the order they were queued.
+    private final ConcurrentLinkedQueue<FutureTask<?>> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean processing = new AtomicBoolean(false);
+    private volatile long updateCount;
+
     public FixedInTimeRandomCutForest() {}
 
     public FixedInTimeRandomCutForest(MLAlgoParams parameters) {
@@ -119,16 +138,74 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
     @Override
     public MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, mlInput.getParameters());
+        List<Map<String, Object>> predictResult = runInOrder(() -> {
+            List<Map<String, Object>> result = process(dataFrame, forest, mlInput.getParameters());
+            updateCount += dataFrame.size();
+            return result;
+        });
         return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
     }
 
     @Override
-    public MLOutput predict(MLInput mlInput, MLModel model) {
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    @Override
+    public String checkpoint() {
+        return runInOrder(() -> {
+            if (forest == null) {
+                throw new IllegalArgumentException("Model not ready to checkpoint.");
+            }
+            return encodeBase64(RCFModelSerDeSer.serializeTRCF(trcfMapper.toState(forest)));
+        });
+    }
+
+    /**
+     * Queue a task against the deployed forest and wait for its result. The calling thread drains the queue
+     * if no other thread is draining it, so no executor is needed and concurrent tasks never overlap.
+     */
+    private <T> T runInOrder(Callable<T> callable) {
+        FutureTask<T> task = new FutureTask<>(callable);
+        pendingTasks.add(task);
+        while (!pendingTasks.isEmpty() && processing.compareAndSet(false, true)) {
+            try {
+                FutureTask<?> pendingTask;
+                while ((pendingTask = pendingTasks.poll()) != null) {
+                    pendingTask.run();
+                }
+            } finally {
+                processing.set(false);
+            }
+        }
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for FIT RCF model update", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Decode the model content only. Prediction updates the forest, so every prediction deserializes its own
+     * forest state from the decoded bytes.
+     */
+    @Override
+    public Object deserializeModel(MLModel model) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for FIT RCF prediction.");
         }
-        ThresholdedRandomCutForestState state = RCFModelSerDeSer.deserializeTRCF(model);
+        return decodeBase64(model.getContent());
+    }
+
+    @Override
+    public MLOutput predict(MLInput mlInput, Object deserializedModel) {
+        ThresholdedRandomCutForestState state = RCFModelSerDeSer.deserializeTRCF((byte[]) deserializedModel);
         forest = trcfMapper.toModel(state);
         return predict(mlInput);
     }
@@ -24,7 +24,7 @@ import org.opensearch.ml.common.input.parameter.regression.LinearRegressionParam
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
-import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.DeserializedModelPredictable;
 import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -49,7 +49,7 @@ import org.tribuo.regression.sgd.objectives.Huber;
 import org.tribuo.regression.sgd.objectives.SquaredLoss;
 
 @Function(FunctionName.LINEAR_REGRESSION)
-public class LinearRegression implements Trainable, Predictable {
+public class LinearRegression implements Trainable, DeserializedModelPredictable {
     public static final String VERSION = "1.0.0";
     private static final LinearRegressionParams.ObjectiveType DEFAULT_OBJECTIVE_TYPE = LinearRegressionParams.ObjectiveType.SQUARED_LOSS;
     private static final LinearRegressionParams.OptimizerType DEFAULT_OPTIMIZER_TYPE = LinearRegressionParams.OptimizerType.SIMPLE_SGD;
@@ -237,12 +237,16 @@ public class LinearRegression implements Trainable, Predictable {
     }
 
     @Override
-    public MLOutput predict(MLInput mlInput, MLModel model) {
+    public Object deserializeModel(MLModel model) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for linear regression prediction.");
         }
+        return ModelSerDeSer.deserialize(model);
+    }
 
-        regressionModel = (org.tribuo.Model<Regressor>) ModelSerDeSer.deserialize(model);
+    @Override
+    public MLOutput predict(MLInput mlInput, Object deserializedModel) {
+        regressionModel = (org.tribuo.Model<Regressor>) deserializedModel;
         return predict(mlInput);
     }
 
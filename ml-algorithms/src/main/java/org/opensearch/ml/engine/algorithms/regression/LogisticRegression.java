@@ -24,7 +24,7 @@ import org.opensearch.ml.common.input.parameter.regression.LogisticRegressionPar
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
-import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.DeserializedModelPredictable;
 import org.opensearch.ml.engine.Trainable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -48,7 +48,7 @@ import org.tribuo.math.optimisers.RMSProp;
 import org.tribuo.math.optimisers.SGD;
 
 @Function(FunctionName.LOGISTIC_REGRESSION)
-public class LogisticRegression implements Trainable, Predictable {
+public class LogisticRegression implements Trainable, DeserializedModelPredictable {
     public static final String VERSION = "1.0.0";
     private static final LogisticRegressionParams.ObjectiveType DEFAULT_OBJECTIVE_TYPE =
         LogisticRegressionParams.ObjectiveType.LOGMULTICLASS;
@@ -235,12 +235,16 @@ public class LogisticRegression implements Trainable, Predictable {
     }
 
     @Override
-    public MLOutput predict(MLInput mlInput, MLModel model) {
+    public Object deserializeModel(MLModel model) {
         if (model == null) {
             throw new IllegalArgumentException("No model found for logistic regression prediction.");
         }
+        return ModelSerDeSer.deserialize(model);
+    }
 
-        classificationModel = (org.tribuo.Model<Label>) ModelSerDeSer.deserialize(model);
+    @Override
+    public MLOutput predict(MLInput mlInput, Object deserializedModel) {
+        classificationModel = (org.tribuo.Model<Label>) deserializedModel;
         return predict(mlInput);
     }
 }
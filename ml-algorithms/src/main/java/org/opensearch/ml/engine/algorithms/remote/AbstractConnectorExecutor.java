@@ -7,6 +7,8 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.connector.ConnectorScriptCache;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -15,6 +17,8 @@ import lombok.Setter;
 @Getter
 public abstract class AbstractConnectorExecutor implements RemoteConnectorExecutor {
     private ConnectorClientConfig connectorClientConfig;
+    private final ConnectorScriptCache scriptCache = new ConnectorScriptCache();
+    private PredictPhaseLatencies phaseLatencies;
 
     public void initialize(Connector connector) {
         if (connector.getConnectorClientConfig() != null) {
@@ -25,7 +25,7 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
-import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
+import org.opensearch.ml.engine.httpclient.MLHttpClientManager;
 import org.opensearch.script.ScriptService;
 
 import lombok.Getter;
@@ -66,7 +66,7 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
         Duration connectionTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getConnectionTimeout());
         Duration readTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getReadTimeout());
         Integer maxConnection = super.getConnectorClientConfig().getMaxConnections();
-        this.httpClient = MLHttpClientFactory.getAsyncHttpClient(connectionTimeout, readTimeout, maxConnection);
+        this.httpClient = MLHttpClientManager.getInstance().acquire(connectionTimeout, readTimeout, maxConnection);
     }
 
     @SuppressWarnings("removal")
@@ -93,7 +93,9 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
                         tensorOutputs,
                         connector,
                         scriptService,
-                        mlGuard
+                        getScriptCache(),
+                        mlGuard,
+                        getPhaseLatencies()
                     )
                 )
                 .build();
@@ -107,6 +109,13 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
         }
     }
 
+    @Override
+    public void close() {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
     private SdkHttpFullRequest signRequest(SdkHttpFullRequest request) {
         String accessKey = connector.getAccessKey();
         String secretKey = connector.getSecretKey();
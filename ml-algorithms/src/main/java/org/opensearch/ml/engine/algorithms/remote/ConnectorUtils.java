@@ -28,6 +28,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringSubstitutor;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.ConnectorScriptCache;
 import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.connector.MLPreProcessFunction;
 import org.opensearch.ml.common.connector.functions.preprocess.DefaultPreProcessFunction;
@@ -67,6 +68,16 @@ public class ConnectorUtils {
         Connector connector,
         Map<String, String> parameters,
         ScriptService scriptService
+    ) {
+        return processInput(mlInput, connector, parameters, scriptService, null);
+    }
+
+    public static RemoteInferenceInputDataSet processInput(
+        MLInput mlInput,
+        Connector connector,
+        Map<String, String> parameters,
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache
     ) {
         if (mlInput == null) {
             throw new IllegalArgumentException("Input is null");
@@ -75,7 +86,7 @@ public class ConnectorUtils {
         if (predictAction.isEmpty()) {
             throw new IllegalArgumentException("no predict action found");
         }
-        RemoteInferenceInputDataSet inputData = processMLInput(mlInput, connector, parameters, scriptService);
+        RemoteInferenceInputDataSet inputData = processMLInput(mlInput, connector, parameters, scriptService, scriptCache);
         escapeRemoteInferenceInputData(inputData);
         return inputData;
     }
@@ -84,7 +95,8 @@ public class ConnectorUtils {
         MLInput mlInput,
         Connector connector,
         Map<String, String> parameters,
-        ScriptService scriptService
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache
     ) {
         String preProcessFunction = getPreprocessFunction(mlInput, connector);
         if (preProcessFunction == null) {
@@ -109,6 +121,7 @@ public class ConnectorUtils {
                         preProcessFunction,
                         params
                     );
+                    function.setScriptCache(scriptCache);
                     return function.apply(mlInput);
                 } else {
                     return (RemoteInferenceInputDataSet) mlInput.getInputDataset();
@@ -123,6 +136,7 @@ public class ConnectorUtils {
                     .preProcessFunction(preProcessFunction)
                     .convertInputToJsonString(convertInputToJsonString)
                     .build();
+                function.setScriptCache(scriptCache);
                 return function.apply(newInput);
             }
         }
@@ -186,6 +200,17 @@ public class ConnectorUtils {
         ScriptService scriptService,
         Map<String, String> parameters,
         MLGuard mlGuard
+    ) throws IOException {
+        return processOutput(modelResponse, connector, scriptService, null, parameters, mlGuard);
+    }
+
+    public static ModelTensors processOutput(
+        String modelResponse,
+        Connector connector,
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache,
+        Map<String, String> parameters,
+        MLGuard mlGuard
     ) throws IOException {
         if (modelResponse == null) {
             throw new IllegalArgumentException("model response is null");
@@ -214,7 +239,7 @@ public class ConnectorUtils {
         }
 
         // execute user defined painless script.
-        Optional<String> processedResponse = executePostProcessFunction(scriptService, postProcessFunction, modelResponse);
+        Optional<String> processedResponse = executePostProcessFunction(scriptService, scriptCache, postProcessFunction, modelResponse);
         String response = processedResponse.orElse(modelResponse);
         boolean scriptReturnModelTensor = postProcessFunction != null
             && processedResponse.isPresent()
@@ -228,6 +253,31 @@ public class ConnectorUtils {
         return ModelTensors.builder().mlModelTensors(modelTensors).build();
     }
 
+    /**
+     * Create a parser which processes the model response while it is received. Only the built-in embedding
+     * post process functions are supported, and only when neither a custom response filter nor output
+     * guardrails are configured, as both need the whole response string.
+     * @param connector connector
+     * @param parameters request parameters
+     * @param mlGuard ML guard
+     * @return streaming parser, or null if the response must be processed by {@link #processOutput}
+     */
+    public static StreamingEmbeddingParser createStreamingEmbeddingParser(
+        Connector connector,
+        Map<String, String> parameters,
+        MLGuard mlGuard
+    ) {
+        if (mlGuard != null || parameters == null || StringUtils.isNotBlank(parameters.get(RESPONSE_FILTER_FIELD))) {
+            return null;
+        }
+        Optional<ConnectorAction> predictAction = connector.findPredictAction();
+        if (predictAction.isEmpty()) {
+            return null;
+        }
+        String postProcessFunction = fillProcessFunctionParameter(parameters, predictAction.get().getPostProcessFunction());
+        return StreamingEmbeddingParser.create(postProcessFunction);
+    }
+
     private static String fillProcessFunctionParameter(Map<String, String> parameters, String processFunction) {
         if (processFunction != null && processFunction.contains("${parameters.")) {
             Map<String, String> tmpParameters = new HashMap<>();
@@ -10,7 +10,6 @@ package org.opensearch.ml.engine.algorithms.remote;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 
 /**
@@ -20,13 +19,46 @@ import lombok.Data;
  * sequence is used to identify the index of the split request.
  * countDownLatch is used to wait for all the split requests to finish.
  * exceptionHolder is used to hold any exception thrown in a split-batch request.
+ * dispatcher is used to bound the in-flight split requests and to retry a throttled or failed one.
  */
 @Data
-@AllArgsConstructor
 public class ExecutionContext {
     // Should never be null
     private int sequence;
     private CountDownLatch countDownLatch;
     // This is to hold any exception thrown in a split-batch request
     private AtomicReference<Exception> exceptionHolder;
+    // Null when the request is invoked directly instead of through a dispatcher
+    private RemoteRequestDispatcher dispatcher;
+    private int retryAttempts;
+
+    public ExecutionContext(int sequence, CountDownLatch countDownLatch, AtomicReference<Exception> exceptionHolder) {
+        this(sequence, countDownLatch, exceptionHolder, null);
+    }
+
+    public ExecutionContext(
+        int sequence,
+        CountDownLatch countDownLatch,
+        AtomicReference<Exception> exceptionHolder,
+        RemoteRequestDispatcher dispatcher
+    ) {
+        this.sequence = sequence;
+        this.countDownLatch = countDownLatch;
+        this.exceptionHolder = exceptionHolder;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Count down the latch shared by all split requests.
+     * @return true only for the caller that finished the last split request
+     */
+    public boolean countDown() {
+        synchronized (countDownLatch) {
+            if (countDownLatch.getCount() == 0) {
+                return false;
+            }
+            countDownLatch.countDown();
+            return countDownLatch.getCount() == 0;
+        }
+    }
 }
@@ -29,6 +29,7 @@ import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
+import org.opensearch.ml.engine.httpclient.MLHttpClientManager;
 import org.opensearch.script.ScriptService;
 
 import lombok.Getter;
@@ -70,7 +71,7 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
         Duration connectionTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getConnectionTimeout());
         Duration readTimeout = Duration.ofSeconds(super.getConnectorClientConfig().getReadTimeout());
         Integer maxConnection = super.getConnectorClientConfig().getMaxConnections();
-        this.httpClient = MLHttpClientFactory.getAsyncHttpClient(connectionTimeout, readTimeout, maxConnection);
+        this.httpClient = MLHttpClientManager.getInstance().acquire(connectionTimeout, readTimeout, maxConnection);
     }
 
     @SuppressWarnings("removal")
@@ -110,7 +111,9 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
                         tensorOutputs,
                         connector,
                         scriptService,
-                        mlGuard
+                        getScriptCache(),
+                        mlGuard,
+                        getPhaseLatencies()
                     )
                 )
                 .build();
@@ -124,6 +127,13 @@ public class HttpJsonConnectorExecutor extends AbstractConnectorExecutor {
         }
     }
 
+    @Override
+    public void close() {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
     private void validateHttpClientParameters(Map<String, String> parameters) throws Exception {
         String endpoint = connector.getPredictEndpoint(parameters);
         URL url = new URL(endpoint);
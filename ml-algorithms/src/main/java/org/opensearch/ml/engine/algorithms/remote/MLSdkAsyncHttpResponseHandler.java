@@ -10,6 +10,8 @@ package org.opensearch.ml.engine.algorithms.remote;
 import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -22,9 +24,11 @@ import org.opensearch.OpenSearchStatusException;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorScriptCache;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 import org.opensearch.script.ScriptService;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -55,8 +59,21 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
     private final ScriptService scriptService;
 
+    private final ConnectorScriptCache scriptCache;
+
     private final MLGuard mlGuard;
 
+    private final PredictPhaseLatencies phaseLatencies;
+
+    // time the request is sent, the handler is created right before it
+    private final long startTime;
+
+    // Set when the response is parsed while it is received, see ConnectorUtils.createStreamingEmbeddingParser
+    private StreamingEmbeddingParser streamingParser;
+    private boolean streamingFailed;
+    // Raw response of a streamed response, used if it turns out not to be the expected embedding response
+    private final ByteArrayOutputStream streamedResponse = new ByteArrayOutputStream();
+
     public MLSdkAsyncHttpResponseHandler(
         ExecutionContext executionContext,
         ActionListener<List<ModelTensors>> actionListener,
@@ -65,6 +82,20 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         Connector connector,
         ScriptService scriptService,
         MLGuard mlGuard
+    ) {
+        this(executionContext, actionListener, parameters, tensorOutputs, connector, scriptService, null, mlGuard, null);
+    }
+
+    public MLSdkAsyncHttpResponseHandler(
+        ExecutionContext executionContext,
+        ActionListener<List<ModelTensors>> actionListener,
+        Map<String, String> parameters,
+        Map<Integer, ModelTensors> tensorOutputs,
+        Connector connector,
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache,
+        MLGuard mlGuard,
+        PredictPhaseLatencies phaseLatencies
     ) {
         this.executionContext = executionContext;
         this.actionListener = actionListener;
@@ -72,7 +103,10 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         this.tensorOutputs = tensorOutputs;
         this.connector = connector;
         this.scriptService = scriptService;
+        this.scriptCache = scriptCache;
         this.mlGuard = mlGuard;
+        this.phaseLatencies = phaseLatencies;
+        this.startTime = System.nanoTime();
     }
 
     @Override
@@ -80,6 +114,9 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         SdkHttpFullResponse sdkResponse = (SdkHttpFullResponse) response;
         log.debug("received response headers: " + sdkResponse.headers());
         this.statusCode = sdkResponse.statusCode();
+        if (statusCode >= HttpStatus.SC_OK && statusCode < HttpStatus.SC_MULTIPLE_CHOICES) {
+            streamingParser = ConnectorUtils.createStreamingEmbeddingParser(connector, parameters, mlGuard);
+        }
     }
 
     @Override
@@ -118,7 +155,7 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
                 }
             } else {
                 try {
-                    ModelTensors tensors = processOutput(body, connector, scriptService, parameters, mlGuard);
+                    ModelTensors tensors = processOutput(body, connector, scriptService, scriptCache, parameters, mlGuard);
                     tensors.setStatusCode(statusCode);
                     tensorOutputs.put(executionContext.getSequence(), tensors);
                 } catch (Exception e) {
@@ -133,6 +170,21 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         }
     }
 
+    private void processStreamedResponse() {
+        if (!streamingFailed) {
+            try {
+                ModelTensors tensors = ModelTensors.builder().mlModelTensors(streamingParser.finish()).build();
+                tensors.setStatusCode(statusCode);
+                tensorOutputs.put(executionContext.getSequence(), tensors);
+                return;
+            } catch (IOException e) {
+                log.debug("Failed to stream parse remote model response, will process the whole response", e);
+            }
+        }
+        String body = new String(streamedResponse.toByteArray(), StandardCharsets.UTF_8);
+        processResponse(statusCode, body, parameters, tensorOutputs);
+    }
+
     // Only all requests successful case will be processed here.
     private void reOrderTensorResponses(Map<Integer, ModelTensors> tensorOutputs) {
         ModelTensors[] modelTensors = new ModelTensors[tensorOutputs.size()];
@@ -154,7 +206,21 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            responseBody.append(StandardCharsets.UTF_8.decode(byteBuffer));
+            if (streamingParser != null) {
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                streamedResponse.write(bytes, 0, bytes.length);
+                if (!streamingFailed) {
+                    try {
+                        streamingParser.feed(bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        log.debug("Failed to stream parse remote model response, will process the whole response", e);
+                        streamingFailed = true;
+                    }
+                }
+            } else {
+                responseBody.append(StandardCharsets.UTF_8.decode(byteBuffer));
+            }
             subscription.request(Long.MAX_VALUE);
         }
 
@@ -176,10 +242,25 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
     }
 
     private void response(Map<Integer, ModelTensors> tensors) {
-        processResponse(statusCode, responseBody.toString(), parameters, tensorOutputs);
-        executionContext.getCountDownLatch().countDown();
-        // when countdown's count equals to 0 means all responses are received.
-        if (executionContext.getCountDownLatch().getCount() == 0) {
+        RemoteRequestDispatcher dispatcher = executionContext.getDispatcher();
+        if (dispatcher != null && dispatcher.retry(executionContext, statusCode)) {
+            log.warn("Remote model returned retryable status code {}, retrying request {}", statusCode, executionContext.getSequence());
+            return;
+        }
+        long postProcessStartTime = System.nanoTime();
+        if (phaseLatencies != null) {
+            phaseLatencies.record(PredictPhaseLatencies.Phase.REMOTE_HTTP, postProcessStartTime - startTime);
+        }
+        if (streamingParser != null) {
+            processStreamedResponse();
+        } else {
+            processResponse(statusCode, responseBody.toString(), parameters, tensorOutputs);
+        }
+        if (phaseLatencies != null) {
+            phaseLatencies.recordSince(PredictPhaseLatencies.Phase.POST_PROCESS, postProcessStartTime);
+        }
+        // only the response which counts down to 0 sees true, it means all responses are received.
+        if (executionContext.countDown()) {
             if (executionContext.getExceptionHolder().get() != null) {
                 actionListener.onFailure(executionContext.getExceptionHolder().get());
                 return;
@@ -187,6 +268,9 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
             reOrderTensorResponses(tensors);
         } else {
             log.debug("Not all responses received, left response count is: " + executionContext.getCountDownLatch().getCount());
+            if (dispatcher != null) {
+                dispatcher.release();
+            }
         }
     }
 }
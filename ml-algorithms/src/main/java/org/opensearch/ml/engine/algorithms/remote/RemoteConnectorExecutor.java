@@ -27,6 +27,8 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.connector.ConnectorScriptCache;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
@@ -35,10 +37,13 @@ import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 import org.opensearch.script.ScriptService;
 
 public interface RemoteConnectorExecutor {
 
+    String MAX_IN_FLIGHT_CHUNKS_FIELD = "input_docs_max_in_flight_chunks";
+
     default void executePredict(MLInput mlInput, ActionListener<MLTaskResponse> actionListener) {
         ActionListener<List<ModelTensors>> tensorActionListener = ActionListener.wrap(r -> {
             actionListener.onResponse(new MLTaskResponse(new ModelTensorOutput(r)));
@@ -46,14 +51,20 @@ public interface RemoteConnectorExecutor {
         try {
             Map<Integer, ModelTensors> modelTensors = new ConcurrentHashMap<>();
             AtomicReference<Exception> exceptionHolder = new AtomicReference<>();
+            RemoteRequestDispatcher dispatcher = new RemoteRequestDispatcher(
+                getConnector().getConnectorClientConfig(),
+                getClient(),
+                tensorActionListener
+            );
             if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
                 TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+                List<String> docs = textDocsInputDataSet.getDocs();
                 Tuple<Integer, Integer> calculatedChunkSize = calculateChunkSize(textDocsInputDataSet);
+                int maxInFlightChunks = calculateMaxInFlightChunks();
                 CountDownLatch countDownLatch = new CountDownLatch(calculatedChunkSize.v1());
                 int sequence = 0;
-                for (int processedDocs = 0; processedDocs < textDocsInputDataSet.getDocs().size(); processedDocs += calculatedChunkSize
-                    .v2()) {
-                    List<String> textDocs = textDocsInputDataSet.getDocs().subList(processedDocs, textDocsInputDataSet.getDocs().size());
+                for (int processedDocs = 0; processedDocs < docs.size(); processedDocs += calculatedChunkSize.v2()) {
+                    List<String> textDocs = docs.subList(processedDocs, Math.min(processedDocs + calculatedChunkSize.v2(), docs.size()));
                     preparePayloadAndInvokeRemoteModel(
                         MLInput
                             .builder()
@@ -61,17 +72,21 @@ public interface RemoteConnectorExecutor {
                             .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
                             .build(),
                         modelTensors,
-                        new ExecutionContext(sequence++, countDownLatch, exceptionHolder),
+                        new ExecutionContext(sequence++, countDownLatch, exceptionHolder, dispatcher),
                         tensorActionListener
                     );
                 }
+                // All payloads are prepared before the first request is sent, so a chunk rejected by
+                // rate limiter or guardrails fails the predict call without sending anything.
+                dispatcher.start(maxInFlightChunks);
             } else {
                 preparePayloadAndInvokeRemoteModel(
                     mlInput,
                     modelTensors,
-                    new ExecutionContext(0, new CountDownLatch(1), exceptionHolder),
+                    new ExecutionContext(0, new CountDownLatch(1), exceptionHolder, dispatcher),
                     tensorActionListener
                 );
+                dispatcher.start(1);
             }
         } catch (Exception e) {
             actionListener.onFailure(e);
@@ -104,10 +119,38 @@ public interface RemoteConnectorExecutor {
         }
     }
 
+    /**
+     * Calculate how many chunks can be in flight at a time. Defaults to the connector's max connection.
+     * @return max in-flight chunk count
+     */
+    private int calculateMaxInFlightChunks() {
+        Map<String, String> parameters = getConnector().getParameters();
+        if (parameters != null && parameters.containsKey(MAX_IN_FLIGHT_CHUNKS_FIELD)) {
+            int maxInFlightChunks = Integer.parseInt(parameters.get(MAX_IN_FLIGHT_CHUNKS_FIELD));
+            if (maxInFlightChunks <= 0) {
+                throw new IllegalArgumentException("Invalid parameter: " + MAX_IN_FLIGHT_CHUNKS_FIELD + ". It must be positive integer.");
+            }
+            return maxInFlightChunks;
+        }
+        ConnectorClientConfig connectorClientConfig = getConnector().getConnectorClientConfig();
+        if (connectorClientConfig != null && connectorClientConfig.getMaxConnections() != null) {
+            return connectorClientConfig.getMaxConnections();
+        }
+        return ConnectorClientConfig.MAX_CONNECTION_DEFAULT_VALUE;
+    }
+
     default void setScriptService(ScriptService scriptService) {}
 
     ScriptService getScriptService();
 
+    /**
+     * Get the compiled pre/post process functions of the connector.
+     * @return script cache, or null if scripts are compiled on every request
+     */
+    default ConnectorScriptCache getScriptCache() {
+        return null;
+    }
+
     Connector getConnector();
 
     TokenBucket getRateLimiter();
@@ -130,6 +173,21 @@ public interface RemoteConnectorExecutor {
 
     default void setMlGuard(MLGuard mlGuard) {}
 
+    default void setPhaseLatencies(PredictPhaseLatencies phaseLatencies) {}
+
+    /**
+     * Get the phase latencies of the model which pre-processing, remote http and post-processing latencies are recorded to.
+     * @return phase latencies, or null if they are not recorded
+     */
+    default PredictPhaseLatencies getPhaseLatencies() {
+        return null;
+    }
+
+    /**
+     * Release resources held by the executor, e.g. its reference to the shared http client.
+     */
+    default void close() {}
+
     default void preparePayloadAndInvokeRemoteModel(
         MLInput mlInput,
         Map<Integer, ModelTensors> tensorOutputs,
@@ -149,7 +207,8 @@ public interface RemoteConnectorExecutor {
             inputParameters.putAll(((RemoteInferenceInputDataSet) inputDataset).getParameters());
         }
         parameters.putAll(inputParameters);
-        RemoteInferenceInputDataSet inputData = processInput(mlInput, connector, parameters, getScriptService());
+        long preProcessStartTime = System.nanoTime();
+        RemoteInferenceInputDataSet inputData = processInput(mlInput, connector, parameters, getScriptService(), getScriptCache());
         if (inputData.getParameters() != null) {
             parameters.putAll(inputData.getParameters());
         }
@@ -157,6 +216,9 @@ public interface RemoteConnectorExecutor {
         parameters.putAll(inputParameters);
         String payload = connector.createPredictPayload(parameters);
         connector.validatePayload(payload);
+        if (getPhaseLatencies() != null) {
+            getPhaseLatencies().recordSince(PredictPhaseLatencies.Phase.PRE_PROCESS, preProcessStartTime);
+        }
         String userStr = getClient()
             .threadPool()
             .getThreadContext()
@@ -176,7 +238,16 @@ public interface RemoteConnectorExecutor {
             if (getMlGuard() != null && !getMlGuard().validate(payload, MLGuard.Type.INPUT)) {
                 throw new IllegalArgumentException("guardrails triggered for user input");
             }
-            invokeRemoteModel(mlInput, parameters, payload, tensorOutputs, countDownLatch, actionListener);
+            if (countDownLatch.getDispatcher() != null) {
+                countDownLatch
+                    .getDispatcher()
+                    .submit(
+                        countDownLatch,
+                        () -> invokeRemoteModel(mlInput, parameters, payload, tensorOutputs, countDownLatch, actionListener)
+                    );
+            } else {
+                invokeRemoteModel(mlInput, parameters, payload, tensorOutputs, countDownLatch, actionListener);
+            }
         }
     }
 
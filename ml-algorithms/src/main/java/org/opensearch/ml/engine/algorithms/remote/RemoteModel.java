@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
+import static org.opensearch.ml.engine.utils.PredictPhaseLatencies.PHASE_LATENCIES;
+
 import java.util.Map;
 
 import org.opensearch.client.Client;
@@ -15,6 +17,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorScriptCache;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
@@ -24,6 +27,7 @@ import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 import org.opensearch.script.ScriptService;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -49,6 +53,14 @@ public class RemoteModel implements Predictable {
         return this.connectorExecutor;
     }
 
+    /**
+     * Get the compiled pre/post process functions of the connector.
+     * @return script cache, or null if the model is not deployed
+     */
+    public ConnectorScriptCache getScriptCache() {
+        return connectorExecutor == null ? null : connectorExecutor.getScriptCache();
+    }
+
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
         throw new IllegalArgumentException(
@@ -78,6 +90,9 @@ public class RemoteModel implements Predictable {
 
     @Override
     public void close() {
+        if (this.connectorExecutor != null) {
+            this.connectorExecutor.close();
+        }
         this.connectorExecutor = null;
     }
 
@@ -99,6 +114,10 @@ public class RemoteModel implements Predictable {
             this.connectorExecutor.setRateLimiter((TokenBucket) params.get(RATE_LIMITER));
             this.connectorExecutor.setUserRateLimiterMap((Map<String, TokenBucket>) params.get(USER_RATE_LIMITER_MAP));
             this.connectorExecutor.setMlGuard((MLGuard) params.get(GUARDRAILS));
+            this.connectorExecutor.setPhaseLatencies((PredictPhaseLatencies) params.get(PHASE_LATENCIES));
+            if (this.connectorExecutor.getScriptCache() != null) {
+                this.connectorExecutor.getScriptCache().precompile(this.connectorExecutor.getScriptService(), connector);
+            }
         } catch (RuntimeException e) {
             log.error("Failed to init remote model.", e);
             throw e;
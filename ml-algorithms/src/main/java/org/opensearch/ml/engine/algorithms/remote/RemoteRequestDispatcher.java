@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.opensearch.client.Client;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sends the prepared requests of one predict call to the remote model. At most max in-flight
+ * requests are outstanding at a time, the next pending request is sent when one finishes.
+ * A request answered with a throttling (429) or server (5xx) error is sent again after an
+ * exponential backoff with jitter, until the connector's max retry times is reached.
+ * Responses are reassembled in order by {@link MLSdkAsyncHttpResponseHandler} with the
+ * {@link ExecutionContext} sequence, which equals the submission order here.
+ */
+@Log4j2
+public class RemoteRequestDispatcher {
+    // Max backoff shift, keeps the backoff from overflowing
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final Map<Integer, Runnable> requests = new ConcurrentHashMap<>();
+    private final Queue<ExecutionContext> pendingRequests = new ConcurrentLinkedQueue<>();
+    private final Client client;
+    private final ActionListener<List<ModelTensors>> actionListener;
+    @Getter
+    private final int maxRetryTimes;
+    @Getter
+    private final long retryBackoffMillis;
+
+    public RemoteRequestDispatcher(
+        ConnectorClientConfig connectorClientConfig,
+        Client client,
+        ActionListener<List<ModelTensors>> actionListener
+    ) {
+        this.client = client;
+        this.actionListener = actionListener;
+        Integer maxRetryTimes = connectorClientConfig == null ? null : connectorClientConfig.getMaxRetryTimes();
+        Integer retryBackoffMillis = connectorClientConfig == null ? null : connectorClientConfig.getRetryBackoffMillis();
+        this.maxRetryTimes = maxRetryTimes == null ? ConnectorClientConfig.MAX_RETRY_TIMES_DEFAULT_VALUE : maxRetryTimes;
+        this.retryBackoffMillis = retryBackoffMillis == null
+            ? ConnectorClientConfig.RETRY_BACKOFF_MILLIS_DEFAULT_VALUE
+            : retryBackoffMillis;
+    }
+
+    /**
+     * Queue a prepared request. It is sent by {@link #start(int)} or once an in-flight request finishes.
+     * @param executionContext execution context of the request
+     * @param request sends the request to the remote model
+     */
+    public void submit(ExecutionContext executionContext, Runnable request) {
+        requests.put(executionContext.getSequence(), request);
+        pendingRequests.add(executionContext);
+    }
+
+    /**
+     * Send the first queued requests.
+     * @param maxInFlight max number of requests outstanding at a time
+     */
+    public void start(int maxInFlight) {
+        for (int i = 0; i < maxInFlight; i++) {
+            if (!dispatchNext()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Called when a request finished but others are still outstanding, frees its in-flight slot.
+     */
+    public void release() {
+        dispatchNext();
+    }
+
+    /**
+     * Schedule a request to be sent again if its response is retryable.
+     * @param executionContext execution context of the request
+     * @param statusCode response status code
+     * @return true if the request is scheduled to be sent again
+     */
+    public boolean retry(ExecutionContext executionContext, Integer statusCode) {
+        if (!isRetryable(statusCode)
+            || executionContext.getRetryAttempts() >= maxRetryTimes
+            || executionContext.getExceptionHolder().get() != null) {
+            return false;
+        }
+        int attempt = executionContext.getRetryAttempts();
+        executionContext.setRetryAttempts(attempt + 1);
+        long backoff = backoffMillis(attempt);
+        log
+            .debug(
+                "Remote model returned status {} for request {}, retry {} of {} in {} ms",
+                statusCode,
+                executionContext.getSequence(),
+                attempt + 1,
+                maxRetryTimes,
+                backoff
+            );
+        client
+            .threadPool()
+            .schedule(requests.get(executionContext.getSequence()), TimeValue.timeValueMillis(backoff), ThreadPool.Names.GENERIC);
+        return true;
+    }
+
+    private boolean dispatchNext() {
+        ExecutionContext executionContext = pendingRequests.poll();
+        if (executionContext == null) {
+            return false;
+        }
+        if (executionContext.getExceptionHolder().get() != null) {
+            // The whole predict call fails anyway, skip the requests which are not sent yet.
+            do {
+                if (executionContext.countDown()) {
+                    actionListener.onFailure(executionContext.getExceptionHolder().get());
+                }
+                executionContext = pendingRequests.poll();
+            } while (executionContext != null);
+            return false;
+        }
+        requests.get(executionContext.getSequence()).run();
+        return true;
+    }
+
+    long backoffMillis(int attempt) {
+        long backoff = retryBackoffMillis << Math.min(attempt, MAX_BACKOFF_SHIFT);
+        // Equal jitter, so that requests throttled together don't retry together
+        long half = backoff / 2;
+        return half + (half == 0 ? 0 : Randomness.get().nextInt((int) Math.min(half + 1, Integer.MAX_VALUE)));
+    }
+
+    static boolean isRetryable(Integer statusCode) {
+        return statusCode != null
+            && (statusCode == RestStatus.TOO_MANY_REQUESTS.getStatus() || statusCode >= RestStatus.INTERNAL_SERVER_ERROR.getStatus());
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.BEDROCK_EMBEDDING;
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.COHERE_EMBEDDING;
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.DEFAULT_EMBEDDING;
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.OPENAI_EMBEDDING;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Parses the response of a built-in embedding post process function while it is received.
+ * Response bytes are fed to a non-blocking Jackson parser chunk by chunk, and the numbers of each
+ * embedding are written straight into a float array. This is the streaming equivalent of running
+ * the function's json path over the whole response string and boxing every value.
+ */
+public class StreamingEmbeddingParser {
+    // Any element of an array
+    private static final String ANY_ELEMENT = "*";
+    private static final String SENTENCE_EMBEDDING = "sentence_embedding";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // Path of each embedding array in the response, equals the function's json path plus [*] for lists of embeddings
+    private static final Map<String, String[]> EMBEDDING_PATHS = ImmutableMap
+        .of(
+            OPENAI_EMBEDDING,
+            new String[] { "data", ANY_ELEMENT, "embedding" },
+            COHERE_EMBEDDING,
+            new String[] { "embeddings", ANY_ELEMENT },
+            DEFAULT_EMBEDDING,
+            new String[] { ANY_ELEMENT },
+            BEDROCK_EMBEDDING,
+            new String[] { "embedding" }
+        );
+
+    private final String[] embeddingPath;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    // Containers enclosing the current token, the head is the innermost one
+    private final Deque<Container> containers = new ArrayDeque<>();
+    private final List<ModelTensor> modelTensors = new ArrayList<>();
+
+    // Embedding being read, null when the parser is outside an embedding array
+    private float[] embedding;
+    private int embeddingSize;
+
+    private StreamingEmbeddingParser(String[] embeddingPath) throws IOException {
+        this.embeddingPath = embeddingPath;
+        this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Create a streaming parser for post process function.
+     * @param postProcessFunction post process function name
+     * @return parser, or null if the function is not a built-in embedding function
+     */
+    public static StreamingEmbeddingParser create(String postProcessFunction) {
+        String[] embeddingPath = postProcessFunction == null ? null : EMBEDDING_PATHS.get(postProcessFunction);
+        if (embeddingPath == null) {
+            return null;
+        }
+        try {
+            return new StreamingEmbeddingParser(embeddingPath);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parse the next chunk of the response. The array must not be changed afterward.
+     * @param bytes response bytes
+     * @param offset start offset
+     * @param length number of bytes
+     * @throws IOException if the chunk is not valid json or not the expected embedding response
+     */
+    public void feed(byte[] bytes, int offset, int length) throws IOException {
+        feeder.feedInput(bytes, offset, offset + length);
+        parseAvailableTokens();
+    }
+
+    /**
+     * Finish parsing after the whole response is fed.
+     * @return one FLOAT32 model tensor per embedding, in response order
+     * @throws IOException if the response is incomplete or not the expected embedding response
+     */
+    public List<ModelTensor> finish() throws IOException {
+        feeder.endOfInput();
+        parseAvailableTokens();
+        if (!containers.isEmpty() || embedding != null) {
+            throw new IOException("Incomplete embedding response");
+        }
+        if (modelTensors.isEmpty()) {
+            throw new IOException("No embedding found in response");
+        }
+        return modelTensors;
+    }
+
+    private void parseAvailableTokens() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (embedding != null) {
+                readEmbeddingValue(token);
+                continue;
+            }
+            switch (token) {
+                case FIELD_NAME:
+                    containers.peek().fieldName = parser.getCurrentName();
+                    break;
+                case START_OBJECT:
+                    containers.push(new Container(false));
+                    break;
+                case START_ARRAY:
+                    if (atEmbeddingPath()) {
+                        embedding = new float[64];
+                        embeddingSize = 0;
+                    } else {
+                        containers.push(new Container(true));
+                    }
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    containers.pop();
+                    break;
+                default:
+                    // scalar outside of embeddings
+                    break;
+            }
+        }
+    }
+
+    private void readEmbeddingValue(JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_FLOAT:
+            case VALUE_NUMBER_INT:
+                if (embeddingSize == embedding.length) {
+                    embedding = Arrays.copyOf(embedding, embedding.length * 2);
+                }
+                embedding[embeddingSize++] = parser.getFloatValue();
+                break;
+            case END_ARRAY:
+                if (embeddingSize == 0) {
+                    throw new IOException("The embedding should be a non-empty List containing Float values.");
+                }
+                addEmbedding(Arrays.copyOf(embedding, embeddingSize));
+                embedding = null;
+                break;
+            default:
+                throw new IOException("The embedding should be a non-empty List containing Float values.");
+        }
+    }
+
+    private void addEmbedding(float[] values) {
+        modelTensors
+            .add(
+                ModelTensor
+                    .builder()
+                    .name(SENTENCE_EMBEDDING)
+                    .dataType(MLResultDataType.FLOAT32)
+                    .shape(new long[] { values.length })
+                    .floatData(values)
+                    .build()
+            );
+    }
+
+    /**
+     * Check if the value starting at the current token is an embedding, i.e. the path of enclosing
+     * containers from the root equals the embedding path.
+     */
+    private boolean atEmbeddingPath() {
+        if (containers.size() != embeddingPath.length) {
+            return false;
+        }
+        Iterator<Container> fromRoot = containers.descendingIterator();
+        for (String step : embeddingPath) {
+            Container container = fromRoot.next();
+            if (ANY_ELEMENT.equals(step) ? !container.array : container.array || !step.equals(container.fieldName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Container {
+        private final boolean array;
+        private String fieldName;
+
+        Container(boolean array) {
+            this.array = array;
+        }
+    }
+}
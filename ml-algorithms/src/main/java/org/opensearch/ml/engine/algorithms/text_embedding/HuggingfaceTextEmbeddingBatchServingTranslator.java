@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingBatchUtils.BATCH_ATTENTION_MASK;
+
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.translate.Batchifier;
+import ai.djl.translate.Translator;
+import ai.djl.translate.TranslatorContext;
+
+/**
+ * Serving translator for Huggingface text embedding model in batch predict mode.
+ * All documents of the input are tokenized together and padded into a single
+ * [batch, sequence] tensor, so the model runs one forward pass per micro-batch.
+ */
+public class HuggingfaceTextEmbeddingBatchServingTranslator implements Translator<Input, Output> {
+
+    private final HuggingFaceTokenizer tokenizer;
+    private final TextEmbeddingModelConfig.PoolingMode poolingMode;
+    private final boolean normalize;
+    private final boolean inputTokenTypeIds;
+
+    public HuggingfaceTextEmbeddingBatchServingTranslator(
+        HuggingFaceTokenizer tokenizer,
+        TextEmbeddingModelConfig.PoolingMode poolingMode,
+        boolean normalize,
+        boolean inputTokenTypeIds
+    ) {
+        this.tokenizer = tokenizer;
+        this.poolingMode = poolingMode;
+        this.normalize = normalize;
+        this.inputTokenTypeIds = inputTokenTypeIds;
+    }
+
+    /**
+     * Input is batched by the translator itself, so no batchifier is applied by predictor.
+     */
+    @Override
+    public Batchifier getBatchifier() {
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NDList processInput(TranslatorContext ctx, Input input) {
+        return TextEmbeddingBatchUtils.encode(ctx, tokenizer, TextEmbeddingBatchUtils.getDocs(input), inputTokenTypeIds);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Output processOutput(TranslatorContext ctx, NDList list) {
+        NDArray embeddings = list.get("last_hidden_state");
+        if (embeddings == null) {
+            embeddings = list.get(0);
+        }
+        NDArray attentionMask = (NDArray) ctx.getAttachment(BATCH_ATTENTION_MASK);
+        NDArray pooled = TextEmbeddingBatchUtils.pool(embeddings, attentionMask, poolingMode, normalize);
+        return TextEmbeddingBatchUtils.toOutput(pooled, new long[] { 1, pooled.getShape().get(1) });
+    }
+
+}
@@ -36,17 +36,29 @@ public class HuggingfaceTextEmbeddingTranslatorFactory implements TranslatorFact
     private boolean normalizeResult;
     private final String modelType;
     private final boolean neuron;
+    private final boolean batchPredict;
 
     public HuggingfaceTextEmbeddingTranslatorFactory(
         TextEmbeddingModelConfig.PoolingMode poolingMode,
         boolean normalizeResult,
         String modelType,
         boolean neuron
+    ) {
+        this(poolingMode, normalizeResult, modelType, neuron, false);
+    }
+
+    public HuggingfaceTextEmbeddingTranslatorFactory(
+        TextEmbeddingModelConfig.PoolingMode poolingMode,
+        boolean normalizeResult,
+        String modelType,
+        boolean neuron,
+        boolean batchPredict
     ) {
         this.poolingMode = poolingMode == null ? TextEmbeddingModelConfig.PoolingMode.MEAN : poolingMode;
         this.normalizeResult = normalizeResult;
         this.modelType = modelType;
         this.neuron = neuron;
+        this.batchPredict = batchPredict;
     }
 
     /** {@inheritDoc} */
@@ -74,6 +86,14 @@ public class HuggingfaceTextEmbeddingTranslatorFactory implements TranslatorFact
                 .optNormalize(normalizeResult)
                 .optInputTokenTypeIds(inputTokenTypeIds)
                 .build();
+            if (batchPredict && input == Input.class && output == Output.class) {
+                return (Translator<I, O>) new HuggingfaceTextEmbeddingBatchServingTranslator(
+                    tokenizer,
+                    poolingMode,
+                    normalizeResult,
+                    inputTokenTypeIds
+                );
+            }
             if (input == String.class && output == float[].class) {
                 return (Translator<I, O>) translator;
             } else if (input == Input.class && output == Output.class) {
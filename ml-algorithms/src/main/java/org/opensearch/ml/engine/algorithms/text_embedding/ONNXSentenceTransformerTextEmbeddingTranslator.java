@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingBatchUtils.BATCH_ATTENTION_MASK;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
 
 import java.io.IOException;
@@ -17,6 +18,7 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
@@ -35,15 +37,26 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
     private TextEmbeddingModelConfig.PoolingMode poolingMode;
     private boolean normalizeResult;
     private String modelType;
+    private boolean batchPredict;
 
     public ONNXSentenceTransformerTextEmbeddingTranslator(
         TextEmbeddingModelConfig.PoolingMode poolingMode,
         boolean normalizeResult,
         String modelType
+    ) {
+        this(poolingMode, normalizeResult, modelType, false);
+    }
+
+    public ONNXSentenceTransformerTextEmbeddingTranslator(
+        TextEmbeddingModelConfig.PoolingMode poolingMode,
+        boolean normalizeResult,
+        String modelType,
+        boolean batchPredict
     ) {
         this.poolingMode = poolingMode == null ? TextEmbeddingModelConfig.PoolingMode.MEAN : poolingMode;
         this.normalizeResult = normalizeResult;
         this.modelType = modelType;
+        this.batchPredict = batchPredict;
     }
 
     @Override
@@ -60,6 +73,9 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
+        if (batchPredict) {
+            return processBatchInput(ctx, input);
+        }
         NDManager manager = ctx.getNDManager();
         String sentence = input.getAsString(0);
         NDList ndList = new NDList();
@@ -87,6 +103,9 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
     /** {@inheritDoc} */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
+        if (batchPredict) {
+            return processBatchOutput(ctx, list);
+        }
         NDArray embeddings = list.get(0);
         int shapeLength = embeddings.getShape().getShape().length;
         if (shapeLength == 3) {
@@ -120,13 +139,13 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
             embeddings = embeddings.normalize(2, 0);
         }
 
-        Number[] data = embeddings.toArray();
+        float[] data = embeddings.toFloatArray();
         List<ModelTensor> outputs = new ArrayList<>();
         long[] shape = embeddings.getShape().getShape();
         ModelTensor modelTensor = ModelTensor
             .builder()
             .name(SENTENCE_EMBEDDING)
-            .data(data)
+            .floatData(data)
             .shape(shape)
             .dataType(MLResultDataType.FLOAT32)
             .build();
@@ -134,10 +153,30 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
 
         Output output = new Output();
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
 
+    private NDList processBatchInput(TranslatorContext ctx, Input input) {
+        boolean includeTokenTypes = "bert".equalsIgnoreCase(modelType) || "albert".equalsIgnoreCase(modelType);
+        NDList ndList = TextEmbeddingBatchUtils.encode(ctx, tokenizer, TextEmbeddingBatchUtils.getDocs(input), includeTokenTypes);
+        ndList.get(0).setName("input_ids");
+        ndList.get(1).setName("attention_mask");
+        if (includeTokenTypes) {
+            ndList.get(2).setName("token_type_ids");
+        }
+        return ndList;
+    }
+
+    private Output processBatchOutput(TranslatorContext ctx, NDList list) {
+        NDArray attentionMask = (NDArray) ctx.getAttachment(BATCH_ATTENTION_MASK);
+        NDArray pooled = TextEmbeddingBatchUtils.pool(list.get(0), attentionMask, poolingMode, normalizeResult);
+        long dimension = pooled.getShape().get(1);
+        // keep the same per document shape as single document prediction
+        long[] rowShape = poolingMode == TextEmbeddingModelConfig.PoolingMode.MAX ? new long[] { 1, dimension } : new long[] { dimension };
+        return TextEmbeddingBatchUtils.toOutput(pooled, rowShape);
+    }
+
     private NDArray meanPool(NDArray embeddings, NDArray inputAttentionMask, boolean sqrt) {
         long[] shape = embeddings.getShape().getShape();
         inputAttentionMask = inputAttentionMask.expandDims(-1).broadcast(shape);
@@ -5,7 +5,9 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
-import java.nio.ByteBuffer;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingBatchUtils.BATCH_TOKEN_LENGTHS;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
+
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -13,42 +15,97 @@ import java.util.List;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
+import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.types.DataType;
+import ai.djl.translate.Batchifier;
 import ai.djl.translate.TranslatorContext;
 
 public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransformerTranslator {
+    private final boolean batchPredict;
+
+    public SentenceTransformerTextEmbeddingTranslator() {
+        this(false);
+    }
+
+    public SentenceTransformerTextEmbeddingTranslator(boolean batchPredict) {
+        this.batchPredict = batchPredict;
+    }
+
+    @Override
+    public Batchifier getBatchifier() {
+        // In batch predict mode the input is batched by the translator itself.
+        return batchPredict ? null : super.getBatchifier();
+    }
+
+    @Override
+    public NDList processInput(TranslatorContext ctx, Input input) {
+        if (!batchPredict) {
+            return super.processInput(ctx, input);
+        }
+        NDList ndList = TextEmbeddingBatchUtils.encode(ctx, tokenizer, TextEmbeddingBatchUtils.getDocs(input), false);
+        ndList.get(0).setName("input1.input_ids");
+        ndList.get(1).setName("input1.attention_mask");
+        return ndList;
+    }
+
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
+        if (batchPredict) {
+            return processBatchOutput(ctx, list);
+        }
         Output output = new Output(200, "OK");
 
         List<ModelTensor> outputs = new ArrayList<>();
         Iterator<NDArray> iterator = list.iterator();
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
-            String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
-            long[] shape = ndArray.getShape().getShape();
-            DataType dataType = ndArray.getDataType();
-            MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
-            ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
-                .builder()
-                .name(name)
-                .data(data)
-                .shape(shape)
-                .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
-            outputs.add(tensor);
+            outputs.add(toModelTensor(ndArray.getName(), ndArray));
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsSupplier(modelTensorOutput));
         return output;
     }
+
+    private Output processBatchOutput(TranslatorContext ctx, NDList list) {
+        Output output = new Output(200, "OK");
+        int[] tokenLengths = (int[]) ctx.getAttachment(BATCH_TOKEN_LENGTHS);
+        for (int i = 0; i < tokenLengths.length; i++) {
+            List<ModelTensor> outputs = new ArrayList<>();
+            for (NDArray batchArray : list) {
+                String name = batchArray.getName();
+                NDArray ndArray = batchArray.get(i);
+                // token level outputs are trimmed to drop the padding added for the batch
+                if (name != null && !SENTENCE_EMBEDDING.equals(name) && ndArray.getShape().dimension() > 0) {
+                    ndArray = ndArray.get("0:" + tokenLengths[i]);
+                }
+                outputs.add(toModelTensor(name, ndArray));
+            }
+            output.add(new ModelTensorsSupplier(new ModelTensors(outputs)));
+        }
+        return output;
+    }
+
+    private static ModelTensor toModelTensor(String name, NDArray ndArray) {
+        MLResultDataType mlResultDataType = MLResultDataType.valueOf(ndArray.getDataType().name());
+        ModelTensor.ModelTensorBuilder builder = ModelTensor
+            .builder()
+            .name(name)
+            .shape(ndArray.getShape().getShape())
+            .dataType(mlResultDataType)
+            .byteBuffer(ndArray.toByteBuffer());
+        // float outputs, e.g. the embeddings, are kept as float array instead of being boxed
+        if (ndArray.getDataType() == DataType.FLOAT32) {
+            builder.floatData(ndArray.toFloatArray());
+        } else {
+            builder.data(ndArray.toArray());
+        }
+        return builder.build();
+    }
 }
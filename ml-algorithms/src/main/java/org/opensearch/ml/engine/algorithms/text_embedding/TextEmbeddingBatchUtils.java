@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.TranslatorContext;
+
+/**
+ * Helpers shared by the text embedding translators when they run in batch predict mode.
+ * In this mode a single {@link Input} carries all documents of a micro-batch, they are
+ * tokenized together and padded to the longest sequence, the model runs one forward pass
+ * over a [batch, sequence] input and pooling/normalization run over the whole batch.
+ * The {@link Output} carries one serialized {@link ModelTensors} per document, in input order.
+ */
+public final class TextEmbeddingBatchUtils {
+
+    public static final String BATCH_ATTENTION_MASK = "batch_attention_mask";
+    public static final String BATCH_TOKEN_LENGTHS = "batch_token_lengths";
+
+    private static final int[] SEQUENCE_AXIS = { 1 };
+
+    private TextEmbeddingBatchUtils() {}
+
+    /**
+     * Read all documents of a micro-batch from model input.
+     * @param input model input, one document per content entry
+     * @return documents in input order
+     */
+    public static List<String> getDocs(Input input) {
+        int size = input.getContent().size();
+        List<String> docs = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            docs.add(input.getAsString(i));
+        }
+        return docs;
+    }
+
+    /**
+     * Tokenize documents with one batch encode call and pad them to the longest sequence.
+     * The attention mask and the real token length of each document are attached to the
+     * translator context for pooling.
+     * @param ctx translator context
+     * @param tokenizer tokenizer
+     * @param docs documents
+     * @param includeTokenTypes add token type ids as the third array
+     * @return NDList of input ids, attention mask and optionally token type ids, each of shape [batch, sequence]
+     */
+    public static NDList encode(TranslatorContext ctx, HuggingFaceTokenizer tokenizer, List<String> docs, boolean includeTokenTypes) {
+        Encoding[] encodings = tokenizer.batchEncode(docs);
+        int batchSize = encodings.length;
+        int maxLength = 0;
+        for (Encoding encoding : encodings) {
+            maxLength = Math.max(maxLength, encoding.getIds().length);
+        }
+        long[] ids = new long[batchSize * maxLength];
+        long[] attentionMask = new long[batchSize * maxLength];
+        long[] typeIds = includeTokenTypes ? new long[batchSize * maxLength] : null;
+        int[] tokenLengths = new int[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            Encoding encoding = encodings[i];
+            int length = encoding.getIds().length;
+            int offset = i * maxLength;
+            System.arraycopy(encoding.getIds(), 0, ids, offset, length);
+            System.arraycopy(encoding.getAttentionMask(), 0, attentionMask, offset, length);
+            if (includeTokenTypes) {
+                System.arraycopy(encoding.getTypeIds(), 0, typeIds, offset, length);
+            }
+            for (long mask : encoding.getAttentionMask()) {
+                tokenLengths[i] += (int) mask;
+            }
+        }
+
+        NDManager manager = ctx.getNDManager();
+        Shape shape = new Shape(batchSize, maxLength);
+        NDList ndList = new NDList(includeTokenTypes ? 3 : 2);
+        ndList.add(manager.create(ids, shape));
+        NDArray attentionMaskArray = manager.create(attentionMask, shape);
+        ndList.add(attentionMaskArray);
+        if (includeTokenTypes) {
+            ndList.add(manager.create(typeIds, shape));
+        }
+        ctx.setAttachment(BATCH_ATTENTION_MASK, attentionMaskArray);
+        ctx.setAttachment(BATCH_TOKEN_LENGTHS, tokenLengths);
+        return ndList;
+    }
+
+    /**
+     * Pool token embeddings of the whole batch into sentence embeddings.
+     * @param embeddings token embeddings of shape [batch, sequence, hidden]
+     * @param attentionMask attention mask of shape [batch, sequence]
+     * @param poolingMode pooling mode
+     * @param normalize L2 normalize each sentence embedding
+     * @return sentence embeddings of shape [batch, hidden]
+     */
+    public static NDArray pool(
+        NDArray embeddings,
+        NDArray attentionMask,
+        TextEmbeddingModelConfig.PoolingMode poolingMode,
+        boolean normalize
+    ) {
+        long[] shape = embeddings.getShape().getShape();
+        NDArray mask = attentionMask.toType(DataType.FLOAT32, false).expandDims(-1).broadcast(shape);
+        NDArray pooled;
+        switch (poolingMode) {
+            case MEAN:
+            case MEAN_SQRT_LEN:
+                NDArray sum = embeddings.mul(mask).sum(SEQUENCE_AXIS);
+                NDArray count = mask.sum(SEQUENCE_AXIS).clip(1e-9, 1e12);
+                pooled = poolingMode == TextEmbeddingModelConfig.PoolingMode.MEAN_SQRT_LEN ? sum.div(count.sqrt()) : sum.div(count);
+                break;
+            case MAX:
+                pooled = embeddings.duplicate();
+                pooled.set(mask.eq(0), -1e9); // Set padding tokens to large negative value
+                pooled = pooled.max(SEQUENCE_AXIS);
+                break;
+            case WEIGHTED_MEAN:
+                NDArray weight = embeddings.getManager().arange(1, shape[1] + 1).expandDims(0).expandDims(-1).broadcast(shape);
+                NDArray weightedMask = mask.mul(weight);
+                pooled = embeddings.mul(weightedMask).sum(SEQUENCE_AXIS).div(weightedMask.sum(SEQUENCE_AXIS));
+                break;
+            case CLS:
+                pooled = embeddings.get(":, 0");
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported pooling method");
+        }
+        if (normalize) {
+            pooled = pooled.normalize(2, 1);
+        }
+        return pooled;
+    }
+
+    /**
+     * Split batch sentence embeddings into one {@link ModelTensors} per document.
+     * @param pooled sentence embeddings of shape [batch, hidden]
+     * @param rowShape shape reported for each document's embedding
+     * @return model output with one {@link ModelTensors} per document
+     */
+    public static Output toOutput(NDArray pooled, long[] rowShape) {
+        long[] shape = pooled.getShape().getShape();
+        int batchSize = (int) shape[0];
+        int dimension = (int) shape[1];
+        float[] embeddings = pooled.toFloatArray();
+        Output output = new Output();
+        for (int i = 0; i < batchSize; i++) {
+            ModelTensor tensor = ModelTensor
+                .builder()
+                .name(SENTENCE_EMBEDDING)
+                .floatData(Arrays.copyOfRange(embeddings, i * dimension, (i + 1) * dimension))
+                .shape(rowShape)
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+            output.add(new ModelTensorsSupplier(new ModelTensors(List.of(tensor))));
+        }
+        return output;
+    }
+}
@@ -34,11 +34,12 @@ public class TextEmbeddingDenseModel extends TextEmbeddingModel {
         String modelType = textEmbeddingModelConfig.getModelType();
         TextEmbeddingModelConfig.PoolingMode poolingMode = textEmbeddingModelConfig.getPoolingMode();
         boolean normalizeResult = textEmbeddingModelConfig.isNormalizeResult();
+        boolean batchPredict = isBatchPredictEnabled(modelConfig);
 
         if (ONNX_ENGINE.equals(engine)) { // ONNX
-            return new ONNXSentenceTransformerTextEmbeddingTranslator(poolingMode, normalizeResult, modelType);
+            return new ONNXSentenceTransformerTextEmbeddingTranslator(poolingMode, normalizeResult, modelType, batchPredict);
         } else if (transformersType == SENTENCE_TRANSFORMERS) {// pytorch sentence_transformer
-            return new SentenceTransformerTextEmbeddingTranslator();
+            return new SentenceTransformerTextEmbeddingTranslator(batchPredict);
         }
         return null;
     }
@@ -56,8 +57,32 @@ public class TextEmbeddingDenseModel extends TextEmbeddingModel {
             if (transformersType.name().endsWith("_NEURON")) {
                 neuron = true;
             }
-            return new HuggingfaceTextEmbeddingTranslatorFactory(poolingMode, normalizeResult, modelType, neuron);
+            return new HuggingfaceTextEmbeddingTranslatorFactory(
+                poolingMode,
+                normalizeResult,
+                modelType,
+                neuron,
+                isBatchPredictEnabled(modelConfig)
+            );
         }
         return null;
     }
+
+    /**
+     * Batch predict mode is enabled when the model is registered with a batch size greater than one. Batch predict
+     * pads a micro-batch to its longest sequence, which Neuron models traced with fixed input shapes can't accept,
+     * so they always predict one document at a time.
+     */
+    @Override
+    protected boolean isBatchPredictEnabled(MLModelConfig modelConfig) {
+        if (!(modelConfig instanceof TextEmbeddingModelConfig)) {
+            return false;
+        }
+        TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
+        Integer batchSize = textEmbeddingModelConfig.getBatchSize();
+        if (batchSize == null || batchSize <= 1) {
+            return false;
+        }
+        return !textEmbeddingModelConfig.getFrameworkType().name().endsWith("_NEURON");
+    }
 }
@@ -28,6 +28,7 @@ import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
+import org.opensearch.ml.engine.algorithms.ModelTensorsSupplier;
 import org.opensearch.ml.engine.annotation.Function;
 
 import ai.djl.modality.Input;
@@ -51,7 +52,7 @@ public class TextSimilarityCrossEncoderModel extends DLModel {
             input.add(queryText);
             input.add(doc);
             output = getPredictor().predict(input);
-            ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
+            ModelTensors outputTensors = ModelTensorsSupplier.toModelTensors(output.getData());
             tensorOutputs.add(outputTensors);
         }
         return new ModelTensorOutput(tensorOutputs);
@@ -0,0 +1,242 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.httpclient;
+
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+
+/**
+ * Node level manager of the async http clients used by remote connectors.
+ * Connectors with the same client profile (connection timeout, read timeout and max connection)
+ * share one client, the client keeps a separate connection pool per remote host. All clients
+ * share one event loop group. A client is closed once every connector executor which acquired
+ * it has closed its handle, e.g. when the remote models are undeployed.
+ */
+@Log4j2
+public class MLHttpClientManager {
+
+    private static final MLHttpClientManager INSTANCE = new MLHttpClientManager();
+
+    // guarded by this
+    private final Map<ClientProfile, SharedClient> clients = new HashMap<>();
+    // guarded by this, created with the first client and closed with the last one
+    private SdkEventLoopGroup eventLoopGroup;
+
+    MLHttpClientManager() {}
+
+    public static MLHttpClientManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Acquire a shared http client. The returned handle must be closed to release the client.
+     * @param connectionTimeout connection timeout
+     * @param readTimeout read timeout
+     * @param maxConnections max connections per remote host
+     * @return client handle, or null if the client can't be created
+     */
+    public synchronized SdkAsyncHttpClient acquire(Duration connectionTimeout, Duration readTimeout, int maxConnections) {
+        ClientProfile profile = new ClientProfile(connectionTimeout, readTimeout, maxConnections);
+        SharedClient client = clients.get(profile);
+        if (client == null) {
+            SdkAsyncHttpClient delegate = createClient(profile);
+            if (delegate == null) {
+                return null;
+            }
+            client = new SharedClient(profile, delegate);
+            clients.put(profile, client);
+            log.debug("Created shared http client, current client count is {}", clients.size());
+        }
+        client.references++;
+        return new ClientHandle(client);
+    }
+
+    private synchronized void release(SharedClient client) {
+        if (--client.references > 0) {
+            return;
+        }
+        clients.remove(client.profile);
+        client.delegate.close();
+        log.debug("Closed shared http client, current client count is {}", clients.size());
+        if (clients.isEmpty() && eventLoopGroup != null) {
+            eventLoopGroup.eventLoopGroup().shutdownGracefully();
+            eventLoopGroup = null;
+        }
+    }
+
+    private SdkAsyncHttpClient createClient(ClientProfile profile) {
+        try {
+            return AccessController.doPrivileged((PrivilegedExceptionAction<SdkAsyncHttpClient>) () -> {
+                if (eventLoopGroup == null) {
+                    eventLoopGroup = SdkEventLoopGroup.builder().build();
+                }
+                return NettyNioAsyncHttpClient
+                    .builder()
+                    .eventLoopGroup(eventLoopGroup)
+                    .connectionTimeout(profile.connectionTimeout)
+                    .readTimeout(profile.readTimeout)
+                    .maxConcurrency(profile.maxConnections)
+                    .build();
+            });
+        } catch (PrivilegedActionException e) {
+            log.error("Failed to create http client", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return number of shared http clients
+     */
+    public synchronized long getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * @return number of connections in use by in-flight requests, summed over all remote hosts
+     */
+    public long getLeasedConnectionCount() {
+        long count = 0;
+        for (SharedClient client : snapshot()) {
+            for (AtomicInteger inFlight : client.inFlightRequests.values()) {
+                count += Math.min(inFlight.get(), client.profile.maxConnections);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return number of in-flight requests waiting to acquire a connection, summed over all remote hosts
+     */
+    public long getPendingAcquireCount() {
+        long count = 0;
+        for (SharedClient client : snapshot()) {
+            for (AtomicInteger inFlight : client.inFlightRequests.values()) {
+                count += Math.max(inFlight.get() - client.profile.maxConnections, 0);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return max connection usage of any remote host connection pool in percent
+     */
+    public long getPoolSaturation() {
+        long saturation = 0;
+        for (SharedClient client : snapshot()) {
+            for (AtomicInteger inFlight : client.inFlightRequests.values()) {
+                long leased = Math.min(inFlight.get(), client.profile.maxConnections);
+                saturation = Math.max(saturation, leased * 100 / client.profile.maxConnections);
+            }
+        }
+        return saturation;
+    }
+
+    private synchronized List<SharedClient> snapshot() {
+        return new ArrayList<>(clients.values());
+    }
+
+    private static final class ClientProfile {
+        private final Duration connectionTimeout;
+        private final Duration readTimeout;
+        private final int maxConnections;
+
+        ClientProfile(Duration connectionTimeout, Duration readTimeout, int maxConnections) {
+            this.connectionTimeout = connectionTimeout;
+            this.readTimeout = readTimeout;
+            this.maxConnections = maxConnections;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClientProfile)) {
+                return false;
+            }
+            ClientProfile other = (ClientProfile) o;
+            return maxConnections == other.maxConnections
+                && Objects.equals(connectionTimeout, other.connectionTimeout)
+                && Objects.equals(readTimeout, other.readTimeout);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(connectionTimeout, readTimeout, maxConnections);
+        }
+    }
+
+    private static final class SharedClient {
+        private final ClientProfile profile;
+        private final SdkAsyncHttpClient delegate;
+        // in-flight request count per remote host
+        private final Map<String, AtomicInteger> inFlightRequests = new ConcurrentHashMap<>();
+        // guarded by MLHttpClientManager.this
+        private int references;
+
+        SharedClient(ClientProfile profile, SdkAsyncHttpClient delegate) {
+            this.profile = profile;
+            this.delegate = delegate;
+        }
+    }
+
+    /**
+     * Handle of a shared client held by one connector executor. Closing the handle releases
+     * the executor's reference, closing it again is a no-op.
+     */
+    private final class ClientHandle implements SdkAsyncHttpClient {
+        private final SharedClient client;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        ClientHandle(SharedClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            if (closed.get()) {
+                throw new IllegalStateException("Http client is already closed");
+            }
+            AtomicInteger inFlight = client.inFlightRequests.computeIfAbsent(request.request().host(), k -> new AtomicInteger());
+            inFlight.incrementAndGet();
+            try {
+                return client.delegate.execute(request).whenComplete((r, e) -> inFlight.decrementAndGet());
+            } catch (RuntimeException e) {
+                inFlight.decrementAndGet();
+                throw e;
+            }
+        }
+
+        @Override
+        public String clientName() {
+            return client.delegate.clientName();
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(client);
+            }
+        }
+    }
+}
@@ -6,11 +6,18 @@
 package org.opensearch.ml.engine.indices;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 
+import org.opensearch.action.search.ClearScrollRequest;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.client.Client;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
@@ -18,25 +25,74 @@ import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.repackage.com.google.common.annotations.VisibleForTesting;
 import org.opensearch.search.SearchHit;
-import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
 
 import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Convert MLInputDataset to Dataframe
  */
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
-@RequiredArgsConstructor
 @Log4j2
 public class MLInputDatasetHandler {
+    private static final int DEFAULT_PAGE_SIZE = 5000;
+    private static final int DEFAULT_MAX_DOCS = 1_000_000;
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
     Client client;
+    int maxPageSize;
+    BooleanSupplier memoryBreakerOpen;
+    @NonFinal
+    volatile int maxDocs;
+
+    public MLInputDatasetHandler(Client client) {
+        this(client, DEFAULT_PAGE_SIZE, DEFAULT_MAX_DOCS, () -> false);
+    }
 
     /**
-     * Create DataFrame based on given search query
+     * @param client client
+     * @param maxDocs max number of documents read from a search query input
+     * @param memoryBreakerOpen whether the memory circuit breaker is open, checked before each page is added to the DataFrame
+     */
+    public MLInputDatasetHandler(Client client, int maxDocs, BooleanSupplier memoryBreakerOpen) {
+        this(client, DEFAULT_PAGE_SIZE, maxDocs, memoryBreakerOpen);
+    }
+
+    @VisibleForTesting
+    MLInputDatasetHandler(Client client, int maxPageSize) {
+        this(client, maxPageSize, DEFAULT_MAX_DOCS, () -> false);
+    }
+
+    @VisibleForTesting
+    MLInputDatasetHandler(Client client, int maxPageSize, int maxDocs, BooleanSupplier memoryBreakerOpen) {
+        this.client = client;
+        this.maxPageSize = maxPageSize;
+        this.maxDocs = maxDocs;
+        this.memoryBreakerOpen = memoryBreakerOpen;
+    }
+
+    public void setMaxDocs(int maxDocs) {
+        this.maxDocs = maxDocs;
+    }
+
+    /**
+     * Create DataFrame based on given search query. All documents matching the query are read page by page with
+     * a scroll, up to the size of the query if it is set, and each page is appended to the DataFrame, so only one
+     * page of hits is kept besides the DataFrame. Documents are read in index order unless the query has a sort.
+     * <p>
+     * At most max docs documents are read. The request fails with MLLimitExceededException if the size of the query
+     * is larger, if the query has no size and more documents match it, or if the memory circuit breaker opens
+     * while the pages are read.
+     * <p>
+     * If the query has docvalue_fields, the columns are read from the doc value and stored fields of the hits,
+     * and the _source of the documents is not fetched.
      * @param mlInputDataset MLInputDataset
      * @param listener ActionListener
      */
@@ -45,32 +101,156 @@ public class MLInputDatasetHandler {
             throw new IllegalArgumentException("Input dataset is not SEARCH_QUERY type.");
         }
         SearchQueryInputDataset inputDataset = (SearchQueryInputDataset) mlInputDataset;
+        SearchSourceBuilder query = inputDataset.getSearchSourceBuilder();
+        if (query.size() == 0) {
+            throw new IllegalArgumentException("Size of search query input should be a positive number");
+        }
+        int maxDocs = this.maxDocs;
+        if (query.size() > maxDocs) {
+            throw new MLLimitExceededException(
+                "Size of search query input " + query.size() + " exceeds the limit of " + maxDocs + " documents"
+            );
+        }
+        int from = Math.max(query.from(), 0);
+        // without size, all documents matching the query are read and it's an error if there are more than max docs
+        boolean failOnMoreDocs = query.size() < 0;
+        int docLimit = failOnMoreDocs ? maxDocs : query.size();
+        boolean fromFields = query.docValueFields() != null && !query.docValueFields().isEmpty();
+
+        // scroll doesn't support from, the first hits are skipped instead
+        int pageSize = !failOnMoreDocs && docLimit < maxPageSize - from ? from + docLimit : maxPageSize;
+        SearchSourceBuilder searchSourceBuilder = query.shallowCopy().from(0).size(pageSize);
+        if (query.sorts() == null || query.sorts().isEmpty()) {
+            searchSourceBuilder.sort("_doc", SortOrder.ASC);
+        }
+        if (fromFields) {
+            searchSourceBuilder.fetchSource(false);
+        }
         SearchRequest searchRequest = new SearchRequest();
-        searchRequest.source(inputDataset.getSearchSourceBuilder());
+        searchRequest.source(searchSourceBuilder);
         List<String> indicesList = inputDataset.getIndices();
         String[] indices = new String[indicesList.size()];
         indices = indicesList.toArray(indices);
         searchRequest.indices(indices);
+        searchRequest.scroll(SCROLL_KEEP_ALIVE);
 
-        client.search(searchRequest, ActionListener.wrap(r -> {
-            if (r == null || r.getHits() == null || r.getHits().getTotalHits() == null || r.getHits().getTotalHits().value == 0) {
-                listener.onFailure(new IllegalArgumentException("No document found"));
+        PageLoader pageLoader = new PageLoader(from, docLimit, failOnMoreDocs, pageSize, fromFields, listener);
+        client.search(searchRequest, pageLoader);
+    }
+
+    /**
+     * Appends the hits of each page to the DataFrame and reads the next page until all documents are read.
+     */
+    private class PageLoader implements ActionListener<SearchResponse> {
+        private final ActionListener<MLInputDataset> listener;
+        private final boolean fromFields;
+        private final long docLimit;
+        private final boolean failOnMoreDocs;
+        private final int pageSize;
+        private long skipDocs;
+        private long docCount;
+        private DataFrame dataFrame;
+        private String scrollId;
+
+        PageLoader(
+            long skipDocs,
+            long docLimit,
+            boolean failOnMoreDocs,
+            int pageSize,
+            boolean fromFields,
+            ActionListener<MLInputDataset> listener
+        ) {
+            this.skipDocs = skipDocs;
+            this.docLimit = docLimit;
+            this.failOnMoreDocs = failOnMoreDocs;
+            this.pageSize = pageSize;
+            this.fromFields = fromFields;
+            this.listener = listener;
+        }
+
+        @Override
+        public void onResponse(SearchResponse r) {
+            boolean completed;
+            try {
+                if (r != null && r.getScrollId() != null) {
+                    scrollId = r.getScrollId();
+                }
+                SearchHit[] searchHits = r == null || r.getHits() == null ? new SearchHit[0] : r.getHits().getHits();
+                List<Map<String, Object>> input = new ArrayList<>(searchHits.length);
+                for (SearchHit hit : searchHits) {
+                    if (skipDocs > 0) {
+                        skipDocs--;
+                        continue;
+                    }
+                    if (docCount + input.size() >= docLimit) {
+                        if (failOnMoreDocs) {
+                            throw new MLLimitExceededException(
+                                "Search query input matches more than the limit of " + docLimit + " documents, set a smaller size"
+                            );
+                        }
+                        break;
+                    }
+                    input.add(fromFields ? getFieldsAsMap(hit) : hit.getSourceAsMap());
+                }
+                if (!input.isEmpty()) {
+                    if (memoryBreakerOpen.getAsBoolean()) {
+                        throw new MLLimitExceededException(
+                            "Memory Circuit Breaker is open, stopped reading search query input after " + docCount + " documents"
+                        );
+                    }
+                    if (dataFrame == null) {
+                        dataFrame = DataFrameBuilder.load(input);
+                    } else {
+                        DataFrameBuilder.append(dataFrame, input);
+                    }
+                    docCount += input.size();
+                }
+                // a page shorter than the page size is the last one
+                completed = scrollId == null || (!failOnMoreDocs && docCount >= docLimit) || searchHits.length < pageSize;
+            } catch (Exception e) {
+                onFailure(e);
                 return;
             }
-            SearchHits hits = r.getHits();
-            List<Map<String, Object>> input = new ArrayList<>();
-            SearchHit[] searchHits = hits.getHits();
-            for (SearchHit hit : searchHits) {
-                input.add(hit.getSourceAsMap());
+            if (completed) {
+                complete();
+            } else {
+                client.searchScroll(new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE), this);
             }
-            DataFrame dataFrame = DataFrameBuilder.load(input);
-            MLInputDataset dfInputDataset = new DataFrameInputDataset(dataFrame);
-            listener.onResponse(dfInputDataset);
-            return;
-        }, e -> {
-            log.error("Failed to search" + e);
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            log.error("Failed to search", e);
+            clearScroll();
             listener.onFailure(e);
-        }));
-        return;
+        }
+
+        private void complete() {
+            clearScroll();
+            if (dataFrame == null) {
+                listener.onFailure(new IllegalArgumentException("No document found"));
+                return;
+            }
+            log.debug("Loaded {} documents of search query input", docCount);
+            listener.onResponse(new DataFrameInputDataset(dataFrame));
+        }
+
+        private void clearScroll() {
+            if (scrollId == null) {
+                return;
+            }
+            ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+            clearScrollRequest.addScrollId(scrollId);
+            scrollId = null;
+            client.clearScroll(clearScrollRequest, ActionListener.wrap(r -> {}, e -> log.warn("Failed to clear scroll", e)));
+        }
+
+        private Map<String, Object> getFieldsAsMap(SearchHit hit) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            for (Map.Entry<String, DocumentField> entry : hit.getFields().entrySet()) {
+                fields.put(entry.getKey(), entry.getValue().getValue());
+            }
+            return fields;
+        }
     }
 }
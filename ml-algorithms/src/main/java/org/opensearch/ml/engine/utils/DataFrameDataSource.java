@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.tribuo.DataSource;
+import org.tribuo.Example;
+import org.tribuo.Output;
+import org.tribuo.OutputFactory;
+import org.tribuo.impl.ArrayExample;
+import org.tribuo.provenance.DataSourceProvenance;
+import org.tribuo.provenance.SimpleDataSourceProvenance;
+
+/**
+ * Tribuo data source which reads a data frame in a single pass. Every row becomes one {@link ArrayExample}
+ * built directly from the row values while the source is iterated, without an intermediate list of features.
+ * The feature names are resolved once for the data frame.
+ */
+public class DataFrameDataSource<T extends Output<T>> implements DataSource<T> {
+    private final DataFrame dataFrame;
+    private final OutputFactory<T> outputFactory;
+    private final DataSourceProvenance provenance;
+    private final IntFunction<T> outputFunction;
+    private final String[] featureNames;
+    // column index of every feature, the target column is skipped
+    private final int[] featureColumns;
+
+    /**
+     * Create data source.
+     * @param dataFrame data frame to read
+     * @param outputFactory the tribuo output factory
+     * @param desc description for tribuo provenance
+     * @param outputFunction creates the output of an example from its row index
+     * @param targetIndex column index of the target which is not a feature, or -1 if all columns are features
+     */
+    public DataFrameDataSource(
+        DataFrame dataFrame,
+        OutputFactory<T> outputFactory,
+        String desc,
+        IntFunction<T> outputFunction,
+        int targetIndex
+    ) {
+        this.dataFrame = dataFrame;
+        this.outputFactory = outputFactory;
+        this.provenance = new SimpleDataSourceProvenance(desc, outputFactory);
+        this.outputFunction = outputFunction;
+        ColumnMeta[] columnMetas = dataFrame.columnMetas();
+        this.featureColumns = IntStream.range(0, columnMetas.length).filter(i -> i != targetIndex).toArray();
+        this.featureNames = Arrays.stream(featureColumns).mapToObj(i -> columnMetas[i].getName()).toArray(String[]::new);
+    }
+
+    @Override
+    public OutputFactory<T> getOutputFactory() {
+        return outputFactory;
+    }
+
+    @Override
+    public DataSourceProvenance getProvenance() {
+        return provenance;
+    }
+
+    @Override
+    public Iterator<Example<T>> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < dataFrame.size();
+            }
+
+            @Override
+            public Example<T> next() {
+                if (next >= dataFrame.size()) {
+                    throw new NoSuchElementException();
+                }
+                return createExample(next++);
+            }
+        };
+    }
+
+    private Example<T> createExample(int row) {
+        double[] featureValues = new double[featureColumns.length];
+        for (int i = 0; i < featureColumns.length; i++) {
+            featureValues[i] = dataFrame.getDoubleValue(row, featureColumns[i]);
+        }
+        return new ArrayExample<>(outputFunction.apply(row), featureNames, featureValues);
+    }
+}
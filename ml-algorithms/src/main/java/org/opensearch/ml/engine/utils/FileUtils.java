@@ -19,21 +19,15 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Queue;
 import java.util.Set;
 
-import org.opensearch.ml.common.exception.MLException;
-
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 
-import lombok.extern.log4j.Log4j2;
-
 /**
  * A util class contains file related operations.
  */
-@Log4j2
 public class FileUtils {
 
     /**
@@ -99,40 +93,6 @@ public class FileUtils {
         }
     }
 
-    /**
-     * Merge files into one big file.
-     * @param files chunk files
-     * @param mergedFile merged file
-     */
-    public static void mergeFiles(Queue<File> files, File mergedFile) {
-        log.debug("merge {} files into {}", files.size(), mergedFile);
-        boolean failed = false;
-        while (!files.isEmpty()) {
-            File f = files.poll();
-            try (InputStream inStream = new BufferedInputStream(new FileInputStream(f))) {
-                if (!failed) {
-                    int fileLength = (int) f.length();
-                    byte fileContent[] = new byte[fileLength];
-                    inStream.read(fileContent, 0, fileLength);
-
-                    write(fileContent, mergedFile, true);
-                }
-            } catch (IOException e) {
-                log.error("Failed to merge file from " + f.getAbsolutePath() + " to " + mergedFile.getAbsolutePath(), e);
-                failed = true;
-            } finally {
-                org.apache.commons.io.FileUtils.deleteQuietly(f);
-                if (files.isEmpty()) {
-                    org.apache.commons.io.FileUtils.deleteQuietly(f.getParentFile());
-                }
-            }
-        }
-        if (failed) {
-            org.apache.commons.io.FileUtils.deleteQuietly(mergedFile);
-            throw new MLException("Failed to merge model chunks");
-        }
-    }
-
     /**
      * Calculate sha256 hash value of file.
      * @param file file
@@ -0,0 +1,201 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import lombok.Getter;
+
+/**
+ * Fixed size latency histogram which is recorded from many threads without locks or allocation. Latencies are
+ * counted in log-linear buckets of microseconds: every power of two is split into 16 buckets, so a percentile
+ * is off by at most 1/16 of its value, for latencies up to about 38 hours. Min, max and average are exact.
+ * <p>
+ * The histogram keeps about the last window size latencies. They are recorded into one of two halves, and
+ * once the current half holds half of the window size, the other half is cleared and becomes the current one.
+ * So the histogram holds between half of the window size and the window size latencies.
+ */
+public class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 36;
+    static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final Half[] halves = new Half[] { new Half(), new Half() };
+    private final AtomicBoolean rotating = new AtomicBoolean(false);
+    private volatile int current;
+    private volatile long windowSize;
+
+    public LatencyHistogram(long windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Change the number of latencies to keep. A window size of 0 or less clears the histogram and stops recording.
+     * @param windowSize number of latencies to keep
+     */
+    public void setWindowSize(long windowSize) {
+        if (this.windowSize == windowSize) {
+            return;
+        }
+        this.windowSize = windowSize;
+        if (windowSize <= 0) {
+            clear();
+        }
+    }
+
+    /**
+     * Record a latency.
+     * @param durationInMicros latency in microseconds
+     */
+    public void record(long durationInMicros) {
+        long window = windowSize;
+        if (window <= 0) {
+            return;
+        }
+        int index = current;
+        Half half = halves[index];
+        if (half.count.get() >= Math.max(1, window / 2)) {
+            if (rotating.compareAndSet(false, true)) {
+                try {
+                    if (current == index) {
+                        halves[1 - index].clear();
+                        current = 1 - index;
+                    }
+                } finally {
+                    rotating.set(false);
+                }
+            }
+            half = halves[current];
+        }
+        half.record(Math.min(Math.max(durationInMicros, 0), MAX_VALUE));
+    }
+
+    public void clear() {
+        halves[0].clear();
+        halves[1].clear();
+    }
+
+    /**
+     * @return copy of the latencies currently kept
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Half half : halves) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long bucketCount = half.buckets.get(i);
+                counts[i] += bucketCount;
+                count += bucketCount;
+            }
+            sum += half.sum.get();
+            min = Math.min(min, half.min.get());
+            max = Math.max(max, half.max.get());
+        }
+        return new Snapshot(counts, count, sum, min, max);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        return (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    }
+
+    static long bucketWidth(int index) {
+        return index < SUB_BUCKET_COUNT ? 1 : 1L << (index / SUB_BUCKET_COUNT - 1);
+    }
+
+    private static final class Half {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        void record(long value) {
+            buckets.incrementAndGet(bucketIndex(value));
+            sum.addAndGet(value);
+            long current;
+            while (value < (current = min.get()) && !min.compareAndSet(current, value)) {}
+            while (value > (current = max.get()) && !max.compareAndSet(current, value)) {}
+            count.incrementAndGet();
+        }
+
+        void clear() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, 0);
+            }
+            sum.set(0);
+            min.set(Long.MAX_VALUE);
+            max.set(Long.MIN_VALUE);
+            count.set(0);
+        }
+    }
+
+    /**
+     * Latencies of a histogram at one point in time, in microseconds.
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        @Getter
+        private final long count;
+        @Getter
+        private final long sum;
+        @Getter
+        private final long min;
+        @Getter
+        private final long max;
+
+        Snapshot(long[] counts, long count, long sum, long min, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        public double getAverage() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Get a percentile, the middle of the bucket it falls into, within min and max.
+         * @param percentile percentile from 0 to 100
+         * @return latency in microseconds
+         */
+        public double getPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    double value = bucketLowerBound(i) + (bucketWidth(i) - 1) / 2.0;
+                    return Math.min(Math.max(value, min), max);
+                }
+            }
+            return max;
+        }
+    }
+}
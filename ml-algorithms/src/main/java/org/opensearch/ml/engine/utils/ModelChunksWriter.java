@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.hash.HashCode;
+
+import lombok.Getter;
+
+/**
+ * Writes model chunks, which may arrive in any order, into one model file. A chunk is written at its
+ * offset with a positioned write as soon as all chunks before it are written, and the sha256 hash of the
+ * file is updated as chunks land, so the file is neither merged from chunk files nor read again to hash it.
+ * Chunks which arrive ahead of their turn are kept in memory, so callers should bound the number of chunks
+ * they retrieve ahead of the next chunk to write.
+ */
+public class ModelChunksWriter implements Closeable {
+    @Getter
+    private final File file;
+    @Getter
+    private final int totalChunks;
+    private final RandomAccessFile randomAccessFile;
+    private final FileChannel channel;
+    private final MessageDigest digest;
+    // chunks which arrived before the next chunk to write
+    private final Map<Integer, ByteBuffer> pendingChunks = new HashMap<>();
+    private int nextChunk;
+    private long position;
+    private String hash;
+
+    /**
+     * @param file model file to write, replaced if it exists
+     * @param totalChunks number of chunks of the model
+     * @param expectedSize expected model file size used to allocate the file, or null if unknown
+     * @throws IOException if the file can't be created
+     */
+    public ModelChunksWriter(File file, int totalChunks, Long expectedSize) throws IOException {
+        this.file = file;
+        this.totalChunks = totalChunks;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        org.apache.commons.io.FileUtils.forceMkdir(file.getParentFile());
+        this.randomAccessFile = new RandomAccessFile(file, "rw");
+        this.channel = randomAccessFile.getChannel();
+        channel.truncate(0);
+        if (expectedSize != null && expectedSize > 0) {
+            randomAccessFile.setLength(expectedSize);
+        }
+    }
+
+    /**
+     * Write one model chunk.
+     * @param chunkNumber chunk number, starting from 0
+     * @param data chunk content
+     * @return number of chunks written to the file by this call, 0 if the chunk has to wait for earlier chunks
+     * @throws IOException if failed to write the file
+     */
+    public synchronized int write(int chunkNumber, byte[] data) throws IOException {
+        if (chunkNumber < nextChunk || chunkNumber >= totalChunks || pendingChunks.containsKey(chunkNumber)) {
+            throw new IllegalArgumentException("Unexpected model chunk " + chunkNumber);
+        }
+        pendingChunks.put(chunkNumber, ByteBuffer.wrap(data));
+        int written = 0;
+        ByteBuffer chunk;
+        while ((chunk = pendingChunks.remove(nextChunk)) != null) {
+            digest.update(chunk.duplicate());
+            while (chunk.hasRemaining()) {
+                position += channel.write(chunk, position);
+            }
+            nextChunk++;
+            written++;
+        }
+        if (isComplete() && hash == null) {
+            // the expected size is only a hint, the file ends with the last chunk
+            channel.truncate(position);
+            hash = HashCode.fromBytes(digest.digest()).toString();
+        }
+        return written;
+    }
+
+    public synchronized boolean isComplete() {
+        return nextChunk == totalChunks;
+    }
+
+    /**
+     * Get sha256 hash value of the model file, same as {@link FileUtils#calculateFileHash(File)}.
+     * @return hash value, or null if not all chunks are written
+     */
+    public synchronized String getHash() {
+        return hash;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        pendingChunks.clear();
+        randomAccessFile.close();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.util.Locale;
+
+/**
+ * Latency histograms of the phases of the predict requests of one model. The plugin keeps one instance per
+ * deployed model and passes it to the predictor in the deploy params, so phases timed inside the predictor
+ * are recorded next to the ones timed by the plugin.
+ */
+public class PredictPhaseLatencies {
+    public static final String PHASE_LATENCIES = "phase_latencies";
+
+    public enum Phase {
+        // time a predict request waits in the predict thread pool queue
+        QUEUE_WAIT,
+        PRE_PROCESS,
+        // forward pass of a local model
+        FORWARD,
+        POST_PROCESS,
+        // time from sending a remote model request to receiving the whole response
+        REMOTE_HTTP;
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Phase.values().length];
+
+    public PredictPhaseLatencies(long windowSize) {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram(windowSize);
+        }
+    }
+
+    /**
+     * Record the latency of a phase.
+     * @param phase predict phase
+     * @param durationInNanos latency in nanoseconds
+     */
+    public void record(Phase phase, long durationInNanos) {
+        histograms[phase.ordinal()].record(durationInNanos / 1000);
+    }
+
+    /**
+     * Record the latency of a phase which started at the given {@link System#nanoTime()}.
+     * @param phase predict phase
+     * @param startTimeInNanos start time of the phase
+     */
+    public void recordSince(Phase phase, long startTimeInNanos) {
+        record(phase, System.nanoTime() - startTimeInNanos);
+    }
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public void setWindowSize(long windowSize) {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.setWindowSize(windowSize);
+        }
+    }
+
+    public void clear() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.clear();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.opensearch.ml.common.connector.ConnectorScriptCache;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.script.Script;
 import org.opensearch.script.ScriptService;
@@ -31,13 +32,34 @@ public class ScriptUtils {
     }
 
     public static Optional<String> executePostProcessFunction(ScriptService scriptService, String postProcessFunction, String resultJson) {
+        return executePostProcessFunction(scriptService, null, postProcessFunction, resultJson);
+    }
+
+    public static Optional<String> executePostProcessFunction(
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache,
+        String postProcessFunction,
+        String resultJson
+    ) {
         Map<String, Object> result = StringUtils.fromJson(resultJson, "result");
         if (postProcessFunction != null) {
-            return Optional.ofNullable(executeScript(scriptService, addDefaultMethod(postProcessFunction), result));
+            return Optional.ofNullable(executeScript(scriptService, scriptCache, addDefaultMethod(postProcessFunction), result));
         }
         return Optional.empty();
     }
 
+    public static String executeScript(
+        ScriptService scriptService,
+        ConnectorScriptCache scriptCache,
+        String painlessScript,
+        Map<String, Object> params
+    ) {
+        if (scriptCache != null) {
+            return scriptCache.execute(scriptService, painlessScript, params);
+        }
+        return executeScript(scriptService, painlessScript, params);
+    }
+
     public static String executeScript(ScriptService scriptService, String painlessScript, Map<String, Object> params) {
         Script script = new Script(ScriptType.INLINE, "painless", painlessScript, Collections.emptyMap());
         TemplateScript templateScript = scriptService.compile(script, TemplateScript.CONTEXT).newInstance(params);
@@ -91,6 +91,20 @@ public class MLEngineTest {
         predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
     }
 
+    @Test
+    public void predictKMeans_DeserializedModel() {
+        MLModel model = trainKMeansModel();
+        Object deserializedModel = mlEngine.deserializeModel(model);
+        Assert.assertNotNull(deserializedModel);
+        DataFrame predictionDataFrame = constructTestDataFrame(10);
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(predictionDataFrame).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        for (int i = 0; i < 2; i++) {
+            MLPredictionOutput output = (MLPredictionOutput) mlEngine.predictWithDeserializedModel(mlInput, deserializedModel);
+            assertEquals(10, output.getPredictionResult().size());
+        }
+    }
+
     @Test
     public void predictLinearRegression() {
         MLModel model = trainLinearRegressionModel();
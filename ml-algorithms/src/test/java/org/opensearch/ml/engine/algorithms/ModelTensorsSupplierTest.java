@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
+
+public class ModelTensorsSupplierTest {
+
+    private ModelTensors modelTensors;
+
+    @Before
+    public void setUp() {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 0.1f, 0.2f })
+            .shape(new long[] { 2 })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        modelTensors = new ModelTensors(List.of(tensor));
+    }
+
+    @Test
+    public void toModelTensors_AttachedTensors() {
+        Output output = new Output();
+        output.add(new ModelTensorsSupplier(modelTensors));
+        assertSame(modelTensors, ModelTensorsSupplier.toModelTensors(output.getData()));
+    }
+
+    @Test
+    public void toModelTensors_SerializedTensors() {
+        Output output = new Output();
+        output.add(modelTensors.toBytes());
+        ModelTensors parsed = ModelTensorsSupplier.toModelTensors(output.getData());
+        assertEquals(modelTensors.getMlModelTensors(), parsed.getMlModelTensors());
+    }
+
+    @Test
+    public void getAsBytes() {
+        BytesSupplier supplier = new ModelTensorsSupplier(modelTensors);
+        ModelTensors parsed = ModelTensors.fromBytes(supplier.getAsBytes());
+        assertArrayEquals(new float[] { 0.1f, 0.2f }, parsed.getMlModelTensors().get(0).toFloatArray(), 0f);
+        parsed = ModelTensors.fromBytes(supplier.toByteBuffer().array());
+        assertEquals(modelTensors.getMlModelTensors(), parsed.getMlModelTensors());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.opensearch.ml.engine.utils.LatencyHistogram;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
+
+import ai.djl.metric.Metric;
+import ai.djl.metric.Metrics;
+import ai.djl.metric.Unit;
+
+public class PhaseLatencyMetricsTest {
+
+    @Test
+    public void addMetric_DJLPredictorMetrics() {
+        PredictPhaseLatencies phaseLatencies = new PredictPhaseLatencies(100);
+        Metrics metrics = new DLModel.PhaseLatencyMetrics(phaseLatencies);
+
+        // metrics added by the DJL predictor for one request
+        metrics.addMetric(new Metric("Preprocess", 10, Unit.MICROSECONDS));
+        metrics.addMetric(new Metric("Inference", 20, Unit.MICROSECONDS));
+        metrics.addMetric(new Metric("Postprocess", 30, Unit.MICROSECONDS));
+        metrics.addMetric(new Metric("Prediction", 70, Unit.MICROSECONDS));
+        metrics.addMetric(new Metric("Inference", 5, Unit.MILLISECONDS));
+
+        assertPhase(phaseLatencies, PredictPhaseLatencies.Phase.PRE_PROCESS, 10);
+        assertPhase(phaseLatencies, PredictPhaseLatencies.Phase.FORWARD, 20);
+        assertPhase(phaseLatencies, PredictPhaseLatencies.Phase.POST_PROCESS, 30);
+    }
+
+    private void assertPhase(PredictPhaseLatencies phaseLatencies, PredictPhaseLatencies.Phase phase, long durationInMicros) {
+        LatencyHistogram.Snapshot snapshot = phaseLatencies.getHistogram(phase).snapshot();
+        assertEquals(1, snapshot.getCount());
+        assertEquals(durationInMicros, snapshot.getMin());
+    }
+}
@@ -5,6 +5,11 @@
 
 package org.opensearch.ml.engine.algorithms.rcf;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.junit.Assert;
@@ -69,6 +74,62 @@ public class FixedInTimeRandomCutForestTest {
         Assert.assertTrue("Fewer anomaly detected: " + anomalyCount, anomalyCount > 1);// total anomalies 5
     }
 
+    @Test
+    public void predict_DeployedModelUpdatedInOrder() throws Exception {
+        MLModel model = forest.train(trainDataFrameInput);
+        FixedInTimeRandomCutForest deployed = new FixedInTimeRandomCutForest();
+        deployed.initModel(model, null, null);
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.FIT_RCF)
+            .inputDataset(predictionDataFrameInputDataSet)
+            .parameters(parameters)
+            .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<MLOutput>> outputs = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                outputs.add(executor.submit(() -> deployed.predict(mlInput)));
+            }
+            for (Future<MLOutput> output : outputs) {
+                Assert.assertEquals(dataSize, ((MLPredictionOutput) output.get()).getPredictionResult().size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(8L * dataSize, deployed.getUpdateCount());
+    }
+
+    @Test
+    public void checkpoint() {
+        MLModel model = forest.train(trainDataFrameInput);
+        FixedInTimeRandomCutForest deployed = new FixedInTimeRandomCutForest();
+        deployed.initModel(model, null, null);
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.FIT_RCF)
+            .inputDataset(predictionDataFrameInputDataSet)
+            .parameters(parameters)
+            .build();
+        deployed.predict(mlInput);
+
+        String content = deployed.checkpoint();
+        Assert.assertNotEquals(model.getContent(), content);
+        MLModel checkpointed = MLModel.builder().algorithm(FunctionName.FIT_RCF).content(content).build();
+        FixedInTimeRandomCutForest restored = new FixedInTimeRandomCutForest();
+        restored.initModel(checkpointed, null, null);
+        Assert.assertTrue(restored.isModelReady());
+        Assert.assertEquals(0, restored.getUpdateCount());
+    }
+
+    @Test
+    public void checkpoint_ModelNotReady() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Model not ready to checkpoint.");
+        new FixedInTimeRandomCutForest().checkpoint();
+    }
+
     @Test
     public void train() {
         MLModel model = forest.train(trainDataFrameInput);
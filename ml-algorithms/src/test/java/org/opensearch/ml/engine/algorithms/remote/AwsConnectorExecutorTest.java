@@ -6,6 +6,8 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -16,6 +18,7 @@ import static org.opensearch.ml.common.connector.HttpConnector.SERVICE_NAME_FIEL
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
@@ -282,4 +285,68 @@ public class AwsConnectorExecutorTest {
         Mockito.verify(actionListener, times(1)).onFailure(exceptionCaptor.capture());
         assert exceptionCaptor.getValue() instanceof IllegalArgumentException;
     }
+
+    @Test
+    public void executePredict_TextDocsInferenceInput_withStepSize_exactChunksAndMaxInFlight() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .url("http://openai.com/mock")
+            .requestBody("{\"input\": ${parameters.input}}")
+            .preProcessFunction(MLPreProcessFunction.TEXT_DOCS_TO_OPENAI_EMBEDDING_INPUT)
+            .build();
+        Map<String, String> credential = ImmutableMap
+            .of(ACCESS_KEY_FIELD, encryptor.encrypt("test_key"), SECRET_KEY_FIELD, encryptor.encrypt("test_secret_key"));
+        Map<String, String> parameters = ImmutableMap
+            .of(
+                REGION_FIELD,
+                "us-west-2",
+                SERVICE_NAME_FIELD,
+                "sagemaker",
+                "input_docs_processed_step_size",
+                "2",
+                RemoteConnectorExecutor.MAX_IN_FLIGHT_CHUNKS_FIELD,
+                "2"
+            );
+        Connector connector = AwsConnector
+            .awsConnectorBuilder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .parameters(parameters)
+            .credential(credential)
+            .actions(Arrays.asList(predictAction))
+            .build();
+        connector.decrypt((c) -> encryptor.decrypt(c));
+        AwsConnectorExecutor executor = spy(new AwsConnectorExecutor(connector));
+        Settings settings = Settings.builder().build();
+        threadContext = new ThreadContext(settings);
+        when(executor.getClient()).thenReturn(client);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        doNothing().when(executor).invokeRemoteModel(any(), any(), any(), any(), any(), any());
+
+        MLInputDataset inputDataSet = TextDocsInputDataSet
+            .builder()
+            .docs(ImmutableList.of("input1", "input2", "input3", "input4", "input5"))
+            .build();
+        executor
+            .executePredict(MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(inputDataSet).build(), actionListener);
+
+        ArgumentCaptor<MLInput> inputCaptor = ArgumentCaptor.forClass(MLInput.class);
+        ArgumentCaptor<ExecutionContext> contextCaptor = ArgumentCaptor.forClass(ExecutionContext.class);
+        Mockito.verify(executor, times(2)).invokeRemoteModel(inputCaptor.capture(), any(), any(), any(), contextCaptor.capture(), any());
+        List<MLInput> inputs = inputCaptor.getAllValues();
+        assertEquals(List.of("input1", "input2"), ((TextDocsInputDataSet) inputs.get(0).getInputDataset()).getDocs());
+        assertEquals(List.of("input3", "input4"), ((TextDocsInputDataSet) inputs.get(1).getInputDataset()).getDocs());
+
+        // third chunk is sent once an in-flight one finishes
+        ExecutionContext firstContext = contextCaptor.getAllValues().get(0);
+        firstContext.countDown();
+        firstContext.getDispatcher().release();
+        Mockito.verify(executor, times(3)).invokeRemoteModel(inputCaptor.capture(), any(), any(), any(), any(), any());
+        MLInput lastInput = inputCaptor.getAllValues().get(inputCaptor.getAllValues().size() - 1);
+        assertEquals(List.of("input5"), ((TextDocsInputDataSet) lastInput.getInputDataset()).getDocs());
+    }
 }
@@ -419,4 +419,49 @@ public class MLSdkAsyncHttpResponseHandlerTest {
         System.out.println(captor.getValue().getMessage());
         assert captor.getValue().getMessage().contains("runtime error");
     }
+
+    @Test
+    public void test_OnStream_streamingFallback() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(ConnectorAction.ActionType.PREDICT)
+            .method("POST")
+            .postProcessFunction(MLPostProcessFunction.OPENAI_EMBEDDING)
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector openAIConnector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+        MLSdkAsyncHttpResponseHandler handler = new MLSdkAsyncHttpResponseHandler(
+            executionContext,
+            actionListener,
+            parameters,
+            tensorOutputs,
+            openAIConnector,
+            scriptService,
+            null
+        );
+        Publisher<ByteBuffer> stream = s -> {
+            try {
+                s.onSubscribe(mock(Subscription.class));
+                s.onNext(ByteBuffer.wrap("{\"data\": ".getBytes()));
+                s.onNext(ByteBuffer.wrap("[]}".getBytes()));
+                s.onComplete();
+            } catch (Throwable e) {
+                s.onError(e);
+            }
+        };
+        handler.onHeaders(sdkHttpResponse);
+        handler.onStream(stream);
+        // no embedding is found by the streaming parser, the whole response is processed with json path instead
+        ArgumentCaptor<List<ModelTensors>> captor = ArgumentCaptor.forClass(List.class);
+        verify(actionListener).onResponse(captor.capture());
+        assert captor.getValue().size() == 1;
+        assert captor.getValue().get(0).getMlModelTensors().isEmpty();
+    }
 }
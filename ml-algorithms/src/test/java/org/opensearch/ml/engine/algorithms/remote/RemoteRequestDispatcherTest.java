@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.Client;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RemoteRequestDispatcherTest {
+
+    @Mock
+    private Client client;
+
+    @Mock
+    private ThreadPool threadPool;
+
+    @Mock
+    private ActionListener<List<ModelTensors>> actionListener;
+
+    private RemoteRequestDispatcher dispatcher;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(client.threadPool()).thenReturn(threadPool);
+        ConnectorClientConfig config = ConnectorClientConfig.builder().maxRetryTimes(1).retryBackoffMillis(100).build();
+        dispatcher = new RemoteRequestDispatcher(config, client, actionListener);
+    }
+
+    @Test
+    public void start_BoundsInFlightRequests() {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        AtomicReference<Exception> exceptionHolder = new AtomicReference<>();
+        AtomicInteger sent = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            dispatcher.submit(new ExecutionContext(i, countDownLatch, exceptionHolder, dispatcher), sent::incrementAndGet);
+        }
+        dispatcher.start(2);
+        assertEquals(2, sent.get());
+
+        dispatcher.release();
+        assertEquals(3, sent.get());
+
+        dispatcher.release();
+        assertEquals(3, sent.get());
+    }
+
+    @Test
+    public void release_SkipsPendingRequestsAfterFailure() {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        AtomicReference<Exception> exceptionHolder = new AtomicReference<>();
+        AtomicInteger sent = new AtomicInteger();
+        ExecutionContext first = new ExecutionContext(0, countDownLatch, exceptionHolder, dispatcher);
+        dispatcher.submit(first, sent::incrementAndGet);
+        dispatcher.submit(new ExecutionContext(1, countDownLatch, exceptionHolder, dispatcher), sent::incrementAndGet);
+        dispatcher.submit(new ExecutionContext(2, countDownLatch, exceptionHolder, dispatcher), sent::incrementAndGet);
+        dispatcher.start(1);
+
+        IllegalArgumentException exception = new IllegalArgumentException("test error");
+        exceptionHolder.set(exception);
+        assertFalse(first.countDown());
+        dispatcher.release();
+
+        assertEquals(1, sent.get());
+        assertEquals(0, countDownLatch.getCount());
+        verify(actionListener, times(1)).onFailure(eq(exception));
+    }
+
+    @Test
+    public void retry_RetryableStatus() {
+        ExecutionContext executionContext = new ExecutionContext(0, new CountDownLatch(1), new AtomicReference<>(), dispatcher);
+        dispatcher.submit(executionContext, () -> {});
+
+        assertFalse(dispatcher.retry(executionContext, 400));
+        assertFalse(dispatcher.retry(executionContext, null));
+        assertTrue(dispatcher.retry(executionContext, 429));
+        verify(threadPool, times(1)).schedule(any(Runnable.class), any(), eq(ThreadPool.Names.GENERIC));
+
+        // max retry times reached
+        assertFalse(dispatcher.retry(executionContext, 503));
+        verify(threadPool, times(1)).schedule(any(Runnable.class), any(), any());
+    }
+
+    @Test
+    public void retry_Disabled() {
+        dispatcher = new RemoteRequestDispatcher(new ConnectorClientConfig(), client, actionListener);
+        ExecutionContext executionContext = new ExecutionContext(0, new CountDownLatch(1), new AtomicReference<>(), dispatcher);
+        dispatcher.submit(executionContext, () -> {});
+
+        assertFalse(dispatcher.retry(executionContext, 500));
+        verify(threadPool, never()).schedule(any(Runnable.class), any(), any());
+    }
+
+    @Test
+    public void backoffMillis() {
+        for (int attempt = 0; attempt < 4; attempt++) {
+            long backoff = dispatcher.backoffMillis(attempt);
+            long max = 100L << attempt;
+            assertTrue(backoff >= max / 2 && backoff <= max);
+        }
+    }
+}
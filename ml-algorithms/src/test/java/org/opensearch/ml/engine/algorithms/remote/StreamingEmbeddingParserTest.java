@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+public class StreamingEmbeddingParserTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void create_UnsupportedFunction() {
+        assertNull(StreamingEmbeddingParser.create(null));
+        assertNull(StreamingEmbeddingParser.create(MLPostProcessFunction.COHERE_RERANK));
+        assertNull(StreamingEmbeddingParser.create("custom painless script"));
+    }
+
+    @Test
+    public void parse_OpenAIEmbedding() throws IOException {
+        String response = "{\"object\":\"list\",\"data\":[{\"object\":\"embedding\",\"index\":0,\"embedding\":[0.1,-0.2,3]},"
+            + "{\"object\":\"embedding\",\"index\":1,\"embedding\":[0.4,0.5,0.6]}],"
+            + "\"model\":\"text-embedding-ada-002\",\"usage\":{\"prompt_tokens\":2,\"total_tokens\":2}}";
+        List<ModelTensor> tensors = parse(MLPostProcessFunction.OPENAI_EMBEDDING, response, response.length());
+        assertEquals(2, tensors.size());
+        assertEmbedding(tensors.get(0), 0.1f, -0.2f, 3f);
+        assertEmbedding(tensors.get(1), 0.4f, 0.5f, 0.6f);
+    }
+
+    @Test
+    public void parse_CohereEmbedding_SplitChunks() throws IOException {
+        String response = "{\"id\":\"1\",\"texts\":[\"a\",\"b\"],\"embeddings\":[[0.125,-0.25],[1.5,2.5]],\"meta\":{\"api_version\":{}}}";
+        // feed a few bytes at a time so numbers and field names are split across chunks
+        List<ModelTensor> tensors = parse(MLPostProcessFunction.COHERE_EMBEDDING, response, 3);
+        assertEquals(2, tensors.size());
+        assertEmbedding(tensors.get(0), 0.125f, -0.25f);
+        assertEmbedding(tensors.get(1), 1.5f, 2.5f);
+    }
+
+    @Test
+    public void parse_DefaultEmbedding() throws IOException {
+        List<ModelTensor> tensors = parse(MLPostProcessFunction.DEFAULT_EMBEDDING, "[[1,2,3],[4,5,6]]", 5);
+        assertEquals(2, tensors.size());
+        assertEmbedding(tensors.get(1), 4f, 5f, 6f);
+    }
+
+    @Test
+    public void parse_BedrockEmbedding() throws IOException {
+        String response = "{\"embedding\":[0.46484375,-0.017822266],\"inputTextTokenCount\":3}";
+        List<ModelTensor> tensors = parse(MLPostProcessFunction.BEDROCK_EMBEDDING, response, response.length());
+        assertEquals(1, tensors.size());
+        assertEmbedding(tensors.get(0), 0.46484375f, -0.017822266f);
+    }
+
+    @Test
+    public void parse_NonNumberEmbedding() throws IOException {
+        exceptionRule.expect(IOException.class);
+        exceptionRule.expectMessage("The embedding should be a non-empty List containing Float values.");
+        parse(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\":[\"a\"]}", 100);
+    }
+
+    @Test
+    public void parse_NoEmbedding() throws IOException {
+        exceptionRule.expect(IOException.class);
+        exceptionRule.expectMessage("No embedding found in response");
+        parse(MLPostProcessFunction.OPENAI_EMBEDDING, "{\"error\":{\"message\":\"test\"}}", 100);
+    }
+
+    @Test
+    public void parse_IncompleteResponse() throws IOException {
+        exceptionRule.expect(IOException.class);
+        parse(MLPostProcessFunction.DEFAULT_EMBEDDING, "[[1,2,3],[4,5", 100);
+    }
+
+    private List<ModelTensor> parse(String postProcessFunction, String response, int chunkSize) throws IOException {
+        StreamingEmbeddingParser parser = StreamingEmbeddingParser.create(postProcessFunction);
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            parser.feed(bytes, offset, Math.min(chunkSize, bytes.length - offset));
+        }
+        return parser.finish();
+    }
+
+    private void assertEmbedding(ModelTensor tensor, float... expected) {
+        assertEquals("sentence_embedding", tensor.getName());
+        assertEquals(MLResultDataType.FLOAT32, tensor.getDataType());
+        assertArrayEquals(new long[] { expected.length }, tensor.getShape());
+        float[] actual = new float[tensor.getData().length];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = tensor.getData()[i].floatValue();
+        }
+        assertArrayEquals(expected, actual, 0f);
+    }
+}
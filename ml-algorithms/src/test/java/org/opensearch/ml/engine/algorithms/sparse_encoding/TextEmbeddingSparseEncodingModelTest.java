@@ -31,6 +31,7 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -170,6 +171,32 @@ public class TextEmbeddingSparseEncodingModelTest {
         textEmbeddingSparseEncodingModel.close();
     }
 
+    @Test
+    public void initModel_predict_TorchScript_SparseEncoding_ModelBatchSize() {
+        TextEmbeddingModelConfig modelConfig = TextEmbeddingModelConfig
+            .builder()
+            .modelType("bert")
+            .embeddingDimension(dimension)
+            .frameworkType(TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS)
+            .batchSize(2)
+            .build();
+        textEmbeddingSparseEncodingModel.initModel(model.toBuilder().modelConfig(modelConfig).build(), params, encryptor);
+        TextDocsInputDataSet textDocsInputDataSet = inputDataSet
+            .toBuilder()
+            .docs(Arrays.asList("today is sunny", "That is a happy dog", "it's summer"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.SPARSE_ENCODING).inputDataset(textDocsInputDataSet).build();
+        ModelTensorOutput output = (ModelTensorOutput) textEmbeddingSparseEncodingModel.predict(mlInput);
+        // the sparse encoding translator predicts one document at a time whatever the batch size of the model
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        assertEquals(3, mlModelOutputs.size());
+        for (ModelTensors tensors : mlModelOutputs) {
+            assertEquals(1, tensors.getMlModelTensors().size());
+            assertEquals("output", tensors.getMlModelTensors().get(0).getName());
+        }
+        textEmbeddingSparseEncodingModel.close();
+    }
+
     @Test
     public void initModel_predict_TorchScript_SparseEncoding_ResultFilter() {
         textEmbeddingSparseEncodingModel.initModel(model, params, encryptor);
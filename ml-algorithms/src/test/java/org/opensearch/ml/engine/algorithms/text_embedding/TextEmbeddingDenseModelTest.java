@@ -209,6 +209,87 @@ public class TextEmbeddingDenseModelTest {
         initModel_predict_HuggingfaceModel(modelFile, modelType, poolingMode, normalize, modelMaxLength, modelFormat, 768);
     }
 
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_BatchPredict() {
+        TextEmbeddingModelConfig batchModelConfig = modelConfig.toBuilder().batchSize(2).build();
+        MLModel batchModel = model.toBuilder().modelConfig(batchModelConfig).build();
+        textEmbeddingDenseModel.initModel(batchModel, params, encryptor);
+        TextDocsInputDataSet textDocsInputDataSet = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("today is sunny", "That is a happy dog", "it's summer"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(textDocsInputDataSet).build();
+        ModelTensorOutput output = (ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput);
+        List<ModelTensors> mlModelOutputs = output.getMlModelOutputs();
+        assertEquals(3, mlModelOutputs.size());
+        for (int i = 0; i < mlModelOutputs.size(); i++) {
+            ModelTensors tensors = mlModelOutputs.get(i);
+            int position = findSentenceEmbeddingPosition(tensors);
+            List<ModelTensor> mlModelTensors = tensors.getMlModelTensors();
+            assertEquals(4, mlModelTensors.size());
+            assertEquals(dimension, mlModelTensors.get(position).getData().length);
+        }
+        textEmbeddingDenseModel.close();
+    }
+
+    @Test
+    public void initModel_predict_TorchScript_SentenceTransformer_BatchPredictSameAsSinglePredict() {
+        TextDocsInputDataSet textDocsInputDataSet = TextDocsInputDataSet
+            .builder()
+            .docs(Arrays.asList("today is sunny", "That is a happy dog", "it's summer"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(textDocsInputDataSet).build();
+        textEmbeddingDenseModel.initModel(model, params, encryptor);
+        List<ModelTensors> singleOutputs = ((ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput)).getMlModelOutputs();
+        textEmbeddingDenseModel.close();
+
+        TextEmbeddingDenseModel batchDenseModel = new TextEmbeddingDenseModel();
+        MLModel batchModel = model.toBuilder().modelConfig(modelConfig.toBuilder().batchSize(2).build()).build();
+        batchDenseModel.initModel(batchModel, params, encryptor);
+        List<ModelTensors> batchOutputs = ((ModelTensorOutput) batchDenseModel.predict(mlInput)).getMlModelOutputs();
+        batchDenseModel.close();
+
+        assertEquals(singleOutputs.size(), batchOutputs.size());
+        for (int i = 0; i < singleOutputs.size(); i++) {
+            ModelTensors singleTensors = singleOutputs.get(i);
+            ModelTensors batchTensors = batchOutputs.get(i);
+            Number[] singleEmbedding = singleTensors.getMlModelTensors().get(findSentenceEmbeddingPosition(singleTensors)).getData();
+            Number[] batchEmbedding = batchTensors.getMlModelTensors().get(findSentenceEmbeddingPosition(batchTensors)).getData();
+            assertEquals(singleEmbedding.length, batchEmbedding.length);
+            for (int j = 0; j < singleEmbedding.length; j++) {
+                assertEquals(singleEmbedding[j].floatValue(), batchEmbedding[j].floatValue(), 1e-4f);
+            }
+        }
+    }
+
+    @Test
+    public void initModel_predict_TorchScript_Huggingface_BatchPredict() throws URISyntaxException {
+        initModel_predict_HuggingfaceModel(
+            "all-MiniLM-L6-v2_torchscript_huggingface.zip",
+            "bert",
+            TextEmbeddingModelConfig.PoolingMode.MEAN,
+            true,
+            512,
+            MLModelFormat.TORCH_SCRIPT,
+            dimension,
+            2
+        );
+    }
+
+    @Test
+    public void initModel_predict_ONNX_bert_BatchPredict() throws URISyntaxException {
+        initModel_predict_HuggingfaceModel(
+            "all-MiniLM-L6-v2_onnx.zip",
+            "bert",
+            TextEmbeddingModelConfig.PoolingMode.MEAN,
+            true,
+            512,
+            MLModelFormat.ONNX,
+            dimension,
+            2
+        );
+    }
+
     private void initModel_predict_HuggingfaceModel(
         String modelFile,
         String modelType,
@@ -217,6 +298,19 @@ public class TextEmbeddingDenseModelTest {
         Integer modelMaxLength,
         MLModelFormat modelFormat,
         int dimension
+    ) throws URISyntaxException {
+        initModel_predict_HuggingfaceModel(modelFile, modelType, poolingMode, normalizeResult, modelMaxLength, modelFormat, dimension, null);
+    }
+
+    private void initModel_predict_HuggingfaceModel(
+        String modelFile,
+        String modelType,
+        TextEmbeddingModelConfig.PoolingMode poolingMode,
+        boolean normalizeResult,
+        Integer modelMaxLength,
+        MLModelFormat modelFormat,
+        int dimension,
+        Integer batchSize
     ) throws URISyntaxException {
         Map<String, Object> params = new HashMap<>();
         params.put(MODEL_HELPER, modelHelper);
@@ -229,6 +323,7 @@ public class TextEmbeddingDenseModelTest {
             .poolingMode(poolingMode)
             .normalizeResult(normalizeResult)
             .modelMaxLength(modelMaxLength)
+            .batchSize(batchSize)
             .build();
         MLModel mlModel = model.toBuilder().modelFormat(modelFormat).modelConfig(onnxModelConfig).build();
         textEmbeddingDenseModel.initModel(mlModel, params, encryptor);
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.time.Duration;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+public class MLHttpClientManagerTests {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private final MLHttpClientManager manager = new MLHttpClientManager();
+
+    @Test
+    public void acquire_SameProfileSharesClient() {
+        SdkAsyncHttpClient client1 = manager.acquire(Duration.ofSeconds(10), Duration.ofSeconds(10), 10);
+        SdkAsyncHttpClient client2 = manager.acquire(Duration.ofSeconds(10), Duration.ofSeconds(10), 10);
+        assertNotNull(client1);
+        assertNotNull(client2);
+        assertEquals(1, manager.getClientCount());
+
+        SdkAsyncHttpClient client3 = manager.acquire(Duration.ofSeconds(10), Duration.ofSeconds(20), 10);
+        assertEquals(2, manager.getClientCount());
+
+        client1.close();
+        // closing a handle twice releases it only once
+        client1.close();
+        assertEquals(2, manager.getClientCount());
+        client2.close();
+        assertEquals(1, manager.getClientCount());
+        client3.close();
+        assertEquals(0, manager.getClientCount());
+    }
+
+    @Test
+    public void stats_NoInFlightRequest() {
+        SdkAsyncHttpClient client = manager.acquire(Duration.ofSeconds(10), Duration.ofSeconds(10), 10);
+        assertEquals(0, manager.getLeasedConnectionCount());
+        assertEquals(0, manager.getPendingAcquireCount());
+        assertEquals(0, manager.getPoolSaturation());
+        client.close();
+    }
+
+    @Test
+    public void execute_ClosedHandle() {
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("Http client is already closed");
+        SdkAsyncHttpClient client = manager.acquire(Duration.ofSeconds(10), Duration.ofSeconds(10), 10);
+        client.close();
+        client.execute(null);
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.indices;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.client.Client;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+
+public class MLInputDatasetHandlerTest {
+
+    @Mock
+    Client client;
+
+    @Mock
+    ActionListener<MLInputDataset> listener;
+
+    MLInputDatasetHandler handler;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        handler = new MLInputDatasetHandler(client, 2);
+    }
+
+    @Test
+    public void parseSearchQueryInput_ReadAllPages() {
+        mockSearchResponses(
+            searchResponse(sourceHit(1), sourceHit(2)),
+            searchResponse(sourceHit(3), sourceHit(4)),
+            searchResponse(sourceHit(5))
+        );
+
+        handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder()), listener);
+
+        ArgumentCaptor<SearchRequest> searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(searchRequestCaptor.capture(), any());
+        SearchRequest searchRequest = searchRequestCaptor.getValue();
+        assertEquals(2, searchRequest.source().size());
+        assertEquals("_doc", ((FieldSortBuilder) searchRequest.source().sorts().get(0)).getFieldName());
+        verify(client, times(2)).searchScroll(any(SearchScrollRequest.class), any());
+        verify(client).clearScroll(any(ClearScrollRequest.class), any());
+
+        DataFrame dataFrame = captureDataFrame();
+        assertEquals(5, dataFrame.size());
+        assertEquals(5, dataFrame.getRow(4).getValue(0).intValue());
+    }
+
+    @Test
+    public void parseSearchQueryInput_FromAndSize() {
+        mockSearchResponses(searchResponse(sourceHit(1), sourceHit(2)), searchResponse(sourceHit(3), sourceHit(4)));
+
+        handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder().from(1).size(2)), listener);
+
+        verify(client).searchScroll(any(SearchScrollRequest.class), any());
+        DataFrame dataFrame = captureDataFrame();
+        assertEquals(2, dataFrame.size());
+        assertEquals(2, dataFrame.getRow(0).getValue(0).intValue());
+        assertEquals(3, dataFrame.getRow(1).getValue(0).intValue());
+    }
+
+    @Test
+    public void parseSearchQueryInput_DocValueFields() {
+        SearchHit hit = new SearchHit(1, "1", Map.of("k1", new DocumentField("k1", List.of(10L))), Collections.emptyMap());
+        mockSearchResponses(searchResponse(hit));
+
+        handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder().docValueField("k1")), listener);
+
+        ArgumentCaptor<SearchRequest> searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(searchRequestCaptor.capture(), any());
+        assertFalse(searchRequestCaptor.getValue().source().fetchSource().fetchSource());
+        verify(client, never()).searchScroll(any(SearchScrollRequest.class), any());
+
+        DataFrame dataFrame = captureDataFrame();
+        assertEquals(1, dataFrame.size());
+        assertEquals(10L, dataFrame.getRow(0).getValue(0).longValue());
+    }
+
+    @Test
+    public void parseSearchQueryInput_NoDocumentFound() {
+        mockSearchResponses(searchResponse());
+
+        handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder()), listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("No document found", argumentCaptor.getValue().getMessage());
+        verify(client).clearScroll(any(ClearScrollRequest.class), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_ScrollFailure() {
+        mockSearchResponses(searchResponse(sourceHit(1), sourceHit(2)));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new RuntimeException("scroll failed"));
+            return null;
+        }).when(client).searchScroll(any(SearchScrollRequest.class), any());
+
+        handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder()), listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("scroll failed", argumentCaptor.getValue().getMessage());
+        verify(client).clearScroll(any(ClearScrollRequest.class), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_ZeroSize() {
+        try {
+            handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder().size(0)), listener);
+            fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Size of search query input should be a positive number", e.getMessage());
+        }
+        verify(client, never()).search(any(SearchRequest.class), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_SizeExceedsMaxDocs() {
+        handler = new MLInputDatasetHandler(client, 2, 3, () -> false);
+        try {
+            handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder().size(4)), listener);
+            fail("expected MLLimitExceededException");
+        } catch (MLLimitExceededException e) {
+            assertEquals("Size of search query input 4 exceeds the limit of 3 documents", e.getMessage());
+        }
+        verify(client, never()).search(any(SearchRequest.class), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_MoreDocsThanMaxDocs() {
+        handler = new MLInputDatasetHandler(client, 2, 3, () -> false);
+        mockSearchResponses(searchResponse(sourceHit(1), sourceHit(2)), searchResponse(sourceHit(3), sourceHit(4)));
+
+        handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder()), listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLLimitExceededException);
+        assertEquals(
+            "Search query input matches more than the limit of 3 documents, set a smaller size",
+            argumentCaptor.getValue().getMessage()
+        );
+        verify(client).clearScroll(any(ClearScrollRequest.class), any());
+    }
+
+    @Test
+    public void parseSearchQueryInput_MaxDocsMatched() {
+        handler = new MLInputDatasetHandler(client, 2, 4, () -> false);
+        mockSearchResponses(searchResponse(sourceHit(1), sourceHit(2)), searchResponse(sourceHit(3), sourceHit(4)), searchResponse());
+
+        handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder()), listener);
+
+        DataFrame dataFrame = captureDataFrame();
+        assertEquals(4, dataFrame.size());
+    }
+
+    @Test
+    public void parseSearchQueryInput_MemoryBreakerOpen() {
+        boolean[] breakerOpen = new boolean[1];
+        handler = new MLInputDatasetHandler(client, 2, 10, () -> breakerOpen[0]);
+        mockSearchResponses(searchResponse(sourceHit(1), sourceHit(2)));
+        doAnswer(invocation -> {
+            breakerOpen[0] = true;
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse(sourceHit(3), sourceHit(4)));
+            return null;
+        }).when(client).searchScroll(any(SearchScrollRequest.class), any());
+
+        handler.parseSearchQueryInput(searchQueryInput(new SearchSourceBuilder()), listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLLimitExceededException);
+        assertEquals(
+            "Memory Circuit Breaker is open, stopped reading search query input after 2 documents",
+            argumentCaptor.getValue().getMessage()
+        );
+        verify(client).clearScroll(any(ClearScrollRequest.class), any());
+    }
+
+    private void mockSearchResponses(SearchResponse first, SearchResponse... next) {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(first);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+        int[] page = new int[1];
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(next[page[0]++]);
+            return null;
+        }).when(client).searchScroll(any(SearchScrollRequest.class), any());
+    }
+
+    private DataFrame captureDataFrame() {
+        ArgumentCaptor<MLInputDataset> argumentCaptor = ArgumentCaptor.forClass(MLInputDataset.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof DataFrameInputDataset);
+        return ((DataFrameInputDataset) argumentCaptor.getValue()).getDataFrame();
+    }
+
+    private SearchQueryInputDataset searchQueryInput(SearchSourceBuilder searchSourceBuilder) {
+        return SearchQueryInputDataset.builder().indices(Arrays.asList("index1")).searchSourceBuilder(searchSourceBuilder).build();
+    }
+
+    private SearchHit sourceHit(int value) {
+        SearchHit hit = new SearchHit(value);
+        hit.sourceRef(new BytesArray("{\"k1\":" + value + "}"));
+        return hit;
+    }
+
+    private SearchResponse searchResponse(SearchHit... hits) {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        when(searchResponse.getScrollId()).thenReturn("scroll1");
+        return searchResponse;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketIndex_ValueInBucket() {
+        long[] values = { 0, 1, 15, 16, 17, 31, 32, 33, 100, 1000, 123456, 1L << 30, LatencyHistogram.MAX_VALUE };
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index >= 0 && index < LatencyHistogram.BUCKET_COUNT);
+            long lowerBound = LatencyHistogram.bucketLowerBound(index);
+            assertTrue(value >= lowerBound);
+            assertTrue(value < lowerBound + LatencyHistogram.bucketWidth(index));
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(LatencyHistogram.MAX_VALUE));
+    }
+
+    @Test
+    public void snapshot_Stats() {
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(1000, snapshot.getMin());
+        assertEquals(100000, snapshot.getMax());
+        assertEquals(50500, snapshot.getAverage(), 1e-5);
+        assertEquals(50000, snapshot.getPercentile(50), 50000 / 16.0);
+        assertEquals(90000, snapshot.getPercentile(90), 90000 / 16.0);
+        assertEquals(99000, snapshot.getPercentile(99), 99000 / 16.0);
+        assertEquals(100000, snapshot.getPercentile(100), 1e-5);
+    }
+
+    @Test
+    public void record_KeepsWindow() {
+        LatencyHistogram histogram = new LatencyHistogram(10);
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(10, snapshot.getCount());
+        assertEquals(11, snapshot.getMin());
+        assertEquals(20, snapshot.getMax());
+    }
+
+    @Test
+    public void setWindowSize_Zero() {
+        LatencyHistogram histogram = new LatencyHistogram(10);
+        histogram.record(1);
+        histogram.setWindowSize(0);
+        assertEquals(0, histogram.snapshot().getCount());
+        histogram.record(1);
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getPercentile(50), 1e-5);
+    }
+
+    @Test
+    public void record_Concurrent() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram(100000);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 1; i <= 1000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(4000, snapshot.getCount());
+        assertEquals(4 * 500500, snapshot.getSum());
+    }
+
+    @Test
+    public void phaseLatencies_Record() {
+        PredictPhaseLatencies phaseLatencies = new PredictPhaseLatencies(10);
+        phaseLatencies.record(PredictPhaseLatencies.Phase.FORWARD, 2_000_000);
+        LatencyHistogram histogram = phaseLatencies.getHistogram(PredictPhaseLatencies.Phase.FORWARD);
+        assertNotNull(histogram);
+        assertEquals(2000, histogram.snapshot().getMax());
+        assertEquals(0, phaseLatencies.getHistogram(PredictPhaseLatencies.Phase.QUEUE_WAIT).snapshot().getCount());
+        phaseLatencies.clear();
+        assertEquals(0, histogram.snapshot().getCount());
+    }
+}
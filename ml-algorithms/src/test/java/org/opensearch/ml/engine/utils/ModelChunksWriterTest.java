@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelChunksWriterTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void write_OutOfOrderChunks() throws IOException {
+        File file = new File(temporaryFolder.getRoot(), "deploy/model.zip");
+        try (ModelChunksWriter writer = new ModelChunksWriter(file, 3, 12L)) {
+            assertEquals(0, writer.write(2, bytes("3333")));
+            assertEquals(0, writer.write(1, bytes("2222")));
+            assertFalse(writer.isComplete());
+            assertNull(writer.getHash());
+            assertEquals(3, writer.write(0, bytes("1111")));
+            assertTrue(writer.isComplete());
+        }
+        assertArrayEquals(bytes("111122223333"), Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    public void write_SameHashAsFile() throws IOException {
+        File file = new File(temporaryFolder.getRoot(), "model.zip");
+        String hash;
+        // a shorter last chunk than the expected size
+        try (ModelChunksWriter writer = new ModelChunksWriter(file, 2, 100L)) {
+            assertEquals(1, writer.write(0, bytes("test chunk1")));
+            assertEquals(1, writer.write(1, bytes("test")));
+            hash = writer.getHash();
+        }
+        assertEquals(15, file.length());
+        assertEquals(FileUtils.calculateFileHash(file), hash);
+    }
+
+    @Test
+    public void write_ReplaceExistingFile() throws IOException {
+        File file = temporaryFolder.newFile("model.zip");
+        Files.write(file.toPath(), bytes("old model content"));
+        try (ModelChunksWriter writer = new ModelChunksWriter(file, 1, null)) {
+            writer.write(0, bytes("new"));
+        }
+        assertArrayEquals(bytes("new"), Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    public void write_DuplicateChunk() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Unexpected model chunk 0");
+        File file = new File(temporaryFolder.getRoot(), "model.zip");
+        try (ModelChunksWriter writer = new ModelChunksWriter(file, 2, null)) {
+            writer.write(0, bytes("1111"));
+            writer.write(0, bytes("1111"));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -23,6 +23,8 @@ import org.opensearch.ml.engine.contants.TribuoOutputType;
 import org.tribuo.Example;
 import org.tribuo.Feature;
 import org.tribuo.MutableDataset;
+import org.tribuo.classification.Label;
+import org.tribuo.classification.LabelFactory;
 import org.tribuo.clustering.ClusterID;
 import org.tribuo.clustering.ClusteringFactory;
 import org.tribuo.impl.ArrayExample;
@@ -91,6 +93,45 @@ public class TribuoUtilTest {
         }
     }
 
+    @Test
+    public void generateDatasetWithLabelTarget() {
+        ColumnMeta[] columnMetas = new ColumnMeta[] { new ColumnMeta("f1", ColumnType.DOUBLE), new ColumnMeta("label", ColumnType.STRING) };
+        DataFrame labeledDataFrame = DataFrameBuilder.emptyDataFrame(columnMetas);
+        for (int i = 0; i < rawData.length; ++i) {
+            labeledDataFrame.appendRow(new Object[] { rawData[i][0], "label" + i });
+        }
+        MutableDataset<Label> dataset = TribuoUtil
+            .generateDatasetWithTarget(labeledDataFrame, new LabelFactory(), "test", TribuoOutputType.LABEL, "label");
+        List<Example<Label>> examples = dataset.getData();
+        Assert.assertEquals(rawData.length, examples.size());
+        for (int i = 0; i < rawData.length; ++i) {
+            Example<Label> example = examples.get(i);
+            Assert.assertEquals("label" + i, example.getOutput().getLabel());
+            Assert.assertEquals(1, example.size());
+            Feature feature = example.iterator().next();
+            Assert.assertEquals("f1", feature.getName());
+            Assert.assertEquals(rawData[i][0], feature.getValue(), 0.01);
+        }
+    }
+
+    @Test
+    public void dataFrameDataSource_SkipTarget() {
+        DataFrameDataSource<Regressor> dataSource = new DataFrameDataSource<>(
+            dataFrame,
+            new RegressionFactory(),
+            "test",
+            row -> new Regressor("f1", dataFrame.getDoubleValue(row, 0)),
+            0
+        );
+        List<Example<Regressor>> examples = new MutableDataset<>(dataSource).getData();
+        Assert.assertEquals(rawData.length, examples.size());
+        for (int i = 0; i < rawData.length; ++i) {
+            Example<Regressor> example = examples.get(i);
+            Assert.assertEquals(rawData[i][0], example.getOutput().getValues()[0], 0.01);
+            Assert.assertEquals(rawData[i][1], example.iterator().next().getValue(), 0.01);
+        }
+    }
+
     @Test
     public void generateDatasetWithEmptyTarget() {
         exceptionRule.expect(RuntimeException.class);
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.batch;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceAction;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceRequest;
+import org.opensearch.ml.task.MLBatchInferenceTaskRunner;
+import org.opensearch.ml.task.MLTaskRunner;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class TransportBatchInferenceAction extends HandledTransportAction<ActionRequest, MLTaskResponse> {
+    MLTaskRunner<MLBatchInferenceRequest, MLTaskResponse> mlBatchInferenceTaskRunner;
+    TransportService transportService;
+
+    @Inject
+    public TransportBatchInferenceAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        MLBatchInferenceTaskRunner mlBatchInferenceTaskRunner
+    ) {
+        super(MLBatchInferenceAction.NAME, transportService, actionFilters, MLBatchInferenceRequest::new);
+        this.mlBatchInferenceTaskRunner = mlBatchInferenceTaskRunner;
+        this.transportService = transportService;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLTaskResponse> listener) {
+        MLBatchInferenceRequest batchInferenceRequest = MLBatchInferenceRequest.fromActionRequest(request);
+        // the job only coordinates search, predict and bulk requests, so dispatch it like a remote model inference
+        mlBatchInferenceTaskRunner.run(FunctionName.REMOTE, batchInferenceRequest, transportService, listener);
+    }
+}
@@ -18,6 +18,7 @@ import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -248,6 +249,21 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
             wrappedListener.onFailure(new IllegalArgumentException("no eligible node found"));
             return;
         }
+        // a FIT_RCF model is updated by every prediction, so copies of it on several nodes would diverge
+        boolean singleNodeModel = mlModel.getAlgorithm() == FunctionName.FIT_RCF;
+        if (singleNodeModel && eligibleNodeIds.size() > 1) {
+            if (!deployToAllNodes) {
+                wrappedListener.onFailure(new IllegalArgumentException(mlModel.getAlgorithm() + " model can only be deployed to one node"));
+                return;
+            }
+            DiscoveryNode workerNode = pickSingleWorkerNode(modelId, mlModel.getAlgorithm(), eligibleNodes);
+            eligibleNodes.clear();
+            eligibleNodes.add(workerNode);
+            eligibleNodeIds.clear();
+            eligibleNodeIds.add(workerNode.getId());
+        }
+        // a model deployed to one node isn't deployed to the nodes joining the cluster
+        boolean deployToAllEligibleNodes = deployToAllNodes && !singleNodeModel;
 
         log.info("Will deploy model on these nodes: {}", String.join(",", eligibleNodeIds));
         String localNodeId = clusterService.localNode().getId();
@@ -272,7 +288,7 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
             mlTask.setTaskId(taskId);
             if (algorithm == FunctionName.REMOTE) {
                 mlTaskManager.add(mlTask, eligibleNodeIds);
-                deployRemoteModel(mlModel, mlTask, localNodeId, eligibleNodes, deployToAllNodes, listener);
+                deployRemoteModel(mlModel, mlTask, localNodeId, eligibleNodes, deployToAllEligibleNodes, listener);
                 return;
             }
             try {
@@ -288,7 +304,7 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
                             localNodeId,
                             mlTask,
                             eligibleNodes,
-                            deployToAllNodes
+                            deployToAllEligibleNodes
                         )
                     );
             } catch (Exception ex) {
@@ -313,6 +329,20 @@ public class TransportDeployModelAction extends HandledTransportAction<ActionReq
         }));
     }
 
+    /**
+     * Pick the worker node of a model which can only be deployed to one node: a node the model is already deployed
+     * to, otherwise the eligible node with the smallest node id.
+     */
+    private DiscoveryNode pickSingleWorkerNode(String modelId, FunctionName functionName, List<DiscoveryNode> eligibleNodes) {
+        String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName);
+        Set<String> workerNodeIds = workerNodes == null ? Set.of() : new HashSet<>(Arrays.asList(workerNodes));
+        return eligibleNodes
+            .stream()
+            .filter(node -> workerNodeIds.contains(node.getId()))
+            .findFirst()
+            .orElseGet(() -> eligibleNodes.stream().min(Comparator.comparing(DiscoveryNode::getId)).get());
+    }
+
     @VisibleForTesting
     void deployRemoteModel(
         MLModel mlModel,
@@ -20,6 +20,7 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
@@ -41,6 +42,8 @@ import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 
+import com.networknt.schema.JsonSchema;
+
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
@@ -236,6 +239,16 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
     }
 
     public void validateInputSchema(String modelId, MLInput mlInput) {
+        JsonSchema inputSchema = modelCacheHelper.getModelInputSchema(modelId);
+        if (inputSchema != null) {
+            try {
+                BytesReference input = BytesReference.bytes(mlInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+                MLNodeUtils.validateSchema(inputSchema, MLNodeUtils.toJsonNode(input));
+            } catch (Exception e) {
+                throw new OpenSearchStatusException("Error validating input schema: " + e.getMessage(), RestStatus.BAD_REQUEST);
+            }
+            return;
+        }
         if (modelCacheHelper.getModelInterface(modelId) != null && modelCacheHelper.getModelInterface(modelId).get("input") != null) {
             String inputSchemaString = modelCacheHelper.getModelInterface(modelId).get("input");
             try {
@@ -5,6 +5,9 @@
 
 package org.opensearch.ml.action.stats;
 
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
+
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
@@ -34,6 +37,7 @@ import org.opensearch.ml.stats.MLStatsInput;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -126,6 +130,9 @@ public class MLStatsNodesTransportAction extends
                 long heapUsedPercent = jvmService.stats().getMem().getHeapUsedPercent();
                 stats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, heapUsedPercent);
             }
+            if (input.retrieveStat(MLNodeLevelStat.ML_PREDICT_QUEUE_SIZE)) {
+                stats.put(MLNodeLevelStat.ML_PREDICT_QUEUE_SIZE, getPredictQueueSize());
+            }
             mlStats.getNodeStats().forEach((statName, stat) -> {
                 if (input.retrieveStat(statName)) {
                     stats.put((MLNodeLevelStat) statName, stat.getValue());
@@ -135,6 +142,16 @@ public class MLStatsNodesTransportAction extends
         return stats;
     }
 
+    private long getPredictQueueSize() {
+        long queueSize = 0;
+        for (ThreadPoolStats.Stats stats : threadPool.stats()) {
+            if (PREDICT_THREAD_POOL.equals(stats.getName()) || REMOTE_PREDICT_THREAD_POOL.equals(stats.getName())) {
+                queueSize += stats.getQueue();
+            }
+        }
+        return queueSize;
+    }
+
     private Map<FunctionName, MLAlgoStats> getAlgorithmStats(MLStatsInput input) {
         Map<FunctionName, MLAlgoStats> stats = new HashMap<>();
         if (input.includeAlgoStats()) {
@@ -171,7 +188,7 @@ public class MLStatsNodesTransportAction extends
                         request.getMlStatsInput()
                     );
                     boolean isHidden = hiddenModels.contains(modelId);
-                    stats.put(modelId, new MLModelStats(actionStats, isHidden));
+                    stats.put(modelId, new MLModelStats(actionStats, isHidden, mlModelManager.getModelLatencyStats(modelId)));
                 }
             }
         }
@@ -9,6 +9,7 @@ import static org.opensearch.ml.common.CommonValue.CREATE_TIME_FIELD;
 import static org.opensearch.ml.common.CommonValue.MASTER_KEY;
 import static org.opensearch.ml.common.CommonValue.ML_CONFIG_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -33,10 +34,17 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceAction;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
 import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
@@ -45,6 +53,7 @@ import org.opensearch.ml.common.transport.undeploy.MLUndeployModelAction;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelNodesRequest;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
+import org.opensearch.ml.task.MLBatchInferenceTaskRunner;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
@@ -57,6 +66,8 @@ import lombok.extern.log4j.Log4j2;
 public class MLSyncUpCron implements Runnable {
 
     public static final int DEPLOY_MODEL_TASK_GRACE_TIME_IN_MS = 20_000;
+    // max number of batch inference tasks resumed in one run
+    public static final int MAX_RESUMED_BATCH_INFERENCE_TASKS = 10;
     private Client client;
     private ClusterService clusterService;
     private DiscoveryNodeHelper nodeHelper;
@@ -90,6 +101,7 @@ public class MLSyncUpCron implements Runnable {
             return;
         }
         log.debug("ML sync job starts");
+        resumeBatchInferenceTasks();
         DiscoveryNode[] allNodes = nodeHelper.getAllNodes();
         MLSyncUpInput gatherInfoInput = MLSyncUpInput.builder().getDeployedModels(true).build();
         MLSyncUpNodesRequest gatherInfoRequest = new MLSyncUpNodesRequest(allNodes, gatherInfoInput);
@@ -231,6 +243,43 @@ public class MLSyncUpCron implements Runnable {
         }, e -> { log.debug("Failed to init ML config index", e); }));
     }
 
+    /**
+     * Resume batch inference tasks which are not updated within the task lease, as the node running the job
+     * restarted or left the cluster. The job continues from the last checkpoint of the task on a dispatched node, as
+     * the user who started the job.
+     */
+    @VisibleForTesting
+    void resumeBatchInferenceTasks() {
+        if (!clusterService.state().metadata().indices().containsKey(ML_TASK_INDEX)) {
+            return;
+        }
+        long leaseExpireTime = Instant.now().toEpochMilli() - MLBatchInferenceTaskRunner.TASK_LEASE.millis();
+        BoolQueryBuilder queryBuilder = new BoolQueryBuilder();
+        queryBuilder.filter(new TermQueryBuilder(MLTask.TASK_TYPE_FIELD, MLTaskType.BATCH_INFERENCE.name()));
+        queryBuilder.filter(new TermsQueryBuilder(MLTask.STATE_FIELD, MLTaskState.CREATED.name(), MLTaskState.RUNNING.name()));
+        queryBuilder.filter(new RangeQueryBuilder(MLTask.LAST_UPDATE_TIME_FIELD).lt(leaseExpireTime));
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(queryBuilder);
+        sourceBuilder.size(MAX_RESUMED_BATCH_INFERENCE_TASKS);
+        sourceBuilder.fetchSource(false);
+        SearchRequest searchRequest = new SearchRequest(ML_TASK_INDEX);
+        searchRequest.source(sourceBuilder);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.search(searchRequest, ActionListener.runBefore(ActionListener.wrap(res -> {
+                for (SearchHit hit : res.getHits().getHits()) {
+                    String taskId = hit.getId();
+                    log.info("Resume batch inference task {} which is not updated in {}", taskId, MLBatchInferenceTaskRunner.TASK_LEASE);
+                    MLBatchInferenceRequest request = MLBatchInferenceRequest.builder().taskId(taskId).dispatchTask(true).build();
+                    client.execute(MLBatchInferenceAction.INSTANCE, request, ActionListener.wrap(r -> {
+                        log.debug("Resumed batch inference task {}", taskId);
+                    }, e -> { log.error("Failed to resume batch inference task " + taskId, e); }));
+                }
+            }, e -> { log.error("Failed to search batch inference tasks to resume", e); }), context::restore));
+        } catch (Exception e) {
+            log.error("Failed to resume batch inference tasks", e);
+        }
+    }
+
     @VisibleForTesting
     void refreshModelState(Map<String, Set<String>> modelWorkerNodes, Map<String, Set<String>> deployingModels) {
         if (!updateModelStateSemaphore.tryAcquire()) {
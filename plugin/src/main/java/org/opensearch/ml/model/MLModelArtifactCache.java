@@ -0,0 +1,360 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level cache of model zip files, keyed by the model content hash, so that a model whose content
+ * is already on the node is deployed without reading its chunks from the model index again. This covers
+ * node restarts, auto redeploy and undeploy/deploy cycles. A cached artifact is only deployed for the
+ * models whose own chunks were verified to its content hash, so a model registered with the content hash
+ * of another model can't deploy that content without reading it. Models with the same content share one
+ * artifact once each of them verified its chunks. The cache is bounded by a disk budget and evicts the
+ * least recently used artifacts first. Artifacts are also evicted when the disk circuit breaker is open,
+ * so the cache never blocks a deployment. An artifact in use by a deployment is never evicted.
+ */
+@Log4j2
+public class MLModelArtifactCache {
+    // model content hash is the hex string of a sha256 digest
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String ARTIFACT_SUFFIX = ".zip";
+    private static final String MODEL_IDS_SUFFIX = ".models";
+
+    private final Path cacheRootPath;
+    private final long maxSizeInBytes;
+    private final MLCircuitBreakerService mlCircuitBreakerService;
+    // guarded by this, in least recently used first order
+    private final Map<String, Artifact> artifacts = new LinkedHashMap<>(16, 0.75f, true);
+    // guarded by this
+    private long sizeInBytes;
+
+    /**
+     * @param cacheRootPath cache directory
+     * @param maxSizeInBytes disk budget of the cache, 0 disables the cache
+     * @param mlCircuitBreakerService circuit breaker service
+     */
+    public MLModelArtifactCache(Path cacheRootPath, long maxSizeInBytes, MLCircuitBreakerService mlCircuitBreakerService) {
+        this.cacheRootPath = cacheRootPath;
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.mlCircuitBreakerService = mlCircuitBreakerService;
+        if (isEnabled()) {
+            loadArtifacts();
+        }
+    }
+
+    public boolean isEnabled() {
+        return cacheRootPath != null && maxSizeInBytes > 0;
+    }
+
+    /**
+     * Get cached model zip file of a model. The returned handle must be closed once the file is no longer read.
+     * @param modelContentHash model content hash
+     * @param modelId model id
+     * @return cached model zip file, or null if the content is not cached or the chunks of the model were never
+     *         verified to the content hash
+     */
+    public synchronized ModelArtifact acquire(String modelContentHash, String modelId) {
+        if (!isEnabled() || modelContentHash == null) {
+            return null;
+        }
+        Artifact artifact = artifacts.get(modelContentHash);
+        if (artifact == null || !artifact.modelIds.contains(modelId)) {
+            return null;
+        }
+        return acquire(modelContentHash, artifact);
+    }
+
+    private ModelArtifact acquire(String modelContentHash, Artifact artifact) {
+        File file = artifactPath(modelContentHash).toFile();
+        if (!file.exists()) {
+            remove(modelContentHash);
+            return null;
+        }
+        touch(file);
+        artifact.users++;
+        return new ModelArtifact(file, modelContentHash);
+    }
+
+    /**
+     * Move a model zip file which matches the content hash into the cache.
+     * @param modelContentHash model content hash
+     * @param modelId id of the model whose chunks were verified to the content hash
+     * @param modelZipFile model zip file
+     * @return the model zip file to deploy, the cached one if the file was added to the cache. The
+     *         returned handle must be closed once the file is no longer read.
+     */
+    @SuppressWarnings("removal")
+    public ModelArtifact add(String modelContentHash, String modelId, File modelZipFile) {
+        if (!isEnabled() || modelContentHash == null || !HASH_PATTERN.matcher(modelContentHash).matches()) {
+            return new ModelArtifact(modelZipFile, null);
+        }
+        long size = modelZipFile.length();
+        if (size > maxSizeInBytes) {
+            log.debug("Model content {} is larger than the model artifact cache, skip caching it", modelContentHash);
+            return new ModelArtifact(modelZipFile, null);
+        }
+        synchronized (this) {
+            Artifact artifact = artifacts.get(modelContentHash);
+            ModelArtifact cached = artifact == null ? null : acquire(modelContentHash, artifact);
+            if (cached != null) {
+                addModelId(modelContentHash, artifact, modelId);
+                return cached;
+            }
+        }
+        Path artifactPath = artifactPath(modelContentHash);
+        try {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                Files.createDirectories(cacheRootPath);
+                // an atomic rename never leaves a partial artifact behind, e.g. if the node stops
+                Files.move(modelZipFile.toPath(), artifactPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return null;
+            });
+        } catch (PrivilegedActionException e) {
+            log.warn("Failed to add model content " + modelContentHash + " to model artifact cache", e);
+            return new ModelArtifact(modelZipFile, null);
+        }
+        synchronized (this) {
+            Artifact artifact = artifacts.get(modelContentHash);
+            if (artifact == null) {
+                artifact = new Artifact(size);
+                artifacts.put(modelContentHash, artifact);
+                sizeInBytes += size;
+            }
+            artifact.users++;
+            addModelId(modelContentHash, artifact, modelId);
+            evict();
+        }
+        log.debug("Added model content {} to model artifact cache, cache size is {} bytes", modelContentHash, getSizeInBytes());
+        return new ModelArtifact(artifactPath.toFile(), modelContentHash);
+    }
+
+    /**
+     * Evict cached artifacts while the disk circuit breaker is open, called before checking the breaker.
+     */
+    public synchronized void releaseDiskSpace() {
+        if (isEnabled() && isDiskCircuitBreakerOpen()) {
+            evict();
+        }
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public synchronized int getArtifactCount() {
+        return artifacts.size();
+    }
+
+    private synchronized void release(String modelContentHash) {
+        Artifact artifact = artifacts.get(modelContentHash);
+        if (artifact != null && artifact.users > 0) {
+            artifact.users--;
+        }
+        evict();
+    }
+
+    /**
+     * Evict least recently used artifacts which are not in use until the cache is within its budget
+     * and the disk circuit breaker is closed.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Artifact>> iterator = artifacts.entrySet().iterator();
+        while (iterator.hasNext() && (sizeInBytes > maxSizeInBytes || isDiskCircuitBreakerOpen())) {
+            Map.Entry<String, Artifact> entry = iterator.next();
+            if (entry.getValue().users > 0) {
+                continue;
+            }
+            iterator.remove();
+            sizeInBytes -= entry.getValue().size;
+            deleteQuietly(artifactPath(entry.getKey()));
+            deleteQuietly(modelIdsPath(entry.getKey()));
+            log.debug("Evicted model content {} from model artifact cache", entry.getKey());
+        }
+    }
+
+    private void remove(String modelContentHash) {
+        Artifact artifact = artifacts.remove(modelContentHash);
+        if (artifact != null) {
+            sizeInBytes -= artifact.size;
+        }
+        deleteQuietly(modelIdsPath(modelContentHash));
+    }
+
+    /**
+     * Record a model whose chunks were verified to the content hash of the artifact.
+     */
+    @SuppressWarnings("removal")
+    private void addModelId(String modelContentHash, Artifact artifact, String modelId) {
+        if (modelId == null || !artifact.modelIds.add(modelId)) {
+            return;
+        }
+        Path modelIdsPath = modelIdsPath(modelContentHash);
+        Path tmpPath = cacheRootPath.resolve(modelContentHash + MODEL_IDS_SUFFIX + ".tmp");
+        try {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                Files.write(tmpPath, artifact.modelIds, StandardCharsets.UTF_8);
+                Files.move(tmpPath, modelIdsPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return null;
+            });
+        } catch (PrivilegedActionException e) {
+            // the model reads its chunks again after the node restarts
+            log.warn("Failed to save model ids of model content " + modelContentHash + " in model artifact cache", e);
+        }
+    }
+
+    private boolean isDiskCircuitBreakerOpen() {
+        CircuitBreaker diskCircuitBreaker = mlCircuitBreakerService == null ? null : mlCircuitBreakerService.getBreaker(BreakerName.DISK);
+        return diskCircuitBreaker != null && diskCircuitBreaker.isOpen();
+    }
+
+    private Path artifactPath(String modelContentHash) {
+        return cacheRootPath.resolve(modelContentHash + ARTIFACT_SUFFIX);
+    }
+
+    private Path modelIdsPath(String modelContentHash) {
+        return cacheRootPath.resolve(modelContentHash + MODEL_IDS_SUFFIX);
+    }
+
+    /**
+     * Load the artifacts cached before the node restarted, in least recently used first order.
+     */
+    @SuppressWarnings("removal")
+    private void loadArtifacts() {
+        try {
+            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
+                if (!Files.isDirectory(cacheRootPath)) {
+                    return null;
+                }
+                List<Path> files = new ArrayList<>();
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheRootPath)) {
+                    for (Path file : stream) {
+                        String name = file.getFileName().toString();
+                        if (name.endsWith(ARTIFACT_SUFFIX) && HASH_PATTERN.matcher(hashOf(name)).matches()) {
+                            files.add(file);
+                        } else if (!name.endsWith(MODEL_IDS_SUFFIX)) {
+                            // not written by the cache
+                            log.debug("Skip unknown file {} in model artifact cache", name);
+                        }
+                    }
+                }
+                files.sort(Comparator.comparing(MLModelArtifactCache::lastModifiedTime));
+                synchronized (this) {
+                    for (Path file : files) {
+                        String modelContentHash = hashOf(file.getFileName().toString());
+                        Artifact artifact = new Artifact(Files.size(file));
+                        // an artifact without verified models is only deployed once a model verifies its chunks again
+                        Path modelIdsPath = modelIdsPath(modelContentHash);
+                        if (Files.exists(modelIdsPath)) {
+                            artifact.modelIds.addAll(Files.readAllLines(modelIdsPath, StandardCharsets.UTF_8));
+                        }
+                        artifacts.put(modelContentHash, artifact);
+                        sizeInBytes += artifact.size;
+                    }
+                    evict();
+                }
+                return null;
+            });
+            log.info("Loaded {} model artifacts of {} bytes from model artifact cache", getArtifactCount(), getSizeInBytes());
+        } catch (PrivilegedActionException e) {
+            log.error("Failed to load model artifact cache", e);
+        }
+    }
+
+    private static String hashOf(String fileName) {
+        return fileName.substring(0, Math.max(fileName.length() - ARTIFACT_SUFFIX.length(), 0));
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    /**
+     * Record the access in the file, so that the least recently used order survives a restart.
+     */
+    @SuppressWarnings("removal")
+    private static void touch(File file) {
+        AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> file.setLastModified(System.currentTimeMillis()));
+    }
+
+    @SuppressWarnings("removal")
+    private static void deleteQuietly(Path path) {
+        AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> path.toFile().delete());
+    }
+
+    private static final class Artifact {
+        private final long size;
+        // number of deployments reading the artifact
+        private int users;
+        // models whose chunks were verified to the content hash
+        private final Set<String> modelIds = new HashSet<>();
+
+        Artifact(long size) {
+            this.size = size;
+        }
+    }
+
+    /**
+     * Model zip file used by one deployment. Closing it allows a cached file to be evicted again,
+     * closing it again is a no-op.
+     */
+    public final class ModelArtifact implements Releasable {
+        @Getter
+        private final File file;
+        // null if the file is not cached
+        private final String modelContentHash;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        ModelArtifact(File file, String modelContentHash) {
+            this.file = file;
+            this.modelContentHash = modelContentHash;
+        }
+
+        public boolean isCached() {
+            return modelContentHash != null;
+        }
+
+        @Override
+        public void close() {
+            if (isCached() && closed.compareAndSet(false, true)) {
+                release(modelContentHash);
+            }
+        }
+    }
+}
@@ -6,14 +6,11 @@
 package org.opensearch.ml.model;
 
 import java.time.Instant;
-import java.util.DoubleSummaryStatistics;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.DoubleStream;
 
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
@@ -22,9 +19,12 @@ import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.utils.LatencyHistogram;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.utils.MLNodeUtils;
 
-import com.google.common.math.Quantiles;
+import com.networknt.schema.JsonSchema;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -43,12 +43,17 @@ public class MLModelCache {
     private final Set<String> targetWorkerNodes;
     private final Set<String> workerNodes;
     private MLModel modelInfo;
-    private final Queue<Double> modelInferenceDurationQueue;
-    private final Queue<Double> predictRequestDurationQueue;
+    // latencies in microseconds of the last predict requests, the window size is the max request count
+    private final LatencyHistogram modelInferenceLatencies;
+    private final LatencyHistogram predictRequestLatencies;
+    private final @Getter PredictPhaseLatencies phaseLatencies;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLGuard mlGuard;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, String> modelInterface;
+    private @Getter(AccessLevel.PROTECTED) Map<String, String> modelInterface;
+    // schemas of the model interface, compiled once when the interface is set
+    private @Getter(AccessLevel.PROTECTED) JsonSchema inputSchema;
+    private @Getter(AccessLevel.PROTECTED) JsonSchema outputSchema;
 
     // In rare case, this could be null, e.g. model info not synced up yet a predict request comes in.
     @Setter
@@ -56,10 +61,15 @@ public class MLModelCache {
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Instant lastAccessTime;
 
     public MLModelCache() {
+        this(0);
+    }
+
+    public MLModelCache(long maxRequestCount) {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
-        modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
-        predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        modelInferenceLatencies = new LatencyHistogram(maxRequestCount);
+        predictRequestLatencies = new LatencyHistogram(maxRequestCount);
+        phaseLatencies = new PredictPhaseLatencies(maxRequestCount);
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -128,6 +138,29 @@ public class MLModelCache {
         workerNodes.add(nodeId);
     }
 
+    /**
+     * Set the model interface and compile its input and output schemas. A schema which fails to compile is
+     * left null, validation then parses it again per request and reports the error to the caller.
+     * @param modelInterface model interface
+     */
+    protected void setModelInterface(Map<String, String> modelInterface) {
+        this.modelInterface = modelInterface;
+        this.inputSchema = compileSchema(modelInterface, "input");
+        this.outputSchema = compileSchema(modelInterface, "output");
+    }
+
+    private static JsonSchema compileSchema(Map<String, String> modelInterface, String schemaName) {
+        if (modelInterface == null || modelInterface.get(schemaName) == null) {
+            return null;
+        }
+        try {
+            return MLNodeUtils.compileSchema(modelInterface.get(schemaName));
+        } catch (Exception e) {
+            log.warn("Failed to compile the {} schema of model interface", schemaName, e);
+            return null;
+        }
+    }
+
     public String[] getWorkerNodes() {
         return workerNodes.toArray(new String[0]);
     }
@@ -158,8 +191,9 @@ public class MLModelCache {
         functionName = null;
         workerNodes.clear();
         modelInfo = null;
-        modelInferenceDurationQueue.clear();
-        predictRequestDurationQueue.clear();
+        modelInferenceLatencies.clear();
+        predictRequestLatencies.clear();
+        phaseLatencies.clear();
         if (predictor != null) {
             predictor.close();
         }
@@ -172,59 +206,45 @@ public class MLModelCache {
         rateLimiter = null;
         userRateLimiterMap = null;
         mlGuard = null;
-        modelInterface = null;
+        setModelInterface(null);
     }
 
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, modelInferenceDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, modelInferenceLatencies);
     }
 
     public void addPredictRequestDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, predictRequestLatencies);
     }
 
-    private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
-        resizeInferenceQueue(maxRequestCount, queue);
-        if (maxRequestCount > 0) {
-            queue.add(duration);
-        }
+    private void addInferenceDuration(double duration, long maxRequestCount, LatencyHistogram histogram) {
+        histogram.setWindowSize(maxRequestCount);
+        histogram.record((long) (duration * 1000));
     }
 
     public void resizeMonitoringQueue(long maxRequestCount) {
-        log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
-        resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
-        resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
+        log.debug("resize inference duration monitoring window with size {}", maxRequestCount);
+        predictRequestLatencies.setWindowSize(maxRequestCount);
+        modelInferenceLatencies.setWindowSize(maxRequestCount);
+        phaseLatencies.setWindowSize(maxRequestCount);
     }
 
-    private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
-        if (maxRequestCount <= 0) {
-            queue.clear();
-        } else {
-            while (queue.size() >= maxRequestCount) {
-                queue.poll();
-            }
-        }
+    public MLPredictRequestStats getInferenceStats(boolean modelInference) {
+        return MLPredictRequestStats.fromHistogram(modelInference ? modelInferenceLatencies : predictRequestLatencies);
     }
 
-    public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
-        if (queue.size() > 0) {
-            MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
-            DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
-            DoubleSummaryStatistics doubleSummaryStatistics = doubleStream.summaryStatistics();
-            statsBuilder.count(doubleSummaryStatistics.getCount());
-            statsBuilder.max(doubleSummaryStatistics.getMax());
-            statsBuilder.min(doubleSummaryStatistics.getMin());
-            statsBuilder.average(doubleSummaryStatistics.getAverage());
-
-            Quantiles.Scale percentiles = Quantiles.percentiles();
-            statsBuilder.p50(percentiles.index(50).compute(queue));
-            statsBuilder.p90(percentiles.index(90).compute(queue));
-            statsBuilder.p99(percentiles.index(99).compute(queue));
-
-            return statsBuilder.build();
+    /**
+     * @return latency stats of the predict phases which have latencies, keyed by phase name, or null if none has
+     */
+    public Map<String, MLPredictRequestStats> getPhaseLatencyStats() {
+        Map<String, MLPredictRequestStats> phaseStats = new LinkedHashMap<>();
+        for (PredictPhaseLatencies.Phase phase : PredictPhaseLatencies.Phase.values()) {
+            MLPredictRequestStats stats = MLPredictRequestStats.fromHistogram(phaseLatencies.getHistogram(phase));
+            if (stats != null) {
+                phaseStats.put(phase.getName(), stats);
+            }
         }
-        return null;
+        return phaseStats.isEmpty() ? null : phaseStats;
     }
 
     public boolean isValidCache() {
@@ -10,6 +10,7 @@ import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -22,13 +23,21 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.connector.ConnectorScriptCache;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.profile.MLScriptStats;
+import org.opensearch.ml.stats.MLModelStats;
+
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -65,7 +74,7 @@ public class MLModelCacheHelper {
             throw new MLLimitExceededException("Duplicate deploy model task");
         }
         log.debug("init model state for model {}, state: {}", modelId, state);
-        MLModelCache modelCache = new MLModelCache();
+        MLModelCache modelCache = new MLModelCache(maxRequestCount);
         modelCache.setModelState(state);
         modelCache.setFunctionName(functionName);
         modelCache.setTargetWorkerNodes(targetWorkerNodes);
@@ -85,7 +94,7 @@ public class MLModelCacheHelper {
             // model state initialized
             return;
         }
-        MLModelCache modelCache = new MLModelCache();
+        MLModelCache modelCache = new MLModelCache(maxRequestCount);
         modelCache.setModelState(state);
         modelCache.setFunctionName(functionName);
         modelCache.setTargetWorkerNodes(targetWorkerNodes);
@@ -211,6 +220,34 @@ public class MLModelCacheHelper {
         return modelCache.getModelInterface();
     }
 
+    /**
+     * Get the compiled input schema of the model interface
+     *
+     * @param modelId model id
+     * @return compiled input schema, null if the model has no input schema or it can't be compiled
+     */
+    public JsonSchema getModelInputSchema(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.getInputSchema();
+    }
+
+    /**
+     * Get the compiled output schema of the model interface
+     *
+     * @param modelId model id
+     * @return compiled output schema, null if the model has no output schema or it can't be compiled
+     */
+    public JsonSchema getModelOutputSchema(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.getOutputSchema();
+    }
+
     /**
      * Remove the ml interface from cache
      *
@@ -625,6 +662,12 @@ public class MLModelCacheHelper {
         builder.modelState(modelCache.getModelState());
         if (modelCache.getPredictor() != null) {
             builder.predictor(modelCache.getPredictor().toString());
+            if (modelCache.getPredictor() instanceof RemoteModel) {
+                ConnectorScriptCache scriptCache = ((RemoteModel) modelCache.getPredictor()).getScriptCache();
+                if (scriptCache != null) {
+                    builder.scriptStats(MLScriptStats.of(scriptCache));
+                }
+            }
         }
         String[] targetWorkerNodes = modelCache.getTargetWorkerNodes();
         if (targetWorkerNodes.length > 0) {
@@ -636,6 +679,7 @@ public class MLModelCacheHelper {
         }
         builder.modelInferenceStats(modelCache.getInferenceStats(true));
         builder.predictRequestStats(modelCache.getInferenceStats(false));
+        builder.phaseLatencyStats(modelCache.getPhaseLatencyStats());
         builder.memSizeEstimationCPU(modelCache.getMemSizeEstimationCPU());
         builder.memSizeEstimationGPU(modelCache.getMemSizeEstimationGPU());
         return builder.build();
@@ -657,6 +701,57 @@ public class MLModelCacheHelper {
         modelCache.addPredictRequestDuration(duration, maxRequestCount);
     }
 
+    /**
+     * Get the predict phase latencies of a model, which are handed to its predictor when it's deployed.
+     *
+     * @param modelId model id
+     * @return phase latencies
+     */
+    public PredictPhaseLatencies getPhaseLatencies(String modelId) {
+        return getOrCreateModelCache(modelId).getPhaseLatencies();
+    }
+
+    /**
+     * Add latency of a predict phase. Skipped if the model is not in cache.
+     *
+     * @param modelId model id
+     * @param phase predict phase
+     * @param durationInNanos latency in nanoseconds
+     */
+    public void addPhaseLatency(String modelId, PredictPhaseLatencies.Phase phase, long durationInNanos) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.getPhaseLatencies().record(phase, durationInNanos);
+        }
+    }
+
+    /**
+     * Get latency stats of a model: model inference, predict request and the predict phases.
+     *
+     * @param modelId model id
+     * @return latency stats keyed by name, or null if the model is not in cache or has no latencies
+     */
+    public Map<String, MLPredictRequestStats> getLatencyStats(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        Map<String, MLPredictRequestStats> latencyStats = new LinkedHashMap<>();
+        MLPredictRequestStats modelInferenceStats = modelCache.getInferenceStats(true);
+        if (modelInferenceStats != null) {
+            latencyStats.put(MLModelStats.MODEL_INFERENCE_LATENCY, modelInferenceStats);
+        }
+        MLPredictRequestStats predictRequestStats = modelCache.getInferenceStats(false);
+        if (predictRequestStats != null) {
+            latencyStats.put(MLModelStats.PREDICT_REQUEST_LATENCY, predictRequestStats);
+        }
+        Map<String, MLPredictRequestStats> phaseLatencyStats = modelCache.getPhaseLatencyStats();
+        if (phaseLatencyStats != null) {
+            latencyStats.putAll(phaseLatencyStats);
+        }
+        return latencyStats.isEmpty() ? null : latencyStats;
+    }
+
     public void resizeMonitoringQueue(long monitoringReqCount) {
         for (Map.Entry<String, MLModelCache> entry : modelCaches.entrySet()) {
             entry.getValue().resizeMonitoringQueue(monitoringReqCount);
@@ -717,7 +812,7 @@ public class MLModelCacheHelper {
     }
 
     private MLModelCache getOrCreateModelCache(String modelId) {
-        return modelCaches.computeIfAbsent(modelId, it -> new MLModelCache());
+        return modelCaches.computeIfAbsent(modelId, it -> new MLModelCache(maxRequestCount));
     }
 
     public MLModel addModelToAutoDeployCache(String modelId, MLModel model) {
@@ -35,13 +35,17 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_RE
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.engine.utils.PredictPhaseLatencies.PHASE_LATENCIES;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_STATEFUL_MODEL_CHECKPOINT_INTERVAL_IN_SECONDS;
 import static org.opensearch.ml.stats.ActionName.REGISTER;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
@@ -49,7 +53,7 @@ import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
-import java.nio.file.Path;
+import java.io.IOException;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -61,7 +65,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -85,6 +89,7 @@ import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
@@ -124,9 +129,12 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.StatefulPredictable;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
+import org.opensearch.ml.engine.utils.ModelChunksWriter;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.profile.MLPredictRequestStats;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
@@ -136,11 +144,13 @@ import org.opensearch.ml.utils.MLExceptionUtils;
 import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Files;
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -168,6 +178,12 @@ public class MLModelManager {
     private final MLTaskManager mlTaskManager;
     private final MLEngine mlEngine;
     private final DiscoveryNodeHelper nodeHelper;
+    private final MLModelArtifactCache modelArtifactCache;
+    private final int modelChunkRetrievalConcurrency;
+    private final int statefulModelCheckpointIntervalInSeconds;
+    private final Map<String, Scheduler.Cancellable> modelCheckpointJobs = new ConcurrentHashMap<>();
+    // update count of stateful models when they were last checkpointed
+    private final Map<String, Long> checkpointedUpdateCounts = new ConcurrentHashMap<>();
 
     private volatile Integer maxModelPerNode;
     private volatile Integer maxRegisterTasksPerNode;
@@ -212,6 +228,13 @@ public class MLModelManager {
         this.mlTaskManager = mlTaskManager;
         this.mlEngine = mlEngine;
         this.nodeHelper = nodeHelper;
+        this.modelArtifactCache = new MLModelArtifactCache(
+            mlEngine.getModelArtifactCacheRootPath(),
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE.get(settings).getBytes(),
+            mlCircuitBreakerService
+        );
+        this.modelChunkRetrievalConcurrency = ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY.get(settings);
+        this.statefulModelCheckpointIntervalInSeconds = ML_COMMONS_STATEFUL_MODEL_CHECKPOINT_INTERVAL_IN_SECONDS.get(settings);
 
         this.maxModelPerNode = ML_COMMONS_MAX_MODELS_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_MODELS_PER_NODE, it -> maxModelPerNode = it);
@@ -1033,10 +1056,19 @@ public class MLModelManager {
                 setupMLGuard(modelId, mlModel.getGuardrails());
                 setupModelInterface(modelId, mlModel.getModelInterface());
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
+                // cached model artifacts give way to the deployment before checking the disk circuit breaker
+                modelArtifactCache.releaseDiskSpace();
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                MLModelArtifactCache.ModelArtifact cachedModelZip = modelArtifactCache.acquire(modelContentHash, modelId);
+                if (cachedModelZip != null) {
+                    log.info("Deploy model {} from model artifact cache, skip retrieving model chunks", modelId);
+                    deployModelZip(mlModel, cachedModelZip, wrappedListener);
+                    return;
+                }
+                retrieveModelChunks(mlModel, ActionListener.wrap(modelChunksWriter -> {// read model chunks
+                    File modelZipFile = modelChunksWriter.getFile();
+                    String hash = modelChunksWriter.getHash();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -1044,39 +1076,7 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
-                    if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
-                        MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
-                        try {
-                            modelCacheHelper.setMLExecutor(modelId, mlExecutable);
-                            mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
-                            modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
-                            modelCacheHelper.refreshLastAccessTime(modelId);
-                            wrappedListener.onResponse("successful");
-                        } catch (Exception e) {
-                            log.error("Failed to add predictor to cache", e);
-                            mlExecutable.close();
-                            wrappedListener.onFailure(e);
-                        }
-                    } else {
-                        Predictable predictable = mlEngine.deploy(mlModel, params);
-                        try {
-                            modelCacheHelper.setPredictor(modelId, predictable);
-                            mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
-                            modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
-                            modelCacheHelper.refreshLastAccessTime(modelId);
-                            Long modelContentSizeInBytes = mlModel.getModelContentSizeInBytes();
-                            long contentSize = modelContentSizeInBytes == null
-                                ? mlModel.getTotalChunks() * CHUNK_SIZE
-                                : modelContentSizeInBytes;
-                            modelCacheHelper.setMemSizeEstimation(modelId, mlModel.getModelFormat(), contentSize);
-                            wrappedListener.onResponse("successful");
-                        } catch (Exception e) {
-                            log.error("Failed to add predictor to cache", e);
-                            predictable.close();
-                            wrappedListener.onFailure(e);
-                        }
-                    }
+                    deployModelZip(mlModel, modelArtifactCache.add(hash, modelId, modelZipFile), wrappedListener);
                 }, e -> {
                     log.error("Failed to retrieve model " + modelId, e);
                     handleDeployModelException(modelId, functionName, wrappedListener, e);
@@ -1092,6 +1092,51 @@ public class MLModelManager {
         }
     }
 
+    private void deployModelZip(MLModel mlModel, MLModelArtifactCache.ModelArtifact modelArtifact, ActionListener<String> listener) {
+        String modelId = mlModel.getModelId();
+        try (modelArtifact) {
+            File modelZipFile = modelArtifact.getFile();
+            Map<String, Object> params = new HashMap<>();
+            params.put(MODEL_ZIP_FILE, modelZipFile);
+            params.put(MODEL_HELPER, modelHelper);
+            params.put(ML_ENGINE, mlEngine);
+            PredictPhaseLatencies phaseLatencies = modelCacheHelper.getPhaseLatencies(modelId);
+            if (phaseLatencies != null) {
+                params.put(PHASE_LATENCIES, phaseLatencies);
+            }
+            if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
+                MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
+                try {
+                    modelCacheHelper.setMLExecutor(modelId, mlExecutable);
+                    mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
+                    modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+                    modelCacheHelper.refreshLastAccessTime(modelId);
+                    listener.onResponse("successful");
+                } catch (Exception e) {
+                    log.error("Failed to add predictor to cache", e);
+                    mlExecutable.close();
+                    listener.onFailure(e);
+                }
+            } else {
+                Predictable predictable = mlEngine.deploy(mlModel, params);
+                try {
+                    modelCacheHelper.setPredictor(modelId, predictable);
+                    mlStats.getStat(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT).increment();
+                    modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+                    modelCacheHelper.refreshLastAccessTime(modelId);
+                    Long modelContentSizeInBytes = mlModel.getModelContentSizeInBytes();
+                    long contentSize = modelContentSizeInBytes == null ? mlModel.getTotalChunks() * CHUNK_SIZE : modelContentSizeInBytes;
+                    modelCacheHelper.setMemSizeEstimation(modelId, mlModel.getModelFormat(), contentSize);
+                    listener.onResponse("successful");
+                } catch (Exception e) {
+                    log.error("Failed to add predictor to cache", e);
+                    predictable.close();
+                    listener.onFailure(e);
+                }
+            }
+        }
+    }
+
     public void deployRemoteModelToLocal(String modelId, MLModel mlModel, ActionListener<String> listener) {
         if (modelCacheHelper.isModelDeployed(modelId)) {
             listener.onResponse("Success");
@@ -1138,6 +1183,86 @@ public class MLModelManager {
         Map<String, Object> params = setUpParameterMap(modelId);
         Predictable predictable = mlEngine.deploy(mlModel, params);
         modelCacheHelper.setPredictor(modelId, predictable);
+        if (predictable instanceof StatefulPredictable) {
+            scheduleModelCheckpoint(modelId);
+        }
+    }
+
+    /**
+     * Periodically write the state of a deployed model, which is updated by predictions, back to the model index.
+     * The state is only written when the model was updated since the last checkpoint.
+     */
+    private void scheduleModelCheckpoint(String modelId) {
+        cancelModelCheckpoint(modelId);
+        checkpointedUpdateCounts.put(modelId, 0L);
+        if (statefulModelCheckpointIntervalInSeconds <= 0) {
+            return;
+        }
+        Scheduler.Cancellable job = threadPool
+            .scheduleWithFixedDelay(
+                () -> checkpointModel(modelId),
+                TimeValue.timeValueSeconds(statefulModelCheckpointIntervalInSeconds),
+                GENERAL_THREAD_POOL
+            );
+        modelCheckpointJobs.put(modelId, job);
+    }
+
+    private void cancelModelCheckpoint(String modelId) {
+        Scheduler.Cancellable job = modelCheckpointJobs.remove(modelId);
+        if (job != null) {
+            job.cancel();
+        }
+    }
+
+    @VisibleForTesting
+    void checkpointModel(String modelId) {
+        if (statefulModelCheckpointIntervalInSeconds <= 0) {
+            return;
+        }
+        Predictable predictable = modelCacheHelper.getPredictor(modelId);
+        if (!(predictable instanceof StatefulPredictable) || !isModelCheckpointNode(modelId)) {
+            return;
+        }
+        writeCheckpoint(modelId, (StatefulPredictable) predictable, checkpointedUpdateCounts.getOrDefault(modelId, 0L));
+    }
+
+    private void writeCheckpoint(String modelId, StatefulPredictable statefulPredictable, long checkpointedUpdateCount) {
+        long updateCount = statefulPredictable.getUpdateCount();
+        if (updateCount == checkpointedUpdateCount) {
+            return;
+        }
+        String content;
+        try {
+            content = statefulPredictable.checkpoint();
+        } catch (Exception e) {
+            log.warn("Failed to checkpoint model {}", modelId, e);
+            return;
+        }
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(MLModel.MODEL_CONTENT_FIELD, content);
+        updatedFields.put(MLModel.LAST_UPDATED_TIME_FIELD, Instant.now().toEpochMilli());
+        UpdateRequest updateRequest = new UpdateRequest(ML_MODEL_INDEX, modelId).doc(updatedFields);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<UpdateResponse> listener = ActionListener.wrap(r -> {
+                checkpointedUpdateCounts.computeIfPresent(modelId, (id, count) -> Math.max(count, updateCount));
+                log.debug("Checkpointed model {} after {} updates", modelId, updateCount);
+            }, e -> log.warn("Failed to write checkpoint of model {}", modelId, e));
+            client.update(updateRequest, ActionListener.runBefore(listener, context::restore));
+        }
+    }
+
+    /**
+     * Stateful models are deployed to one node. A model deployed to several nodes before, where every worker node
+     * updates its own copy, is only checkpointed by the worker node with the smallest node id, to keep the
+     * checkpoints of one node from overwriting each other.
+     */
+    private boolean isModelCheckpointNode(String modelId) {
+        String localNodeId = clusterService.localNode().getId();
+        String[] workerNodes = modelCacheHelper.getWorkerNodes(modelId);
+        if (workerNodes == null || workerNodes.length == 0) {
+            return true;
+        }
+        return Arrays.stream(workerNodes).min(String::compareTo).map(localNodeId::equals).orElse(true);
     }
 
     private Map<String, Object> setUpParameterMap(String modelId) {
@@ -1170,6 +1295,11 @@ public class MLModelManager {
             params.put(GUARDRAILS, mlGuard);
             log.info("Setting up ML guard parameter for ML predictor.");
         }
+
+        PredictPhaseLatencies phaseLatencies = modelCacheHelper.getPhaseLatencies(modelId);
+        if (phaseLatencies != null) {
+            params.put(PHASE_LATENCIES, phaseLatencies);
+        }
         return Collections.unmodifiableMap(params);
     }
 
@@ -1512,6 +1642,16 @@ public class MLModelManager {
         return modelCacheHelper.getModelInterface(modelId);
     }
 
+    /**
+     * Get the compiled output schema of the model interface with model id.
+     *
+     * @param modelId model id
+     * @return compiled output schema
+     */
+    public JsonSchema getModelOutputSchema(String modelId) {
+        return modelCacheHelper.getModelOutputSchema(modelId);
+    }
+
     /**
      * Set up ML guard with model id.
      *
@@ -1639,52 +1779,87 @@ public class MLModelManager {
     }
 
     /**
-     * Retreive a model's all chunks.
+     * Retrieve a model's all chunks into the deploy model zip file. At most
+     * modelChunkRetrievalConcurrency chunks are retrieved, or wait in memory, ahead of the next chunk to write.
      *
      * @param mlModelMeta model meta
-     * @param listener    action listener
+     * @param listener    action listener of the writer of the complete model zip file
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<ModelChunksWriter> listener) throws IOException {
         String modelId = mlModelMeta.getModelId();
-        String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, mlModelMeta.getName()));
+        ModelChunksWriter modelChunksWriter = new ModelChunksWriter(
+            modelZipFile,
+            mlModelMeta.getTotalChunks(),
+            mlModelMeta.getModelContentSizeInBytes()
+        );
+        AtomicInteger nextChunk = new AtomicInteger(0);
         AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
+        retrieveNextModelChunks(modelId, modelChunkRetrievalConcurrency, modelChunksWriter, nextChunk, stopNow, listener);
+    }
+
+    private void retrieveNextModelChunks(
+        String modelId,
+        int count,
+        ModelChunksWriter modelChunksWriter,
+        AtomicInteger nextChunk,
+        AtomicBoolean stopNow,
+        ActionListener<ModelChunksWriter> listener
+    ) {
+        for (int i = 0; i < count && !stopNow.get(); i++) {
+            int chunkNumber = nextChunk.getAndIncrement();
+            if (chunkNumber >= modelChunksWriter.getTotalChunks()) {
+                return;
             }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
+            String modelChunkId = this.getModelChunkId(modelId, chunkNumber);
             this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
+                if (stopNow.get()) {
+                    return;
+                }
+                try {
+                    int writtenChunks = modelChunksWriter.write(chunkNumber, Base64.getDecoder().decode(model.getContent()));
+                    if (modelChunksWriter.isComplete()) {
+                        if (stopNow.compareAndSet(false, true)) {
+                            modelChunksWriter.close();
+                            listener.onResponse(modelChunksWriter);
+                        }
+                        return;
+                    }
+                    // every written chunk frees a slot for the next chunk to retrieve
+                    retrieveNextModelChunks(modelId, writtenChunks, modelChunksWriter, nextChunk, stopNow, listener);
+                } catch (Exception e) {
+                    log.error("Failed to write model chunk " + modelChunkId, e);
+                    stopRetrievingModelChunks(modelChunksWriter, stopNow, listener, e);
                 }
-                semaphore.release();
             }, e -> {
-                stopNow.set(true);
-                semaphore.release();
                 log.error("Failed to retrieve model chunk " + modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
-                    listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
-                }
+                stopRetrievingModelChunks(
+                    modelChunksWriter,
+                    stopNow,
+                    listener,
+                    new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId)
+                );
             })));
         }
     }
 
+    private void stopRetrievingModelChunks(
+        ModelChunksWriter modelChunksWriter,
+        AtomicBoolean stopNow,
+        ActionListener<ModelChunksWriter> listener,
+        Exception e
+    ) {
+        if (stopNow.compareAndSet(false, true)) {
+            try {
+                modelChunksWriter.close();
+            } catch (IOException closeException) {
+                log.debug("Failed to close model file " + modelChunksWriter.getFile(), closeException);
+            }
+            deleteFileQuietly(modelChunksWriter.getFile());
+            listener.onFailure(e);
+        }
+    }
+
     /**
      * Update model with build-in listener.
      *
@@ -1825,6 +2000,23 @@ public class MLModelManager {
     }
 
     private void removeModel(String modelId) {
+        cancelModelCheckpoint(modelId);
+        Predictable predictable = modelCacheHelper.getPredictor(modelId);
+        if (statefulModelCheckpointIntervalInSeconds > 0 && predictable instanceof StatefulPredictable && isModelCheckpointNode(modelId)) {
+            // serializing the model is slow, so the final checkpoint is written on the general thread pool. The model is
+            // detached from the cache to close it only after its state is read.
+            StatefulPredictable statefulPredictable = (StatefulPredictable) predictable;
+            long checkpointedUpdateCount = checkpointedUpdateCounts.getOrDefault(modelId, 0L);
+            modelCacheHelper.setPredictor(modelId, null);
+            threadPool.executor(GENERAL_THREAD_POOL).execute(() -> {
+                try {
+                    writeCheckpoint(modelId, statefulPredictable, checkpointedUpdateCount);
+                } finally {
+                    statefulPredictable.close();
+                }
+            });
+        }
+        checkpointedUpdateCounts.remove(modelId);
         modelCacheHelper.removeModel(modelId);
         modelHelper.deleteFileCache(modelId);
     }
@@ -1940,6 +2132,21 @@ public class MLModelManager {
         modelCacheHelper.addModelInferenceDuration(modelId, durationInMs);
     }
 
+    /**
+     * Track latency of a predict phase which started at the given {@link System#nanoTime()}.
+     *
+     * @param modelId model id
+     * @param phase predict phase
+     * @param startTime start time of the phase in nanoseconds
+     */
+    public void trackPredictPhase(String modelId, PredictPhaseLatencies.Phase phase, long startTime) {
+        modelCacheHelper.addPhaseLatency(modelId, phase, System.nanoTime() - startTime);
+    }
+
+    public Map<String, MLPredictRequestStats> getModelLatencyStats(String modelId) {
+        return modelCacheHelper.getLatencyStats(modelId);
+    }
+
     public FunctionName getModelFunctionName(String modelId) {
         return modelCacheHelper.getFunctionName(modelId);
     }
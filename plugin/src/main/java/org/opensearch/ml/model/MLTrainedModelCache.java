@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.opensearch.commons.authuser.User;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node level cache of deserialized trained models, like kmeans or linear regression models, which are predicted
+ * by model id without being deployed. A cached model is used as long as the sequence number and primary term of
+ * its model document are unchanged, so repeated predictions skip reading the model content and deserializing it.
+ * <p>
+ * The cache is bounded by a memory budget, which is compared with the size of the serialized model content, and
+ * evicts the least recently used models first. Models are also evicted, and no models are added, while the memory
+ * circuit breaker is open.
+ */
+@Log4j2
+public class MLTrainedModelCache {
+    private final long maxSizeInBytes;
+    private final MLCircuitBreakerService mlCircuitBreakerService;
+    // guarded by this, in least recently used first order
+    private final Map<String, TrainedModel> models = new LinkedHashMap<>(16, 0.75f, true);
+    // guarded by this
+    private long sizeInBytes;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * @param maxSizeInBytes memory budget of the cache, 0 disables the cache
+     * @param mlCircuitBreakerService circuit breaker service
+     */
+    public MLTrainedModelCache(long maxSizeInBytes, MLCircuitBreakerService mlCircuitBreakerService) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.mlCircuitBreakerService = mlCircuitBreakerService;
+    }
+
+    public boolean isEnabled() {
+        return maxSizeInBytes > 0;
+    }
+
+    public synchronized boolean contains(String modelId) {
+        return models.containsKey(modelId);
+    }
+
+    /**
+     * Get a cached model if its model document is unchanged. A cached model of another version of the document
+     * is removed.
+     * @param modelId model id
+     * @param seqNo sequence number of the model document
+     * @param primaryTerm primary term of the model document
+     * @return cached model, or null if the model is not cached for this version of the document
+     */
+    public synchronized TrainedModel get(String modelId, long seqNo, long primaryTerm) {
+        if (!isEnabled()) {
+            return null;
+        }
+        TrainedModel model = models.get(modelId);
+        if (model != null && (model.seqNo != seqNo || model.primaryTerm != primaryTerm)) {
+            remove(modelId);
+            model = null;
+        }
+        if (model == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return model;
+    }
+
+    /**
+     * Cache a deserialized model, unless it is larger than the cache or the memory circuit breaker is open.
+     * @param modelId model id
+     * @param model deserialized model
+     */
+    public synchronized void put(String modelId, TrainedModel model) {
+        if (!isEnabled() || model.sizeInBytes > maxSizeInBytes) {
+            return;
+        }
+        if (isMemoryCircuitBreakerOpen()) {
+            evict();
+            return;
+        }
+        remove(modelId);
+        models.put(modelId, model);
+        sizeInBytes += model.sizeInBytes;
+        evict();
+        log.debug("Added model {} to trained model cache, cache size is {} bytes", modelId, sizeInBytes);
+    }
+
+    public synchronized void remove(String modelId) {
+        TrainedModel model = models.remove(modelId);
+        if (model != null) {
+            sizeInBytes -= model.sizeInBytes;
+        }
+    }
+
+    public synchronized void clear() {
+        models.clear();
+        sizeInBytes = 0;
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public synchronized int getModelCount() {
+        return models.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Evict least recently used models until the cache is within its budget and the memory circuit breaker
+     * is closed.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, TrainedModel>> iterator = models.entrySet().iterator();
+        while (iterator.hasNext() && (sizeInBytes > maxSizeInBytes || isMemoryCircuitBreakerOpen())) {
+            Map.Entry<String, TrainedModel> entry = iterator.next();
+            iterator.remove();
+            sizeInBytes -= entry.getValue().sizeInBytes;
+            log.debug("Evicted model {} from trained model cache", entry.getKey());
+        }
+    }
+
+    private boolean isMemoryCircuitBreakerOpen() {
+        CircuitBreaker memoryCircuitBreaker = mlCircuitBreakerService == null
+            ? null
+            : mlCircuitBreakerService.getBreaker(BreakerName.MEMORY);
+        return memoryCircuitBreaker != null && memoryCircuitBreaker.isOpen();
+    }
+
+    /**
+     * Deserialized trained model with the version of its model document.
+     */
+    public static final class TrainedModel {
+        @Getter
+        private final Object model;
+        @Getter
+        private final User user;
+        private final long seqNo;
+        private final long primaryTerm;
+        private final long sizeInBytes;
+
+        /**
+         * @param model deserialized model
+         * @param user owner of the model, to check the permissions of a request
+         * @param seqNo sequence number of the model document
+         * @param primaryTerm primary term of the model document
+         * @param sizeInBytes size of the serialized model content
+         */
+        public TrainedModel(Object model, User user, long seqNo, long primaryTerm, long sizeInBytes) {
+            this.model = model;
+            this.user = user;
+            this.seqNo = seqNo;
+            this.primaryTerm = primaryTerm;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
@@ -42,6 +42,7 @@ import org.opensearch.ml.action.agents.DeleteAgentTransportAction;
 import org.opensearch.ml.action.agents.GetAgentTransportAction;
 import org.opensearch.ml.action.agents.TransportRegisterAgentAction;
 import org.opensearch.ml.action.agents.TransportSearchAgentAction;
+import org.opensearch.ml.action.batch.TransportBatchInferenceAction;
 import org.opensearch.ml.action.config.GetConfigTransportAction;
 import org.opensearch.ml.action.connector.DeleteConnectorTransportAction;
 import org.opensearch.ml.action.connector.GetConnectorTransportAction;
@@ -87,6 +88,8 @@ import org.opensearch.ml.action.upload_chunk.MLModelChunkUploader;
 import org.opensearch.ml.action.upload_chunk.TransportRegisterModelMetaAction;
 import org.opensearch.ml.action.upload_chunk.TransportUploadModelChunkAction;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.cluster.MLCommonsClusterEventListener;
@@ -113,6 +116,7 @@ import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentGetAction;
 import org.opensearch.ml.common.transport.agent.MLRegisterAgentAction;
 import org.opensearch.ml.common.transport.agent.MLSearchAgentAction;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceAction;
 import org.opensearch.ml.common.transport.config.MLConfigGetAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorGetAction;
@@ -162,6 +166,7 @@ import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelatio
 import org.opensearch.ml.engine.algorithms.sample.LocalSampleCalculator;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
+import org.opensearch.ml.engine.httpclient.MLHttpClientManager;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
@@ -203,8 +208,10 @@ import org.opensearch.ml.memory.index.ConversationMetaIndex;
 import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLTrainedModelCache;
 import org.opensearch.ml.processor.MLInferenceIngestProcessor;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableList;
+import org.opensearch.ml.rest.RestMLBatchInferenceAction;
 import org.opensearch.ml.rest.RestMLCreateConnectorAction;
 import org.opensearch.ml.rest.RestMLCreateControllerAction;
 import org.opensearch.ml.rest.RestMLDeleteAgentAction;
@@ -264,6 +271,7 @@ import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.stats.suppliers.IndexStatusSupplier;
+import org.opensearch.ml.task.MLBatchInferenceTaskRunner;
 import org.opensearch.ml.task.MLExecuteTaskRunner;
 import org.opensearch.ml.task.MLPredictTaskRunner;
 import org.opensearch.ml.task.MLTaskDispatcher;
@@ -328,6 +336,7 @@ public class MachineLearningPlugin extends Plugin
     private MLPredictTaskRunner mlPredictTaskRunner;
     private MLTrainAndPredictTaskRunner mlTrainAndPredictTaskRunner;
     private MLExecuteTaskRunner mlExecuteTaskRunner;
+    private MLBatchInferenceTaskRunner mlBatchInferenceTaskRunner;
     private IndexUtils indexUtils;
     private ModelHelper modelHelper;
     private DiscoveryNodeHelper nodeHelper;
@@ -374,6 +383,7 @@ public class MachineLearningPlugin extends Plugin
                 new ActionHandler<>(MLPredictionTaskAction.INSTANCE, TransportPredictionTaskAction.class),
                 new ActionHandler<>(MLTrainingTaskAction.INSTANCE, TransportTrainingTaskAction.class),
                 new ActionHandler<>(MLTrainAndPredictionTaskAction.INSTANCE, TransportTrainAndPredictionTaskAction.class),
+                new ActionHandler<>(MLBatchInferenceAction.INSTANCE, TransportBatchInferenceAction.class),
                 new ActionHandler<>(MLModelGetAction.INSTANCE, GetModelTransportAction.class),
                 new ActionHandler<>(MLModelDeleteAction.INSTANCE, DeleteModelTransportAction.class),
                 new ActionHandler<>(MLModelSearchAction.INSTANCE, SearchModelTransportAction.class),
@@ -486,6 +496,18 @@ public class MachineLearningPlugin extends Plugin
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        MLHttpClientManager httpClientManager = MLHttpClientManager.getInstance();
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_CLIENT_COUNT, new MLStat<>(false, httpClientManager::getClientCount));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_LEASED_CONNECTION_COUNT, new MLStat<>(false, httpClientManager::getLeasedConnectionCount));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_PENDING_ACQUIRE_COUNT, new MLStat<>(false, httpClientManager::getPendingAcquireCount));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_POOL_SATURATION, new MLStat<>(false, httpClientManager::getPoolSaturation));
+        MLTrainedModelCache trainedModelCache = new MLTrainedModelCache(
+            MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_MAX_SIZE.get(settings).getBytes(),
+            mlCircuitBreakerService
+        );
+        stats.put(MLNodeLevelStat.ML_TRAINED_MODEL_CACHE_HIT_COUNT, new MLStat<>(false, trainedModelCache::getHitCount));
+        stats.put(MLNodeLevelStat.ML_TRAINED_MODEL_CACHE_MISS_COUNT, new MLStat<>(false, trainedModelCache::getMissCount));
+        stats.put(MLNodeLevelStat.ML_TRAINED_MODEL_CACHE_SIZE_IN_BYTES, new MLStat<>(false, trainedModelCache::getSizeInBytes));
         this.mlStats = new MLStats(stats);
 
         mlIndicesHandler = new MLIndicesHandler(clusterService, client);
@@ -507,7 +529,17 @@ public class MachineLearningPlugin extends Plugin
             mlEngine,
             nodeHelper
         );
-        mlInputDatasetHandler = new MLInputDatasetHandler(client);
+        mlInputDatasetHandler = new MLInputDatasetHandler(
+            client,
+            MLCommonsSettings.ML_COMMONS_SEARCH_QUERY_INPUT_MAX_DOCS.get(settings),
+            () -> {
+                CircuitBreaker memoryBreaker = mlCircuitBreakerService.getBreaker(BreakerName.MEMORY);
+                return memoryBreaker != null && memoryBreaker.isOpen();
+            }
+        );
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_SEARCH_QUERY_INPUT_MAX_DOCS, mlInputDatasetHandler::setMaxDocs);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         connectorAccessControlHelper = new ConnectorAccessControlHelper(clusterService, settings);
         mlFeatureEnabledSetting = new MLFeatureEnabledSetting(clusterService, settings);
@@ -541,6 +573,7 @@ public class MachineLearningPlugin extends Plugin
             mlModelManager,
             nodeHelper,
             mlEngine,
+            trainedModelCache,
             settings
         );
         mlTrainAndPredictTaskRunner = new MLTrainAndPredictTaskRunner(
@@ -567,6 +600,18 @@ public class MachineLearningPlugin extends Plugin
             nodeHelper,
             mlEngine
         );
+        mlBatchInferenceTaskRunner = new MLBatchInferenceTaskRunner(
+            threadPool,
+            clusterService,
+            client,
+            mlTaskManager,
+            mlStats,
+            mlTaskDispatcher,
+            mlCircuitBreakerService,
+            nodeHelper,
+            mlModelManager,
+            xContentRegistry
+        );
 
         // Register thread-safe ML objects here.
         LocalSampleCalculator localSampleCalculator = new LocalSampleCalculator(client, settings);
@@ -661,6 +706,7 @@ public class MachineLearningPlugin extends Plugin
                 mlPredictTaskRunner,
                 mlTrainAndPredictTaskRunner,
                 mlExecuteTaskRunner,
+                mlBatchInferenceTaskRunner,
                 modelAccessControlHelper,
                 connectorAccessControlHelper,
                 mlFeatureEnabledSetting,
@@ -689,6 +735,7 @@ public class MachineLearningPlugin extends Plugin
         RestMLStatsAction restMLStatsAction = new RestMLStatsAction(mlStats, clusterService, indexUtils, xContentRegistry);
         RestMLTrainingAction restMLTrainingAction = new RestMLTrainingAction();
         RestMLTrainAndPredictAction restMLTrainAndPredictAction = new RestMLTrainAndPredictAction();
+        RestMLBatchInferenceAction restMLBatchInferenceAction = new RestMLBatchInferenceAction();
         RestMLPredictionAction restMLPredictionAction = new RestMLPredictionAction(mlModelManager, mlFeatureEnabledSetting);
         RestMLExecuteAction restMLExecuteAction = new RestMLExecuteAction(mlFeatureEnabledSetting);
         RestMLGetModelAction restMLGetModelAction = new RestMLGetModelAction();
@@ -748,6 +795,7 @@ public class MachineLearningPlugin extends Plugin
                 restMLPredictionAction,
                 restMLExecuteAction,
                 restMLTrainAndPredictAction,
+                restMLBatchInferenceAction,
                 restMLGetModelAction,
                 restMLDeleteModelAction,
                 restMLSearchModelAction,
@@ -922,7 +970,19 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_MEMORY_FEATURE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_RAG_PIPELINE_FEATURE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_AGENT_FRAMEWORK_ENABLED,
-                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE,
+                MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS,
+                MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE,
+                MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE,
+                MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_MAX_SIZE,
+                MLCommonsSettings.ML_COMMONS_STATEFUL_MODEL_CHECKPOINT_INTERVAL_IN_SECONDS,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY,
+                MLCommonsSettings.ML_COMMONS_OUTPUT_SCHEMA_VALIDATION_SAMPLE_PERCENTAGE,
+                MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_NODE_LOAD_REFRESH_INTERVAL_IN_MILLIS,
+                MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD,
+                MLCommonsSettings.ML_COMMONS_SEARCH_QUERY_INPUT_MAX_DOCS
             );
         return settings;
     }
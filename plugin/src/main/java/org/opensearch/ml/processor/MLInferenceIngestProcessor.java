@@ -7,12 +7,18 @@ package org.opensearch.ml.processor;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.support.GroupedActionListener;
@@ -22,6 +28,7 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.ValueSource;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -39,6 +46,11 @@ import com.jayway.jsonpath.Option;
  * MLInferenceIngestProcessor requires a modelId string to call model inferences
  * maps fields in document for model input, and maps model inference output to new document fields
  * this processor also handles dot path notation for nested object( map of array) by rewriting json path accordingly
+ * <p>
+ * When batch_size is larger than 1, documents of a bulk request are predicted in batches of up to batch_size
+ * documents with one prediction task per input map: every model input field is sent as an array with one element
+ * per document, and every model output field of the output map has to be an array with one element per document,
+ * in the same order, which is written back to the documents.
  */
 public class MLInferenceIngestProcessor extends AbstractProcessor implements ModelExecutor {
 
@@ -47,6 +59,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     private final boolean ignoreMissing;
     private final boolean ignoreFailure;
     private final ScriptService scriptService;
+    private final int batchSize;
     private static Client client;
     public static final String TYPE = "ml_inference";
     public static final String DEFAULT_OUTPUT_FIELD_NAME = "inference_results";
@@ -56,6 +69,9 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     // At default, ml inference processor allows maximum 10 prediction tasks running in parallel
     // it can be overwritten using max_prediction_tasks when creating processor
     public static final int DEFAULT_MAX_PREDICTION_TASKS = 10;
+    // max number of documents predicted in one prediction task, 1 predicts every document on its own
+    public static final String BATCH_SIZE = "batch_size";
+    public static final int DEFAULT_BATCH_SIZE = 1;
 
     private Configuration suppressExceptionConfiguration = Configuration
         .builder()
@@ -68,6 +84,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         List<Map<String, String>> outputMaps,
         Map<String, String> modelConfigMaps,
         int maxPredictionTask,
+        int batchSize,
         String tag,
         String description,
         boolean ignoreMissing,
@@ -86,6 +103,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         this.ignoreMissing = ignoreMissing;
         this.ignoreFailure = ignoreFailure;
         this.scriptService = scriptService;
+        this.batchSize = batchSize;
         this.client = client;
     }
 
@@ -98,6 +116,14 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
      */
     @Override
     public void execute(IngestDocument ingestDocument, BiConsumer<IngestDocument, Exception> handler) {
+        // a single document still uses the batch input and output format, so that the maps work for any request
+        if (batchSize > 1) {
+            processBatchPredictions(List.of(new IngestDocumentWrapper(0, ingestDocument, null)), results -> {
+                Exception e = results.get(0).getException();
+                handler.accept(e == null ? ingestDocument : null, e);
+            });
+            return;
+        }
 
         List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
         List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
@@ -128,6 +154,206 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         }
     }
 
+    /**
+     * Process the documents of a bulk request in batches of up to batch_size documents. A failure of a document
+     * only fails this document, a failure of a prediction task fails the documents of its batch.
+     *
+     * @param ingestDocumentWrappers The documents to be processed.
+     * @param handler                A consumer for handling the processed documents, in the same order.
+     */
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (ingestDocumentWrappers.isEmpty()) {
+            handler.accept(ingestDocumentWrappers);
+            return;
+        }
+        int chunkSize = Math.max(batchSize, 1);
+        int size = ingestDocumentWrappers.size();
+        IngestDocumentWrapper[] results = new IngestDocumentWrapper[size];
+        AtomicInteger pendingChunks = new AtomicInteger((size + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < size; from += chunkSize) {
+            int offset = from;
+            List<IngestDocumentWrapper> chunk = ingestDocumentWrappers.subList(from, Math.min(from + chunkSize, size));
+            Consumer<List<IngestDocumentWrapper>> chunkHandler = chunkResults -> {
+                for (int i = 0; i < chunkResults.size(); i++) {
+                    results[offset + i] = chunkResults.get(i);
+                }
+                if (pendingChunks.decrementAndGet() == 0) {
+                    handler.accept(Arrays.asList(results));
+                }
+            };
+            if (batchSize > 1) {
+                processBatchPredictions(chunk, chunkHandler);
+            } else {
+                IngestDocumentWrapper wrapper = chunk.get(0);
+                if (wrapper.getIngestDocument() == null || wrapper.getException() != null) {
+                    chunkHandler.accept(chunk);
+                } else {
+                    execute(
+                        wrapper.getIngestDocument(),
+                        (document, e) -> chunkHandler
+                            .accept(List.of(new IngestDocumentWrapper(wrapper.getSlot(), wrapper.getIngestDocument(), e)))
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Predict a batch of documents with one prediction task per input map.
+     *
+     * @param ingestDocumentWrappers The documents of the batch.
+     * @param handler                A consumer for handling the processed documents, in the same order.
+     */
+    private void processBatchPredictions(
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
+        List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
+        int inputMapSize = (processInputMap != null) ? processInputMap.size() : 0;
+        // failure of each document, by its position in the batch
+        Map<Integer, Exception> failures = new ConcurrentHashMap<>();
+        List<Integer> documentIndexes = new ArrayList<>();
+        for (int i = 0; i < ingestDocumentWrappers.size(); i++) {
+            IngestDocumentWrapper wrapper = ingestDocumentWrappers.get(i);
+            if (wrapper.getIngestDocument() != null && wrapper.getException() == null) {
+                documentIndexes.add(i);
+            }
+        }
+
+        Runnable completeBatch = () -> {
+            List<IngestDocumentWrapper> results = new ArrayList<>(ingestDocumentWrappers.size());
+            for (int i = 0; i < ingestDocumentWrappers.size(); i++) {
+                IngestDocumentWrapper wrapper = ingestDocumentWrappers.get(i);
+                Exception e = failures.get(i);
+                if (e == null || ignoreFailure) {
+                    results.add(wrapper);
+                } else {
+                    results.add(new IngestDocumentWrapper(wrapper.getSlot(), wrapper.getIngestDocument(), e));
+                }
+            }
+            handler.accept(results);
+        };
+        ActionListener<Collection<Void>> batchListener = ActionListener.wrap(r -> completeBatch.run(), e -> {
+            documentIndexes.forEach(i -> failures.putIfAbsent(i, e));
+            completeBatch.run();
+        });
+        GroupedActionListener<Void> batchPredictionListener = new GroupedActionListener<>(batchListener, Math.max(inputMapSize, 1));
+
+        for (int inputMapIndex = 0; inputMapIndex < Math.max(inputMapSize, 1); inputMapIndex++) {
+            try {
+                processBatchPrediction(
+                    ingestDocumentWrappers,
+                    documentIndexes,
+                    failures,
+                    processInputMap,
+                    processOutputMap,
+                    inputMapIndex,
+                    inputMapSize,
+                    batchPredictionListener
+                );
+            } catch (Exception e) {
+                documentIndexes.forEach(i -> failures.putIfAbsent(i, e));
+                batchPredictionListener.onResponse(null);
+            }
+        }
+    }
+
+    /**
+     * Predict one input map for a batch of documents. The model input of every document is collected as in
+     * {@link #processPredictions}, every model input field is sent as an array with one element per document,
+     * null when the document misses the field, and every model output field of the output map is split back
+     * to the documents.
+     */
+    private void processBatchPrediction(
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        List<Integer> documentIndexes,
+        Map<Integer, Exception> failures,
+        List<Map<String, String>> processInputMap,
+        List<Map<String, String>> processOutputMap,
+        int inputMapIndex,
+        int inputMapSize,
+        GroupedActionListener<Void> batchPredictionListener
+    ) {
+        List<Integer> predictedIndexes = new ArrayList<>();
+        List<Map<String, String>> documentInputs = new ArrayList<>();
+        Set<String> modelInputFieldNames = new LinkedHashSet<>();
+        for (int i : documentIndexes) {
+            try {
+                Map<String, String> documentInput = new HashMap<>();
+                IngestDocument ingestDocument = ingestDocumentWrappers.get(i).getIngestDocument();
+                getMappedModelInput(ingestDocument, documentInput, processInputMap, inputMapIndex, inputMapSize);
+                if (!documentInput.isEmpty()) {
+                    predictedIndexes.add(i);
+                    documentInputs.add(documentInput);
+                    modelInputFieldNames.addAll(documentInput.keySet());
+                }
+            } catch (Exception e) {
+                failures.putIfAbsent(i, e);
+            }
+        }
+        if (predictedIndexes.isEmpty()) {
+            batchPredictionListener.onResponse(null);
+            return;
+        }
+
+        Map<String, String> modelParameters = new HashMap<>();
+        if (inferenceProcessorAttributes.getModelConfigMaps() != null) {
+            modelParameters.putAll(inferenceProcessorAttributes.getModelConfigMaps());
+        }
+        for (String modelInputFieldName : modelInputFieldNames) {
+            String values = documentInputs
+                .stream()
+                .map(documentInput -> documentInput.getOrDefault(modelInputFieldName, "null"))
+                .collect(Collectors.joining(",", "[", "]"));
+            modelParameters.put(modelInputFieldName, values);
+        }
+        ActionRequest request = getRemoteModelInferenceRequest(modelParameters, inferenceProcessorAttributes.getModelId());
+
+        client.execute(MLPredictionTaskAction.INSTANCE, request, ActionListener.wrap(mlTaskResponse -> {
+            try {
+                ModelTensorOutput modelTensorOutput = (ModelTensorOutput) mlTaskResponse.getOutput();
+                Map<String, String> outputMapping = processOutputMap.get(inputMapIndex);
+                for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
+                    // document field as key, model field as value
+                    String newDocumentFieldName = entry.getKey();
+                    String modelOutputFieldName = entry.getValue();
+                    Object modelOutputValue = getModelOutputValue(modelTensorOutput, modelOutputFieldName, ignoreMissing);
+                    if (!(modelOutputValue instanceof List) || ((List<?>) modelOutputValue).size() != predictedIndexes.size()) {
+                        throw new IllegalArgumentException(
+                            "the prediction field: "
+                                + modelOutputFieldName
+                                + " is not an array in size of the batch of "
+                                + predictedIndexes.size()
+                                + " documents"
+                        );
+                    }
+                    List<?> modelOutputValues = (List<?>) modelOutputValue;
+                    for (int j = 0; j < predictedIndexes.size(); j++) {
+                        int documentIndex = predictedIndexes.get(j);
+                        if (failures.containsKey(documentIndex)) {
+                            continue;
+                        }
+                        try {
+                            IngestDocument ingestDocument = ingestDocumentWrappers.get(documentIndex).getIngestDocument();
+                            checkOutputFieldNotExists(ingestDocument, newDocumentFieldName);
+                            setFieldValue(modelOutputValues.get(j), modelOutputFieldName, newDocumentFieldName, ingestDocument);
+                        } catch (Exception e) {
+                            failures.putIfAbsent(documentIndex, e);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                predictedIndexes.forEach(i -> failures.putIfAbsent(i, e));
+            }
+            batchPredictionListener.onResponse(null);
+        }, e -> {
+            predictedIndexes.forEach(i -> failures.putIfAbsent(i, e));
+            batchPredictionListener.onResponse(null);
+        }));
+    }
+
     /**
      * This method was called previously within
      * execute( IngestDocument ingestDocument, BiConsumer (IngestDocument, Exception)  handler)
@@ -167,22 +393,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         if (inferenceProcessorAttributes.getModelConfigMaps() != null) {
             modelParameters.putAll(inferenceProcessorAttributes.getModelConfigMaps());
         }
-        // when no input mapping is provided, default to read all fields from documents as model input
-        if (inputMapSize == 0) {
-            Set<String> documentFields = ingestDocument.getSourceAndMetadata().keySet();
-            for (String field : documentFields) {
-                getMappedModelInputFromDocuments(ingestDocument, modelParameters, field, field);
-            }
-
-        } else {
-            Map<String, String> inputMapping = processInputMap.get(inputMapIndex);
-            for (Map.Entry<String, String> entry : inputMapping.entrySet()) {
-                // model field as key, document field as value
-                String modelInputFieldName = entry.getKey();
-                String documentFieldName = entry.getValue();
-                getMappedModelInputFromDocuments(ingestDocument, modelParameters, documentFieldName, modelInputFieldName);
-            }
-        }
+        getMappedModelInput(ingestDocument, modelParameters, processInputMap, inputMapIndex, inputMapSize);
 
         ActionRequest request = getRemoteModelInferenceRequest(modelParameters, inferenceProcessorAttributes.getModelId());
 
@@ -202,13 +413,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                         // document field as key, model field as value
                         String newDocumentFieldName = entry.getKey();
                         String modelOutputFieldName = entry.getValue();
-                        if (ingestDocument.hasField(newDocumentFieldName)) {
-                            throw new IllegalArgumentException(
-                                "document already has field name "
-                                    + newDocumentFieldName
-                                    + ". Not allow to overwrite the same field name, please check output_map."
-                            );
-                        }
+                        checkOutputFieldNotExists(ingestDocument, newDocumentFieldName);
                         appendFieldValue(modelTensorOutput, modelOutputFieldName, newDocumentFieldName, ingestDocument);
                     }
                 }
@@ -223,6 +428,51 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
 
     }
 
+    /**
+     * Collects the model input of one input map from the IngestDocument into the model parameters.
+     * when no input mappings provided, default to add all fields to model input fields.
+     *
+     * @param ingestDocument   The IngestDocument object containing the data.
+     * @param modelParameters  The map to store the model parameters.
+     * @param processInputMap  A list of maps containing input field mappings.
+     * @param inputMapIndex    The current index of the inputMap.
+     * @param inputMapSize     The size of inputMap.
+     */
+    private void getMappedModelInput(
+        IngestDocument ingestDocument,
+        Map<String, String> modelParameters,
+        List<Map<String, String>> processInputMap,
+        int inputMapIndex,
+        int inputMapSize
+    ) {
+        // when no input mapping is provided, default to read all fields from documents as model input
+        if (inputMapSize == 0) {
+            Set<String> documentFields = ingestDocument.getSourceAndMetadata().keySet();
+            for (String field : documentFields) {
+                getMappedModelInputFromDocuments(ingestDocument, modelParameters, field, field);
+            }
+
+        } else {
+            Map<String, String> inputMapping = processInputMap.get(inputMapIndex);
+            for (Map.Entry<String, String> entry : inputMapping.entrySet()) {
+                // model field as key, document field as value
+                String modelInputFieldName = entry.getKey();
+                String documentFieldName = entry.getValue();
+                getMappedModelInputFromDocuments(ingestDocument, modelParameters, documentFieldName, modelInputFieldName);
+            }
+        }
+    }
+
+    private void checkOutputFieldNotExists(IngestDocument ingestDocument, String newDocumentFieldName) {
+        if (ingestDocument.hasField(newDocumentFieldName)) {
+            throw new IllegalArgumentException(
+                "document already has field name "
+                    + newDocumentFieldName
+                    + ". Not allow to overwrite the same field name, please check output_map."
+            );
+        }
+    }
+
     /**
      * Retrieves the mapped model input from the IngestDocument and updates the model parameters.
      *
@@ -316,49 +566,63 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         String newDocumentFieldName,
         IngestDocument ingestDocument
     ) {
-        Object modelOutputValue = null;
-
         if (modelTensorOutput.getMlModelOutputs() != null && modelTensorOutput.getMlModelOutputs().size() > 0) {
+            Object modelOutputValue = getModelOutputValue(modelTensorOutput, modelOutputFieldName, ignoreMissing);
+            setFieldValue(modelOutputValue, modelOutputFieldName, newDocumentFieldName, ingestDocument);
+        } else {
+            throw new RuntimeException("model inference output cannot be null");
+        }
+    }
 
-            modelOutputValue = getModelOutputValue(modelTensorOutput, modelOutputFieldName, ignoreMissing);
-
-            List<String> dotPathsInArray = writeNewDotPathForNestedObject(ingestDocument.getSourceAndMetadata(), newDocumentFieldName);
+    /**
+     * Sets the model output value to the specified field in the IngestDocument, or to every element of the field
+     * when the field is in an array of nested objects.
+     *
+     * @param modelOutputValue     the model output value
+     * @param modelOutputFieldName the name of the field in the model output
+     * @param newDocumentFieldName the name of the field in the IngestDocument to set the value to
+     * @param ingestDocument       the IngestDocument to set the value to
+     */
+    private void setFieldValue(
+        Object modelOutputValue,
+        String modelOutputFieldName,
+        String newDocumentFieldName,
+        IngestDocument ingestDocument
+    ) {
+        List<String> dotPathsInArray = writeNewDotPathForNestedObject(ingestDocument.getSourceAndMetadata(), newDocumentFieldName);
 
-            if (dotPathsInArray.size() == 1) {
-                ValueSource ingestValue = ValueSource.wrap(modelOutputValue, scriptService);
+        if (dotPathsInArray.size() == 1) {
+            ValueSource ingestValue = ValueSource.wrap(modelOutputValue, scriptService);
+            TemplateScript.Factory ingestField = ConfigurationUtils
+                .compileTemplate(TYPE, tag, newDocumentFieldName, newDocumentFieldName, scriptService);
+            ingestDocument.setFieldValue(ingestField, ingestValue, ignoreMissing);
+        } else {
+            if (!(modelOutputValue instanceof List)) {
+                throw new IllegalArgumentException("Model output is not an array, cannot assign to array in documents.");
+            }
+            List<?> modelOutputValueArray = (List<?>) modelOutputValue;
+            // check length of the prediction array to be the same of the document array
+            if (dotPathsInArray.size() != modelOutputValueArray.size()) {
+                throw new RuntimeException(
+                    "the prediction field: "
+                        + modelOutputFieldName
+                        + " is an array in size of "
+                        + modelOutputValueArray.size()
+                        + " but the document field array from field "
+                        + newDocumentFieldName
+                        + " is in size of "
+                        + dotPathsInArray.size()
+                );
+            }
+            // Iterate over dotPathInArray
+            for (int i = 0; i < dotPathsInArray.size(); i++) {
+                String dotPathInArray = dotPathsInArray.get(i);
+                Object modelOutputValueInArray = modelOutputValueArray.get(i);
+                ValueSource ingestValue = ValueSource.wrap(modelOutputValueInArray, scriptService);
                 TemplateScript.Factory ingestField = ConfigurationUtils
-                    .compileTemplate(TYPE, tag, newDocumentFieldName, newDocumentFieldName, scriptService);
+                    .compileTemplate(TYPE, tag, dotPathInArray, dotPathInArray, scriptService);
                 ingestDocument.setFieldValue(ingestField, ingestValue, ignoreMissing);
-            } else {
-                if (!(modelOutputValue instanceof List)) {
-                    throw new IllegalArgumentException("Model output is not an array, cannot assign to array in documents.");
-                }
-                List<?> modelOutputValueArray = (List<?>) modelOutputValue;
-                // check length of the prediction array to be the same of the document array
-                if (dotPathsInArray.size() != modelOutputValueArray.size()) {
-                    throw new RuntimeException(
-                        "the prediction field: "
-                            + modelOutputFieldName
-                            + " is an array in size of "
-                            + modelOutputValueArray.size()
-                            + " but the document field array from field "
-                            + newDocumentFieldName
-                            + " is in size of "
-                            + dotPathsInArray.size()
-                    );
-                }
-                // Iterate over dotPathInArray
-                for (int i = 0; i < dotPathsInArray.size(); i++) {
-                    String dotPathInArray = dotPathsInArray.get(i);
-                    Object modelOutputValueInArray = modelOutputValueArray.get(i);
-                    ValueSource ingestValue = ValueSource.wrap(modelOutputValueInArray, scriptService);
-                    TemplateScript.Factory ingestField = ConfigurationUtils
-                        .compileTemplate(TYPE, tag, dotPathInArray, dotPathInArray, scriptService);
-                    ingestDocument.setFieldValue(ingestField, ingestValue, ignoreMissing);
-                }
             }
-        } else {
-            throw new RuntimeException("model inference output cannot be null");
         }
     }
 
@@ -406,6 +670,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
             List<Map<String, String>> outputMaps = ConfigurationUtils.readOptionalList(TYPE, processorTag, config, OUTPUT_MAP);
             int maxPredictionTask = ConfigurationUtils
                 .readIntProperty(TYPE, processorTag, config, MAX_PREDICTION_TASKS, DEFAULT_MAX_PREDICTION_TASKS);
+            int batchSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, BATCH_SIZE, DEFAULT_BATCH_SIZE);
             boolean ignoreMissing = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, IGNORE_MISSING, false);
             boolean ignoreFailure = ConfigurationUtils
                 .readBooleanProperty(TYPE, processorTag, config, ConfigurationUtils.IGNORE_FAILURE_KEY, false);
@@ -427,6 +692,13 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
             if (inputMaps != null && outputMaps != null && outputMaps.size() != inputMaps.size()) {
                 throw new IllegalArgumentException("The length of output_map and the length of input_map do no match.");
             }
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batch_size should be a positive number.");
+            }
+            // batch predictions are written back to the documents by output_map
+            if (batchSize > 1 && (outputMaps == null || outputMaps.isEmpty())) {
+                throw new IllegalArgumentException("output_map is required when batch_size is larger than 1.");
+            }
 
             return new MLInferenceIngestProcessor(
                 modelId,
@@ -434,6 +706,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 outputMaps,
                 modelConfigMaps,
                 maxPredictionTask,
+                batchSize,
                 processorTag,
                 description,
                 ignoreMissing,
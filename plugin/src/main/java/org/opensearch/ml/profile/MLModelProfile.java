@@ -6,6 +6,7 @@
 package org.opensearch.ml.profile;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -24,6 +25,8 @@ import lombok.extern.log4j.Log4j2;
 @Getter
 @Log4j2
 public class MLModelProfile implements ToXContentFragment, Writeable {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_SCRIPT_STATS = Version.V_2_15_0;
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_PHASE_LATENCY_STATS = Version.V_2_15_0;
 
     private final MLModelState modelState;
     private final String predictor;
@@ -33,6 +36,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
     private final MLPredictRequestStats predictRequestStats;
     private final Long memSizeEstimationCPU;
     private final Long memSizeEstimationGPU;
+    private final MLScriptStats scriptStats;
+    // latency stats of predict phases, keyed by phase name
+    private final Map<String, MLPredictRequestStats> phaseLatencyStats;
     @Setter
     private Boolean isHidden;
 
@@ -45,7 +51,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         MLPredictRequestStats modelInferenceStats,
         MLPredictRequestStats predictRequestStats,
         Long memSizeEstimationCPU,
-        Long memSizeEstimationGPU
+        Long memSizeEstimationGPU,
+        MLScriptStats scriptStats,
+        Map<String, MLPredictRequestStats> phaseLatencyStats
     ) {
         this.modelState = modelState;
         this.predictor = predictor;
@@ -55,6 +63,8 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         this.predictRequestStats = predictRequestStats;
         this.memSizeEstimationCPU = memSizeEstimationCPU;
         this.memSizeEstimationGPU = memSizeEstimationGPU;
+        this.scriptStats = scriptStats;
+        this.phaseLatencyStats = phaseLatencyStats;
     }
 
     @Override
@@ -87,6 +97,12 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (isHidden != null && isHidden) {
             builder.field("is_hidden", true);
         }
+        if (scriptStats != null) {
+            builder.field("script_stats", scriptStats);
+        }
+        if (phaseLatencyStats != null) {
+            builder.field("phase_latency_stats", phaseLatencyStats);
+        }
         builder.endObject();
         return builder;
     }
@@ -116,6 +132,16 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamInputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             this.isHidden = in.readOptionalBoolean();
         }
+        if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_SCRIPT_STATS) && in.readBoolean()) {
+            this.scriptStats = new MLScriptStats(in);
+        } else {
+            this.scriptStats = null;
+        }
+        if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PHASE_LATENCY_STATS) && in.readBoolean()) {
+            this.phaseLatencyStats = in.readMap(StreamInput::readString, MLPredictRequestStats::new);
+        } else {
+            this.phaseLatencyStats = null;
+        }
     }
 
     @Override
@@ -147,5 +173,21 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamOutputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             out.writeOptionalBoolean(isHidden);
         }
+        if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_SCRIPT_STATS)) {
+            if (scriptStats != null) {
+                out.writeBoolean(true);
+                scriptStats.writeTo(out);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
+        if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_PHASE_LATENCY_STATS)) {
+            if (phaseLatencyStats != null) {
+                out.writeBoolean(true);
+                out.writeMap(phaseLatencyStats, StreamOutput::writeString, (stream, stats) -> stats.writeTo(stream));
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 }
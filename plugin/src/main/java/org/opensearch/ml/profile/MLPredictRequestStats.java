@@ -12,6 +12,7 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.engine.utils.LatencyHistogram;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -40,6 +41,28 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         this.p99 = p99;
     }
 
+    /**
+     * Create stats in milliseconds from the latencies currently kept in a histogram.
+     * @param histogram latency histogram in microseconds
+     * @return stats, or null if the histogram is empty
+     */
+    public static MLPredictRequestStats fromHistogram(LatencyHistogram histogram) {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        if (snapshot.getCount() == 0) {
+            return null;
+        }
+        return MLPredictRequestStats
+            .builder()
+            .count(snapshot.getCount())
+            .max(snapshot.getMax() / 1000.0)
+            .min(snapshot.getMin() / 1000.0)
+            .average(snapshot.getAverage() / 1000)
+            .p50(snapshot.getPercentile(50) / 1000)
+            .p90(snapshot.getPercentile(90) / 1000)
+            .p99(snapshot.getPercentile(99) / 1000)
+            .build();
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject();
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.connector.ConnectorScriptCache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Compile and execute stats of the painless pre/post process functions of a remote model connector.
+ */
+@Getter
+public class MLScriptStats implements ToXContentFragment, Writeable {
+
+    private final long cachedScripts;
+    private final long compileCount;
+    private final long compileTimeInNanos;
+    private final long executeCount;
+    private final long executeTimeInNanos;
+
+    @Builder
+    public MLScriptStats(long cachedScripts, long compileCount, long compileTimeInNanos, long executeCount, long executeTimeInNanos) {
+        this.cachedScripts = cachedScripts;
+        this.compileCount = compileCount;
+        this.compileTimeInNanos = compileTimeInNanos;
+        this.executeCount = executeCount;
+        this.executeTimeInNanos = executeTimeInNanos;
+    }
+
+    public static MLScriptStats of(ConnectorScriptCache scriptCache) {
+        return MLScriptStats
+            .builder()
+            .cachedScripts(scriptCache.getCachedScriptCount())
+            .compileCount(scriptCache.getCompileCount())
+            .compileTimeInNanos(scriptCache.getCompileTimeInNanos())
+            .executeCount(scriptCache.getExecuteCount())
+            .executeTimeInNanos(scriptCache.getExecuteTimeInNanos())
+            .build();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("cached_scripts", cachedScripts);
+        builder.field("compile_count", compileCount);
+        builder.field("compile_time_in_millis", TimeUnit.NANOSECONDS.toMillis(compileTimeInNanos));
+        builder.field("execute_count", executeCount);
+        builder.field("execute_time_in_millis", TimeUnit.NANOSECONDS.toMillis(executeTimeInNanos));
+        builder.endObject();
+        return builder;
+    }
+
+    public MLScriptStats(StreamInput in) throws IOException {
+        this.cachedScripts = in.readVLong();
+        this.compileCount = in.readVLong();
+        this.compileTimeInNanos = in.readVLong();
+        this.executeCount = in.readVLong();
+        this.executeTimeInNanos = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(cachedScripts);
+        out.writeVLong(compileCount);
+        out.writeVLong(compileTimeInNanos);
+        out.writeVLong(executeCount);
+        out.writeVLong(executeTimeInNanos);
+    }
+}
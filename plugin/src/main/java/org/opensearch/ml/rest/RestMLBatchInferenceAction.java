@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceAction;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceInput;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+public class RestMLBatchInferenceAction extends BaseRestHandler {
+    private static final String ML_BATCH_INFERENCE_ACTION = "ml_batch_inference_action";
+
+    /**
+     * Constructor
+     */
+    public RestMLBatchInferenceAction() {}
+
+    @Override
+    public String getName() {
+        return ML_BATCH_INFERENCE_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList
+            .of(
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/models/{%s}/_batch_inference", ML_BASE_URI, PARAMETER_MODEL_ID)
+                )
+            );
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        MLBatchInferenceRequest mlBatchInferenceRequest = getRequest(request);
+        return channel -> client
+            .execute(MLBatchInferenceAction.INSTANCE, mlBatchInferenceRequest, new RestToXContentListener<>(channel));
+    }
+
+    /**
+     * Creates a MLBatchInferenceRequest from a RestRequest
+     *
+     * @param request RestRequest
+     * @return MLBatchInferenceRequest
+     */
+    @VisibleForTesting
+    MLBatchInferenceRequest getRequest(RestRequest request) throws IOException {
+        String modelId = getParameterId(request, PARAMETER_MODEL_ID);
+
+        XContentParser parser = request.contentParser();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        MLBatchInferenceInput input = MLBatchInferenceInput.parse(parser, modelId);
+
+        return new MLBatchInferenceRequest(input);
+    }
+}
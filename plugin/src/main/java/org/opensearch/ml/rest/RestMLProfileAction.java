@@ -208,7 +208,9 @@ public class RestMLProfileAction extends BaseRestHandler {
                     entry.getValue().getModelInferenceStats(),
                     entry.getValue().getPredictRequestStats(),
                     entry.getValue().getMemSizeEstimationCPU(),
-                    entry.getValue().getMemSizeEstimationGPU()
+                    entry.getValue().getMemSizeEstimationGPU(),
+                    entry.getValue().getScriptStats(),
+                    entry.getValue().getPhaseLatencyStats()
                 );
                 mlProfileModelResponse.getMlModelProfileMap().putAll(ImmutableMap.of(nodeId, modelProfile));
             }
@@ -9,6 +9,8 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAProcessorConstants;
 
@@ -184,4 +186,105 @@ public final class MLCommonsSettings {
     // This setting is to enable/disable agent related API register/execute/delete/get/search agent.
     public static final Setting<Boolean> ML_COMMONS_AGENT_FRAMEWORK_ENABLED = Setting
         .boolSetting("plugins.ml_commons.agent_framework_enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Coalesce concurrent predict requests of the same local model into one batched forward pass.
+    public static final Setting<Boolean> ML_COMMONS_PREDICT_BATCHING_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.predict_batching.enable", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    public static final Setting<Integer> ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE = Setting
+        .intSetting(
+            "plugins.ml_commons.predict_batching.max_batch_size",
+            32,
+            1,
+            1024,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Long> ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS = Setting
+        .longSetting(
+            "plugins.ml_commons.predict_batching.max_wait_in_micros",
+            2000,
+            0,
+            1_000_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Disk budget of the node local cache of deployed model zip files, 0 disables the cache.
+    public static final Setting<ByteSizeValue> ML_COMMONS_MODEL_ARTIFACT_CACHE_MAX_SIZE = Setting
+        .byteSizeSetting(
+            "plugins.ml_commons.model_artifact_cache.max_size",
+            new ByteSizeValue(5, ByteSizeUnit.GB),
+            Setting.Property.NodeScope
+        );
+
+    // Memory budget of the node local cache of deserialized trained models predicted without deploying them, 0 disables the cache.
+    public static final Setting<ByteSizeValue> ML_COMMONS_TRAINED_MODEL_CACHE_MAX_SIZE = Setting
+        .memorySizeSetting("plugins.ml_commons.trained_model_cache.max_size", "1%", Setting.Property.NodeScope);
+
+    // Max number of model chunks retrieved in parallel, or kept in memory ahead of the next chunk to write, when deploying a model.
+    public static final Setting<Integer> ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY = Setting
+        .intSetting("plugins.ml_commons.model_chunk_retrieval.concurrency", 4, 1, 32, Setting.Property.NodeScope);
+
+    // Interval of checkpointing the state of deployed models which are updated by predictions, like FIT RCF. 0 disables checkpoints.
+    public static final Setting<Integer> ML_COMMONS_STATEFUL_MODEL_CHECKPOINT_INTERVAL_IN_SECONDS = Setting
+        .intSetting("plugins.ml_commons.stateful_model.checkpoint_interval_in_seconds", 60, 0, 86400, Setting.Property.NodeScope);
+
+    // Max number of predict requests waiting on a node for a model being auto deployed, later requests are rejected.
+    public static final Setting<Integer> ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS = Setting
+        .intSetting(
+            "plugins.ml_commons.model_auto_deploy.max_waiting_requests",
+            1000,
+            0,
+            100_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Percentage of predict responses validated against the output schema of the model interface.
+    public static final Setting<Integer> ML_COMMONS_OUTPUT_SCHEMA_VALIDATION_SAMPLE_PERCENTAGE = Setting
+        .intSetting(
+            "plugins.ml_commons.output_schema_validation.sample_percentage",
+            100,
+            0,
+            100,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max age of the cached node loads the least_load task dispatch policy picks nodes from. 0 gets the node loads for every dispatch.
+    public static final Setting<Integer> ML_COMMONS_TASK_DISPATCH_NODE_LOAD_REFRESH_INTERVAL_IN_MILLIS = Setting
+        .intSetting(
+            "plugins.ml_commons.task_dispatch.node_load_refresh_interval_in_millis",
+            1000,
+            0,
+            60_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Predict requests run on the coordinating node without dispatching if it's a worker node of the model and fewer than this
+    // number of predict requests are queued on it. 0 always dispatches predict requests with the task dispatch policy.
+    public static final Setting<Integer> ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD = Setting
+        .intSetting(
+            "plugins.ml_commons.task_dispatch.local_predict_queue_threshold",
+            0,
+            0,
+            10_000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max number of documents read from the search query input of train and predict requests. Requests with a larger size, or
+    // without size and matching more documents, are rejected.
+    public static final Setting<Integer> ML_COMMONS_SEARCH_QUERY_INPUT_MAX_DOCS = Setting
+        .intSetting(
+            "plugins.ml_commons.search_query_input.max_docs",
+            1_000_000,
+            1,
+            Integer.MAX_VALUE,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
 }
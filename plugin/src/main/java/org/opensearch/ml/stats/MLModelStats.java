@@ -16,10 +16,14 @@ import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
+import org.opensearch.ml.profile.MLPredictRequestStats;
 
 import lombok.Getter;
 
 public class MLModelStats implements ToXContentFragment, Writeable {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_LATENCY_STATS = Version.V_2_15_0;
+    public static final String MODEL_INFERENCE_LATENCY = "model_inference";
+    public static final String PREDICT_REQUEST_LATENCY = "predict_request";
 
     /**
      * Model stats.
@@ -31,6 +35,12 @@ public class MLModelStats implements ToXContentFragment, Writeable {
     private Map<ActionName, MLActionStats> modelStats;
     @Getter
     private Boolean isHidden;
+    /**
+     * Latency stats of the model on this node.
+     * Key: model_inference, predict_request or the name of a predict phase.
+     */
+    @Getter
+    private Map<String, MLPredictRequestStats> latencyStats;
 
     public MLModelStats(StreamInput in) throws IOException {
         Version streamInputVersion = in.getVersion();
@@ -40,12 +50,19 @@ public class MLModelStats implements ToXContentFragment, Writeable {
         if (streamInputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             this.isHidden = in.readOptionalBoolean();
         }
-
+        if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_LATENCY_STATS) && in.readBoolean()) {
+            this.latencyStats = in.readMap(StreamInput::readString, MLPredictRequestStats::new);
+        }
     }
 
     public MLModelStats(Map<ActionName, MLActionStats> modelStats, Boolean isHidden) {
+        this(modelStats, isHidden, null);
+    }
+
+    public MLModelStats(Map<ActionName, MLActionStats> modelStats, Boolean isHidden, Map<String, MLPredictRequestStats> latencyStats) {
         this.modelStats = modelStats;
         this.isHidden = isHidden;
+        this.latencyStats = latencyStats;
     }
 
     @Override
@@ -60,6 +77,14 @@ public class MLModelStats implements ToXContentFragment, Writeable {
         if (streamOutputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             out.writeOptionalBoolean(isHidden);
         }
+        if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_LATENCY_STATS)) {
+            if (latencyStats != null && latencyStats.size() > 0) {
+                out.writeBoolean(true);
+                out.writeMap(latencyStats, StreamOutput::writeString, (stream, stats) -> stats.writeTo(stream));
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
     @Override
@@ -71,6 +96,9 @@ public class MLModelStats implements ToXContentFragment, Writeable {
                 builder.endObject();
             }
         }
+        if (latencyStats != null && latencyStats.size() > 0) {
+            builder.field("latency_stats", latencyStats);
+        }
         if (isHidden != null && isHidden) {
             builder.field("is_hidden", true);
         }
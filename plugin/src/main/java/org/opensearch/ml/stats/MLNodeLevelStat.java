@@ -16,7 +16,15 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_REMOTE_HTTP_CLIENT_COUNT, // How many shared http clients remote connectors use on this node.
+    ML_REMOTE_HTTP_LEASED_CONNECTION_COUNT,
+    ML_REMOTE_HTTP_PENDING_ACQUIRE_COUNT, // How many remote requests are waiting for a free connection.
+    ML_REMOTE_HTTP_POOL_SATURATION, // Highest connection usage in percent of any remote host connection pool.
+    ML_TRAINED_MODEL_CACHE_HIT_COUNT, // How many predict requests of trained models used a cached deserialized model.
+    ML_TRAINED_MODEL_CACHE_MISS_COUNT,
+    ML_TRAINED_MODEL_CACHE_SIZE_IN_BYTES,
+    ML_PREDICT_QUEUE_SIZE; // How many predict requests are waiting in the predict thread pools of this node.
 
     public static MLNodeLevelStat from(String value) {
         try {
@@ -0,0 +1,800 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.transport.batch.MLBatchInferenceInput.BATCH_INFERENCE_CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.transport.batch.MLBatchInferenceInput.BATCH_INFERENCE_INPUT_FIELD;
+import static org.opensearch.ml.permission.AccessController.getUserContext;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.dataset.MLInputDataType;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.MLTrainingOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceAction;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceInput;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceRequest;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportResponseHandler;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * MLBatchInferenceTaskRunner is responsible for running batch inference tasks. A batch inference job reads the source
+ * documents page by page, predicts each page in concurrent batches of the model, and writes the inference results of
+ * the page to the destination index with one bulk request. The progress of the job is checkpointed into the ML task
+ * doc, and the running node renews the task every {@link #HEARTBEAT_INTERVAL}. The job of a task which is not updated
+ * within {@link #TASK_LEASE} is resumed by the sync up cron, as the user who started the job.
+ */
+@Log4j2
+public class MLBatchInferenceTaskRunner extends MLTaskRunner<MLBatchInferenceRequest, MLTaskResponse> {
+    public static final TimeValue TASK_LEASE = TimeValue.timeValueMinutes(10);
+    public static final TimeValue HEARTBEAT_INTERVAL = TimeValue.timeValueMinutes(1);
+    public static final ImmutableSet<MLTaskState> RESUMABLE_STATES = ImmutableSet.of(MLTaskState.CREATED, MLTaskState.RUNNING);
+    public static final String PROCESSED_DOCS_FIELD = "processed_docs";
+    public static final String FAILED_DOCS_FIELD = "failed_docs";
+    public static final String TOTAL_DOCS_FIELD = "total_docs";
+    public static final String SEARCH_AFTER_FIELD = "search_after";
+    static final int DEFAULT_BATCH_SIZE = 32;
+    // batches of one page are predicted concurrently
+    static final int BATCHES_PER_PAGE = 4;
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+    private static final long CHECKPOINT_INTERVAL_IN_MILLIS = 10_000;
+
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final Client client;
+    private final MLModelManager mlModelManager;
+    private final NamedXContentRegistry xContentRegistry;
+
+    public MLBatchInferenceTaskRunner(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        Client client,
+        MLTaskManager mlTaskManager,
+        MLStats mlStats,
+        MLTaskDispatcher mlTaskDispatcher,
+        MLCircuitBreakerService mlCircuitBreakerService,
+        DiscoveryNodeHelper nodeHelper,
+        MLModelManager mlModelManager,
+        NamedXContentRegistry xContentRegistry
+    ) {
+        super(mlTaskManager, mlStats, nodeHelper, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.client = client;
+        this.mlModelManager = mlModelManager;
+        this.xContentRegistry = xContentRegistry;
+    }
+
+    @Override
+    protected String getTransportActionName() {
+        return MLBatchInferenceAction.NAME;
+    }
+
+    @Override
+    protected TransportResponseHandler<MLTaskResponse> getResponseHandler(ActionListener<MLTaskResponse> listener) {
+        return new ActionListenerResponseHandler<>(listener, MLTaskResponse::new);
+    }
+
+    @Override
+    protected void executeTask(MLBatchInferenceRequest request, ActionListener<MLTaskResponse> listener) {
+        if (request.getTaskId() != null) {
+            resumeTask(request.getTaskId(), getUserContext(client), listener);
+        } else {
+            startTask(request.getBatchInferenceInput(), listener);
+        }
+    }
+
+    private void startTask(MLBatchInferenceInput input, ActionListener<MLTaskResponse> listener) {
+        mlModelManager.getModel(input.getModelId(), ActionListener.wrap(mlModel -> {
+            Instant now = Instant.now();
+            MLTask mlTask = MLTask
+                .builder()
+                .taskType(MLTaskType.BATCH_INFERENCE)
+                .modelId(input.getModelId())
+                .functionName(mlModel.getAlgorithm())
+                .inputType(MLInputDataType.SEARCH_QUERY)
+                .state(MLTaskState.CREATED)
+                .outputIndex(input.getDestinationIndex())
+                .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
+                .createTime(now)
+                .lastUpdateTime(now)
+                .async(true)
+                // the job is resumed as this user
+                .user(getUserContext(client))
+                .build();
+            int batchSize = getBatchSize(input, mlModel);
+            mlTaskManager.createMLTask(mlTask, ActionListener.wrap(r -> {
+                String taskId = r.getId();
+                mlTask.setTaskId(taskId);
+                // save the job into the task, so the job can be resumed from the task
+                Map<String, Object> updatedFields = ImmutableMap.of(BATCH_INFERENCE_INPUT_FIELD, toMap(input));
+                mlTaskManager.updateMLTaskDirectly(taskId, updatedFields, ActionListener.wrap(res -> {
+                    listener.onResponse(new MLTaskResponse(new MLTrainingOutput(null, taskId, mlTask.getState().name())));
+                    Map<String, Object> runningFields = ImmutableMap
+                        .of(MLTask.STATE_FIELD, MLTaskState.RUNNING.name(), MLTask.WORKER_NODE_FIELD, mlTask.getWorkerNodes());
+                    mlTaskManager.updateMLTaskDirectly(taskId, runningFields);
+                    runJob(mlTask, input, batchSize, new Checkpoint());
+                }, e -> {
+                    log.error("Failed to save batch inference input of task " + taskId, e);
+                    listener.onFailure(e);
+                }));
+            }, e -> {
+                log.error("Failed to create ML task", e);
+                listener.onFailure(e);
+            }));
+        }, e -> {
+            log.error("Failed to get model " + input.getModelId(), e);
+            listener.onFailure(e);
+        }));
+    }
+
+    /**
+     * Resume the job of a batch inference task from its last checkpoint. The task is claimed by updating it with the
+     * sequence number it was read with, so a task resumed by several nodes at the same time only runs on one of them.
+     * @param taskId id of the batch inference task
+     * @param requestUser user who resumes the task, null if the task is resumed by the sync up cron
+     * @param listener action listener
+     */
+    private void resumeTask(String taskId, User requestUser, ActionListener<MLTaskResponse> listener) {
+        if (mlTaskManager.contains(taskId)) {
+            log.debug("Batch inference task {} is already running on this node", taskId);
+            listener.onResponse(new MLTaskResponse(new MLTrainingOutput(null, taskId, MLTaskState.RUNNING.name())));
+            return;
+        }
+        GetRequest getRequest = new GetRequest(ML_TASK_INDEX).id(taskId);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.get(getRequest, ActionListener.runBefore(ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    listener.onFailure(new MLResourceNotFoundException("Can't find batch inference task " + taskId));
+                    return;
+                }
+                MLTask mlTask;
+                try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, r.getSourceAsBytesRef())) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                    mlTask = MLTask.parse(parser);
+                }
+                mlTask.setTaskId(taskId);
+                Map<String, Object> source = r.getSourceAsMap();
+                if (mlTask.getTaskType() != MLTaskType.BATCH_INFERENCE || !RESUMABLE_STATES.contains(mlTask.getState())) {
+                    listener.onFailure(new IllegalArgumentException("Task " + taskId + " is not a resumable batch inference task"));
+                    return;
+                }
+                if (!isTaskOwner(requestUser, mlTask.getUser())) {
+                    listener
+                        .onFailure(
+                            new OpenSearchStatusException("User doesn't have privilege to resume task " + taskId, RestStatus.FORBIDDEN)
+                        );
+                    return;
+                }
+                MLBatchInferenceInput input;
+                try {
+                    if (!(source.get(BATCH_INFERENCE_INPUT_FIELD) instanceof Map)) {
+                        throw new IllegalArgumentException("Can't find batch inference input of task " + taskId);
+                    }
+                    input = parseInput((Map<String, Object>) source.get(BATCH_INFERENCE_INPUT_FIELD));
+                } catch (Exception e) {
+                    failTask(taskId, e);
+                    listener.onFailure(e);
+                    return;
+                }
+                Checkpoint checkpoint = Checkpoint.fromMap((Map<String, Object>) source.get(BATCH_INFERENCE_CHECKPOINT_FIELD));
+                mlModelManager.getModel(input.getModelId(), ActionListener.wrap(mlModel -> {
+                    claimTask(mlTask, r.getSeqNo(), r.getPrimaryTerm(), ActionListener.wrap(claimed -> {
+                        listener.onResponse(new MLTaskResponse(new MLTrainingOutput(null, taskId, MLTaskState.RUNNING.name())));
+                        if (!claimed) {
+                            log.debug("Batch inference task {} is already resumed by another node", taskId);
+                            return;
+                        }
+                        log.info("Resume batch inference task {} after {} processed documents", taskId, checkpoint.processedDocs);
+                        try (ThreadContext.StoredContext userContext = injectUser(mlTask.getUser())) {
+                            runJob(mlTask, input, getBatchSize(input, mlModel), checkpoint);
+                        }
+                    }, listener::onFailure));
+                }, e -> {
+                    failTask(taskId, e);
+                    listener.onFailure(e);
+                }));
+            }, e -> {
+                log.error("Failed to get batch inference task " + taskId, e);
+                listener.onFailure(e);
+            }), context::restore));
+        }
+    }
+
+    /**
+     * A task can be resumed by the sync up cron, which has no user, or by the user who started it.
+     */
+    @VisibleForTesting
+    static boolean isTaskOwner(User requestUser, User taskUser) {
+        // request user is null if security is disabled, the request user is super admin or the task is resumed by the cron
+        if (requestUser == null || taskUser == null) {
+            return true;
+        }
+        return requestUser.getName() != null && requestUser.getName().equals(taskUser.getName());
+    }
+
+    /**
+     * Claim the task by setting it to running on this node, if the task is not updated since it was read.
+     * @param mlTask ML task
+     * @param seqNo sequence number of the task doc when it was read
+     * @param primaryTerm primary term of the task doc when it was read
+     * @param listener action listener of whether the task is claimed by this node
+     */
+    private void claimTask(MLTask mlTask, long seqNo, long primaryTerm, ActionListener<Boolean> listener) {
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(MLTask.STATE_FIELD, MLTaskState.RUNNING.name());
+        updatedFields.put(MLTask.WORKER_NODE_FIELD, ImmutableList.of(clusterService.localNode().getId()));
+        updatedFields.put(MLTask.LAST_UPDATE_TIME_FIELD, Instant.now().toEpochMilli());
+        UpdateRequest updateRequest = new UpdateRequest(ML_TASK_INDEX, mlTask.getTaskId())
+            .doc(updatedFields)
+            .setIfSeqNo(seqNo)
+            .setIfPrimaryTerm(primaryTerm)
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.update(updateRequest, ActionListener.runBefore(ActionListener.wrap(r -> listener.onResponse(true), e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
+                    listener.onResponse(false);
+                } else {
+                    log.error("Failed to claim batch inference task " + mlTask.getTaskId(), e);
+                    listener.onFailure(e);
+                }
+            }), context::restore));
+        }
+    }
+
+    /**
+     * Stash the thread context and run as the given user in the stashed context, so the search, predict and bulk
+     * requests of a resumed job are checked against the privileges of the user who started the job.
+     * @param user user who started the job, the current context is kept if null
+     * @return stored context to restore
+     */
+    private ThreadContext.StoredContext injectUser(User user) {
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        if (user == null) {
+            return threadContext.newStoredContext(true);
+        }
+        ThreadContext.StoredContext context = threadContext.stashContext();
+        threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, toUserInfo(user));
+        threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_INJECTED_ROLES, user.getName() + "|" + join(user.getRoles()));
+        return context;
+    }
+
+    /**
+     * Format the user as username|backend roles|roles|requested tenant, which can be parsed with User.parse(string).
+     */
+    @VisibleForTesting
+    static String toUserInfo(User user) {
+        StringBuilder userInfo = new StringBuilder(user.getName())
+            .append('|')
+            .append(join(user.getBackendRoles()))
+            .append('|')
+            .append(join(user.getRoles()));
+        if (user.getRequestedTenant() != null) {
+            userInfo.append('|').append(user.getRequestedTenant());
+        }
+        return userInfo.toString();
+    }
+
+    private static String join(List<String> values) {
+        return values == null ? "" : String.join(",", values);
+    }
+
+    private void runJob(MLTask mlTask, MLBatchInferenceInput input, int batchSize, Checkpoint checkpoint) {
+        String taskId = mlTask.getTaskId();
+        mlTask.setState(MLTaskState.RUNNING);
+        mlTask.setWorkerNodes(ImmutableList.of(clusterService.localNode().getId()));
+        try {
+            mlTaskManager.add(mlTask);
+        } catch (Exception e) {
+            log.warn("Batch inference task {} is already running on this node", taskId);
+            return;
+        }
+        // track ML task count and add ML task into cache
+        mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
+        mlStats.getStat(MLNodeLevelStat.ML_REQUEST_COUNT).increment();
+        // renew the task lease while the job runs, as one page can take longer than the lease
+        Scheduler.Cancellable heartbeat = threadPool
+            .scheduleWithFixedDelay(
+                () -> mlTaskManager.updateMLTaskDirectly(taskId, ImmutableMap.of(MLTask.WORKER_NODE_FIELD, mlTask.getWorkerNodes())),
+                HEARTBEAT_INTERVAL,
+                GENERAL_THREAD_POOL
+            );
+        ActionListener<MLTaskResponse> internalListener = wrappedCleanupListener(ActionListener.runBefore(ActionListener.wrap(r -> {
+            log.info("Batch inference task {} completed, processed documents: {}", taskId, checkpoint.processedDocs);
+            completeTask(mlTask, checkpoint);
+        }, e -> {
+            log.error("Failed to run batch inference task " + taskId, e);
+            mlStats.getStat(MLNodeLevelStat.ML_FAILURE_COUNT).increment();
+            handleAsyncMLTaskFailure(mlTask, e);
+        }), heartbeat::cancel), taskId);
+        try {
+            new BatchInferenceJob(mlTask, input, batchSize, checkpoint, internalListener).start();
+        } catch (Exception e) {
+            internalListener.onFailure(e);
+        }
+    }
+
+    private void completeTask(MLTask mlTask, Checkpoint checkpoint) {
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(MLTask.PROGRESS_FIELD, 1.0f);
+        updatedFields.put(BATCH_INFERENCE_CHECKPOINT_FIELD, checkpoint.toMap());
+        if (checkpoint.failedDocs > 0) {
+            updatedFields.put(MLTask.STATE_FIELD, MLTaskState.COMPLETED_WITH_ERROR.name());
+            updatedFields.put(MLTask.ERROR_FIELD, "Failed to write inference results of " + checkpoint.failedDocs + " documents");
+        } else {
+            updatedFields.put(MLTask.STATE_FIELD, MLTaskState.COMPLETED.name());
+        }
+        // wait for 2 seconds to make sure completed state persisted
+        mlTaskManager.updateMLTask(mlTask.getTaskId(), updatedFields, TIMEOUT_IN_MILLIS, true);
+    }
+
+    private void failTask(String taskId, Exception e) {
+        log.error("Failed to resume batch inference task " + taskId, e);
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(MLTask.STATE_FIELD, MLTaskState.FAILED.name());
+        updatedFields.put(MLTask.ERROR_FIELD, e.getMessage());
+        mlTaskManager.updateMLTaskDirectly(taskId, updatedFields);
+    }
+
+    /**
+     * Get the batch size of the job, which is the batch size of the input capped at the batch size of the model.
+     */
+    @VisibleForTesting
+    static int getBatchSize(MLBatchInferenceInput input, MLModel mlModel) {
+        Integer modelBatchSize = mlModel.getModelConfig() instanceof TextEmbeddingModelConfig
+            ? ((TextEmbeddingModelConfig) mlModel.getModelConfig()).getBatchSize()
+            : null;
+        if (input.getBatchSize() == null) {
+            return modelBatchSize == null ? DEFAULT_BATCH_SIZE : modelBatchSize;
+        }
+        return modelBatchSize == null ? input.getBatchSize() : Math.min(input.getBatchSize(), modelBatchSize);
+    }
+
+    /**
+     * Flatten the output of a predict request to one model tensor per document. Local models return one
+     * ModelTensors per document, whose first tensor is the inference result. Remote models which accept batches
+     * return one ModelTensors per request sent to the connector, with one tensor per document of the request.
+     * @param outputs model output
+     * @param docCount number of documents of the predict request
+     * @return model tensor of every document, or null if the output doesn't match the documents
+     */
+    @VisibleForTesting
+    static List<ModelTensor> getDocResults(List<ModelTensors> outputs, int docCount) {
+        if (outputs == null) {
+            return null;
+        }
+        List<ModelTensor> docResults = new ArrayList<>(docCount);
+        if (outputs.size() == docCount) {
+            for (ModelTensors modelTensors : outputs) {
+                List<ModelTensor> tensors = modelTensors == null ? null : modelTensors.getMlModelTensors();
+                docResults.add(tensors == null || tensors.isEmpty() ? null : tensors.get(0));
+            }
+            return docResults;
+        }
+        for (ModelTensors modelTensors : outputs) {
+            if (modelTensors != null && modelTensors.getMlModelTensors() != null) {
+                docResults.addAll(modelTensors.getMlModelTensors());
+            }
+        }
+        return docResults.size() == docCount ? docResults : null;
+    }
+
+    private Map<String, Object> toMap(MLBatchInferenceInput input) throws IOException {
+        BytesReference bytes = BytesReference.bytes(input.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        return XContentHelper.convertToMap(bytes, false, XContentType.JSON).v2();
+    }
+
+    private MLBatchInferenceInput parseInput(Map<String, Object> inputMap) throws IOException {
+        BytesReference bytes = BytesReference.bytes(XContentFactory.jsonBuilder().map(inputMap));
+        try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, bytes)) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            return MLBatchInferenceInput.parse(parser, null);
+        }
+    }
+
+    /**
+     * Progress of a batch inference job.
+     */
+    static class Checkpoint {
+        long processedDocs;
+        long failedDocs;
+        Long totalDocs;
+        Object[] searchAfter;
+
+        void reset() {
+            processedDocs = 0;
+            failedDocs = 0;
+            totalDocs = null;
+            searchAfter = null;
+        }
+
+        Float getProgress() {
+            if (totalDocs == null || totalDocs <= 0) {
+                return null;
+            }
+            return Math.min(1.0f, (float) processedDocs / totalDocs);
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put(PROCESSED_DOCS_FIELD, processedDocs);
+            map.put(FAILED_DOCS_FIELD, failedDocs);
+            if (totalDocs != null) {
+                map.put(TOTAL_DOCS_FIELD, totalDocs);
+            }
+            if (searchAfter != null) {
+                map.put(SEARCH_AFTER_FIELD, Arrays.asList(searchAfter));
+            }
+            return map;
+        }
+
+        static Checkpoint fromMap(Map<String, Object> map) {
+            Checkpoint checkpoint = new Checkpoint();
+            if (map == null) {
+                return checkpoint;
+            }
+            if (map.get(PROCESSED_DOCS_FIELD) instanceof Number) {
+                checkpoint.processedDocs = ((Number) map.get(PROCESSED_DOCS_FIELD)).longValue();
+            }
+            if (map.get(FAILED_DOCS_FIELD) instanceof Number) {
+                checkpoint.failedDocs = ((Number) map.get(FAILED_DOCS_FIELD)).longValue();
+            }
+            if (map.get(TOTAL_DOCS_FIELD) instanceof Number) {
+                checkpoint.totalDocs = ((Number) map.get(TOTAL_DOCS_FIELD)).longValue();
+            }
+            if (map.get(SEARCH_AFTER_FIELD) instanceof List) {
+                checkpoint.searchAfter = ((List<?>) map.get(SEARCH_AFTER_FIELD)).toArray();
+            }
+            return checkpoint;
+        }
+    }
+
+    /**
+     * Reads the source documents page by page, and predicts and writes each page before reading the next one.
+     * Documents are read with search_after if the source query has a sort, so the job resumes after the last
+     * checkpointed page. Otherwise they are read with a scroll in index order, which can't be resumed, and a
+     * resumed job reads all documents again, overwriting the results already written.
+     */
+    private class BatchInferenceJob implements ActionListener<SearchResponse> {
+        private final MLTask mlTask;
+        private final MLBatchInferenceInput input;
+        private final int batchSize;
+        private final int pageSize;
+        private final Checkpoint checkpoint;
+        private final ActionListener<MLTaskResponse> listener;
+        private final boolean useSearchAfter;
+        private String scrollId;
+        private long lastCheckpointTime;
+
+        BatchInferenceJob(
+            MLTask mlTask,
+            MLBatchInferenceInput input,
+            int batchSize,
+            Checkpoint checkpoint,
+            ActionListener<MLTaskResponse> listener
+        ) {
+            this.mlTask = mlTask;
+            this.input = input;
+            this.batchSize = batchSize;
+            this.pageSize = batchSize * BATCHES_PER_PAGE;
+            this.checkpoint = checkpoint;
+            this.listener = listener;
+            SearchSourceBuilder sourceQuery = input.getSourceQuery();
+            this.useSearchAfter = sourceQuery.sorts() != null && !sourceQuery.sorts().isEmpty();
+            this.lastCheckpointTime = System.currentTimeMillis();
+        }
+
+        void start() {
+            if (!useSearchAfter) {
+                checkpoint.reset();
+            }
+            search();
+        }
+
+        private void search() {
+            SearchSourceBuilder searchSourceBuilder = input
+                .getSourceQuery()
+                .shallowCopy()
+                .from(0)
+                .size(pageSize)
+                .fetchSource(input.getFieldMap().keySet().toArray(new String[0]), null)
+                // only count the documents once
+                .trackTotalHits(checkpoint.totalDocs == null);
+            SearchRequest searchRequest = new SearchRequest(input.getSourceIndices().toArray(new String[0]));
+            if (useSearchAfter) {
+                if (checkpoint.searchAfter != null) {
+                    searchSourceBuilder.searchAfter(checkpoint.searchAfter);
+                }
+            } else {
+                searchSourceBuilder.sort("_doc", SortOrder.ASC);
+                searchRequest.scroll(SCROLL_KEEP_ALIVE);
+            }
+            searchRequest.source(searchSourceBuilder);
+            client.search(searchRequest, threadedListener());
+        }
+
+        private void nextPage() {
+            if (useSearchAfter) {
+                search();
+            } else {
+                client.searchScroll(new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE), threadedListener());
+            }
+        }
+
+        private ActionListener<SearchResponse> threadedListener() {
+            return new ThreadedActionListener<>(log, threadPool, GENERAL_THREAD_POOL, this, false);
+        }
+
+        @Override
+        public void onResponse(SearchResponse response) {
+            SearchHit[] hits;
+            try {
+                if (response.getScrollId() != null) {
+                    scrollId = response.getScrollId();
+                }
+                if (checkpoint.totalDocs == null && response.getHits().getTotalHits() != null) {
+                    checkpoint.totalDocs = checkpoint.processedDocs + response.getHits().getTotalHits().value;
+                }
+                hits = response.getHits().getHits();
+            } catch (Exception e) {
+                onFailure(e);
+                return;
+            }
+            if (hits.length == 0) {
+                complete();
+                return;
+            }
+            predictPage(hits, ActionListener.wrap(failedDocs -> {
+                checkpoint.processedDocs += hits.length;
+                checkpoint.failedDocs += failedDocs;
+                if (useSearchAfter) {
+                    checkpoint.searchAfter = hits[hits.length - 1].getSortValues();
+                }
+                if (hits.length < pageSize) {
+                    // a page shorter than the page size is the last one
+                    complete();
+                } else {
+                    saveCheckpoint(this::nextPage);
+                }
+            }, this::onFailure));
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            clearScroll();
+            listener.onFailure(e);
+        }
+
+        private void complete() {
+            clearScroll();
+            listener.onResponse(new MLTaskResponse(new MLTrainingOutput(null, mlTask.getTaskId(), MLTaskState.COMPLETED.name())));
+        }
+
+        /**
+         * Save checkpoint into the ML task at most once per checkpoint interval, then run next step.
+         */
+        private void saveCheckpoint(Runnable next) {
+            long now = System.currentTimeMillis();
+            if (now - lastCheckpointTime < CHECKPOINT_INTERVAL_IN_MILLIS) {
+                next.run();
+                return;
+            }
+            Map<String, Object> updatedFields = new HashMap<>();
+            updatedFields.put(BATCH_INFERENCE_CHECKPOINT_FIELD, checkpoint.toMap());
+            if (checkpoint.getProgress() != null) {
+                updatedFields.put(MLTask.PROGRESS_FIELD, checkpoint.getProgress());
+            }
+            mlTaskManager.updateMLTaskDirectly(mlTask.getTaskId(), updatedFields, ActionListener.wrap(r -> {
+                lastCheckpointTime = now;
+                next.run();
+            }, this::onFailure));
+        }
+
+        /**
+         * Predict the hits of one page in batches and write the inference results with one bulk request.
+         * @param hits hits of the page
+         * @param listener action listener of the number of documents which failed to be written
+         */
+        private void predictPage(SearchHit[] hits, ActionListener<Long> listener) {
+            int batchCount = (hits.length + batchSize - 1) / batchSize;
+            ActionListener<Collection<List<UpdateRequest>>> bulkListener = ActionListener.wrap(batches -> {
+                BulkRequest bulkRequest = new BulkRequest();
+                batches.forEach(updateRequests -> updateRequests.forEach(bulkRequest::add));
+                if (bulkRequest.numberOfActions() == 0) {
+                    listener.onResponse(0L);
+                    return;
+                }
+                client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+                    long failedDocs = 0;
+                    if (bulkResponse.hasFailures()) {
+                        for (BulkItemResponse item : bulkResponse.getItems()) {
+                            if (item.isFailed()) {
+                                failedDocs++;
+                            }
+                        }
+                        log
+                            .warn(
+                                "Failed to write inference results of {} documents of batch inference task {}: {}",
+                                failedDocs,
+                                mlTask.getTaskId(),
+                                bulkResponse.buildFailureMessage()
+                            );
+                    }
+                    listener.onResponse(failedDocs);
+                }, listener::onFailure));
+            }, listener::onFailure);
+            GroupedActionListener<List<UpdateRequest>> groupedListener = new GroupedActionListener<>(bulkListener, batchCount);
+            for (int i = 0; i < hits.length; i += batchSize) {
+                predictBatch(Arrays.copyOfRange(hits, i, Math.min(i + batchSize, hits.length)), groupedListener);
+            }
+        }
+
+        /**
+         * Predict the mapped fields of the hits with one predict request.
+         * @param hits hits of the batch
+         * @param listener action listener of the update requests of the destination documents
+         */
+        private void predictBatch(SearchHit[] hits, ActionListener<List<UpdateRequest>> listener) {
+            try {
+                List<String> docs = new ArrayList<>();
+                // index of the hit and destination field of each doc
+                List<Integer> docHits = new ArrayList<>();
+                List<String> docFields = new ArrayList<>();
+                for (int i = 0; i < hits.length; i++) {
+                    Map<String, Object> source = hits[i].getSourceAsMap();
+                    if (source == null) {
+                        continue;
+                    }
+                    for (Map.Entry<String, String> entry : input.getFieldMap().entrySet()) {
+                        Object value = XContentMapValues.extractValue(entry.getKey(), source);
+                        if (value != null) {
+                            docs.add(value.toString());
+                            docHits.add(i);
+                            docFields.add(entry.getValue());
+                        }
+                    }
+                }
+                if (docs.isEmpty()) {
+                    listener.onResponse(Collections.emptyList());
+                    return;
+                }
+                MLInput mlInput = MLInput
+                    .builder()
+                    .algorithm(mlTask.getFunctionName())
+                    .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+                    .build();
+                MLPredictionTaskRequest predictionRequest = new MLPredictionTaskRequest(input.getModelId(), mlInput);
+                client.execute(MLPredictionTaskAction.INSTANCE, predictionRequest, ActionListener.wrap(response -> {
+                    List<ModelTensors> outputs = ((ModelTensorOutput) response.getOutput()).getMlModelOutputs();
+                    List<ModelTensor> docResults = getDocResults(outputs, docs.size());
+                    if (docResults == null) {
+                        listener
+                            .onFailure(
+                                new IllegalStateException(
+                                    "Model "
+                                        + input.getModelId()
+                                        + " returned "
+                                        + (outputs == null ? 0 : outputs.size())
+                                        + " inference results for "
+                                        + docs.size()
+                                        + " documents"
+                                )
+                            );
+                        return;
+                    }
+                    Map<Integer, Map<String, Object>> results = new LinkedHashMap<>();
+                    for (int i = 0; i < docs.size(); i++) {
+                        results.computeIfAbsent(docHits.get(i), it -> new HashMap<>()).put(docFields.get(i), getResult(docResults.get(i)));
+                    }
+                    List<UpdateRequest> updateRequests = new ArrayList<>(results.size());
+                    for (Map.Entry<Integer, Map<String, Object>> entry : results.entrySet()) {
+                        String docId = hits[entry.getKey()].getId();
+                        updateRequests.add(new UpdateRequest(input.getDestinationIndex(), docId).doc(entry.getValue()).docAsUpsert(true));
+                    }
+                    listener.onResponse(updateRequests);
+                }, listener::onFailure));
+            } catch (Exception e) {
+                listener.onFailure(e);
+            }
+        }
+
+        private Object getResult(ModelTensor modelTensor) {
+            if (modelTensor == null) {
+                return null;
+            }
+            if (modelTensor.getData() != null) {
+                return Arrays.asList(modelTensor.getData());
+            }
+            if (modelTensor.getDataAsMap() != null) {
+                return modelTensor.getDataAsMap();
+            }
+            return modelTensor.getResult();
+        }
+
+        private void clearScroll() {
+            if (scrollId == null) {
+                return;
+            }
+            ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+            clearScrollRequest.addScrollId(scrollId);
+            scrollId = null;
+            client.clearScroll(clearScrollRequest, ActionListener.wrap(r -> {}, e -> log.warn("Failed to clear scroll", e)));
+        }
+    }
+}
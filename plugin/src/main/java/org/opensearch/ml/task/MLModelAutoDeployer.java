@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Auto deploys models to the local node for predict requests of models which are not ready. Only the first request
+ * of a model deploys it, later requests wait in a bounded per model queue until that deploy completes, and all
+ * requests are released, or failed, together. Requests beyond max waiting requests are rejected.
+ */
+@Log4j2
+public class MLModelAutoDeployer {
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final MLModelManager mlModelManager;
+    private final Map<String, PendingDeploy> pendingDeploys = new ConcurrentHashMap<>();
+
+    private volatile int maxWaitingRequests;
+
+    public MLModelAutoDeployer(ThreadPool threadPool, ClusterService clusterService, Settings settings, MLModelManager mlModelManager) {
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.mlModelManager = mlModelManager;
+        maxWaitingRequests = ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS, it -> maxWaitingRequests = it);
+    }
+
+    /**
+     * Deploy model to the local node, or wait for the deploy of the model which is already in progress.
+     * @param modelId model id
+     * @param functionName function name of the model
+     * @param listener action listener, called in the thread context of the caller once the deploy completes
+     */
+    public void deploy(String modelId, FunctionName functionName, ActionListener<String> listener) {
+        ActionListener<String> waitingListener = new ContextPreservingActionListener<>(
+            threadPool.getThreadContext().newRestorableContext(false),
+            listener
+        );
+        // the setting can change while we wait, the limit checked must be the one the listener was added with
+        int maxWaitingRequests = this.maxWaitingRequests;
+        while (true) {
+            PendingDeploy newDeploy = new PendingDeploy();
+            PendingDeploy deploy = pendingDeploys.computeIfAbsent(modelId, k -> newDeploy);
+            int waitingCount = deploy.add(waitingListener, maxWaitingRequests);
+            if (waitingCount < 0) {
+                // deploy completed after we got it, retry with a new one
+                continue;
+            }
+            if (waitingCount > maxWaitingRequests) {
+                listener
+                    .onFailure(
+                        new OpenSearchStatusException(
+                            "Too many requests waiting for model " + modelId + " to be auto deployed",
+                            RestStatus.TOO_MANY_REQUESTS
+                        )
+                    );
+            } else if (deploy == newDeploy) {
+                startDeploy(modelId, functionName, deploy);
+            } else {
+                log.debug("Wait for auto deploy of model {} in progress", modelId);
+            }
+            return;
+        }
+    }
+
+    /**
+     * @return number of requests waiting for the auto deploy of the model, including the one which started it
+     */
+    public int getWaitingCount(String modelId) {
+        PendingDeploy deploy = pendingDeploys.get(modelId);
+        return deploy == null ? 0 : deploy.size();
+    }
+
+    private void startDeploy(String modelId, FunctionName functionName, PendingDeploy deploy) {
+        log.info("Auto deploy model {} to local node", modelId);
+        Instant now = Instant.now();
+        MLTask mlDeployTask = MLTask
+            .builder()
+            .taskId(UUID.randomUUID().toString())
+            .functionName(functionName)
+            .async(false)
+            .taskType(MLTaskType.DEPLOY_MODEL)
+            .createTime(now)
+            .lastUpdateTime(now)
+            .state(MLTaskState.RUNNING)
+            .workerNodes(Arrays.asList(clusterService.localNode().getId()))
+            .build();
+        try {
+            mlModelManager
+                .deployModel(
+                    modelId,
+                    null,
+                    functionName,
+                    false,
+                    true,
+                    mlDeployTask,
+                    ActionListener.wrap(r -> complete(modelId, deploy, r, null), e -> complete(modelId, deploy, null, e))
+                );
+        } catch (Exception e) {
+            complete(modelId, deploy, null, e);
+        }
+    }
+
+    private void complete(String modelId, PendingDeploy deploy, String result, Exception exception) {
+        pendingDeploys.remove(modelId, deploy);
+        List<ActionListener<String>> listeners = deploy.close();
+        if (listeners == null) {
+            // already completed
+            return;
+        }
+        if (exception != null) {
+            log.error("Failed to auto deploy model " + modelId, exception);
+        } else {
+            log.debug("Auto deployed model {}, release {} waiting requests", modelId, listeners.size());
+        }
+        for (ActionListener<String> listener : listeners) {
+            try {
+                if (exception != null) {
+                    listener.onFailure(exception);
+                } else {
+                    listener.onResponse(result);
+                }
+            } catch (Exception e) {
+                log.error("Failed to release request waiting for auto deploy of model " + modelId, e);
+            }
+        }
+    }
+
+    private static final class PendingDeploy {
+        private final List<ActionListener<String>> listeners = new ArrayList<>();
+        private boolean closed;
+
+        /**
+         * @return number of waiting requests after adding the listener, larger than max waiting requests if the
+         * listener is rejected, or -1 if the deploy is already completed
+         */
+        synchronized int add(ActionListener<String> listener, int maxWaitingRequests) {
+            if (closed) {
+                return -1;
+            }
+            // the request which starts the deploy doesn't count as a waiting request
+            if (listeners.size() > maxWaitingRequests) {
+                return listeners.size() + 1;
+            }
+            listeners.add(listener);
+            return listeners.size() - 1;
+        }
+
+        synchronized int size() {
+            return listeners.size();
+        }
+
+        /**
+         * @return waiting listeners, or null if the deploy is already completed
+         */
+        synchronized List<ActionListener<String>> close() {
+            if (closed) {
+                return null;
+            }
+            closed = true;
+            return listeners;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.collect.ImmutableSet;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Coalesces concurrent text docs predict requests of the same local model into one predict call.
+ * Requests are queued per model (and per algorithm parameters and result filter, which apply to the
+ * whole batch). The queue is flushed when it holds max batch size docs or when the first queued
+ * request has waited max wait time, whichever comes first. The output of the merged predict call is
+ * split back to each request in submission order.
+ */
+@Log4j2
+public class MLPredictRequestBatcher {
+    private static final Set<FunctionName> BATCHABLE_FUNCTIONS = ImmutableSet
+        .of(FunctionName.TEXT_EMBEDDING, FunctionName.SPARSE_ENCODING, FunctionName.SPARSE_TOKENIZE);
+
+    private final ThreadPool threadPool;
+    private final MLModelManager mlModelManager;
+    private final Map<BatchKey, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+    private volatile int maxBatchSize;
+    private volatile long maxWaitInMicros;
+
+    public MLPredictRequestBatcher(ThreadPool threadPool, ClusterService clusterService, Settings settings, MLModelManager mlModelManager) {
+        this.threadPool = threadPool;
+        this.mlModelManager = mlModelManager;
+        enabled = ML_COMMONS_PREDICT_BATCHING_ENABLED.get(settings);
+        maxBatchSize = ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE.get(settings);
+        maxWaitInMicros = ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_BATCHING_ENABLED, it -> enabled = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE, it -> maxBatchSize = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS, it -> maxWaitInMicros = it);
+    }
+
+    /**
+     * Check if predict request can be coalesced with other requests.
+     * @param mlInput ML input
+     * @return true if batching is enabled and the input is a small text docs input of a supported model
+     */
+    public boolean isBatchable(MLInput mlInput) {
+        if (!enabled || mlInput == null || !BATCHABLE_FUNCTIONS.contains(mlInput.getAlgorithm())) {
+            return false;
+        }
+        if (!(mlInput.getInputDataset() instanceof TextDocsInputDataSet)) {
+            return false;
+        }
+        return ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs().size() < maxBatchSize;
+    }
+
+    /**
+     * Queue predict request. The listener is called once the batch the request joined has been predicted.
+     * @param modelId model id
+     * @param predictor deployed model predictor
+     * @param mlInput text docs input
+     * @param listener action listener
+     */
+    public void predict(String modelId, Predictable predictor, MLInput mlInput, ActionListener<MLOutput> listener) {
+        BatchKey key = new BatchKey(modelId, mlInput);
+        PendingRequest request = new PendingRequest(
+            mlInput,
+            new ContextPreservingActionListener<>(threadPool.getThreadContext().newRestorableContext(false), listener)
+        );
+        while (true) {
+            PendingBatch batch = pendingBatches.computeIfAbsent(key, k -> new PendingBatch(predictor));
+            int docCount = batch.add(request);
+            if (docCount < 0) {
+                // batch was flushed after we got it, retry with a new one
+                continue;
+            }
+            if (docCount >= maxBatchSize) {
+                flush(modelId, key, batch);
+            } else if (docCount == request.size()) {
+                threadPool
+                    .schedule(
+                        () -> flush(modelId, key, batch),
+                        TimeValue.timeValueNanos(maxWaitInMicros * 1000L),
+                        PREDICT_THREAD_POOL
+                    );
+            }
+            return;
+        }
+    }
+
+    private void flush(String modelId, BatchKey key, PendingBatch batch) {
+        pendingBatches.remove(key, batch);
+        List<PendingRequest> requests = batch.close();
+        if (requests == null) {
+            // already flushed
+            return;
+        }
+        if (requests.size() == 1) {
+            PendingRequest request = requests.get(0);
+            try {
+                request.listener.onResponse(mlModelManager.trackPredictDuration(modelId, () -> batch.predictor.predict(request.mlInput)));
+            } catch (Exception e) {
+                request.listener.onFailure(e);
+            }
+            return;
+        }
+        log.debug("Coalesced {} predict requests of model {} into one batch", requests.size(), modelId);
+        try {
+            MLInput batchInput = mergeInputs(requests);
+            MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> batch.predictor.predict(batchInput));
+            List<ModelTensors> tensors = ((ModelTensorOutput) output).getMlModelOutputs();
+            int offset = 0;
+            for (PendingRequest request : requests) {
+                List<ModelTensors> requestTensors = new ArrayList<>(tensors.subList(offset, offset + request.size()));
+                offset += request.size();
+                request.listener.onResponse(new ModelTensorOutput(requestTensors));
+            }
+        } catch (Exception e) {
+            log.error("Failed to predict coalesced requests of model " + modelId, e);
+            for (PendingRequest request : requests) {
+                request.listener.onFailure(e);
+            }
+        }
+    }
+
+    private MLInput mergeInputs(List<PendingRequest> requests) {
+        List<String> docs = new ArrayList<>();
+        for (PendingRequest request : requests) {
+            docs.addAll(request.docs());
+        }
+        MLInput first = requests.get(0).mlInput;
+        TextDocsInputDataSet dataSet = ((TextDocsInputDataSet) first.getInputDataset()).toBuilder().docs(docs).build();
+        return first.toBuilder().inputDataset(dataSet).build();
+    }
+
+    private static final class PendingRequest {
+        private final MLInput mlInput;
+        private final ActionListener<MLOutput> listener;
+
+        PendingRequest(MLInput mlInput, ActionListener<MLOutput> listener) {
+            this.mlInput = mlInput;
+            this.listener = listener;
+        }
+
+        List<String> docs() {
+            return ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs();
+        }
+
+        int size() {
+            return docs().size();
+        }
+    }
+
+    private static final class PendingBatch {
+        private final Predictable predictor;
+        private final List<PendingRequest> requests = new ArrayList<>();
+        private int docCount;
+        private boolean closed;
+
+        PendingBatch(Predictable predictor) {
+            this.predictor = predictor;
+        }
+
+        /**
+         * @return doc count of the batch after adding the request, or -1 if the batch is already flushed
+         */
+        synchronized int add(PendingRequest request) {
+            if (closed) {
+                return -1;
+            }
+            requests.add(request);
+            docCount += request.size();
+            return docCount;
+        }
+
+        /**
+         * @return queued requests, or null if the batch is already flushed
+         */
+        synchronized List<PendingRequest> close() {
+            if (closed) {
+                return null;
+            }
+            closed = true;
+            return requests;
+        }
+    }
+
+    /**
+     * Requests can only share a forward pass if they target the same model with the same
+     * algorithm parameters and result filter.
+     */
+    private static final class BatchKey {
+        private final String modelId;
+        private final FunctionName algorithm;
+        private final MLAlgoParams parameters;
+        private final ModelResultFilter resultFilter;
+
+        BatchKey(String modelId, MLInput mlInput) {
+            this.modelId = modelId;
+            this.algorithm = mlInput.getAlgorithm();
+            this.parameters = mlInput.getParameters();
+            this.resultFilter = ((TextDocsInputDataSet) mlInput.getInputDataset()).getResultFilter();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey other = (BatchKey) o;
+            return Objects.equals(modelId, other.modelId)
+                && algorithm == other.algorithm
+                && Objects.equals(parameters, other.parameters)
+                && sameResultFilter(resultFilter, other.resultFilter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modelId, algorithm, parameters);
+        }
+
+        private static boolean sameResultFilter(ModelResultFilter a, ModelResultFilter b) {
+            if (a == null || b == null) {
+                return a == b;
+            }
+            return a.isReturnBytes() == b.isReturnBytes()
+                && a.isReturnNumber() == b.isReturnNumber()
+                && Objects.equals(a.getTargetResponse(), b.getTargetResponse())
+                && Objects.equals(a.getTargetResponsePositions(), b.getTargetResponsePositions());
+        }
+    }
+}
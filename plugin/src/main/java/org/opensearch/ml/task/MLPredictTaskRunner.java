@@ -14,10 +14,16 @@ import static org.opensearch.ml.permission.AccessController.getUserContext;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_OUTPUT_SCHEMA_VALIDATION_SAMPLE_PERCENTAGE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchStatusException;
@@ -29,6 +35,7 @@ import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
@@ -61,17 +68,22 @@ import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLTrainedModelCache;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.utils.MLNodeUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -88,7 +100,12 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     private final MLModelManager mlModelManager;
     private final DiscoveryNodeHelper nodeHelper;
     private final MLEngine mlEngine;
+    private final MLPredictRequestBatcher predictRequestBatcher;
+    private final MLModelAutoDeployer modelAutoDeployer;
+    private final MLTrainedModelCache trainedModelCache;
     private volatile boolean autoDeploymentEnabled;
+    private volatile int outputSchemaValidationSamplePercentage;
+    private volatile int localPredictQueueThreshold;
 
     public MLPredictTaskRunner(
         ThreadPool threadPool,
@@ -103,6 +120,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         MLModelManager mlModelManager,
         DiscoveryNodeHelper nodeHelper,
         MLEngine mlEngine,
+        MLTrainedModelCache trainedModelCache,
         Settings settings
     ) {
         super(mlTaskManager, mlStats, nodeHelper, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
@@ -114,10 +132,24 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         this.mlModelManager = mlModelManager;
         this.nodeHelper = nodeHelper;
         this.mlEngine = mlEngine;
+        this.trainedModelCache = trainedModelCache;
         autoDeploymentEnabled = ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE.get(settings);
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE, it -> autoDeploymentEnabled = it);
+        outputSchemaValidationSamplePercentage = ML_COMMONS_OUTPUT_SCHEMA_VALIDATION_SAMPLE_PERCENTAGE.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_OUTPUT_SCHEMA_VALIDATION_SAMPLE_PERCENTAGE,
+                it -> outputSchemaValidationSamplePercentage = it
+            );
+        localPredictQueueThreshold = ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD, it -> localPredictQueueThreshold = it);
+        this.predictRequestBatcher = new MLPredictRequestBatcher(threadPool, clusterService, settings, mlModelManager);
+        this.modelAutoDeployer = new MLModelAutoDeployer(threadPool, clusterService, settings, mlModelManager);
     }
 
     @Override
@@ -208,7 +240,11 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             } else {
                 mlModelManager.removeAutoDeployModel(modelId);
             }
-            mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
+            if (preferLocalWorkerNode(functionName, workerNodes)) {
+                actionListener.onResponse(clusterService.localNode());
+            } else {
+                mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
+            }
         } catch (Exception e) {
             log.error("Failed to predict model " + modelId, e);
             listener.onFailure(e);
@@ -257,7 +293,11 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             case TEXT_DOCS:
             default:
                 String threadPoolName = getPredictThreadPool(functionName);
-                threadPool.executor(threadPoolName).execute(() -> { predict(modelId, mlTask, mlInput, listener); });
+                long queuedTime = System.nanoTime();
+                threadPool.executor(threadPoolName).execute(() -> {
+                    mlModelManager.trackPredictPhase(modelId, PredictPhaseLatencies.Phase.QUEUE_WAIT, queuedTime);
+                    predict(modelId, mlTask, mlInput, listener);
+                });
                 break;
         }
     }
@@ -269,6 +309,23 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         return mlModel.getDeploySetting().getIsAutoDeployEnabled();
     }
 
+    /**
+     * Check if the predict request should run on the local node without being dispatched, which saves a transport hop
+     * and the serialization of the request. The local node is preferred if it's one of the worker nodes and fewer than
+     * the local predict queue threshold predict requests are waiting in its predict thread pool of the function.
+     */
+    @VisibleForTesting
+    boolean preferLocalWorkerNode(FunctionName functionName, String[] workerNodes) {
+        if (localPredictQueueThreshold <= 0 || workerNodes == null) {
+            return false;
+        }
+        if (!Arrays.asList(workerNodes).contains(clusterService.localNode().getId())) {
+            return false;
+        }
+        ExecutorService executor = threadPool.executor(getPredictThreadPool(functionName));
+        return executor instanceof ThreadPoolExecutor && ((ThreadPoolExecutor) executor).getQueue().size() < localPredictQueueThreshold;
+    }
+
     private String getPredictThreadPool(FunctionName functionName) {
         return functionName == FunctionName.REMOTE ? REMOTE_PREDICT_THREAD_POOL : PREDICT_THREAD_POOL;
     }
@@ -291,25 +348,13 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         Predictable predictor = mlModelManager.getPredictor(modelId);
         boolean modelReady = predictor != null && predictor.isModelReady();
         if (!modelReady && FunctionName.isAutoDeployEnabled(autoDeploymentEnabled, functionName)) {
-            log.info("Auto deploy model {} to local node", modelId);
-            Instant now = Instant.now();
-            MLTask mlDeployTask = MLTask
-                .builder()
-                .taskId(UUID.randomUUID().toString())
-                .functionName(functionName)
-                .async(false)
-                .taskType(MLTaskType.DEPLOY_MODEL)
-                .createTime(now)
-                .lastUpdateTime(now)
-                .state(MLTaskState.RUNNING)
-                .workerNodes(Arrays.asList(clusterService.localNode().getId()))
-                .build();
-            mlModelManager.deployModel(modelId, null, functionName, false, true, mlDeployTask, ActionListener.wrap(s -> {
+            // concurrent requests share one deploy of the model, and predict in parallel once it's deployed
+            modelAutoDeployer.deploy(modelId, functionName, threadedActionListener(functionName, ActionListener.wrap(s -> {
                 runPredict(modelId, mlTask, mlInput, functionName, internalListener);
             }, e -> {
                 log.error("Failed to auto deploy model " + modelId, e);
                 internalListener.onFailure(e);
-            }));
+            })));
             return;
         }
 
@@ -342,6 +387,14 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                             internalListener.onResponse(output);
                         }, e -> handlePredictFailure(mlTask, internalListener, e, false, modelId));
                         predictor.asyncPredict(mlInput, trackPredictDurationListener);
+                    } else if (predictRequestBatcher.isBatchable(mlInput)) {
+                        predictRequestBatcher.predict(modelId, predictor, mlInput, ActionListener.wrap(output -> {
+                            if (output instanceof ModelTensorOutput) {
+                                validateOutputSchema(modelId, (ModelTensorOutput) output);
+                            }
+                            handleAsyncMLTaskComplete(mlTask);
+                            internalListener.onResponse(new MLTaskResponse(output));
+                        }, e -> handlePredictFailure(mlTask, internalListener, e, false, modelId)));
                     } else {
                         MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
                         if (output instanceof MLPredictionOutput) {
@@ -364,74 +417,123 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                 throw new IllegalArgumentException("Model not ready to be used: " + modelId);
             }
 
-            // search model by model id.
-            try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
-                ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
-                    if (r == null || !r.isExists()) {
-                        internalListener.onFailure(new ResourceNotFoundException("No model found, please check the modelId."));
+            // search model by model id, only check the version of the model document if the model is cached
+            predictWithTrainedModel(modelId, mlTask, mlInput, !trainedModelCache.contains(modelId), internalListener);
+        } else {
+            IllegalArgumentException e = new IllegalArgumentException("ModelId is invalid");
+            log.error("ModelId is invalid", e);
+            handlePredictFailure(mlTask, internalListener, e, false, modelId);
+        }
+    }
+
+    /**
+     * Predict with a trained model which is not deployed. The deserialized model is cached by the sequence number
+     * and primary term of the model document, so the model content is only read and deserialized if the model is
+     * not cached or has changed.
+     */
+    private void predictWithTrainedModel(
+        String modelId,
+        MLTask mlTask,
+        MLInput mlInput,
+        boolean fetchSource,
+        ActionListener<MLTaskResponse> internalListener
+    ) {
+        try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+            ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    trainedModelCache.remove(modelId);
+                    internalListener.onFailure(new ResourceNotFoundException("No model found, please check the modelId."));
+                    return;
+                }
+                MLTrainedModelCache.TrainedModel trainedModel = trainedModelCache.get(modelId, r.getSeqNo(), r.getPrimaryTerm());
+                if (trainedModel == null && !fetchSource) {
+                    // the model changed after it was cached
+                    predictWithTrainedModel(modelId, mlTask, mlInput, true, internalListener);
+                    return;
+                }
+                try {
+                    MLModel mlModel = null;
+                    User resourceUser;
+                    if (trainedModel != null) {
+                        resourceUser = trainedModel.getUser();
+                    } else {
+                        mlModel = parseModel(modelId, r);
+                        resourceUser = mlModel.getUser();
+                    }
+                    User requestUser = getUserContext(client);
+                    if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
+                        // The backend roles of request user and resource user doesn't have intersection
+                        OpenSearchException e = new OpenSearchException(
+                            "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
+                        );
+                        handlePredictFailure(mlTask, internalListener, e, false, modelId);
                         return;
                     }
-                    try (
-                        XContentParser xContentParser = XContentType.JSON
-                            .xContent()
-                            .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, r.getSourceAsString())
-                    ) {
-                        ensureExpectedToken(XContentParser.Token.START_OBJECT, xContentParser.nextToken(), xContentParser);
-                        GetResponse getResponse = r;
-                        String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
-                        MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
-                        mlModel.setModelId(modelId);
-                        User resourceUser = mlModel.getUser();
-                        User requestUser = getUserContext(client);
-                        if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
-                            // The backend roles of request user and resource user doesn't have intersection
-                            OpenSearchException e = new OpenSearchException(
-                                "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
+                    if (trainedModel == null && trainedModelCache.isEnabled()) {
+                        Object deserializedModel = mlEngine.deserializeModel(mlModel);
+                        if (deserializedModel != null) {
+                            trainedModel = new MLTrainedModelCache.TrainedModel(
+                                deserializedModel,
+                                resourceUser,
+                                r.getSeqNo(),
+                                r.getPrimaryTerm(),
+                                mlModel.getContent() == null ? 0 : mlModel.getContent().length() * 3L / 4
                             );
-                            handlePredictFailure(mlTask, internalListener, e, false, modelId);
-                            return;
-                        }
-                        // run predict
-                        if (mlTaskManager.contains(mlTask.getTaskId())) {
-                            mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
+                            trainedModelCache.put(modelId, trainedModel);
                         }
-                        MLOutput output = mlEngine.predict(mlInput, mlModel);
-                        if (output instanceof MLPredictionOutput) {
-                            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
-                        }
-                        if (output instanceof ModelTensorOutput) {
-                            validateOutputSchema(modelId, (ModelTensorOutput) output);
-                        }
-                        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                        handleAsyncMLTaskComplete(mlTask);
-                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                        internalListener.onResponse(response);
-                    } catch (Exception e) {
-                        log.error("Failed to predict model " + modelId, e);
-                        internalListener.onFailure(e);
                     }
+                    // run predict
+                    if (mlTaskManager.contains(mlTask.getTaskId())) {
+                        mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.isAsync());
+                    }
+                    MLOutput output = trainedModel != null
+                        ? mlEngine.predictWithDeserializedModel(mlInput, trainedModel.getModel())
+                        : mlEngine.predict(mlInput, mlModel);
+                    if (output instanceof MLPredictionOutput) {
+                        ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+                    }
+                    if (output instanceof ModelTensorOutput) {
+                        validateOutputSchema(modelId, (ModelTensorOutput) output);
+                    }
+                    // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+                    handleAsyncMLTaskComplete(mlTask);
+                    MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+                    internalListener.onResponse(response);
+                } catch (Exception e) {
+                    log.error("Failed to predict model " + modelId, e);
+                    internalListener.onFailure(e);
+                }
 
-                }, e -> {
-                    log.error("Failed to predict " + mlInput.getAlgorithm() + ", modelId: " + mlTask.getModelId(), e);
-                    handlePredictFailure(mlTask, internalListener, e, true, modelId);
-                });
-                GetRequest getRequest = new GetRequest(ML_MODEL_INDEX, mlTask.getModelId());
-                client
-                    .get(
-                        getRequest,
-                        threadedActionListener(
-                            mlTask.getFunctionName(),
-                            ActionListener.runBefore(getModelListener, () -> context.restore())
-                        )
-                    );
-            } catch (Exception e) {
-                log.error("Failed to get model " + mlTask.getModelId(), e);
+            }, e -> {
+                log.error("Failed to predict " + mlInput.getAlgorithm() + ", modelId: " + mlTask.getModelId(), e);
                 handlePredictFailure(mlTask, internalListener, e, true, modelId);
+            });
+            GetRequest getRequest = new GetRequest(ML_MODEL_INDEX, mlTask.getModelId());
+            if (!fetchSource) {
+                getRequest.fetchSourceContext(FetchSourceContext.DO_NOT_FETCH_SOURCE);
             }
-        } else {
-            IllegalArgumentException e = new IllegalArgumentException("ModelId is invalid");
-            log.error("ModelId is invalid", e);
-            handlePredictFailure(mlTask, internalListener, e, false, modelId);
+            client
+                .get(
+                    getRequest,
+                    threadedActionListener(mlTask.getFunctionName(), ActionListener.runBefore(getModelListener, () -> context.restore()))
+                );
+        } catch (Exception e) {
+            log.error("Failed to get model " + mlTask.getModelId(), e);
+            handlePredictFailure(mlTask, internalListener, e, true, modelId);
+        }
+    }
+
+    private MLModel parseModel(String modelId, GetResponse getResponse) throws IOException {
+        try (
+            XContentParser xContentParser = XContentType.JSON
+                .xContent()
+                .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, getResponse.getSourceAsString())
+        ) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, xContentParser.nextToken(), xContentParser);
+            String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
+            MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
+            mlModel.setModelId(modelId);
+            return mlModel;
         }
     }
 
@@ -458,9 +560,30 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         listener.onFailure(e);
     }
 
+    /**
+     * Validate the output against the output schema of the model interface. Only the configured percentage of
+     * outputs is validated, the compiled schema cached with the model is used if it has one.
+     * @param modelId model id
+     * @param output model output
+     */
     public void validateOutputSchema(String modelId, ModelTensorOutput output) {
-        if (mlModelManager.getModelInterface(modelId) != null && mlModelManager.getModelInterface(modelId).get("output") != null) {
-            String outputSchemaString = mlModelManager.getModelInterface(modelId).get("output");
+        int samplePercentage = outputSchemaValidationSamplePercentage;
+        if (samplePercentage < 100 && Randomness.get().nextInt(100) >= samplePercentage) {
+            return;
+        }
+        JsonSchema outputSchema = mlModelManager.getModelOutputSchema(modelId);
+        if (outputSchema != null) {
+            try {
+                MLNodeUtils.validateSchema(outputSchema, MLNodeUtils.toJsonNode(output));
+            } catch (Exception e) {
+                throw new OpenSearchStatusException("Error validating output schema: " + e.getMessage(), RestStatus.BAD_REQUEST);
+            }
+            return;
+        }
+        // no compiled schema, e.g. the schema is not valid, parse it to report the error
+        Map<String, String> modelInterface = mlModelManager.getModelInterface(modelId);
+        if (modelInterface != null && modelInterface.get("output") != null) {
+            String outputSchemaString = modelInterface.get("output");
             try {
                 MLNodeUtils
                     .validateSchema(
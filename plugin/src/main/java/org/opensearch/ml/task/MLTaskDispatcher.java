@@ -6,12 +6,19 @@
 package org.opensearch.ml.task;
 
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_NODE_LOAD_REFRESH_INTERVAL_IN_MILLIS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.naming.LimitExceededException;
 
@@ -27,6 +34,7 @@ import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 
 import lombok.extern.log4j.Log4j2;
@@ -47,6 +55,12 @@ public class MLTaskDispatcher {
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
     private DiscoveryNodeHelper nodeHelper;
+    private volatile int nodeLoadRefreshIntervalInMillis;
+    private volatile NodeLoadSnapshot nodeLoads;
+    private volatile long lastNodeLoadRefreshTime;
+    // listeners waiting for the node loads being refreshed, also guards refreshingNodeLoads
+    private final List<ActionListener<NodeLoadSnapshot>> nodeLoadListeners = new ArrayList<>();
+    private boolean refreshingNodeLoads;
 
     public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
         this.clusterService = clusterService;
@@ -55,8 +69,15 @@ public class MLTaskDispatcher {
         this.maxMLBatchTaskPerNode = ML_COMMONS_MAX_ML_TASK_PER_NODE.get(settings);
         this.nextNode = new AtomicInteger(0);
         this.dispatchPolicy = ML_COMMONS_TASK_DISPATCH_POLICY.get(settings);
+        this.nodeLoadRefreshIntervalInMillis = ML_COMMONS_TASK_DISPATCH_NODE_LOAD_REFRESH_INTERVAL_IN_MILLIS.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_POLICY, it -> dispatchPolicy = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_ML_TASK_PER_NODE, it -> maxMLBatchTaskPerNode = it);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_TASK_DISPATCH_NODE_LOAD_REFRESH_INTERVAL_IN_MILLIS,
+                it -> nodeLoadRefreshIntervalInMillis = it
+            );
     }
 
     /**
@@ -105,60 +126,149 @@ public class MLTaskDispatcher {
     }
 
     private void dispatchTaskWithLeastLoad(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
-        MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
-        MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-
-        client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
-            // Check JVM pressure
-            List<MLStatsNodeResponse> candidateNodeResponse = mlStatsResponse
-                .getNodes()
-                .stream()
-                .filter(stat -> (long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE) < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
-                .collect(Collectors.toList());
-
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' memory usage exceeds limitation "
-                    + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
-                    + ". No eligible node available to run ml jobs ";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
-            }
-
-            // Check # of executing ML task
-            candidateNodeResponse = candidateNodeResponse
-                .stream()
-                .filter(stat -> (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT) < maxMLBatchTaskPerNode)
-                .collect(Collectors.toList());
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' executing ML task count reach limitation.";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
+        getNodeLoads(nodes, ActionListener.wrap(nodeLoads -> {
+            DiscoveryNode targetNode;
+            try {
+                targetNode = pickLeastLoadNode(nodes, nodeLoads);
+            } catch (Exception e) {
+                listener.onFailure(e);
                 return;
             }
-
-            // sort nodes by JVM usage percentage and # of executing ML task
-            Optional<MLStatsNodeResponse> targetNode = candidateNodeResponse
-                .stream()
-                .sorted((MLStatsNodeResponse r1, MLStatsNodeResponse r2) -> {
-                    int result = ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT))
-                        .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT));
-                    if (result == 0) {
-                        // if multiple nodes have same running task count, choose the one with least
-                        // JVM heap usage.
-                        return ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE))
-                            .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-                    }
-                    return result;
-                })
-                .findFirst();
-            listener.onResponse(targetNode.get().getNode());
+            listener.onResponse(targetNode);
         }, exception -> {
             log.error("Failed to get node's task stats", exception);
             listener.onFailure(exception);
         }));
     }
 
+    /**
+     * Pick the target node with power of two choices: two random candidate nodes are compared and the one with
+     * less load wins, so concurrent dispatches with the same node loads don't all go to the same node.
+     */
+    @VisibleForTesting
+    DiscoveryNode pickLeastLoadNode(DiscoveryNode[] nodes, NodeLoadSnapshot nodeLoads) throws LimitExceededException {
+        // Check JVM pressure
+        List<NodeLoad> candidateNodes = new ArrayList<>();
+        boolean hasNodeLoad = false;
+        for (DiscoveryNode node : nodes) {
+            NodeLoad nodeLoad = nodeLoads.getNodeLoad(node.getId());
+            if (nodeLoad == null) {
+                continue;
+            }
+            hasNodeLoad = true;
+            if (nodeLoad.jvmHeapUsage < DEFAULT_JVM_HEAP_USAGE_THRESHOLD) {
+                candidateNodes.add(nodeLoad);
+            }
+        }
+        if (!hasNodeLoad) {
+            String errorMessage = "No node load available. None of the eligible nodes returned its stats";
+            log.warn(errorMessage);
+            throw new IllegalStateException(errorMessage);
+        }
+        if (candidateNodes.size() == 0) {
+            String errorMessage = "All nodes' memory usage exceeds limitation "
+                + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
+                + ". No eligible node available to run ml jobs ";
+            log.warn(errorMessage);
+            throw new LimitExceededException(errorMessage);
+        }
+
+        // Check # of executing ML task
+        candidateNodes.removeIf(nodeLoad -> nodeLoad.executingTaskCount >= maxMLBatchTaskPerNode);
+        if (candidateNodes.size() == 0) {
+            String errorMessage = "All nodes' executing ML task count reach limitation.";
+            log.warn(errorMessage);
+            throw new LimitExceededException(errorMessage);
+        }
+
+        NodeLoad targetNode = candidateNodes.get(0);
+        if (candidateNodes.size() > 1) {
+            Random random = ThreadLocalRandom.current();
+            int first = random.nextInt(candidateNodes.size());
+            int second = random.nextInt(candidateNodes.size() - 1);
+            if (second >= first) {
+                second++;
+            }
+            NodeLoad node1 = candidateNodes.get(first);
+            NodeLoad node2 = candidateNodes.get(second);
+            int result = Long.compare(node1.getLoad(), node2.getLoad());
+            if (result == 0) {
+                // if both nodes have same load, choose the one with least JVM heap usage.
+                result = Long.compare(node1.jvmHeapUsage, node2.jvmHeapUsage);
+            }
+            targetNode = result <= 0 ? node1 : node2;
+        }
+        targetNode.dispatchedTaskCount.incrementAndGet();
+        return targetNode.node;
+    }
+
+    /**
+     * Get the loads of the nodes. The loads of all nodes are cached and refreshed in background at most once per
+     * refresh interval, so dispatching a task doesn't wait for the stats of the nodes, unless the cached loads
+     * don't include some of the nodes or the refresh interval is 0.
+     */
+    private void getNodeLoads(DiscoveryNode[] nodes, ActionListener<NodeLoadSnapshot> listener) {
+        NodeLoadSnapshot snapshot = nodeLoads;
+        if (snapshot == null || nodeLoadRefreshIntervalInMillis == 0 || !snapshot.includes(nodes)) {
+            refreshNodeLoads(listener);
+            return;
+        }
+        if (System.currentTimeMillis() - lastNodeLoadRefreshTime >= nodeLoadRefreshIntervalInMillis) {
+            refreshNodeLoads(null);
+        }
+        listener.onResponse(snapshot);
+    }
+
+    /**
+     * Refresh the cached node loads with the stats of all nodes. Concurrent refreshes share one stats request.
+     * @param listener action listener waiting for the refreshed node loads, or null to refresh in background
+     */
+    private void refreshNodeLoads(ActionListener<NodeLoadSnapshot> listener) {
+        synchronized (nodeLoadListeners) {
+            if (listener != null) {
+                nodeLoadListeners.add(listener);
+            }
+            if (refreshingNodeLoads) {
+                return;
+            }
+            refreshingNodeLoads = true;
+            lastNodeLoadRefreshTime = System.currentTimeMillis();
+        }
+        try {
+            DiscoveryNode[] allNodes = nodeHelper.getAllNodes();
+            MLStatsNodesRequest mlStatsNodesRequest = new MLStatsNodesRequest(allNodes);
+            mlStatsNodesRequest
+                .addNodeLevelStats(
+                    ImmutableSet
+                        .of(
+                            MLNodeLevelStat.ML_EXECUTING_TASK_COUNT,
+                            MLNodeLevelStat.ML_JVM_HEAP_USAGE,
+                            MLNodeLevelStat.ML_PREDICT_QUEUE_SIZE
+                        )
+                );
+            client.execute(MLStatsNodesAction.INSTANCE, mlStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
+                NodeLoadSnapshot snapshot = new NodeLoadSnapshot(allNodes, mlStatsResponse.getNodes());
+                nodeLoads = snapshot;
+                completeNodeLoadListeners().forEach(it -> it.onResponse(snapshot));
+            }, e -> {
+                log.warn("Failed to refresh node loads", e);
+                completeNodeLoadListeners().forEach(it -> it.onFailure(e));
+            }));
+        } catch (Exception e) {
+            log.warn("Failed to refresh node loads", e);
+            completeNodeLoadListeners().forEach(it -> it.onFailure(e));
+        }
+    }
+
+    private List<ActionListener<NodeLoadSnapshot>> completeNodeLoadListeners() {
+        synchronized (nodeLoadListeners) {
+            refreshingNodeLoads = false;
+            List<ActionListener<NodeLoadSnapshot>> listeners = new ArrayList<>(nodeLoadListeners);
+            nodeLoadListeners.clear();
+            return listeners;
+        }
+    }
+
     private void dispatchTaskWithLeastLoad(FunctionName functionName, ActionListener<DiscoveryNode> listener) {
         DiscoveryNode[] eligibleNodes = nodeHelper.getEligibleNodes(functionName);
         dispatchTaskWithLeastLoad(eligibleNodes, listener);
@@ -177,4 +287,70 @@ public class MLTaskDispatcher {
         dispatchTaskWithRoundRobin(eligibleNodes, listener);
     }
 
+    /**
+     * Load of one node from its stats.
+     */
+    static class NodeLoad {
+        final DiscoveryNode node;
+        final long jvmHeapUsage;
+        final long executingTaskCount;
+        final long predictQueueSize;
+        // tasks dispatched to the node by this node since the stats were taken. They may have completed already, so they
+        // only spread the dispatches between the nodes and don't count towards the max ML task count.
+        final AtomicLong dispatchedTaskCount = new AtomicLong();
+
+        NodeLoad(DiscoveryNode node, long jvmHeapUsage, long executingTaskCount, long predictQueueSize) {
+            this.node = node;
+            this.jvmHeapUsage = jvmHeapUsage;
+            this.executingTaskCount = executingTaskCount;
+            this.predictQueueSize = predictQueueSize;
+        }
+
+        long getLoad() {
+            return executingTaskCount + predictQueueSize + dispatchedTaskCount.get();
+        }
+    }
+
+    /**
+     * Loads of the nodes from one stats request. Nodes which didn't return their stats have no load and are
+     * not dispatched to until the next refresh.
+     */
+    static class NodeLoadSnapshot {
+        private final Set<String> nodeIds = new HashSet<>();
+        private final Map<String, NodeLoad> nodeLoads = new HashMap<>();
+
+        NodeLoadSnapshot(DiscoveryNode[] nodes, List<MLStatsNodeResponse> responses) {
+            for (DiscoveryNode node : nodes) {
+                nodeIds.add(node.getId());
+            }
+            for (MLStatsNodeResponse response : responses) {
+                Object jvmHeapUsage = response.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE);
+                Object executingTaskCount = response.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT);
+                Object predictQueueSize = response.getNodeLevelStat(MLNodeLevelStat.ML_PREDICT_QUEUE_SIZE);
+                if (!(jvmHeapUsage instanceof Number) || !(executingTaskCount instanceof Number)) {
+                    continue;
+                }
+                NodeLoad nodeLoad = new NodeLoad(
+                    response.getNode(),
+                    ((Number) jvmHeapUsage).longValue(),
+                    ((Number) executingTaskCount).longValue(),
+                    predictQueueSize instanceof Number ? ((Number) predictQueueSize).longValue() : 0
+                );
+                nodeLoads.put(response.getNode().getId(), nodeLoad);
+            }
+        }
+
+        boolean includes(DiscoveryNode[] nodes) {
+            for (DiscoveryNode node : nodes) {
+                if (!nodeIds.contains(node.getId())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        NodeLoad getNodeLoad(String nodeId) {
+            return nodeLoads.get(nodeId);
+        }
+    }
 }
@@ -9,7 +9,9 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -24,11 +26,18 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion.VersionFlag;
@@ -38,6 +47,8 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class MLNodeUtils {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     public boolean isMLNode(DiscoveryNode node) {
         return node.getRoles().stream().anyMatch(role -> role.roleName().equalsIgnoreCase(ML_ROLE_NAME));
     }
@@ -66,14 +77,23 @@ public class MLNodeUtils {
     }
 
     public static void validateSchema(String schemaString, String instanceString) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        // parse the schema JSON as string
-        JsonNode schemaNode = mapper.readTree(schemaString);
-        JsonSchema schema = JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
-
         // JSON data to validate
-        JsonNode jsonNode = mapper.readTree(instanceString);
+        JsonNode jsonNode = OBJECT_MAPPER.readTree(instanceString);
+        validateSchema(compileSchema(schemaString), jsonNode);
+    }
+
+    /**
+     * Parse a JSON schema string into a schema which can validate any number of instances.
+     * @param schemaString JSON schema
+     * @return compiled schema
+     * @throws IOException if the schema is not valid JSON
+     */
+    public static JsonSchema compileSchema(String schemaString) throws IOException {
+        JsonNode schemaNode = OBJECT_MAPPER.readTree(schemaString);
+        return JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
+    }
 
+    public static void validateSchema(JsonSchema schema, JsonNode jsonNode) {
         // Validate JSON node against the schema
         Set<ValidationMessage> errors = schema.validate(jsonNode);
         if (!errors.isEmpty()) {
@@ -81,13 +101,118 @@ public class MLNodeUtils {
                 "Validation failed: "
                     + Arrays.toString(errors.toArray(new ValidationMessage[0]))
                     + " for instance: "
-                    + instanceString
+                    + jsonNode
                     + " with schema: "
-                    + schemaString
+                    + schema.getSchemaNode()
             );
         }
     }
 
+    /**
+     * Parse JSON bytes into a JSON tree without converting them to a string first.
+     * @param bytes JSON bytes
+     * @return JSON tree
+     * @throws IOException if the bytes are not valid JSON
+     */
+    public static JsonNode toJsonNode(BytesReference bytes) throws IOException {
+        try (InputStream inputStream = bytes.streamInput()) {
+            return OBJECT_MAPPER.readTree(inputStream);
+        }
+    }
+
+    /**
+     * Build the JSON tree of a model tensor output directly, the same tree as parsing its XContent would give.
+     * @param output model tensor output
+     * @return JSON tree
+     */
+    public static JsonNode toJsonNode(ModelTensorOutput output) {
+        ObjectNode outputNode = JsonNodeFactory.instance.objectNode();
+        if (output.getMlModelOutputs() != null && output.getMlModelOutputs().size() > 0) {
+            ArrayNode resultsNode = outputNode.putArray(ModelTensorOutput.INFERENCE_RESULT_FIELD);
+            for (ModelTensors tensors : output.getMlModelOutputs()) {
+                ObjectNode tensorsNode = resultsNode.addObject();
+                if (tensors.getMlModelTensors() != null && tensors.getMlModelTensors().size() > 0) {
+                    ArrayNode tensorsArrayNode = tensorsNode.putArray(ModelTensors.OUTPUT_FIELD);
+                    for (ModelTensor tensor : tensors.getMlModelTensors()) {
+                        addTensor(tensorsArrayNode.addObject(), tensor);
+                    }
+                }
+                if (tensors.getStatusCode() != null) {
+                    tensorsNode.put(ModelTensors.STATUS_CODE_FIELD, tensors.getStatusCode());
+                }
+            }
+        }
+        return outputNode;
+    }
+
+    private static void addTensor(ObjectNode tensorNode, ModelTensor tensor) {
+        if (tensor.getName() != null) {
+            tensorNode.put(ModelTensor.NAME_FIELD, tensor.getName());
+        }
+        if (tensor.getDataType() != null) {
+            tensorNode.put(ModelTensor.DATA_TYPE_FIELD, tensor.getDataType().toString());
+        }
+        if (tensor.getShape() != null) {
+            ArrayNode shapeNode = tensorNode.putArray(ModelTensor.SHAPE_FIELD);
+            for (long dimension : tensor.getShape()) {
+                addLong(shapeNode, dimension);
+            }
+        }
+        addData(tensorNode, tensor);
+        if (tensor.getByteBuffer() != null) {
+            ObjectNode byteBufferNode = tensorNode.putObject(ModelTensor.BYTE_BUFFER_FIELD);
+            byteBufferNode.put(ModelTensor.BYTE_BUFFER_ARRAY_FIELD, Base64.getEncoder().encodeToString(tensor.getByteBuffer().array()));
+            byteBufferNode.put(ModelTensor.BYTE_BUFFER_ORDER_FIELD, tensor.getByteBuffer().order().toString());
+        }
+        if (tensor.getResult() != null) {
+            tensorNode.put(ModelTensor.RESULT_FIELD, tensor.getResult());
+        }
+        if (tensor.getDataAsMap() != null) {
+            tensorNode.set(ModelTensor.DATA_AS_MAP_FIELD, OBJECT_MAPPER.valueToTree(tensor.getDataAsMap()));
+        }
+    }
+
+    // numbers are read through the primitive array of the data type, so primitive tensor data is not boxed
+    private static void addData(ObjectNode tensorNode, ModelTensor tensor) {
+        MLResultDataType dataType = tensor.getDataType();
+        if (dataType == MLResultDataType.FLOAT32 || dataType == MLResultDataType.FLOAT16) {
+            float[] data = tensor.toFloatArray();
+            if (data != null) {
+                ArrayNode dataNode = tensorNode.putArray(ModelTensor.DATA_FIELD);
+                for (float value : data) {
+                    dataNode.add(value);
+                }
+            }
+        } else if (dataType == MLResultDataType.FLOAT64) {
+            double[] data = tensor.toDoubleArray();
+            if (data != null) {
+                ArrayNode dataNode = tensorNode.putArray(ModelTensor.DATA_FIELD);
+                for (double value : data) {
+                    dataNode.add(value);
+                }
+            }
+        } else if (dataType != null && dataType.isInteger()) {
+            long[] data = tensor.toLongArray();
+            if (data != null) {
+                ArrayNode dataNode = tensorNode.putArray(ModelTensor.DATA_FIELD);
+                for (long value : data) {
+                    addLong(dataNode, value);
+                }
+            }
+        } else if (tensor.getData() != null) {
+            tensorNode.set(ModelTensor.DATA_FIELD, OBJECT_MAPPER.valueToTree(tensor.getData()));
+        }
+    }
+
+    // same node type as parsing the number gives, int if it fits
+    private static void addLong(ArrayNode arrayNode, long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            arrayNode.add((int) value);
+        } else {
+            arrayNode.add(value);
+        }
+    }
+
     public static void checkOpenCircuitBreaker(MLCircuitBreakerService mlCircuitBreakerService, MLStats mlStats) {
         ThresholdCircuitBreaker openCircuitBreaker = mlCircuitBreakerService.checkOpenCB();
         if (openCircuitBreaker != null) {
@@ -18,6 +18,7 @@ import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.isA;
 import static org.mockito.Mockito.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -446,6 +447,54 @@ public class TransportDeployModelActionTests extends OpenSearchTestCase {
         transportDeployModelAction.doExecute(mock(Task.class), mlDeployModelRequest, mock(ActionListener.class));
     }
 
+    public void testDoExecute_FitRcfModelToSeveralNodes() {
+        mockFitRcfModel();
+        when(mlDeployModelRequest.getModelNodeIds()).thenReturn(new String[] { "node1", "node2" });
+
+        ActionListener<MLDeployModelResponse> deployModelResponseListener = mock(ActionListener.class);
+        transportDeployModelAction.doExecute(mock(Task.class), mlDeployModelRequest, deployModelResponseListener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(deployModelResponseListener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof IllegalArgumentException);
+        assertEquals("FIT_RCF model can only be deployed to one node", argumentCaptor.getValue().getMessage());
+        verify(mlTaskManager, never()).createMLTask(any(MLTask.class), any());
+    }
+
+    public void testDoExecute_FitRcfModelToAllNodes() {
+        mockFitRcfModel();
+        when(mlDeployModelRequest.getModelNodeIds()).thenReturn(null);
+        when(mlModelManager.getWorkerNodes("mockModelId", FunctionName.FIT_RCF)).thenReturn(new String[] { "node2" });
+        IndexResponse indexResponse = mock(IndexResponse.class);
+        when(indexResponse.getId()).thenReturn("mockIndexId");
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(indexResponse);
+            return null;
+        }).when(mlTaskManager).createMLTask(any(MLTask.class), Mockito.isA(ActionListener.class));
+
+        ActionListener<MLDeployModelResponse> deployModelResponseListener = mock(ActionListener.class);
+        transportDeployModelAction.doExecute(mock(Task.class), mlDeployModelRequest, deployModelResponseListener);
+        verify(deployModelResponseListener).onResponse(any(MLDeployModelResponse.class));
+        ArgumentCaptor<MLTask> argumentCaptor = ArgumentCaptor.forClass(MLTask.class);
+        verify(mlTaskManager).createMLTask(argumentCaptor.capture(), any());
+        assertEquals(List.of("node2"), argumentCaptor.getValue().getWorkerNodes());
+    }
+
+    private void mockFitRcfModel() {
+        MLModel mlModel = mock(MLModel.class);
+        when(mlModel.getAlgorithm()).thenReturn(FunctionName.FIT_RCF);
+        doAnswer(invocation -> {
+            ActionListener<MLModel> listener = invocation.getArgument(3);
+            listener.onResponse(mlModel);
+            return null;
+        }).when(mlModelManager).getModel(anyString(), isNull(), any(String[].class), Mockito.isA(ActionListener.class));
+        DiscoveryNode node1 = mock(DiscoveryNode.class);
+        when(node1.getId()).thenReturn("node1");
+        DiscoveryNode node2 = mock(DiscoveryNode.class);
+        when(node2.getId()).thenReturn("node2");
+        when(nodeFilter.getEligibleNodes(any())).thenReturn(new DiscoveryNode[] { node1, node2 });
+    }
+
     @Ignore
     public void testDoExecute_whenDeployModelRequestNodeIdsEmpty_thenMLResourceNotFoundException() {
         DiscoveryNodeHelper nodeHelper = mock(DiscoveryNodeHelper.class);
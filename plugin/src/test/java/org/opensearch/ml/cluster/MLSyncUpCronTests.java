@@ -19,6 +19,7 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.CommonValue.CREATE_TIME_FIELD;
 import static org.opensearch.ml.common.CommonValue.MASTER_KEY;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 import static org.opensearch.ml.utils.TestHelper.setupTestClusterState;
 
@@ -50,6 +51,7 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
@@ -65,6 +67,8 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceAction;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
@@ -408,6 +412,47 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         verify(client, never()).bulk(any(), any());
     }
 
+    public void testResumeBatchInferenceTasks() {
+        Metadata metadata = Metadata
+            .builder(testState.metadata())
+            .put(
+                IndexMetadata
+                    .builder(ML_TASK_INDEX)
+                    .settings(
+                        Settings
+                            .builder()
+                            .put("index.number_of_shards", 1)
+                            .put("index.number_of_replicas", 1)
+                            .put("index.version.created", Version.CURRENT.id)
+                    ),
+                false
+            )
+            .build();
+        when(clusterService.state()).thenReturn(ClusterState.builder(testState).metadata(metadata).build());
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            SearchHit[] hits = new SearchHit[] { new SearchHit(1, "task1", emptyMap(), emptyMap()) };
+            SearchResponse searchResponse = mock(SearchResponse.class);
+            when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f));
+            listener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), any());
+
+        syncUpCron.resumeBatchInferenceTasks();
+
+        ArgumentCaptor<MLBatchInferenceRequest> requestCaptor = ArgumentCaptor.forClass(MLBatchInferenceRequest.class);
+        verify(client, times(1)).execute(eq(MLBatchInferenceAction.INSTANCE), requestCaptor.capture(), any());
+        assertEquals("task1", requestCaptor.getValue().getTaskId());
+        assertTrue(requestCaptor.getValue().isDispatchTask());
+    }
+
+    public void testResumeBatchInferenceTasks_NoTaskIndex() {
+        syncUpCron.resumeBatchInferenceTasks();
+
+        verify(client, never()).search(any(), any());
+        verify(client, never()).execute(eq(MLBatchInferenceAction.INSTANCE), any(), any());
+    }
+
     private void mockSyncUp_GatherRunningTasks() {
         doAnswer(invocation -> {
             ActionListener<MLSyncUpNodesResponse> listener = invocation.getArgument(2);
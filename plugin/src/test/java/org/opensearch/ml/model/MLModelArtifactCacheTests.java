@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLModelArtifactCacheTests extends OpenSearchTestCase {
+    private static final String HASH1 = "c446f747520bcc6af053813cb1e8d34944a7c4686bbb405aeaa23883b5a806c8";
+    private static final String HASH2 = "0000000000000000000000000000000000000000000000000000000000000002";
+    private static final String HASH3 = "0000000000000000000000000000000000000000000000000000000000000003";
+
+    private Path cachePath;
+    private Path deployPath;
+    private MLCircuitBreakerService mlCircuitBreakerService;
+    private CircuitBreaker diskCircuitBreaker;
+
+    @Before
+    public void setup() throws IOException {
+        Path root = createTempDir();
+        cachePath = root.resolve("artifacts");
+        deployPath = Files.createDirectories(root.resolve("deploy"));
+        mlCircuitBreakerService = mock(MLCircuitBreakerService.class);
+        diskCircuitBreaker = mock(CircuitBreaker.class);
+        when(mlCircuitBreakerService.getBreaker(BreakerName.DISK)).thenReturn(diskCircuitBreaker);
+    }
+
+    public void testAddAndAcquire() throws IOException {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cachePath, 100, mlCircuitBreakerService);
+        assertNull(cache.acquire(HASH1, "model1"));
+
+        File modelZip = modelZip("model1", 10);
+        MLModelArtifactCache.ModelArtifact added = cache.add(HASH1, "model1", modelZip);
+        assertTrue(added.isCached());
+        assertFalse(modelZip.exists());
+        assertEquals(cachePath.resolve(HASH1 + ".zip").toFile(), added.getFile());
+        added.close();
+
+        try (MLModelArtifactCache.ModelArtifact cached = cache.acquire(HASH1, "model1")) {
+            assertNotNull(cached);
+            assertEquals(added.getFile(), cached.getFile());
+            assertEquals(10, Files.size(cached.getFile().toPath()));
+        }
+        assertEquals(1, cache.getArtifactCount());
+        assertEquals(10, cache.getSizeInBytes());
+    }
+
+    public void testAdd_Disabled() throws IOException {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cachePath, 0, mlCircuitBreakerService);
+        File modelZip = modelZip("model1", 10);
+        MLModelArtifactCache.ModelArtifact added = cache.add(HASH1, "model1", modelZip);
+        assertFalse(added.isCached());
+        assertEquals(modelZip, added.getFile());
+        assertTrue(modelZip.exists());
+        assertNull(cache.acquire(HASH1, "model1"));
+    }
+
+    public void testAdd_InvalidHashOrTooLarge() throws IOException {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cachePath, 100, mlCircuitBreakerService);
+        assertFalse(cache.add("../model", "model1", modelZip("model1", 10)).isCached());
+        assertFalse(cache.add(HASH1, "model2", modelZip("model2", 101)).isCached());
+        assertEquals(0, cache.getArtifactCount());
+    }
+
+    public void testEvictLeastRecentlyUsed() throws IOException {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cachePath, 25, mlCircuitBreakerService);
+        cache.add(HASH1, "model1", modelZip("model1", 10)).close();
+        cache.add(HASH2, "model2", modelZip("model2", 10)).close();
+        cache.acquire(HASH1, "model1").close();
+        cache.add(HASH3, "model3", modelZip("model3", 10)).close();
+
+        assertNotNull(cache.acquire(HASH1, "model1"));
+        assertNull(cache.acquire(HASH2, "model2"));
+        assertNotNull(cache.acquire(HASH3, "model3"));
+        assertFalse(cachePath.resolve(HASH2 + ".zip").toFile().exists());
+        assertEquals(20, cache.getSizeInBytes());
+    }
+
+    public void testArtifactInUseIsNotEvicted() throws IOException {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cachePath, 15, mlCircuitBreakerService);
+        MLModelArtifactCache.ModelArtifact artifact1 = cache.add(HASH1, "model1", modelZip("model1", 10));
+        cache.add(HASH2, "model2", modelZip("model2", 10)).close();
+        // over budget until model1 is released
+        assertEquals(10, cache.getSizeInBytes());
+        assertTrue(artifact1.getFile().exists());
+        assertNull(cache.acquire(HASH2, "model2"));
+
+        artifact1.close();
+        artifact1.close();
+        assertNotNull(cache.acquire(HASH1, "model1"));
+    }
+
+    public void testReleaseDiskSpace() throws IOException {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cachePath, 100, mlCircuitBreakerService);
+        cache.add(HASH1, "model1", modelZip("model1", 10)).close();
+        cache.add(HASH2, "model2", modelZip("model2", 10)).close();
+
+        cache.releaseDiskSpace();
+        assertEquals(2, cache.getArtifactCount());
+
+        when(diskCircuitBreaker.isOpen()).thenReturn(true, true, false);
+        cache.releaseDiskSpace();
+        assertEquals(1, cache.getArtifactCount());
+        assertNull(cache.acquire(HASH1, "model1"));
+        assertNotNull(cache.acquire(HASH2, "model2"));
+    }
+
+    public void testLoadArtifacts() throws IOException {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cachePath, 100, mlCircuitBreakerService);
+        cache.add(HASH1, "model1", modelZip("model1", 10)).close();
+        cache.add(HASH2, "model2", modelZip("model2", 20)).close();
+        Files.write(cachePath.resolve("unknown.txt"), new byte[5]);
+
+        MLModelArtifactCache restarted = new MLModelArtifactCache(cachePath, 100, mlCircuitBreakerService);
+        assertEquals(2, restarted.getArtifactCount());
+        assertEquals(30, restarted.getSizeInBytes());
+        assertNotNull(restarted.acquire(HASH1, "model1"));
+        assertNotNull(restarted.acquire(HASH2, "model2"));
+        assertNull(restarted.acquire(HASH1, "model2"));
+    }
+
+    public void testAcquire_ModelNotVerified() throws IOException {
+        MLModelArtifactCache cache = new MLModelArtifactCache(cachePath, 100, mlCircuitBreakerService);
+        cache.add(HASH1, "model1", modelZip("model1", 10)).close();
+
+        // a model registered with the content hash of another model reads and verifies its own chunks first
+        assertNull(cache.acquire(HASH1, "model2"));
+        File modelZip = modelZip("model2", 10);
+        try (MLModelArtifactCache.ModelArtifact added = cache.add(HASH1, "model2", modelZip)) {
+            assertTrue(added.isCached());
+            assertEquals(cachePath.resolve(HASH1 + ".zip").toFile(), added.getFile());
+        }
+        assertEquals(1, cache.getArtifactCount());
+        assertNotNull(cache.acquire(HASH1, "model2"));
+
+        MLModelArtifactCache restarted = new MLModelArtifactCache(cachePath, 100, mlCircuitBreakerService);
+        assertNotNull(restarted.acquire(HASH1, "model1"));
+        assertNotNull(restarted.acquire(HASH1, "model2"));
+        assertNull(restarted.acquire(HASH1, "model3"));
+    }
+
+    private File modelZip(String name, int size) throws IOException {
+        Path path = deployPath.resolve(name + ".zip");
+        Files.write(path, "x".repeat(size).getBytes(StandardCharsets.UTF_8));
+        return path.toFile();
+    }
+}
@@ -35,8 +35,10 @@ import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
+import org.opensearch.ml.engine.utils.PredictPhaseLatencies;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.stats.MLModelStats;
 import org.opensearch.test.OpenSearchTestCase;
 
 import com.google.common.collect.ImmutableSet;
@@ -93,6 +95,24 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(FunctionName.TEXT_EMBEDDING, cacheHelper.getFunctionName(modelId));
     }
 
+    public void testModelInterface_CompiledSchemas() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        assertNull(cacheHelper.getModelOutputSchema(modelId));
+        cacheHelper.setModelInterface(modelId, Map.of("input", "{\"type\": \"object\"}", "output", "{\"type\": \"object\"}"));
+        assertNotNull(cacheHelper.getModelInputSchema(modelId));
+        assertNotNull(cacheHelper.getModelOutputSchema(modelId));
+
+        cacheHelper.setModelInterface(modelId, Map.of("output", "{invalid json"));
+        assertNull(cacheHelper.getModelInputSchema(modelId));
+        assertNull(cacheHelper.getModelOutputSchema(modelId));
+        assertEquals("{invalid json", cacheHelper.getModelInterface(modelId).get("output"));
+
+        cacheHelper.removeModelInterface(modelId);
+        assertNull(cacheHelper.getModelInterface(modelId));
+        assertNull(cacheHelper.getModelOutputSchema(modelId));
+        assertNull(cacheHelper.getModelInputSchema("unknown_model"));
+    }
+
     public void testMemSizeEstimationCPU() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         assertTrue(cacheHelper.getMemEstCPU(modelId) == null);
@@ -362,6 +382,28 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(maxMonitoringRequests, predictStats.getCount().longValue());
     }
 
+    public void testPhaseLatencies() {
+        cacheHelper.addPhaseLatency(modelId, PredictPhaseLatencies.Phase.QUEUE_WAIT, 1_000_000);
+        assertNull(cacheHelper.getLatencyStats(modelId));
+
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        assertNotNull(cacheHelper.getPhaseLatencies(modelId));
+        assertNull(cacheHelper.getLatencyStats(modelId));
+        cacheHelper.addPhaseLatency(modelId, PredictPhaseLatencies.Phase.QUEUE_WAIT, 1_000_000);
+        cacheHelper.getPhaseLatencies(modelId).record(PredictPhaseLatencies.Phase.FORWARD, 5_000_000);
+        cacheHelper.addModelInferenceDuration(modelId, 6);
+
+        Map<String, MLPredictRequestStats> latencyStats = cacheHelper.getLatencyStats(modelId);
+        assertEquals(3, latencyStats.size());
+        assertEquals(6, latencyStats.get(MLModelStats.MODEL_INFERENCE_LATENCY).getMax(), 1e-5);
+        assertEquals(1, latencyStats.get("queue_wait").getMax(), 1e-5);
+        assertEquals(5, latencyStats.get("forward").getMax(), 1e-5);
+
+        Map<String, MLPredictRequestStats> phaseLatencyStats = cacheHelper.getModelProfile(modelId).getPhaseLatencyStats();
+        assertEquals(2, phaseLatencyStats.size());
+        assertEquals(1L, phaseLatencyStats.get("queue_wait").getCount().longValue());
+    }
+
     public void testGetModelProfile_Deploying() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
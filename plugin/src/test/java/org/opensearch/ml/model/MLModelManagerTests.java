@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -27,6 +28,7 @@ import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_SIZE_IN_BYTES;
 import static org.opensearch.ml.model.MLModelManager.TIMEOUT_IN_MILLIS;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
@@ -70,12 +72,14 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -104,6 +108,7 @@ import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.StatefulPredictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
@@ -869,6 +874,63 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         assertEquals("undeployed", undeployModelStatus.get(modelId));
     }
 
+    public void testCheckpointModel() {
+        StatefulPredictable predictable = mockStatefulModel("node1", "node1", "node2");
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(client).update(any(), any());
+
+        modelManager.checkpointModel(modelId);
+        ArgumentCaptor<UpdateRequest> updateRequest = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client).update(updateRequest.capture(), any());
+        assertEquals(modelId, updateRequest.getValue().id());
+        Map<String, Object> updatedFields = updateRequest.getValue().doc().sourceAsMap();
+        assertEquals("checkpoint", updatedFields.get(MLModel.MODEL_CONTENT_FIELD));
+        assertNotNull(updatedFields.get(MLModel.LAST_UPDATED_TIME_FIELD));
+
+        // not checkpointed again until the model is updated
+        modelManager.checkpointModel(modelId);
+        verify(predictable, times(1)).checkpoint();
+        when(predictable.getUpdateCount()).thenReturn(20L);
+        modelManager.checkpointModel(modelId);
+        verify(predictable, times(2)).checkpoint();
+    }
+
+    public void testCheckpointModel_NotCheckpointNode() {
+        StatefulPredictable predictable = mockStatefulModel("node2", "node1", "node2");
+        modelManager.checkpointModel(modelId);
+        verify(predictable, never()).checkpoint();
+        verify(client, never()).update(any(), any());
+    }
+
+    public void testUndeployModel_CheckpointStatefulModel() {
+        StatefulPredictable predictable = mockStatefulModel("node1", "node1");
+        when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] { modelId });
+        when(modelCacheHelper.getFunctionName(modelId)).thenReturn(FunctionName.FIT_RCF);
+        mock_threadpool(threadPool, taskExecutorService);
+
+        modelManager.undeployModel(null);
+        verify(modelCacheHelper).setPredictor(modelId, null);
+        verify(modelCacheHelper).removeModel(modelId);
+        verify(threadPool).executor(GENERAL_THREAD_POOL);
+        verify(predictable).checkpoint();
+        verify(predictable).close();
+        verify(client).update(any(), any());
+    }
+
+    private StatefulPredictable mockStatefulModel(String localNodeId, String... workerNodes) {
+        StatefulPredictable predictable = mock(StatefulPredictable.class);
+        when(predictable.getUpdateCount()).thenReturn(10L);
+        when(predictable.checkpoint()).thenReturn("checkpoint");
+        when(modelCacheHelper.getPredictor(modelId)).thenReturn(predictable);
+        when(modelCacheHelper.getWorkerNodes(modelId)).thenReturn(workerNodes);
+        DiscoveryNode localNode = new DiscoveryNode(localNodeId, buildNewFakeTransportAddress(), Version.CURRENT);
+        doReturn(localNode).when(clusterService).localNode();
+        return predictable;
+    }
+
     public void testUpdateModel_NullUpdatedFields() {
         ActionListener<UpdateResponse> listener = mock(ActionListener.class);
         modelManager.updateModel(modelId, null, listener);
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLTrainedModelCacheTests extends OpenSearchTestCase {
+    private MLCircuitBreakerService mlCircuitBreakerService;
+    private CircuitBreaker memoryCircuitBreaker;
+
+    @Before
+    public void setup() {
+        mlCircuitBreakerService = mock(MLCircuitBreakerService.class);
+        memoryCircuitBreaker = mock(CircuitBreaker.class);
+        when(mlCircuitBreakerService.getBreaker(BreakerName.MEMORY)).thenReturn(memoryCircuitBreaker);
+    }
+
+    public void testPutAndGet() {
+        MLTrainedModelCache cache = new MLTrainedModelCache(100, mlCircuitBreakerService);
+        assertNull(cache.get("model1", 1, 1));
+        Object model = new Object();
+        cache.put("model1", trainedModel(model, 1, 10));
+
+        assertTrue(cache.contains("model1"));
+        MLTrainedModelCache.TrainedModel cached = cache.get("model1", 1, 1);
+        assertNotNull(cached);
+        assertSame(model, cached.getModel());
+        assertEquals(1, cache.getModelCount());
+        assertEquals(10, cache.getSizeInBytes());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    public void testGet_ModelChanged() {
+        MLTrainedModelCache cache = new MLTrainedModelCache(100, mlCircuitBreakerService);
+        cache.put("model1", trainedModel(new Object(), 1, 10));
+
+        assertNull(cache.get("model1", 2, 1));
+        assertFalse(cache.contains("model1"));
+        assertEquals(0, cache.getSizeInBytes());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    public void testPut_DisabledOrTooLarge() {
+        MLTrainedModelCache disabledCache = new MLTrainedModelCache(0, mlCircuitBreakerService);
+        disabledCache.put("model1", trainedModel(new Object(), 1, 10));
+        assertFalse(disabledCache.isEnabled());
+        assertEquals(0, disabledCache.getModelCount());
+        assertNull(disabledCache.get("model1", 1, 1));
+
+        MLTrainedModelCache cache = new MLTrainedModelCache(100, mlCircuitBreakerService);
+        cache.put("model1", trainedModel(new Object(), 1, 101));
+        assertEquals(0, cache.getModelCount());
+    }
+
+    public void testEvictLeastRecentlyUsed() {
+        MLTrainedModelCache cache = new MLTrainedModelCache(100, mlCircuitBreakerService);
+        cache.put("model1", trainedModel(new Object(), 1, 40));
+        cache.put("model2", trainedModel(new Object(), 1, 40));
+        assertNotNull(cache.get("model1", 1, 1));
+        cache.put("model3", trainedModel(new Object(), 1, 40));
+
+        assertTrue(cache.contains("model1"));
+        assertFalse(cache.contains("model2"));
+        assertTrue(cache.contains("model3"));
+        assertEquals(80, cache.getSizeInBytes());
+    }
+
+    public void testMemoryCircuitBreakerOpen() {
+        MLTrainedModelCache cache = new MLTrainedModelCache(100, mlCircuitBreakerService);
+        cache.put("model1", trainedModel(new Object(), 1, 10));
+        when(memoryCircuitBreaker.isOpen()).thenReturn(true);
+        cache.put("model2", trainedModel(new Object(), 1, 10));
+
+        assertEquals(0, cache.getModelCount());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    public void testRemoveAndClear() {
+        MLTrainedModelCache cache = new MLTrainedModelCache(100, mlCircuitBreakerService);
+        cache.put("model1", trainedModel(new Object(), 1, 10));
+        cache.put("model2", trainedModel(new Object(), 1, 20));
+        cache.remove("model1");
+        assertEquals(20, cache.getSizeInBytes());
+        cache.clear();
+        assertEquals(0, cache.getModelCount());
+        assertEquals(0, cache.getSizeInBytes());
+    }
+
+    private MLTrainedModelCache.TrainedModel trainedModel(Object model, long seqNo, long sizeInBytes) {
+        return new MLTrainedModelCache.TrainedModel(model, null, seqNo, 1, sizeInBytes);
+    }
+}
@@ -5,6 +5,7 @@
 package org.opensearch.ml.processor;
 
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
+import static org.opensearch.ml.processor.MLInferenceIngestProcessor.BATCH_SIZE;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -113,6 +114,21 @@ public class MLInferenceIngestProcessorFactoryTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBatchSizeWithoutOutputMaps() throws Exception {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model2");
+        config.put(BATCH_SIZE, 10);
+        String processorTag = randomAlphaOfLength(10);
+
+        try {
+            factory.create(registry, processorTag, null, config);
+            fail("factory create should have failed");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "output_map is required when batch_size is larger than 1.");
+        }
+    }
+
     public void testCreateOptionalFields() throws Exception {
         Map<String, Processor.Factory> registry = new HashMap<>();
         Map<String, Object> config = new HashMap<>();
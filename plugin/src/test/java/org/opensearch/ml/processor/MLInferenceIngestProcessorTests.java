@@ -16,6 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -25,6 +26,7 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.client.Client;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
@@ -78,6 +80,18 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
         List<Map<String, String>> output_map,
         boolean ignoreMissing,
         boolean ignoreFailure
+    ) {
+        return createMLInferenceProcessor(model_id, model_config, input_map, output_map, 1, ignoreMissing, ignoreFailure);
+    }
+
+    private MLInferenceIngestProcessor createMLInferenceProcessor(
+        String model_id,
+        Map<String, String> model_config,
+        List<Map<String, String>> input_map,
+        List<Map<String, String>> output_map,
+        int batchSize,
+        boolean ignoreMissing,
+        boolean ignoreFailure
     ) {
         return new MLInferenceIngestProcessor(
             model_id,
@@ -85,6 +99,7 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
             output_map,
             model_config,
             RANDOM_MULTIPLIER,
+            batchSize,
             PROCESSOR_TAG,
             DESCRIPTION,
             ignoreMissing,
@@ -1019,6 +1034,125 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
         verify(handler).accept(eq(nestedObjectIngestDocument), isNull());
     }
 
+    public void testBatchExecute_BatchPredictionSuccess() {
+        List<Map<String, String>> inputMap = List.of(Map.of("inputs", "key1", "context", "key2"));
+        List<Map<String, String>> outputMap = List.of(Map.of("embedding", "response"));
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor("model1", null, inputMap, outputMap, 2, true, false);
+        ModelTensor modelTensor = ModelTensor
+            .builder()
+            .dataAsMap(ImmutableMap.of("response", Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4))))
+            .build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        ModelTensor lastModelTensor = ModelTensor
+            .builder()
+            .dataAsMap(ImmutableMap.of("response", Arrays.asList(Arrays.asList(7, 8))))
+            .build();
+        ModelTensors lastModelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(lastModelTensor)).build();
+        ModelTensorOutput lastMlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(lastModelTensors)).build();
+
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(lastMlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            IngestDocument document = new IngestDocument(new HashMap<>(Map.of("key1", "value" + i)), new HashMap<>());
+            wrappers.add(new IngestDocumentWrapper(i, document, null));
+        }
+        // the first document misses key2, which is sent as null in the batch
+        wrappers.get(1).getIngestDocument().setFieldValue("key2", "context1");
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        // 3 documents in batches of 2
+        ArgumentCaptor<MLPredictionTaskRequest> argumentCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(2)).execute(any(), argumentCaptor.capture(), any());
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) argumentCaptor
+            .getAllValues()
+            .get(0)
+            .getMlInput()
+            .getInputDataset();
+        assertEquals("[\"value0\",\"value1\"]", inputDataSet.getParameters().get("inputs"));
+        assertEquals("[null,\"context1\"]", inputDataSet.getParameters().get("context"));
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchHandler).accept(resultCaptor.capture());
+        List<IngestDocumentWrapper> results = resultCaptor.getValue();
+        assertEquals(3, results.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, results.get(i).getSlot());
+            assertNull(results.get(i).getException());
+        }
+        assertEquals(Arrays.asList(1, 2), results.get(0).getIngestDocument().getFieldValue("embedding", List.class));
+        assertEquals(Arrays.asList(3, 4), results.get(1).getIngestDocument().getFieldValue("embedding", List.class));
+        assertEquals(Arrays.asList(7, 8), results.get(2).getIngestDocument().getFieldValue("embedding", List.class));
+    }
+
+    public void testBatchExecute_DocumentFailureOnlyFailsDocument() {
+        List<Map<String, String>> inputMap = List.of(Map.of("inputs", "key1"));
+        List<Map<String, String>> outputMap = List.of(Map.of("embedding", "response"));
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor("model1", null, inputMap, outputMap, 2, false, false);
+        ModelTensor modelTensor = ModelTensor
+            .builder()
+            .dataAsMap(ImmutableMap.of("response", Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4))))
+            .build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        IngestDocument document0 = new IngestDocument(new HashMap<>(Map.of("key1", "value0")), new HashMap<>());
+        // the output field already exists in the second document
+        IngestDocument document1 = new IngestDocument(new HashMap<>(Map.of("key1", "value1", "embedding", "old")), new HashMap<>());
+        List<IngestDocumentWrapper> wrappers = List
+            .of(new IngestDocumentWrapper(0, document0, null), new IngestDocumentWrapper(1, document1, null));
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(wrappers, batchHandler);
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchHandler).accept(resultCaptor.capture());
+        List<IngestDocumentWrapper> results = resultCaptor.getValue();
+        assertNull(results.get(0).getException());
+        assertEquals(Arrays.asList(1, 2), document0.getFieldValue("embedding", List.class));
+        assertEquals(
+            "document already has field name embedding. Not allow to overwrite the same field name, please check output_map.",
+            results.get(1).getException().getMessage()
+        );
+    }
+
+    public void testBatchExecute_OutputNotInBatchSizeFailsBatch() {
+        List<Map<String, String>> inputMap = List.of(Map.of("inputs", "key1"));
+        List<Map<String, String>> outputMap = List.of(Map.of("embedding", "response"));
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor("model1", null, inputMap, outputMap, 2, false, false);
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList(1, 2, 3))).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        processor.execute(ingestDocument, handler);
+        verify(handler)
+            .accept(
+                isNull(),
+                argThat(e -> e.getMessage().equals("the prediction field: response is not an array in size of the batch of 1 documents"))
+            );
+    }
+
     public void testParseGetDataInTensor_IntegerDataType() {
         ModelTensor mockTensor = mock(ModelTensor.class);
         when(mockTensor.getDataType()).thenReturn(MLResultDataType.INT8);
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.ml.utils.TestHelper.getXContentRegistry;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.output.MLTrainingOutput;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceAction;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceInput;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceRequest;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLBatchInferenceActionTests extends OpenSearchTestCase {
+
+    private RestMLBatchInferenceAction restMLBatchInferenceAction;
+
+    NodeClient client;
+    private ThreadPool threadPool;
+
+    @Mock
+    RestChannel channel;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        restMLBatchInferenceAction = new RestMLBatchInferenceAction();
+
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            MLTrainingOutput output = new MLTrainingOutput(null, "taskId", MLTaskState.CREATED.name());
+            actionListener.onResponse(MLTaskResponse.builder().output(output).build());
+            return null;
+        }).when(client).execute(eq(MLBatchInferenceAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testGetName() {
+        String actionName = restMLBatchInferenceAction.getName();
+        assertFalse(Strings.isNullOrEmpty(actionName));
+        assertEquals("ml_batch_inference_action", actionName);
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restMLBatchInferenceAction.routes();
+        assertNotNull(routes);
+        assertFalse(routes.isEmpty());
+        RestHandler.Route route = routes.get(0);
+        assertEquals(RestRequest.Method.POST, route.getMethod());
+        assertEquals("/_plugins/_ml/models/{model_id}/_batch_inference", route.getPath());
+    }
+
+    public void testGetRequest() throws IOException {
+        MLBatchInferenceRequest batchInferenceRequest = restMLBatchInferenceAction.getRequest(getRestRequest());
+
+        assertTrue(batchInferenceRequest.isDispatchTask());
+        assertNull(batchInferenceRequest.getTaskId());
+        verifyParsedInput(batchInferenceRequest.getBatchInferenceInput());
+    }
+
+    public void testPrepareRequest() throws Exception {
+        restMLBatchInferenceAction.handleRequest(getRestRequest(), channel, client);
+
+        ArgumentCaptor<MLBatchInferenceRequest> argumentCaptor = ArgumentCaptor.forClass(MLBatchInferenceRequest.class);
+        verify(client, times(1)).execute(eq(MLBatchInferenceAction.INSTANCE), argumentCaptor.capture(), any());
+        verifyParsedInput(argumentCaptor.getValue().getBatchInferenceInput());
+    }
+
+    private RestRequest getRestRequest() {
+        String requestContent = "{\"source_index\":\"source\",\"source_query\":{\"query\":{\"match_all\":{}},\"sort\":[\"id\"]},"
+            + "\"field_map\":{\"text\":\"text_embedding\"},\"destination_index\":\"dest\",\"batch_size\":8}";
+        return new FakeRestRequest.Builder(getXContentRegistry())
+            .withParams(Map.of("model_id", "model1"))
+            .withContent(new BytesArray(requestContent), XContentType.JSON)
+            .build();
+    }
+
+    private void verifyParsedInput(MLBatchInferenceInput input) {
+        assertEquals("model1", input.getModelId());
+        assertEquals(List.of("source"), input.getSourceIndices());
+        assertEquals(1, input.getSourceQuery().sorts().size());
+        assertEquals(Map.of("text", "text_embedding"), input.getFieldMap());
+        assertEquals("dest", input.getDestinationIndex());
+        assertEquals(8, input.getBatchSize().intValue());
+    }
+}
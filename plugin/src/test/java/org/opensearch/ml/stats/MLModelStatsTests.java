@@ -23,6 +23,7 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
+import org.opensearch.ml.profile.MLPredictRequestStats;
 import org.opensearch.ml.utils.TestHelper;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -83,6 +84,23 @@ public class MLModelStatsTests extends OpenSearchTestCase {
         assertTrue(validContents.contains(content));
     }
 
+    public void testLatencyStats() throws IOException {
+        MLPredictRequestStats predictRequestStats = MLPredictRequestStats.builder().count(1L).max(2.0).build();
+        MLModelStats stats = new MLModelStats(modelStats, false, Map.of(MLModelStats.PREDICT_REQUEST_LATENCY, predictRequestStats));
+        BytesStreamOutput output = new BytesStreamOutput();
+        stats.writeTo(output);
+        MLModelStats parsedStats = new MLModelStats(output.bytes().streamInput());
+        assertEquals(1, parsedStats.getLatencyStats().size());
+        assertEquals(2.0, parsedStats.getLatencyStats().get(MLModelStats.PREDICT_REQUEST_LATENCY).getMax(), 1e-5);
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        builder.startObject();
+        new MLModelStats(null, false, parsedStats.getLatencyStats()).toXContent(builder, EMPTY_PARAMS);
+        builder.endObject();
+        String content = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"latency_stats\":{\"predict_request\":{\"count\":1,\"max\":2.0}}}", content);
+    }
+
     public void testToXContent_EmptyStats() throws IOException {
         Map<ActionName, MLActionStats> statMap = new HashMap<>();
         MLAlgoStats stats = new MLAlgoStats(statMap);
@@ -0,0 +1,505 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.transport.batch.MLBatchInferenceInput.BATCH_INFERENCE_CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.transport.batch.MLBatchInferenceInput.BATCH_INFERENCE_INPUT_FIELD;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.Version;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.MLTrainingOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceInput;
+import org.opensearch.ml.common.transport.batch.MLBatchInferenceRequest;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.suppliers.CounterSupplier;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class MLBatchInferenceTaskRunnerTests extends OpenSearchTestCase {
+    @Mock
+    ThreadPool threadPool;
+    @Mock
+    ClusterService clusterService;
+    @Mock
+    Client client;
+    @Mock
+    MLTaskManager mlTaskManager;
+    @Mock
+    MLTaskDispatcher mlTaskDispatcher;
+    @Mock
+    MLCircuitBreakerService mlCircuitBreakerService;
+    @Mock
+    DiscoveryNodeHelper nodeHelper;
+    @Mock
+    MLModelManager mlModelManager;
+    @Mock
+    TransportService transportService;
+    @Mock
+    ExecutorService executorService;
+    @Mock
+    ActionListener<MLTaskResponse> listener;
+
+    MLStats mlStats;
+    MLBatchInferenceTaskRunner taskRunner;
+    MLBatchInferenceInput input;
+    List<Integer> predictedBatchSizes;
+    ThreadContext threadContext;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        DiscoveryNode localNode = new DiscoveryNode("localNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(threadPool.executor(anyString())).thenReturn(executorService);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+        when(client.threadPool()).thenReturn(threadPool);
+        threadContext = new ThreadContext(Settings.EMPTY);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        when(threadPool.scheduleWithFixedDelay(any(), any(), anyString())).thenReturn(mock(Scheduler.Cancellable.class));
+
+        Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
+        stats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
+        mlStats = new MLStats(stats);
+
+        taskRunner = new MLBatchInferenceTaskRunner(
+            threadPool,
+            clusterService,
+            client,
+            mlTaskManager,
+            mlStats,
+            mlTaskDispatcher,
+            mlCircuitBreakerService,
+            nodeHelper,
+            mlModelManager,
+            NamedXContentRegistry.EMPTY
+        );
+
+        input = MLBatchInferenceInput
+            .builder()
+            .modelId("model1")
+            .sourceIndices(List.of("source"))
+            .fieldMap(Map.of("text", "text_embedding"))
+            .destinationIndex("dest")
+            .batchSize(2)
+            .build();
+
+        doAnswer(invocation -> {
+            ActionListener<MLModel> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(MLModel.builder().algorithm(FunctionName.TEXT_EMBEDDING).build());
+            return null;
+        }).when(mlModelManager).getModel(eq("model1"), any());
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> actionListener = invocation.getArgument(1);
+            IndexResponse indexResponse = mock(IndexResponse.class);
+            when(indexResponse.getId()).thenReturn("task1");
+            actionListener.onResponse(indexResponse);
+            return null;
+        }).when(mlTaskManager).createMLTask(any(MLTask.class), any());
+        doAnswer(invocation -> {
+            ActionListener<Object> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(null);
+            return null;
+        }).when(mlTaskManager).updateMLTaskDirectly(anyString(), any(), any());
+
+        predictedBatchSizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+            predictedBatchSizes.add(docs.size());
+            List<ModelTensors> outputs = new ArrayList<>();
+            for (String doc : docs) {
+                ModelTensor tensor = new ModelTensor("sentence_embedding", new Number[] { doc.length() }, null, null, null, null, null);
+                outputs.add(new ModelTensors(List.of(tensor)));
+            }
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(new MLTaskResponse(new ModelTensorOutput(outputs)));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            return null;
+        }).when(client).bulk(any(BulkRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+    }
+
+    public void testStartTask() {
+        mockSearchResponse(searchResponse(sourceHit("1", "a"), sourceHit("2", "bb"), sourceHit("3", "ccc")));
+
+        taskRunner.run(FunctionName.REMOTE, new MLBatchInferenceRequest(input, null, false), transportService, listener);
+
+        ArgumentCaptor<MLTaskResponse> responseCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(responseCaptor.capture());
+        MLTrainingOutput output = (MLTrainingOutput) responseCaptor.getValue().getOutput();
+        assertEquals("task1", output.getTaskId());
+        assertEquals(MLTaskState.CREATED.name(), output.getStatus());
+
+        ArgumentCaptor<MLTask> taskCaptor = ArgumentCaptor.forClass(MLTask.class);
+        verify(mlTaskManager).createMLTask(taskCaptor.capture(), any());
+        assertEquals(MLTaskType.BATCH_INFERENCE, taskCaptor.getValue().getTaskType());
+        assertEquals("dest", taskCaptor.getValue().getOutputIndex());
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTaskDirectly(eq("task1"), updateCaptor.capture(), any());
+        assertTrue(updateCaptor.getValue().containsKey(BATCH_INFERENCE_INPUT_FIELD));
+
+        ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(searchCaptor.capture(), any());
+        SearchRequest searchRequest = searchCaptor.getValue();
+        assertEquals(8, searchRequest.source().size());
+        assertEquals("_doc", ((FieldSortBuilder) searchRequest.source().sorts().get(0)).getFieldName());
+        assertNotNull(searchRequest.scroll());
+        verify(client).clearScroll(any(ClearScrollRequest.class), any());
+
+        assertEquals(List.of(2, 1), predictedBatchSizes);
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkCaptor.capture(), any());
+        assertEquals(3, bulkCaptor.getValue().numberOfActions());
+        UpdateRequest updateRequest = (UpdateRequest) bulkCaptor.getValue().requests().get(2);
+        assertEquals("dest", updateRequest.index());
+        assertEquals("3", updateRequest.id());
+        assertTrue(updateRequest.docAsUpsert());
+        assertEquals(List.of(3), updateRequest.doc().sourceAsMap().get("text_embedding"));
+
+        Map<String, Object> completedFields = captureCompletedFields();
+        assertEquals(MLTaskState.COMPLETED.name(), completedFields.get(MLTask.STATE_FIELD));
+        Map<String, Object> checkpoint = (Map<String, Object>) completedFields.get(BATCH_INFERENCE_CHECKPOINT_FIELD);
+        assertEquals(3L, checkpoint.get(MLBatchInferenceTaskRunner.PROCESSED_DOCS_FIELD));
+    }
+
+    public void testStartTask_WrongNumberOfInferenceResults() {
+        mockSearchResponse(searchResponse(sourceHit("1", "a")));
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(new MLTaskResponse(new ModelTensorOutput(new ArrayList<>())));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        taskRunner.run(FunctionName.REMOTE, new MLBatchInferenceRequest(input, null, false), transportService, listener);
+
+        verify(client, never()).bulk(any(BulkRequest.class), any());
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("task1"), updateCaptor.capture(), anyLong(), eq(true));
+        assertEquals(MLTaskState.FAILED.name(), updateCaptor.getValue().get(MLTask.STATE_FIELD));
+        assertEquals("Model model1 returned 0 inference results for 1 documents", updateCaptor.getValue().get(MLTask.ERROR_FIELD));
+    }
+
+    public void testStartTask_RemoteModelBatchOutput() {
+        doAnswer(invocation -> {
+            ActionListener<MLModel> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(MLModel.builder().algorithm(FunctionName.REMOTE).build());
+            return null;
+        }).when(mlModelManager).getModel(eq("model1"), any());
+        // a remote model which accepts batches returns one ModelTensors with a tensor of every document
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            List<String> docs = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs();
+            List<ModelTensor> tensors = new ArrayList<>();
+            for (String doc : docs) {
+                tensors.add(new ModelTensor("sentence_embedding", new Number[] { doc.length() }, null, null, null, null, null));
+            }
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(new MLTaskResponse(new ModelTensorOutput(List.of(new ModelTensors(tensors)))));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        mockSearchResponse(searchResponse(sourceHit("1", "a"), sourceHit("2", "bb"), sourceHit("3", "ccc")));
+
+        taskRunner.run(FunctionName.REMOTE, new MLBatchInferenceRequest(input, null, false), transportService, listener);
+
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkCaptor.capture(), any());
+        assertEquals(3, bulkCaptor.getValue().numberOfActions());
+        for (int i = 0; i < 3; i++) {
+            UpdateRequest updateRequest = (UpdateRequest) bulkCaptor.getValue().requests().get(i);
+            assertEquals(String.valueOf(i + 1), updateRequest.id());
+            assertEquals(List.of(i + 1), updateRequest.doc().sourceAsMap().get("text_embedding"));
+        }
+        assertEquals(MLTaskState.COMPLETED.name(), captureCompletedFields().get(MLTask.STATE_FIELD));
+    }
+
+    public void testResumeTask_FromCheckpoint() throws Exception {
+        mockGetTask(null);
+        List<String> searchUsers = new ArrayList<>();
+        doAnswer(invocation -> {
+            searchUsers.add(threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT));
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse());
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        taskRunner.run(FunctionName.REMOTE, MLBatchInferenceRequest.builder().taskId("task1").build(), transportService, listener);
+
+        verify(listener).onResponse(any(MLTaskResponse.class));
+        verify(mlTaskManager, never()).createMLTask(any(MLTask.class), any());
+        verify(mlTaskManager).add(any(MLTask.class));
+        ArgumentCaptor<UpdateRequest> claimCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client).update(claimCaptor.capture(), any());
+        assertEquals(3L, claimCaptor.getValue().ifSeqNo());
+        assertEquals(1L, claimCaptor.getValue().ifPrimaryTerm());
+        ArgumentCaptor<SearchRequest> searchCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(searchCaptor.capture(), any());
+        assertArrayEquals(new Object[] { 5 }, searchCaptor.getValue().source().searchAfter());
+        assertNull(searchCaptor.getValue().scroll());
+        assertEquals(Collections.singletonList(null), searchUsers);
+
+        Map<String, Object> checkpoint = (Map<String, Object>) captureCompletedFields().get(BATCH_INFERENCE_CHECKPOINT_FIELD);
+        assertEquals(8L, checkpoint.get(MLBatchInferenceTaskRunner.PROCESSED_DOCS_FIELD));
+    }
+
+    public void testResumeTask_AsTaskUser() throws Exception {
+        mockGetTask(new User("alex", List.of("IT"), List.of("engineering"), List.of()));
+        List<String> searchUsers = new ArrayList<>();
+        List<String> searchRoles = new ArrayList<>();
+        doAnswer(invocation -> {
+            searchUsers.add(threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT));
+            searchRoles.add(threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_INJECTED_ROLES));
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse());
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+
+        taskRunner.run(FunctionName.REMOTE, MLBatchInferenceRequest.builder().taskId("task1").build(), transportService, listener);
+
+        verify(listener).onResponse(any(MLTaskResponse.class));
+        assertEquals(List.of("alex|IT|engineering"), searchUsers);
+        assertEquals(List.of("alex|engineering"), searchRoles);
+        assertNull(threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT));
+    }
+
+    public void testResumeTask_NotTaskOwner() throws Exception {
+        mockGetTask(new User("alex", List.of("IT"), List.of("engineering"), List.of()));
+        threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "bob|IT|engineering");
+
+        taskRunner.run(FunctionName.REMOTE, MLBatchInferenceRequest.builder().taskId("task1").build(), transportService, listener);
+
+        ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exceptionCaptor.capture());
+        assertEquals("User doesn't have privilege to resume task task1", exceptionCaptor.getValue().getMessage());
+        verify(client, never()).update(any(UpdateRequest.class), any());
+        verify(client, never()).search(any(), any());
+    }
+
+    public void testResumeTask_ClaimedByAnotherNode() throws Exception {
+        mockGetTask(null);
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new VersionConflictEngineException(null, "task1", "version conflict"));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+
+        taskRunner.run(FunctionName.REMOTE, MLBatchInferenceRequest.builder().taskId("task1").build(), transportService, listener);
+
+        verify(listener).onResponse(any(MLTaskResponse.class));
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+        verify(client, never()).search(any(), any());
+    }
+
+    public void testResumeTask_AlreadyRunning() {
+        when(mlTaskManager.contains("task1")).thenReturn(true);
+
+        taskRunner.run(FunctionName.REMOTE, MLBatchInferenceRequest.builder().taskId("task1").build(), transportService, listener);
+
+        verify(listener).onResponse(any(MLTaskResponse.class));
+        verify(client, never()).get(any(), any());
+        verify(client, never()).search(any(), any());
+    }
+
+    public void testIsTaskOwner() {
+        User alex = new User("alex", List.of("IT"), List.of("engineering"), List.of());
+        User bob = new User("bob", List.of("IT"), List.of("engineering"), List.of());
+        assertTrue(MLBatchInferenceTaskRunner.isTaskOwner(null, alex));
+        assertTrue(MLBatchInferenceTaskRunner.isTaskOwner(bob, null));
+        assertTrue(MLBatchInferenceTaskRunner.isTaskOwner(alex, alex));
+        assertFalse(MLBatchInferenceTaskRunner.isTaskOwner(bob, alex));
+    }
+
+    public void testToUserInfo() {
+        User user = new User("alex", List.of("IT", "HR"), List.of("engineering"), List.of());
+        assertEquals("alex|IT,HR|engineering", MLBatchInferenceTaskRunner.toUserInfo(user));
+        assertEquals(user, User.parse(MLBatchInferenceTaskRunner.toUserInfo(user)));
+    }
+
+    public void testHeartbeatCancelledWhenJobCompletes() {
+        Scheduler.Cancellable heartbeat = mock(Scheduler.Cancellable.class);
+        when(threadPool.scheduleWithFixedDelay(any(), any(), anyString())).thenReturn(heartbeat);
+        mockSearchResponse(searchResponse(sourceHit("1", "a")));
+
+        taskRunner.run(FunctionName.REMOTE, new MLBatchInferenceRequest(input, null, false), transportService, listener);
+
+        verify(threadPool).scheduleWithFixedDelay(any(), eq(MLBatchInferenceTaskRunner.HEARTBEAT_INTERVAL), anyString());
+        verify(heartbeat).cancel();
+    }
+
+    public void testGetBatchSize() {
+        MLModel modelWithoutConfig = MLModel.builder().algorithm(FunctionName.REMOTE).build();
+        MLModel modelWithBatchSize = MLModel
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelConfig(
+                TextEmbeddingModelConfig
+                    .builder()
+                    .modelType("bert")
+                    .frameworkType(TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS)
+                    .embeddingDimension(384)
+                    .batchSize(16)
+                    .build()
+            )
+            .build();
+        MLBatchInferenceInput inputWithoutBatchSize = input.toBuilder().batchSize(null).build();
+        MLBatchInferenceInput inputWithLargeBatchSize = input.toBuilder().batchSize(100).build();
+
+        assertEquals(
+            MLBatchInferenceTaskRunner.DEFAULT_BATCH_SIZE,
+            MLBatchInferenceTaskRunner.getBatchSize(inputWithoutBatchSize, modelWithoutConfig)
+        );
+        assertEquals(2, MLBatchInferenceTaskRunner.getBatchSize(input, modelWithBatchSize));
+        assertEquals(16, MLBatchInferenceTaskRunner.getBatchSize(inputWithoutBatchSize, modelWithBatchSize));
+        assertEquals(16, MLBatchInferenceTaskRunner.getBatchSize(inputWithLargeBatchSize, modelWithBatchSize));
+    }
+
+    private Map<String, Object> captureCompletedFields() {
+        ArgumentCaptor<Map<String, Object>> updateCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager, times(1)).updateMLTask(eq("task1"), updateCaptor.capture(), anyLong(), eq(true));
+        return updateCaptor.getValue();
+    }
+
+    private void mockGetTask(User user) throws Exception {
+        MLBatchInferenceInput sortedInput = input.toBuilder().sourceQuery(new SearchSourceBuilder().sort("id")).build();
+        Map<String, Object> source = new HashMap<>();
+        source.put(MLTask.TASK_TYPE_FIELD, MLTaskType.BATCH_INFERENCE.name());
+        source.put(MLTask.STATE_FIELD, MLTaskState.RUNNING.name());
+        source.put(MLTask.FUNCTION_NAME_FIELD, FunctionName.TEXT_EMBEDDING.name());
+        source.put(MLTask.MODEL_ID_FIELD, "model1");
+        source.put(MLTask.IS_ASYNC_TASK_FIELD, true);
+        source.put(BATCH_INFERENCE_INPUT_FIELD, toMap(sortedInput));
+        source.put(
+            BATCH_INFERENCE_CHECKPOINT_FIELD,
+            Map.of(MLBatchInferenceTaskRunner.PROCESSED_DOCS_FIELD, 8, MLBatchInferenceTaskRunner.SEARCH_AFTER_FIELD, List.of(5))
+        );
+        if (user != null) {
+            BytesReference userBytes = BytesReference.bytes(user.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+            source.put("user", XContentHelper.convertToMap(userBytes, false, XContentType.JSON).v2());
+        }
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> actionListener = invocation.getArgument(1);
+            GetResponse getResponse = mock(GetResponse.class);
+            when(getResponse.isExists()).thenReturn(true);
+            when(getResponse.getSourceAsBytesRef()).thenReturn(BytesReference.bytes(XContentFactory.jsonBuilder().map(source)));
+            when(getResponse.getSourceAsMap()).thenReturn(source);
+            when(getResponse.getSeqNo()).thenReturn(3L);
+            when(getResponse.getPrimaryTerm()).thenReturn(1L);
+            actionListener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(), any());
+    }
+
+    private Map<String, Object> toMap(MLBatchInferenceInput batchInferenceInput) throws Exception {
+        BytesReference bytes = BytesReference.bytes(batchInferenceInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        return XContentHelper.convertToMap(bytes, false, XContentType.JSON).v2();
+    }
+
+    private void mockSearchResponse(SearchResponse searchResponse) {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+    }
+
+    private SearchHit sourceHit(String id, String text) {
+        SearchHit hit = new SearchHit(Integer.parseInt(id), id, Collections.emptyMap(), Collections.emptyMap());
+        hit.sourceRef(new BytesArray("{\"text\":\"" + text + "\"}"));
+        return hit;
+    }
+
+    private SearchResponse searchResponse(SearchHit... hits) {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        when(searchResponse.getScrollId()).thenReturn("scroll1");
+        return searchResponse;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLModelAutoDeployerTests extends OpenSearchTestCase {
+
+    @Mock
+    ThreadPool threadPool;
+
+    @Mock
+    ClusterService clusterService;
+
+    @Mock
+    MLModelManager mlModelManager;
+
+    @Mock
+    DiscoveryNode localNode;
+
+    List<ActionListener<String>> deployListeners;
+
+    MLModelAutoDeployer autoDeployer;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS.getKey(), 2).build();
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(List.of(ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS))
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(localNode.getId()).thenReturn("node1");
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(settings));
+        deployListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(6);
+            deployListeners.add(listener);
+            return null;
+        }).when(mlModelManager).deployModel(eq("model1"), isNull(), any(), anyBoolean(), anyBoolean(), any(MLTask.class), any());
+        autoDeployer = new MLModelAutoDeployer(threadPool, clusterService, settings, mlModelManager);
+    }
+
+    public void testDeploy_SingleFlight() {
+        ActionListener<String> listener1 = mock(ActionListener.class);
+        ActionListener<String> listener2 = mock(ActionListener.class);
+        autoDeployer.deploy("model1", FunctionName.TEXT_EMBEDDING, listener1);
+        autoDeployer.deploy("model1", FunctionName.TEXT_EMBEDDING, listener2);
+
+        verify(mlModelManager, times(1)).deployModel(any(), any(), any(), anyBoolean(), eq(true), any(MLTask.class), any());
+        assertEquals(2, autoDeployer.getWaitingCount("model1"));
+        verify(listener1, never()).onResponse(any());
+
+        deployListeners.get(0).onResponse("successful");
+        verify(listener1).onResponse("successful");
+        verify(listener2).onResponse("successful");
+        assertEquals(0, autoDeployer.getWaitingCount("model1"));
+    }
+
+    public void testDeploy_FailureReleasesAllWaitingRequests() {
+        ActionListener<String> listener1 = mock(ActionListener.class);
+        ActionListener<String> listener2 = mock(ActionListener.class);
+        autoDeployer.deploy("model1", FunctionName.TEXT_EMBEDDING, listener1);
+        autoDeployer.deploy("model1", FunctionName.TEXT_EMBEDDING, listener2);
+
+        RuntimeException exception = new RuntimeException("deploy failed");
+        deployListeners.get(0).onFailure(exception);
+        verify(listener1).onFailure(exception);
+        verify(listener2).onFailure(exception);
+
+        // a failed deploy is retried by the next request
+        autoDeployer.deploy("model1", FunctionName.TEXT_EMBEDDING, mock(ActionListener.class));
+        verify(mlModelManager, times(2)).deployModel(any(), any(), any(), anyBoolean(), anyBoolean(), any(MLTask.class), any());
+    }
+
+    public void testDeploy_RejectWhenTooManyWaitingRequests() {
+        for (int i = 0; i < 3; i++) {
+            autoDeployer.deploy("model1", FunctionName.TEXT_EMBEDDING, mock(ActionListener.class));
+        }
+        ActionListener<String> rejectedListener = mock(ActionListener.class);
+        autoDeployer.deploy("model1", FunctionName.TEXT_EMBEDDING, rejectedListener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(rejectedListener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof OpenSearchStatusException);
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, ((OpenSearchStatusException) argumentCaptor.getValue()).status());
+        assertEquals(3, autoDeployer.getWaitingCount("model1"));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLPredictRequestBatcherTests extends OpenSearchTestCase {
+
+    @Mock
+    ThreadPool threadPool;
+
+    @Mock
+    ClusterService clusterService;
+
+    @Mock
+    MLModelManager mlModelManager;
+
+    @Mock
+    Predictable predictor;
+
+    @Mock
+    ActionListener<MLOutput> listener1;
+
+    @Mock
+    ActionListener<MLOutput> listener2;
+
+    MLPredictRequestBatcher batcher;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_PREDICT_BATCHING_ENABLED.getKey(), true)
+            .put(ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE.getKey(), 3)
+            .put(ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS.getKey(), 1000)
+            .build();
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(
+                Arrays
+                    .asList(
+                        ML_COMMONS_PREDICT_BATCHING_ENABLED,
+                        ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE,
+                        ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS
+                    )
+            )
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(settings));
+        when(mlModelManager.trackPredictDuration(anyString(), any())).thenAnswer(invocation -> {
+            Supplier<?> supplier = invocation.getArgument(1);
+            return supplier.get();
+        });
+        when(predictor.predict(any(MLInput.class))).thenAnswer(invocation -> {
+            MLInput input = invocation.getArgument(0);
+            List<ModelTensors> tensors = new ArrayList<>();
+            for (String doc : ((TextDocsInputDataSet) input.getInputDataset()).getDocs()) {
+                tensors.add(new ModelTensors(List.of(ModelTensor.builder().name(doc).build())));
+            }
+            return new ModelTensorOutput(tensors);
+        });
+        batcher = new MLPredictRequestBatcher(threadPool, clusterService, settings, mlModelManager);
+    }
+
+    public void testIsBatchable() {
+        assertTrue(batcher.isBatchable(textEmbeddingInput("a")));
+        assertFalse(batcher.isBatchable(textEmbeddingInput("a", "b", "c")));
+        assertFalse(batcher.isBatchable(textEmbeddingInput("a").toBuilder().algorithm(FunctionName.TEXT_SIMILARITY).build()));
+    }
+
+    public void testPredict_FlushOnMaxBatchSize() {
+        batcher.predict("modelId", predictor, textEmbeddingInput("a"), listener1);
+        verify(threadPool).schedule(any(Runnable.class), any(), anyString());
+        verify(predictor, never()).predict(any(MLInput.class));
+
+        batcher.predict("modelId", predictor, textEmbeddingInput("b", "c"), listener2);
+        verify(predictor, times(1)).predict(any(MLInput.class));
+
+        ArgumentCaptor<MLOutput> output1 = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener1).onResponse(output1.capture());
+        List<ModelTensors> tensors1 = ((ModelTensorOutput) output1.getValue()).getMlModelOutputs();
+        assertEquals(1, tensors1.size());
+        assertEquals("a", tensors1.get(0).getMlModelTensors().get(0).getName());
+
+        ArgumentCaptor<MLOutput> output2 = ArgumentCaptor.forClass(MLOutput.class);
+        verify(listener2).onResponse(output2.capture());
+        List<ModelTensors> tensors2 = ((ModelTensorOutput) output2.getValue()).getMlModelOutputs();
+        assertEquals(2, tensors2.size());
+        assertEquals("b", tensors2.get(0).getMlModelTensors().get(0).getName());
+        assertEquals("c", tensors2.get(1).getMlModelTensors().get(0).getName());
+    }
+
+    public void testPredict_FlushOnMaxWait() {
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(threadPool).schedule(any(Runnable.class), any(), anyString());
+
+        batcher.predict("modelId", predictor, textEmbeddingInput("a"), listener1);
+        verify(predictor, times(1)).predict(any(MLInput.class));
+        verify(listener1).onResponse(any(ModelTensorOutput.class));
+    }
+
+    public void testPredict_Failure() {
+        when(predictor.predict(any(MLInput.class))).thenThrow(new IllegalArgumentException("test error"));
+        batcher.predict("modelId", predictor, textEmbeddingInput("a"), listener1);
+        batcher.predict("modelId", predictor, textEmbeddingInput("b", "c"), listener2);
+
+        verify(listener1).onFailure(any(IllegalArgumentException.class));
+        verify(listener2).onFailure(any(IllegalArgumentException.class));
+    }
+
+    private MLInput textEmbeddingInput(String... docs) {
+        TextDocsInputDataSet dataSet = TextDocsInputDataSet.builder().docs(Arrays.asList(docs)).build();
+        return MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(dataSet).build();
+    }
+}
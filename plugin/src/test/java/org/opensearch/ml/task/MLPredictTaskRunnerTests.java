@@ -9,7 +9,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_OUTPUT_SCHEMA_VALIDATION_SAMPLE_PERCENTAGE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -17,8 +24,11 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -28,6 +38,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.Version;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -69,10 +80,12 @@ import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLTrainedModelCache;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
+import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.ml.utils.TestData;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
@@ -136,6 +149,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
     MLEngine mlEngine;
     Encryptor encryptor;
     MLModel mlModel;
+    MLTrainedModelCache trainedModelCache;
 
     @Before
     public void setup() throws IOException {
@@ -160,10 +174,25 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
 
         Settings settings = Settings.builder().put(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE.getKey(), true).build();
-        ClusterSettings clusterSettings = new ClusterSettings(settings, new HashSet<>(Arrays.asList(ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE)));
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(
+                Arrays
+                    .asList(
+                        ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE,
+                        ML_COMMONS_MODEL_AUTO_DEPLOY_MAX_WAITING_REQUESTS,
+                        ML_COMMONS_PREDICT_BATCHING_ENABLED,
+                        ML_COMMONS_PREDICT_BATCHING_MAX_BATCH_SIZE,
+                        ML_COMMONS_PREDICT_BATCHING_MAX_WAIT_IN_MICROS,
+                        ML_COMMONS_OUTPUT_SCHEMA_VALIDATION_SAMPLE_PERCENTAGE,
+                        ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD
+                    )
+            )
+        );
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
         this.mlStats = new MLStats(stats);
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
+        trainedModelCache = new MLTrainedModelCache(10_000_000, mlCircuitBreakerService);
         taskRunner = spy(
             new MLPredictTaskRunner(
                 threadPool,
@@ -178,6 +207,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
                 mlModelManager,
                 nodeHelper,
                 mlEngine,
+                trainedModelCache,
                 settings
             )
         );
@@ -237,6 +267,42 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(mlTaskManager).remove(anyString());
     }
 
+    public void testExecuteTask_OnLocalNode_TrainedModelCached() throws IOException {
+        MLModel trainedModel = mlEngine.train(mlInputWithDataFrame).toBuilder().user(User.parse(USER_STRING)).build();
+        XContentBuilder content = trainedModel.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        GetResult getResult = new GetResult(indexName, "111", 111L, 111L, 111L, true, BytesReference.bytes(content), null, null);
+        getResponse = new GetResponse(getResult);
+        setupMocks(true, false, false, false);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<GetRequest> getRequestCaptor = ArgumentCaptor.forClass(GetRequest.class);
+        verify(client, times(2)).get(getRequestCaptor.capture(), any());
+        assertNull(getRequestCaptor.getAllValues().get(0).fetchSourceContext());
+        assertFalse(getRequestCaptor.getAllValues().get(1).fetchSourceContext().fetchSource());
+        verify(listener, times(2)).onResponse(any());
+        assertEquals(1, trainedModelCache.getModelCount());
+        assertEquals(1, trainedModelCache.getHitCount());
+        assertEquals(1, trainedModelCache.getMissCount());
+    }
+
+    public void testExecuteTask_OnLocalNode_TrainedModelChanged() throws IOException {
+        MLModel trainedModel = mlEngine.train(mlInputWithDataFrame).toBuilder().user(User.parse(USER_STRING)).build();
+        XContentBuilder content = trainedModel.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        trainedModelCache.put("111", new MLTrainedModelCache.TrainedModel(new Object(), User.parse(USER_STRING), 110L, 111L, 10));
+        GetResult getResult = new GetResult(indexName, "111", 111L, 111L, 111L, true, BytesReference.bytes(content), null, null);
+        getResponse = new GetResponse(getResult);
+        setupMocks(true, false, false, false);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<GetRequest> getRequestCaptor = ArgumentCaptor.forClass(GetRequest.class);
+        verify(client, times(2)).get(getRequestCaptor.capture(), any());
+        assertFalse(getRequestCaptor.getAllValues().get(0).fetchSourceContext().fetchSource());
+        assertNull(getRequestCaptor.getAllValues().get(1).fetchSourceContext());
+        verify(listener).onResponse(any());
+        assertEquals(0, trainedModelCache.getHitCount());
+    }
+
     public void testExecuteTask_OnLocalNode_QueryInput() {
         setupMocks(true, false, false, false);
 
@@ -432,6 +498,94 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         taskRunner.validateOutputSchema("testId", modelTensorOutput);
     }
 
+    public void testValidateModelTensorOutput_CompiledSchemaFailed() throws IOException {
+        exceptionRule.expect(OpenSearchStatusException.class);
+        exceptionRule.expectMessage("Error validating output schema");
+        ModelTensor modelTensor = ModelTensor.builder().name("response").dataAsMap(Map.of("id", "test_id")).build();
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()))
+            .build();
+        when(mlModelManager.getModelOutputSchema(any()))
+            .thenReturn(MLNodeUtils.compileSchema("{\"properties\":{\"inference_results\":{\"type\":\"string\"}}}"));
+        taskRunner.validateOutputSchema("testId", modelTensorOutput);
+    }
+
+    public void testValidateModelTensorOutput_CompiledSchemaSuccess() throws IOException {
+        ModelTensor modelTensor = ModelTensor.builder().name("response").dataAsMap(Map.of("id", "test_id")).build();
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()))
+            .build();
+        when(mlModelManager.getModelOutputSchema(any()))
+            .thenReturn(MLNodeUtils.compileSchema("{\"properties\":{\"inference_results\":{\"type\":\"array\"}}}"));
+        taskRunner.validateOutputSchema("testId", modelTensorOutput);
+        verify(mlModelManager, never()).getModelInterface(any());
+    }
+
+    public void testValidateModelTensorOutput_NotSampled() {
+        Settings settings = Settings.builder().put(ML_COMMONS_OUTPUT_SCHEMA_VALIDATION_SAMPLE_PERCENTAGE.getKey(), 0).build();
+        clusterService.getClusterSettings().applySettings(settings);
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(List.of()).build();
+        taskRunner.validateOutputSchema("testId", modelTensorOutput);
+        verify(mlModelManager, never()).getModelOutputSchema(any());
+        verify(mlModelManager, never()).getModelInterface(any());
+    }
+
+    public void testExecuteTask_PreferLocalWorkerNode() {
+        setupMocks(false, false, false, false);
+        clusterService
+            .getClusterSettings()
+            .applySettings(Settings.builder().put(ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD.getKey(), 10).build());
+        when(mlModelManager.getWorkerNodes(anyString(), eq(FunctionName.BATCH_RCF), eq(true)))
+            .thenReturn(new String[] { "remoteNodeId", "localNodeId" });
+        ThreadPoolExecutor executor = predictExecutor(0);
+        when(threadPool.executor(PREDICT_THREAD_POOL)).thenReturn(executor);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher, never()).dispatchPredictTask(any(), any());
+        verify(transportService, never()).sendRequest(any(), anyString(), any(), any());
+        verify(mlTaskManager).add(any(MLTask.class));
+    }
+
+    public void testPreferLocalWorkerNode() {
+        clusterService
+            .getClusterSettings()
+            .applySettings(Settings.builder().put(ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD.getKey(), 10).build());
+        String[] workerNodes = new String[] { "remoteNodeId", "localNodeId" };
+
+        ThreadPoolExecutor executor = predictExecutor(9);
+        when(threadPool.executor(PREDICT_THREAD_POOL)).thenReturn(executor);
+        assertTrue(taskRunner.preferLocalWorkerNode(FunctionName.TEXT_EMBEDDING, workerNodes));
+        assertFalse(taskRunner.preferLocalWorkerNode(FunctionName.TEXT_EMBEDDING, new String[] { "remoteNodeId" }));
+
+        executor = predictExecutor(10);
+        when(threadPool.executor(PREDICT_THREAD_POOL)).thenReturn(executor);
+        assertFalse(taskRunner.preferLocalWorkerNode(FunctionName.TEXT_EMBEDDING, workerNodes));
+
+        clusterService
+            .getClusterSettings()
+            .applySettings(Settings.builder().put(ML_COMMONS_TASK_DISPATCH_LOCAL_PREDICT_QUEUE_THRESHOLD.getKey(), 0).build());
+        executor = predictExecutor(0);
+        when(threadPool.executor(PREDICT_THREAD_POOL)).thenReturn(executor);
+        assertFalse(taskRunner.preferLocalWorkerNode(FunctionName.TEXT_EMBEDDING, workerNodes));
+    }
+
+    private ThreadPoolExecutor predictExecutor(int queueSize) {
+        ThreadPoolExecutor executor = mock(ThreadPoolExecutor.class);
+        BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+        for (int i = 0; i < queueSize; i++) {
+            queue.add(() -> {});
+        }
+        when(executor.getQueue()).thenReturn(queue);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        return executor;
+    }
+
     private void setupMocks(boolean runOnLocalNode, boolean failedToParseQueryInput, boolean failedToGetModel, boolean nullGetResponse) {
         doAnswer(invocation -> {
             ActionListener<DiscoveryNode> actionListener = invocation.getArgument(1);
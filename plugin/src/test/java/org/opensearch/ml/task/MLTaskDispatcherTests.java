@@ -7,12 +7,18 @@ package org.opensearch.ml.task;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.breaker.MemoryCircuitBreaker.DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_NODE_LOAD_REFRESH_INTERVAL_IN_MILLIS;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.util.ArrayList;
@@ -34,6 +40,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.action.stats.MLStatsNodeResponse;
@@ -73,6 +80,16 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
     public void setup() {
         settings = Settings.builder().put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false).build();
         MockitoAnnotations.openMocks(this);
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            Set
+                .of(
+                    ML_COMMONS_TASK_DISPATCH_POLICY,
+                    ML_COMMONS_MAX_ML_TASK_PER_NODE,
+                    ML_COMMONS_TASK_DISPATCH_NODE_LOAD_REFRESH_INTERVAL_IN_MILLIS
+                )
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
 
         taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper));
         nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
@@ -158,6 +175,136 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDispatchPredictTask_LeastLoad_CachedNodeLoads() {
+        MLTaskDispatcher dispatcher = createLeastLoadDispatcher(1000);
+        mlStatsNodesResponse = getNodesResponse(nodeResponse(dataNode1, 50l, 5l, 0l), nodeResponse(dataNode2, 50l, 1l, 1l));
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        verify(client, times(1)).execute(eq(MLStatsNodesAction.INSTANCE), any(MLStatsNodesRequest.class), any());
+        verify(listener, times(2)).onResponse(dataNode2);
+    }
+
+    public void testDispatchPredictTask_LeastLoad_RefreshForEveryDispatch() {
+        MLTaskDispatcher dispatcher = createLeastLoadDispatcher(0);
+        mlStatsNodesResponse = getNodesResponse(nodeResponse(dataNode1, 50l, 1l, 0l), nodeResponse(dataNode2, 50l, 5l, 0l));
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        verify(client, times(2)).execute(eq(MLStatsNodesAction.INSTANCE), any(MLStatsNodesRequest.class), any());
+        verify(listener, times(2)).onResponse(dataNode1);
+    }
+
+    public void testDispatchPredictTask_LeastLoad_MemoryExceedLimit() {
+        MLTaskDispatcher dispatcher = createLeastLoadDispatcher(1000);
+        mlStatsNodesResponse = getNodesResponse(nodeResponse(dataNode1, 90l, 1l, 0l), nodeResponse(dataNode2, 90l, 1l, 0l));
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(
+            "All nodes' memory usage exceeds limitation 85. No eligible node available to run ml jobs ",
+            argumentCaptor.getValue().getMessage()
+        );
+    }
+
+    public void testDispatchPredictTask_LeastLoad_TaskCountExceedLimit() {
+        MLTaskDispatcher dispatcher = createLeastLoadDispatcher(1000);
+        mlStatsNodesResponse = getNodesResponse(nodeResponse(dataNode1, 50l, 15l, 0l), nodeResponse(dataNode2, 50l, 10l, 0l));
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("All nodes' executing ML task count reach limitation.", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testDispatchPredictTask_LeastLoad_StatsFailure() {
+        MLTaskDispatcher dispatcher = createLeastLoadDispatcher(1000);
+        doAnswer(invocation -> {
+            ActionListener<MLStatsNodesResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new RuntimeException("stats failed"));
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("stats failed", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testPickLeastLoadNode_CountDispatchedTasks() throws Exception {
+        MLTaskDispatcher.NodeLoadSnapshot nodeLoads = new MLTaskDispatcher.NodeLoadSnapshot(
+            new DiscoveryNode[] { dataNode1, dataNode2 },
+            getNodesResponse(nodeResponse(dataNode1, 40l, 0l, 0l), nodeResponse(dataNode2, 50l, 1l, 0l)).getNodes()
+        );
+        DiscoveryNode[] nodes = new DiscoveryNode[] { dataNode1, dataNode2 };
+
+        assertEquals(dataNode1, taskDispatcher.pickLeastLoadNode(nodes, nodeLoads));
+        // same load, less JVM heap usage
+        assertEquals(dataNode1, taskDispatcher.pickLeastLoadNode(nodes, nodeLoads));
+        assertEquals(dataNode2, taskDispatcher.pickLeastLoadNode(nodes, nodeLoads));
+    }
+
+    public void testPickLeastLoadNode_DispatchesAboveTaskLimitInOneSnapshot() throws Exception {
+        MLTaskDispatcher.NodeLoadSnapshot nodeLoads = new MLTaskDispatcher.NodeLoadSnapshot(
+            new DiscoveryNode[] { dataNode1, dataNode2 },
+            getNodesResponse(nodeResponse(dataNode1, 40l, 9l, 0l), nodeResponse(dataNode2, 50l, 9l, 0l)).getNodes()
+        );
+        DiscoveryNode[] nodes = new DiscoveryNode[] { dataNode1, dataNode2 };
+
+        int dataNode1Count = 0;
+        for (int i = 0; i < 30; i++) {
+            if (taskDispatcher.pickLeastLoadNode(nodes, nodeLoads) == dataNode1) {
+                dataNode1Count++;
+            }
+        }
+        // the dispatched tasks only break the ties between the nodes
+        assertEquals(15, dataNode1Count);
+    }
+
+    public void testPickLeastLoadNode_NoNodeLoad() {
+        MLTaskDispatcher.NodeLoadSnapshot nodeLoads = new MLTaskDispatcher.NodeLoadSnapshot(
+            new DiscoveryNode[] { dataNode1, dataNode2 },
+            getNodesResponse(nodeResponse(mlNode, 40l, 0l, 0l)).getNodes()
+        );
+
+        IllegalStateException exception = expectThrows(
+            IllegalStateException.class,
+            () -> taskDispatcher.pickLeastLoadNode(new DiscoveryNode[] { dataNode1, dataNode2 }, nodeLoads)
+        );
+        assertEquals("No node load available. None of the eligible nodes returned its stats", exception.getMessage());
+    }
+
+    private MLTaskDispatcher createLeastLoadDispatcher(int nodeLoadRefreshIntervalInMillis) {
+        Settings leastLoadSettings = Settings
+            .builder()
+            .put(settings)
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "least_load")
+            .put(ML_COMMONS_TASK_DISPATCH_NODE_LOAD_REFRESH_INTERVAL_IN_MILLIS.getKey(), nodeLoadRefreshIntervalInMillis)
+            .build();
+        DiscoveryNodeHelper discoveryNodeHelper = mock(DiscoveryNodeHelper.class);
+        when(discoveryNodeHelper.getAllNodes()).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2 });
+        when(discoveryNodeHelper.getNodes(any())).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2 });
+        return new MLTaskDispatcher(clusterService, client, leastLoadSettings, discoveryNodeHelper);
+    }
+
+    private MLStatsNodeResponse nodeResponse(DiscoveryNode node, long jvmHeapUsage, long executingTaskCount, long predictQueueSize) {
+        Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
+        nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, jvmHeapUsage);
+        nodeStats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, executingTaskCount);
+        nodeStats.put(MLNodeLevelStat.ML_PREDICT_QUEUE_SIZE, predictQueueSize);
+        return new MLStatsNodeResponse(node, nodeStats);
+    }
+
+    private MLStatsNodesResponse getNodesResponse(MLStatsNodeResponse... responses) {
+        return new MLStatsNodesResponse(new ClusterName(clusterName), Arrays.asList(responses), new ArrayList<>());
+    }
+
     private MLStatsNodesResponse getMlStatsNodesResponse() {
         Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
         nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
@@ -9,11 +9,15 @@ import static java.util.Collections.emptyMap;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
@@ -24,8 +28,16 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.test.OpenSearchTestCase;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+
 public class MLNodeUtilsTests extends OpenSearchTestCase {
 
     public void testIsMLNode() {
@@ -63,4 +75,45 @@ public class MLNodeUtilsTests extends OpenSearchTestCase {
         String json = "{\"key1\": \"foo\", \"key2\": 123}";
         MLNodeUtils.validateSchema(schema, json);
     }
+
+    public void testValidateSchema_CompiledSchema() throws IOException {
+        JsonSchema schema = MLNodeUtils.compileSchema("{\"type\": \"object\", \"properties\": {\"key1\": {\"type\": \"string\"}}}");
+        ObjectMapper mapper = new ObjectMapper();
+        MLNodeUtils.validateSchema(schema, mapper.readTree("{\"key1\": \"foo\"}"));
+        MLNodeUtils.validateSchema(schema, mapper.readTree("{\"key1\": \"bar\"}"));
+        OpenSearchParseException exception = expectThrows(
+            OpenSearchParseException.class,
+            () -> MLNodeUtils.validateSchema(schema, mapper.readTree("{\"key1\": 123}"))
+        );
+        assertTrue(exception.getMessage().startsWith("Validation failed"));
+    }
+
+    public void testToJsonNode_ModelTensorOutput() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT64)
+            .shape(new long[] { 2 })
+            .doubleData(new double[] { 0.5, 1.25 })
+            .result("result")
+            .dataAsMap(Map.of("id", "test_id", "values", List.of(1, 2)))
+            .build();
+        ModelTensor intTensor = ModelTensor.builder().name("ids").dataType(MLResultDataType.INT32).intData(new int[] { 1, 2 }).build();
+        ModelTensor byteTensor = ModelTensor.builder().name("bytes").byteBuffer(ByteBuffer.wrap(new byte[] { 1, 2, 3 })).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(List.of(tensor, intTensor, byteTensor)).build();
+        modelTensors.setStatusCode(200);
+        ModelTensorOutput output = ModelTensorOutput.builder().mlModelOutputs(List.of(modelTensors)).build();
+
+        JsonNode expected = new ObjectMapper()
+            .readTree(output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString());
+        assertEquals(expected, MLNodeUtils.toJsonNode(output));
+    }
+
+    public void testToJsonNode_Bytes() throws IOException {
+        MLTask mlTask = MLTask.builder().taskId("taskId").modelId("modelId").build();
+        BytesReference bytes = BytesReference.bytes(mlTask.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        JsonNode jsonNode = MLNodeUtils.toJsonNode(bytes);
+        assertEquals("taskId", jsonNode.get("task_id").asText());
+        assertEquals("modelId", jsonNode.get("model_id").asText());
+    }
 }